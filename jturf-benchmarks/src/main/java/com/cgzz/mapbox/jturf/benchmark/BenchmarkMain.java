@@ -0,0 +1,30 @@
+package com.cgzz.mapbox.jturf.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * 基准测试入口，默认挂载GC分析器，结果中的 gc.alloc.rate.norm 为每次调用分配的字节数。<br>
+ * 参数与 JMH 命令行一致，例如只运行 kinks 并覆盖规模：
+ * <pre>
+ * java -jar target/benchmarks.jar MiscBenchmark.kinks -p size=4096
+ * </pre>
+ */
+public final class BenchmarkMain {
+
+    private BenchmarkMain() {
+        throw new AssertionError("No Instance.");
+    }
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        new Runner(new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+
+}
@@ -0,0 +1,60 @@
+package com.cgzz.mapbox.jturf.benchmark;
+
+import com.cgzz.mapbox.jturf.JTurfBooleans;
+import com.cgzz.mapbox.jturf.JTurfMeasurement;
+import com.cgzz.mapbox.jturf.shape.impl.Point;
+import com.cgzz.mapbox.jturf.shape.impl.Polygon;
+import com.cgzz.mapbox.jturf.util.booleans.PreparedPolygon;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JTurfBooleans 的 booleanPointInPolygon，每次调用判断 {@link #POINTS} 个落在多边形边界框内的点
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BooleansBenchmark {
+
+    private static final int POINTS = 1024;
+
+    /**
+     * 多边形的顶点数
+     */
+    @Param({"16", "256", "4096"})
+    public int size;
+
+    private Polygon polygon;
+
+    private PreparedPolygon prepared;
+
+    private List<Point> points;
+
+    @Setup
+    public void setup() {
+        polygon = Fixtures.polygon(size);
+        prepared = PreparedPolygon.prepare(polygon);
+        points = Fixtures.points(POINTS, JTurfMeasurement.bbox(polygon), Fixtures.SEED);
+    }
+
+    @Benchmark
+    public void booleanPointInPolygon(Blackhole bh) {
+        for (Point point : points) {
+            bh.consume(JTurfBooleans.booleanPointInPolygon(point, polygon));
+        }
+    }
+
+    @Benchmark
+    public void booleanPointInPreparedPolygon(Blackhole bh) {
+        for (Point point : points) {
+            bh.consume(JTurfBooleans.booleanPointInPolygon(point, prepared));
+        }
+    }
+
+}
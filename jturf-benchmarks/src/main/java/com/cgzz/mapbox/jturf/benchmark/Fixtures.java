@@ -0,0 +1,65 @@
+package com.cgzz.mapbox.jturf.benchmark;
+
+import com.cgzz.mapbox.jturf.JTurfRandom;
+import com.cgzz.mapbox.jturf.shape.impl.*;
+
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+/**
+ * 基准测试使用的数据，全部由 {@link JTurfRandom} 按固定种子生成，每次运行得到的数据完全一致
+ */
+final class Fixtures {
+
+    /**
+     * 随机数种子
+     */
+    static final long SEED = 20240101L;
+
+    /**
+     * 多边形所在范围，中心点只能落在 [5, 5, 5.5, 5.5] 内，生成的多边形之间大量重叠
+     */
+    static final BoundingBox POLYGON_BBOX = BoundingBox.fromLngLats(0, 0, 10.5, 10.5);
+
+    static final double MAX_RADIAL_LENGTH = 5;
+
+    /**
+     * 线段、点所在范围
+     */
+    static final BoundingBox LINE_BBOX = BoundingBox.fromLngLats(0, 0, 10, 10);
+
+    private Fixtures() {
+        throw new AssertionError("No Instance.");
+    }
+
+    /**
+     * 生成 count 个星形多边形，每个多边形有 numVertices 个顶点
+     */
+    static List<Polygon> polygons(int count, int numVertices, long seed) {
+        return JTurfRandom.randomPolygon(count, POLYGON_BBOX, numVertices, MAX_RADIAL_LENGTH, new Random(seed))
+                .geometries().stream().map(Feature::geometry).collect(Collectors.toList());
+    }
+
+    static Polygon polygon(int numVertices) {
+        return polygons(1, numVertices, SEED).get(0);
+    }
+
+    /**
+     * 生成 count 条随机游走的线，转角不受限制，线会大量自相交
+     */
+    static List<LineString> lines(int count, int numVertices, long seed) {
+        return JTurfRandom.randomLineString(count, LINE_BBOX, numVertices, 0.5, Math.PI, new Random(seed))
+                .geometries().stream().map(Feature::geometry).collect(Collectors.toList());
+    }
+
+    static LineString line(int numVertices) {
+        return lines(1, numVertices, SEED).get(0);
+    }
+
+    static List<Point> points(int count, BoundingBox bbox, long seed) {
+        return JTurfRandom.randomPoint(count, bbox, new Random(seed))
+                .geometries().stream().map(Feature::geometry).collect(Collectors.toList());
+    }
+
+}
@@ -0,0 +1,66 @@
+package com.cgzz.mapbox.jturf.benchmark;
+
+import com.cgzz.mapbox.jturf.JTurfRandom;
+import com.cgzz.mapbox.jturf.geojson.GeoJsonParser;
+import com.cgzz.mapbox.jturf.shape.Geometry;
+import com.cgzz.mapbox.jturf.shape.impl.FeatureCollection;
+import com.cgzz.mapbox.jturf.wkb.WkbReader;
+import com.cgzz.mapbox.jturf.wkb.WkbWriter;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GeoJSON 解析，Gson 适配器与 GeoJsonParser 对比，以及 WKB 编解码
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GeoJsonBenchmark {
+
+    private static final int FEATURES = 100;
+
+    /**
+     * 每个多边形的顶点数
+     */
+    @Param({"16", "256", "4096"})
+    public int size;
+
+    private String json;
+
+    private FeatureCollection<Geometry> features;
+
+    private byte[] wkb;
+
+    @Setup
+    public void setup() {
+        json = JTurfRandom.randomPolygon(FEATURES, Fixtures.POLYGON_BBOX, size, Fixtures.MAX_RADIAL_LENGTH, new Random(Fixtures.SEED)).toJson();
+        features = GeoJsonParser.parseFeatureCollection(json);
+        wkb = WkbWriter.writeFeatureCollection(features);
+    }
+
+    @Benchmark
+    public FeatureCollection<Geometry> gsonFromJson() {
+        return FeatureCollection.fromJson(json);
+    }
+
+    @Benchmark
+    public FeatureCollection<Geometry> parser() {
+        return GeoJsonParser.parseFeatureCollection(json);
+    }
+
+    @Benchmark
+    public byte[] wkbWrite() {
+        return WkbWriter.writeFeatureCollection(features);
+    }
+
+    @Benchmark
+    public FeatureCollection<Geometry> wkbRead() {
+        return WkbReader.readFeatureCollection(wkb);
+    }
+
+}
@@ -0,0 +1,103 @@
+package com.cgzz.mapbox.jturf.benchmark;
+
+import com.cgzz.mapbox.jturf.JTurfMeasurement;
+import com.cgzz.mapbox.jturf.JTurfRandom;
+import com.cgzz.mapbox.jturf.enums.Units;
+import com.cgzz.mapbox.jturf.shape.impl.FeatureCollection;
+import com.cgzz.mapbox.jturf.shape.impl.Point;
+import com.cgzz.mapbox.jturf.shape.impl.Polygon;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JTurfMeasurement 的 area、distance，并行批量版本 areas、distances，以及基于数组的 distanceMatrix
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MeasurementBenchmark {
+
+    /**
+     * 多边形的顶点数，也是 distance 计算的点对数
+     */
+    @Param({"16", "256", "4096"})
+    public int size;
+
+    private Polygon polygon;
+
+    private List<Point> from, to;
+
+    /**
+     * size 个多边形，用于批量计算
+     */
+    private FeatureCollection<Polygon> polygons;
+
+    private double[] fromLons, fromLats, toLons, toLats, matrix;
+
+    @Setup
+    public void setup() {
+        polygon = Fixtures.polygon(size);
+        from = Fixtures.points(size, Fixtures.LINE_BBOX, Fixtures.SEED);
+        to = Fixtures.points(size, Fixtures.LINE_BBOX, Fixtures.SEED + 1);
+        fromLons = new double[size];
+        fromLats = new double[size];
+        toLons = new double[size];
+        toLats = new double[size];
+        for (int i = 0; i < size; i++) {
+            fromLons[i] = from.get(i).longitude();
+            fromLats[i] = from.get(i).latitude();
+            toLons[i] = to.get(i).longitude();
+            toLats[i] = to.get(i).latitude();
+        }
+        matrix = new double[size * size];
+        polygons = JTurfRandom.randomPolygon(size, Fixtures.POLYGON_BBOX, 64, Fixtures.MAX_RADIAL_LENGTH, new Random(Fixtures.SEED));
+    }
+
+    @Benchmark
+    public double area() {
+        return JTurfMeasurement.area(polygon);
+    }
+
+    @Benchmark
+    public void distance(Blackhole bh) {
+        for (int i = 0; i < size; i++) {
+            bh.consume(JTurfMeasurement.distance(from.get(i), to.get(i), Units.KILOMETERS));
+        }
+    }
+
+    @Benchmark
+    public double[] areas() {
+        return JTurfMeasurement.areas(polygons);
+    }
+
+    @Benchmark
+    public double[] distances() {
+        return JTurfMeasurement.distances(from, to, Units.KILOMETERS);
+    }
+
+    /**
+     * size * size 的距离矩阵，逐对调用 distance
+     */
+    @Benchmark
+    public void distanceMatrixPerPoint(Blackhole bh) {
+        for (int i = 0; i < size; i++) {
+            for (int j = 0; j < size; j++) {
+                bh.consume(JTurfMeasurement.distance(from.get(i), to.get(j), Units.KILOMETERS));
+            }
+        }
+    }
+
+    @Benchmark
+    public double[] distanceMatrix() {
+        JTurfMeasurement.distanceMatrix(fromLons, fromLats, toLons, toLats, Units.KILOMETERS, matrix);
+        return matrix;
+    }
+
+}
@@ -0,0 +1,63 @@
+package com.cgzz.mapbox.jturf.benchmark;
+
+import com.cgzz.mapbox.jturf.JTurfMisc;
+import com.cgzz.mapbox.jturf.shape.impl.FeatureCollection;
+import com.cgzz.mapbox.jturf.shape.impl.LineString;
+import com.cgzz.mapbox.jturf.shape.impl.Point;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JTurfMisc 的 lineIntersect、kinks
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MiscBenchmark {
+
+    /**
+     * 线的顶点数
+     */
+    @Param({"16", "256", "4096"})
+    public int size;
+
+    private LineString line1, line2;
+
+    @Setup
+    public void setup() {
+        List<LineString> lines = Fixtures.lines(2, size, Fixtures.SEED);
+        line1 = lines.get(0);
+        line2 = lines.get(1);
+    }
+
+    @Benchmark
+    public FeatureCollection<Point> lineIntersect() {
+        return JTurfMisc.lineIntersect(line1, line2);
+    }
+
+    @Benchmark
+    public int lineIntersectStreaming() {
+        int[] count = new int[1];
+        JTurfMisc.lineIntersect(line1, line2, (x, y) -> {
+            count[0]++;
+            return true;
+        });
+        return count[0];
+    }
+
+    @Benchmark
+    public FeatureCollection<Point> kinks() {
+        return JTurfMisc.kinks(line1);
+    }
+
+    @Benchmark
+    public boolean hasKinks() {
+        return JTurfMisc.hasKinks(line1);
+    }
+
+}
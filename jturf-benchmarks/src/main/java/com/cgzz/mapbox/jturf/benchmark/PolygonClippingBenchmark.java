@@ -0,0 +1,80 @@
+package com.cgzz.mapbox.jturf.benchmark;
+
+import com.cgzz.mapbox.jturf.JTurfRandom;
+import com.cgzz.mapbox.jturf.JTurfTransformation;
+import com.cgzz.mapbox.jturf.shape.impl.BoundingBox;
+import com.cgzz.mapbox.jturf.shape.impl.FeatureCollection;
+import com.cgzz.mapbox.jturf.shape.impl.Point;
+import com.cgzz.mapbox.jturf.shape.impl.Polygon;
+import com.cgzz.mapbox.jturf.util.pkg.clipping.polygonclipping.Operation;
+import com.cgzz.mapbox.jturf.util.pkg.clipping.polygonclipping.PolygonClippingType;
+import com.cgzz.mapbox.jturf.util.pkg.clipping.polygonclipping.SweepEventQueueType;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PolygonClipping 扫描线事件队列的对比：伸展树与四叉堆，在大规模的 union、difference 上测试；
+ * gridSize 不为 0 时为固定精度模式。<br>
+ * circle 为两个相交的圆，共 2 * size 个顶点；random 为 size / 16 个随机的 16 边形，交替分给两个 MultiPolygon，交点多
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PolygonClippingBenchmark {
+
+    @Param({"SPLAY_TREE", "HEAP"})
+    public SweepEventQueueType queue;
+
+    @Param({"circle", "random"})
+    public String shape;
+
+    /**
+     * 多边形的顶点数
+     */
+    @Param({"4096", "65536"})
+    public int size;
+
+    /**
+     * 固定精度模式的网格大小，0 为浮点数模式
+     */
+    @Param({"0", "1e-7"})
+    public double gridSize;
+
+    private List<List<List<Point>>> polygon1, polygon2;
+
+    @Setup
+    public void setup() {
+        if ("circle".equals(shape)) {
+            polygon1 = Collections.singletonList(JTurfTransformation.circle(Point.fromLngLat(0, 0), 100, size, null).coordinates());
+            polygon2 = Collections.singletonList(JTurfTransformation.circle(Point.fromLngLat(0.5, 0.3), 100, size, null).coordinates());
+            return;
+        }
+
+        // 随机多边形放在较大的范围内，避免重叠过密使扫描线分割出的线段数超过上限
+        FeatureCollection<Polygon> polygons = JTurfRandom.randomPolygon(size / 16, BoundingBox.fromLngLats(0, 0, 40, 40), 16, 0.5, new Random(Fixtures.SEED));
+        polygon1 = new ArrayList<>();
+        polygon2 = new ArrayList<>();
+        for (int i = 0; i < polygons.size(); i++) {
+            (i % 2 == 0 ? polygon1 : polygon2).add(polygons.get(i).geometry().coordinates());
+        }
+    }
+
+    @Benchmark
+    public List<List<List<Point>>> union() {
+        return Operation.run(PolygonClippingType.UNION, queue, gridSize, polygon1, polygon2);
+    }
+
+    @Benchmark
+    public List<List<List<Point>>> difference() {
+        return Operation.run(PolygonClippingType.DIFFERENCE, queue, gridSize, polygon1, polygon2);
+    }
+
+}
@@ -0,0 +1,112 @@
+package com.cgzz.mapbox.jturf.benchmark;
+
+import com.cgzz.mapbox.jturf.JTurfRandom;
+import com.cgzz.mapbox.jturf.JTurfTransformation;
+import com.cgzz.mapbox.jturf.enums.Units;
+import com.cgzz.mapbox.jturf.shape.Geometry;
+import com.cgzz.mapbox.jturf.shape.impl.Feature;
+import com.cgzz.mapbox.jturf.shape.impl.FeatureCollection;
+import com.cgzz.mapbox.jturf.shape.impl.LineString;
+import com.cgzz.mapbox.jturf.shape.impl.Polygon;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JTurfTransformation 的 union、intersect、difference、xor、buffer、simplify，多边形集合的级联合并与逐个合并的对比，以及两组多边形的叠加
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TransformationBenchmark {
+
+    /**
+     * 多边形、线的顶点数
+     */
+    @Param({"16", "256", "4096"})
+    public int size;
+
+    private Polygon polygon1, polygon2;
+
+    private LineString line;
+
+    /**
+     * size 个多边形，用于集合合并
+     */
+    private FeatureCollection<Polygon> features;
+
+    /**
+     * 另一组 size 个多边形，与 features 叠加
+     */
+    private FeatureCollection<Polygon> overlayFeatures;
+
+    @Setup
+    public void setup() {
+        List<Polygon> polygons = Fixtures.polygons(2, size, Fixtures.SEED);
+        polygon1 = polygons.get(0);
+        polygon2 = polygons.get(1);
+        line = Fixtures.line(size);
+        features = JTurfRandom.randomPolygon(size, Fixtures.POLYGON_BBOX, 16, Fixtures.MAX_RADIAL_LENGTH, new Random(Fixtures.SEED));
+        overlayFeatures = JTurfRandom.randomPolygon(size, Fixtures.POLYGON_BBOX, 16, Fixtures.MAX_RADIAL_LENGTH, new Random(Fixtures.SEED + 1));
+    }
+
+    @Benchmark
+    public Geometry union() {
+        return JTurfTransformation.union(polygon1, polygon2);
+    }
+
+    @Benchmark
+    public Geometry intersect() {
+        return JTurfTransformation.intersect(polygon1, polygon2);
+    }
+
+    @Benchmark
+    public Geometry difference() {
+        return JTurfTransformation.difference(polygon1, polygon2);
+    }
+
+    @Benchmark
+    public Geometry xor() {
+        return JTurfTransformation.xor(polygon1, polygon2);
+    }
+
+    @Benchmark
+    public Geometry unionCollection() {
+        return JTurfTransformation.union(features);
+    }
+
+    @Benchmark
+    public Geometry unionSequential() {
+        Geometry result = null;
+        for (Feature<Polygon> polygon : features) {
+            result = JTurfTransformation.union(result, polygon.geometry());
+        }
+        return result;
+    }
+
+    @Benchmark
+    public FeatureCollection<Geometry> overlay() {
+        return JTurfTransformation.overlay(features, overlayFeatures);
+    }
+
+    @Benchmark
+    public Geometry buffer() {
+        return JTurfTransformation.buffer(polygon1, 10, Units.KILOMETERS);
+    }
+
+    @Benchmark
+    public LineString simplify() {
+        return JTurfTransformation.simplify(line, 0.1);
+    }
+
+    @Benchmark
+    public LineString simplifyHighQuality() {
+        return JTurfTransformation.simplify(line, 0.1, true);
+    }
+
+}
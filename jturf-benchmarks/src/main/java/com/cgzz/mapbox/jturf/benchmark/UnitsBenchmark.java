@@ -0,0 +1,102 @@
+package com.cgzz.mapbox.jturf.benchmark;
+
+import com.cgzz.mapbox.jturf.JTurfHelper;
+import com.cgzz.mapbox.jturf.JTurfMeasurement;
+import com.cgzz.mapbox.jturf.enums.Units;
+import com.cgzz.mapbox.jturf.shape.impl.Point;
+import com.cgzz.mapbox.jturf.util.measurement.DistanceCalculator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 逐段累加折线长度：原先每次按 HashMap 解析单位系数的实现，与 Units 预先计算的系数、DistanceCalculator 对比
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UnitsBenchmark {
+
+    /**
+     * 改动前 JTurfHelper 中的单位系数表
+     */
+    private static final Map<Units, Double> LEGACY_FACTORS = new HashMap<>();
+
+    static {
+        for (Units units : Units.values()) {
+            LEGACY_FACTORS.put(units, units.factor());
+        }
+    }
+
+    /**
+     * 折线的顶点数
+     */
+    @Param({"16", "256", "4096"})
+    public int size;
+
+    @Param({"KILOMETERS", "MILES"})
+    public Units units;
+
+    private List<Point> points;
+
+    @Setup
+    public void setup() {
+        points = Fixtures.line(size).coordinates();
+    }
+
+    @Benchmark
+    public double legacy() {
+        double total = 0;
+        for (int i = 1; i < points.size(); i++) {
+            total += legacyDistance(points.get(i - 1), points.get(i), units);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public double measurement() {
+        double total = 0;
+        for (int i = 1; i < points.size(); i++) {
+            total += JTurfMeasurement.distance(points.get(i - 1), points.get(i), units);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public double calculator() {
+        DistanceCalculator calculator = DistanceCalculator.forUnits(units);
+        double total = 0;
+        for (int i = 1; i < points.size(); i++) {
+            total += calculator.distance(points.get(i - 1), points.get(i));
+        }
+        return total;
+    }
+
+    /**
+     * 改动前 JTurfMeasurement.distance 的实现
+     */
+    private static double legacyDistance(Point p1, Point p2, Units units) {
+        double dLat = JTurfHelper.degreesToRadians(p2.latitude() - p1.latitude());
+        double dLon = JTurfHelper.degreesToRadians(p2.longitude() - p1.longitude());
+        double lat1 = JTurfHelper.degreesToRadians(p1.latitude());
+        double lat2 = JTurfHelper.degreesToRadians(p2.latitude());
+
+        double value = Math.pow(Math.sin(dLat / 2), 2)
+                + Math.pow(Math.sin(dLon / 2), 2)
+                * Math.cos(lat1)
+                * Math.cos(lat2);
+
+        Double factor = LEGACY_FACTORS.get(units);
+        if (factor == null) {
+            throw new IllegalArgumentException(units + " units is invalid");
+        }
+        return 2 * Math.atan2(Math.sqrt(value), Math.sqrt(1 - value)) * factor;
+    }
+
+}
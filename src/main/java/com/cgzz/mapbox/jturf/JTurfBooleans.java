@@ -119,6 +119,43 @@ public final class JTurfBooleans {
         return BooleanPointInPolygonHelper.booleanPointInPolygon(point, geometry, ignoreBoundary);
     }
 
+    /**
+     * 预处理多边形，用于对同一个多边形反复判断点是否在其内部。<br>
+     * 预处理会缓存边界框并按纬度对边建立索引，每次判断只需要检查点附近的边。
+     *
+     * @param geometry 多边形，支持 Polygon、MultiPolygon
+     * @return PreparedPolygon
+     */
+    public static PreparedPolygon preparePolygon(Geometry geometry) {
+        return PreparedPolygon.prepare(geometry);
+    }
+
+    /**
+     * 判断点是否在预处理后的多边形内，如果点在多边形的边界上，也算在内。
+     *
+     * @param point    要判断的点
+     * @param prepared 预处理后的多边形
+     * @return 如果点在多边形内，则返回true;否则返回false
+     */
+    public static boolean booleanPointInPolygon(Point point, PreparedPolygon prepared) {
+        return booleanPointInPolygon(point, prepared, false);
+    }
+
+    /**
+     * 判断点是否在预处理后的多边形内
+     *
+     * @param point          要判断的点
+     * @param prepared       预处理后的多边形
+     * @param ignoreBoundary 是否忽略多边形边界（true如果点在多边形的边界上不算，false则也算在多边形内）
+     * @return 如果点在多边形内，则返回true;否则返回false
+     */
+    public static boolean booleanPointInPolygon(Point point, PreparedPolygon prepared, boolean ignoreBoundary) {
+        if (prepared == null) {
+            throw new JTurfException("polygon is required");
+        }
+        return prepared.contains(point, ignoreBoundary);
+    }
+
     /**
      * 如果点位于直线上，则返回 true。默认不忽略忽略线段的起始和终止顶点.
      *
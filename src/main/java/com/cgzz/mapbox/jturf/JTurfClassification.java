@@ -5,6 +5,7 @@ import com.cgzz.mapbox.jturf.shape.impl.FeatureCollection;
 import com.cgzz.mapbox.jturf.shape.impl.MultiPoint;
 import com.cgzz.mapbox.jturf.shape.impl.Point;
 import com.cgzz.mapbox.jturf.util.classification.NearestPointHelper;
+import com.cgzz.mapbox.jturf.util.index.PointIndex;
 
 import java.util.List;
 
@@ -47,4 +48,34 @@ public final class JTurfClassification {
         return NearestPointHelper.nearestPoint(targetPoint, points);
     }
 
+    /**
+     * 为点要素集合构建空间索引，用于反复查询最近点、K近邻、半径范围内的点
+     *
+     * @param points 点要素集合
+     * @return PointIndex
+     */
+    public static PointIndex pointIndex(FeatureCollection<Point> points) {
+        return PointIndex.build(points);
+    }
+
+    /**
+     * 为多点构建空间索引，用于反复查询最近点、K近邻、半径范围内的点
+     *
+     * @param multiPoint 点集合
+     * @return PointIndex
+     */
+    public static PointIndex pointIndex(MultiPoint multiPoint) {
+        return PointIndex.build(multiPoint);
+    }
+
+    /**
+     * 为点集合构建空间索引，用于反复查询最近点、K近邻、半径范围内的点
+     *
+     * @param points 点集合
+     * @return PointIndex
+     */
+    public static PointIndex pointIndex(List<Point> points) {
+        return PointIndex.build(points);
+    }
+
 }
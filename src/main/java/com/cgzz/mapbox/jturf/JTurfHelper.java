@@ -15,26 +15,6 @@ public final class JTurfHelper {
 
     public static final double EARTH_RADIUS = 6371008.8;
 
-    private static final Map<Units, Double> FACTORS = new HashMap<>();
-
-    static {
-        FACTORS.put(Units.CENTIMETERS, EARTH_RADIUS * 100);
-        FACTORS.put(Units.CENTIMETRES, EARTH_RADIUS * 100);
-        FACTORS.put(Units.DEGREES, EARTH_RADIUS / 111325);
-        FACTORS.put(Units.FEET, EARTH_RADIUS * 3.28084);
-        FACTORS.put(Units.INCHES, EARTH_RADIUS * 39.37);
-        FACTORS.put(Units.KILOMETERS, EARTH_RADIUS / 1000);
-        FACTORS.put(Units.KILOMETRES, EARTH_RADIUS / 1000);
-        FACTORS.put(Units.METERS, EARTH_RADIUS);
-        FACTORS.put(Units.METRES, EARTH_RADIUS);
-        FACTORS.put(Units.MILES, EARTH_RADIUS / 1609.344);
-        FACTORS.put(Units.MILLIMETERS, EARTH_RADIUS * 1000);
-        FACTORS.put(Units.MILLIMETRES, EARTH_RADIUS * 1000);
-        FACTORS.put(Units.NAUTICAL_MILES, EARTH_RADIUS / 1852);
-        FACTORS.put(Units.RADIANS, 1D);
-        FACTORS.put(Units.YARDS, EARTH_RADIUS * 1.0936);
-    }
-
     /**
      * 将距离测量值（假设地球为球形）从弧度转换为公里单位。
      *
@@ -54,16 +34,7 @@ public final class JTurfHelper {
      * @return double
      */
     public static double radiansToLength(double radians, Units units) {
-        if (units == null) {
-            units = Units.KILOMETERS;
-        }
-
-        Double factor = FACTORS.get(units);
-        if (factor == null) {
-            throw new IllegalArgumentException(units + " units is invalid");
-        }
-
-        return radians * factor;
+        return (units == null ? Units.KILOMETERS : units).toLength(radians);
     }
 
     /**
@@ -106,15 +77,7 @@ public final class JTurfHelper {
      * @return double
      */
     public static double lengthToRadians(double distance, Units units) {
-        if (units == null) {
-            units = Units.KILOMETERS;
-        }
-
-        Double factor = FACTORS.get(units);
-        if (factor == null) {
-            throw new Error(units + " units is invalid");
-        }
-        return distance / factor;
+        return (units == null ? Units.KILOMETERS : units).toRadians(distance);
     }
 
     /**
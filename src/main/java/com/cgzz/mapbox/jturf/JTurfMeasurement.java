@@ -45,17 +45,196 @@ public final class JTurfMeasurement {
      * @return double
      */
     public static double distance(Point p1, Point p2, Units units) {
-        double dLat = JTurfHelper.degreesToRadians(p2.latitude() - p1.latitude());
-        double dLon = JTurfHelper.degreesToRadians(p2.longitude() - p1.longitude());
-        double lat1 = JTurfHelper.degreesToRadians(p1.latitude());
-        double lat2 = JTurfHelper.degreesToRadians(p2.latitude());
+        return DistanceCalculator.forUnits(units).distance(p1, p2);
+    }
+
+    /**
+     * 并行批量计算面积，在 ForkJoinPool 中执行
+     *
+     * @param featureCollection 要素集合
+     * @return 与要素一一对应的面积（以平方米为单位），空要素为 NaN
+     */
+    public static double[] areas(FeatureCollection<? extends Geometry> featureCollection) {
+        return areas(featureCollection, Units.METERS);
+    }
+
+    /**
+     * 并行批量计算面积，在 ForkJoinPool 中执行
+     *
+     * @param featureCollection 要素集合
+     * @param units             支持公里、英里、米，为null时为平方米
+     * @return 与要素一一对应的面积（指定单位），空要素为 NaN
+     */
+    public static double[] areas(FeatureCollection<? extends Geometry> featureCollection, Units units) {
+        if (featureCollection == null) {
+            throw new JTurfException("featureCollection is required");
+        }
+        return BatchMeasurementHelper.areas(featureCollection.geometries(), units);
+    }
+
+    /**
+     * 并行批量计算长度（周长），在 ForkJoinPool 中执行
+     *
+     * @param featureCollection 要素集合
+     * @return 与要素一一对应的长度（公里），空要素为 NaN
+     */
+    public static double[] lengths(FeatureCollection<? extends Geometry> featureCollection) {
+        return lengths(featureCollection, Units.KILOMETERS);
+    }
+
+    /**
+     * 并行批量计算长度（周长），在 ForkJoinPool 中执行
+     *
+     * @param featureCollection 要素集合
+     * @param units             距离单位
+     * @return 与要素一一对应的长度，空要素为 NaN
+     */
+    public static double[] lengths(FeatureCollection<? extends Geometry> featureCollection, Units units) {
+        if (featureCollection == null) {
+            throw new JTurfException("featureCollection is required");
+        }
+        if (units == null) {
+            throw new JTurfException("units is required");
+        }
+        return BatchMeasurementHelper.lengths(featureCollection.geometries(), units);
+    }
+
+    /**
+     * 并行批量计算边界框，在 ForkJoinPool 中执行
+     *
+     * @param featureCollection 要素集合
+     * @return 按 [west, south, east, north, ...] 存放的边界框，第 i 个要素的边界框位于 [i * 4, i * 4 + 4)，空要素为 NaN
+     */
+    public static double[] bboxes(FeatureCollection<? extends Geometry> featureCollection) {
+        if (featureCollection == null) {
+            throw new JTurfException("featureCollection is required");
+        }
+        return BatchMeasurementHelper.bboxes(featureCollection.geometries());
+    }
+
+    /**
+     * 并行批量计算质心（所有顶点的平均值），在 ForkJoinPool 中执行
+     *
+     * @param featureCollection 要素集合
+     * @return 按 [x, y, ...] 存放的质心，第 i 个要素的质心位于 [i * 2, i * 2 + 2)，空要素为 NaN
+     */
+    public static double[] centroids(FeatureCollection<? extends Geometry> featureCollection) {
+        if (featureCollection == null) {
+            throw new JTurfException("featureCollection is required");
+        }
+        return BatchMeasurementHelper.centroids(featureCollection.geometries());
+    }
+
+    /**
+     * 并行批量计算两组点之间逐对的距离，在 ForkJoinPool 中执行
+     *
+     * @param from  起点
+     * @param to    终点，数量必须与起点一致
+     * @param units 距离单位
+     * @return 第 i 个元素为 from[i] 到 to[i] 的距离，任一点为空时为 NaN
+     */
+    public static double[] distances(List<Point> from, List<Point> to, Units units) {
+        if (from == null) {
+            throw new JTurfException("from is required");
+        }
+        if (to == null) {
+            throw new JTurfException("to is required");
+        }
+        if (units == null) {
+            throw new JTurfException("units is required");
+        }
+        return BatchMeasurementHelper.distances(from, to, units);
+    }
+
+    /**
+     * 批量计算每个点到同一个起点的距离，坐标以基本类型数组传入，适合大批量的点
+     *
+     * @param lons  经度
+     * @param lats  纬度，长度与 lons 一致
+     * @param lon0  起点经度
+     * @param lat0  起点纬度
+     * @param units 距离单位
+     * @param out   结果，长度不小于 lons，out[i] 为第 i 个点到起点的距离
+     */
+    public static void distances(double[] lons, double[] lats, double lon0, double lat0, Units units, double[] out) {
+        checkCoordinates(lons, lats, "lons", "lats");
+        if (units == null) {
+            throw new JTurfException("units is required");
+        }
+        if (out == null || out.length < lons.length) {
+            throw new JTurfException("out length must be at least " + lons.length);
+        }
+        DistanceKernel.distances(lons, lats, lon0, lat0, units, out);
+    }
 
-        double value = Math.pow(Math.sin(dLat / 2), 2)
-                + Math.pow(Math.sin(dLon / 2), 2)
-                * Math.cos(lat1)
-                * Math.cos(lat2);
+    /**
+     * 预处理点集合，用于对同一批点反复计算到不同起点的距离。<br>
+     * 预处理会缓存每个点的三角函数值，之后每次计算只需要对起点调用三角函数。
+     *
+     * @param lons 经度
+     * @param lats 纬度，长度与 lons 一致
+     * @return PreparedPoints
+     */
+    public static PreparedPoints preparePoints(double[] lons, double[] lats) {
+        return PreparedPoints.prepare(lons, lats);
+    }
 
-        return JTurfHelper.radiansToLength(2 * Math.atan2(Math.sqrt(value), Math.sqrt(1 - value)), units);
+    /**
+     * 批量计算预处理后的每个点到同一个起点的距离，与 {@link #distances(double[], double[], double, double, Units, double[])}
+     * 的结果相差几纳米以内，两点很近（毫米级）时相对误差较大
+     *
+     * @param points 预处理后的点
+     * @param lon0   起点经度
+     * @param lat0   起点纬度
+     * @param units  距离单位
+     * @param out    结果，长度不小于点的数量，out[i] 为第 i 个点到起点的距离
+     */
+    public static void distances(PreparedPoints points, double lon0, double lat0, Units units, double[] out) {
+        if (points == null) {
+            throw new JTurfException("points is required");
+        }
+        if (units == null) {
+            throw new JTurfException("units is required");
+        }
+        if (out == null || out.length < points.size()) {
+            throw new JTurfException("out length must be at least " + points.size());
+        }
+        DistanceKernel.distances(points, lon0, lat0, units, out);
+    }
+
+    /**
+     * 计算起终点距离矩阵（OD 矩阵），元素数量较多时并行计算
+     *
+     * @param fromLons 起点经度
+     * @param fromLats 起点纬度
+     * @param toLons   终点经度
+     * @param toLats   终点纬度
+     * @param units    距离单位
+     * @param out      按行存放的结果，长度不小于起点数 * 终点数，out[i * toLons.length + j] 为第 i 个起点到第 j 个终点的距离
+     */
+    public static void distanceMatrix(double[] fromLons, double[] fromLats, double[] toLons, double[] toLats, Units units, double[] out) {
+        checkCoordinates(fromLons, fromLats, "fromLons", "fromLats");
+        checkCoordinates(toLons, toLats, "toLons", "toLats");
+        if (units == null) {
+            throw new JTurfException("units is required");
+        }
+        long size = (long) fromLons.length * toLons.length;
+        if (out == null || out.length < size) {
+            throw new JTurfException("out length must be at least " + size);
+        }
+        DistanceKernel.distanceMatrix(fromLons, fromLats, toLons, toLats, units, out);
+    }
+
+    private static void checkCoordinates(double[] lons, double[] lats, String lonsName, String latsName) {
+        if (lons == null) {
+            throw new JTurfException(lonsName + " is required");
+        }
+        if (lats == null) {
+            throw new JTurfException(latsName + " is required");
+        }
+        if (lons.length != lats.length) {
+            throw new JTurfException(lonsName + " and " + latsName + " must have the same length");
+        }
     }
 
     /**
@@ -230,26 +409,7 @@ public final class JTurfMeasurement {
      * @return Point
      */
     public static Point destination(Point p, double distance, double bearing, Units units) {
-        double longitude1 = JTurfHelper.degreesToRadians(p.longitude());
-        double latitude1 = JTurfHelper.degreesToRadians(p.latitude());
-        double bearingRad = JTurfHelper.degreesToRadians(bearing);
-        double radians = JTurfHelper.lengthToRadians(distance, units);
-
-        // Main
-        double latitude2 = Math.asin(Math.sin(latitude1)
-                * Math.cos(radians)
-                + Math.cos(latitude1)
-                * Math.sin(radians)
-                * Math.cos(bearingRad));
-
-        double longitude2 = longitude1 + Math.atan2(
-                Math.sin(bearingRad) * Math.sin(radians) * Math.cos(latitude1),
-                Math.cos(radians) - Math.sin(latitude1) * Math.sin(latitude2));
-
-        double lng = JTurfHelper.radiansToDegrees(longitude2);
-        double lat = JTurfHelper.radiansToDegrees(latitude2);
-
-        return Point.fromLngLat(lng, lat);
+        return DistanceCalculator.forUnits(units).destination(p, distance, bearing);
     }
 
     /**
@@ -351,6 +511,11 @@ public final class JTurfMeasurement {
     public static BoundingBox bbox(Geometry geometry) {
         double[] bbox = new double[]{Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY, Double.NEGATIVE_INFINITY};
 
+        // 紧凑存储的图形直接扫描坐标数组，避免展开为点集合
+        if (packedBBox(geometry, bbox)) {
+            return BoundingBox.fromLngLats(bbox);
+        }
+
         JTurfMeta.coordEach(geometry, (point, coordIndex, featureIndex, multiFeatureIndex, geometryIndex) -> {
             if (bbox[0] > point.longitude()) { // minX
                 bbox[0] = point.longitude();
@@ -370,6 +535,55 @@ public final class JTurfMeasurement {
         return BoundingBox.fromLngLats(bbox);
     }
 
+    /**
+     * 如果图形为紧凑存储的 LineString、Polygon、MultiPolygon，则直接计算其边界框
+     *
+     * @param geometry 图形
+     * @param bbox     [minX, minY, maxX, maxY]
+     * @return 是否已计算
+     */
+    private static boolean packedBBox(Geometry geometry, double[] bbox) {
+        if (geometry == null) {
+            return false;
+        }
+        geometry = JTurfMeta.getGeom(geometry);
+
+        switch (geometry.geometryType()) {
+            case LINE_STRING: {
+                LineString line = LineString.lineString(geometry);
+                if (!line.isPacked()) {
+                    return false;
+                }
+                line.coordinateSequence().expandBBox(bbox);
+                return true;
+            }
+            case POLYGON: {
+                Polygon polygon = Polygon.polygon(geometry);
+                if (!polygon.isPacked()) {
+                    return false;
+                }
+                for (CoordinateSequence ring : polygon.coordinateSequences()) {
+                    ring.expandBBox(bbox);
+                }
+                return true;
+            }
+            case MULTI_POLYGON: {
+                MultiPolygon multiPolygon = MultiPolygon.multiPolygon(geometry);
+                if (!multiPolygon.isPacked()) {
+                    return false;
+                }
+                for (CoordinateSequence[] rings : multiPolygon.coordinateSequences()) {
+                    for (CoordinateSequence ring : rings) {
+                        ring.expandBBox(bbox);
+                    }
+                }
+                return true;
+            }
+            default:
+                return false;
+        }
+    }
+
     /**
      * 使用多边形并计算绝对中心点
      *
@@ -474,6 +688,7 @@ public final class JTurfMeasurement {
      */
     public static Point along(LineString lineString, double distance, Units units) {
         List<Point> coords = lineString.coordinates();
+        DistanceCalculator calculator = DistanceCalculator.forUnits(units);
         double travelled = 0;
 
         for (int i = 0, len = coords.size(); i < len; i++) {
@@ -488,10 +703,10 @@ public final class JTurfMeasurement {
                     return currPoint;
                 } else {
                     double direction = bearing(currPoint, coords.get(i - 1)) - 180;
-                    return destination(currPoint, overshot, direction, units);
+                    return calculator.destination(currPoint, overshot, direction);
                 }
             } else {
-                travelled += distance(currPoint, coords.get(i + 1), units);
+                travelled += calculator.distance(currPoint, coords.get(i + 1));
             }
         }
 
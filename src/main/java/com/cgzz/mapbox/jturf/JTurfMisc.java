@@ -5,7 +5,9 @@ import com.cgzz.mapbox.jturf.exception.JTurfException;
 import com.cgzz.mapbox.jturf.shape.Geometry;
 import com.cgzz.mapbox.jturf.shape.GeometryType;
 import com.cgzz.mapbox.jturf.shape.impl.*;
+import com.cgzz.mapbox.jturf.util.index.FeatureIndex;
 import com.cgzz.mapbox.jturf.util.misc.*;
+import com.cgzz.mapbox.jturf.util.misc.func.LineIntersectFunc;
 
 public final class JTurfMisc {
 
@@ -14,7 +16,8 @@ public final class JTurfMisc {
     }
 
     /**
-     * 返回自身的相交点
+     * 返回自身的相交点<br>
+     * 使用 Bentley–Ottmann 扫描线，只比较扫描位置处相邻的线段，耗时为 O((n + k) log n)，k 为相交的线段对数
      *
      * @param geometry 图形，支持 POLYGON、LING_STRING、MULTI_LINE_STRING、MULTI_POLYGON
      * @return 返回自相交点集合
@@ -23,6 +26,16 @@ public final class JTurfMisc {
         return KinksHelper.kinks(geometry);
     }
 
+    /**
+     * 判断图形是否存在自相交点，扫描线找到第一个相交点即返回
+     *
+     * @param geometry 图形，支持 POLYGON、LING_STRING、MULTI_LINE_STRING、MULTI_POLYGON
+     * @return 存在自相交点则返回true
+     */
+    public static boolean hasKinks(Geometry geometry) {
+        return KinksHelper.hasKinks(geometry);
+    }
+
     /**
      * 多边型顶点连线，从一个(多)Line或(多)Polygon创建一个2-vertex线段的GeometryCollection
      *
@@ -44,6 +57,18 @@ public final class JTurfMisc {
         return LineIntersectHelper.lineIntersect(geometry1, geometry2);
     }
 
+    /**
+     * 计算两个图形相交点，每找到一个不重复的相交点即回调一次，适合相交点数量很多的场景
+     *
+     * @param geometry1 图形1，支持 LineString、Polygon、MultiLineString、MultiPolygon
+     * @param geometry2 图形2，支持 LineString、Polygon、MultiLineString、MultiPolygon
+     * @param func      相交点回调处理函数，返回false时中断计算
+     * @return 是否所有相交点均处理成功
+     */
+    public static boolean lineIntersect(Geometry geometry1, Geometry geometry2, LineIntersectFunc func) {
+        return LineIntersectHelper.lineIntersect(geometry1, geometry2, func);
+    }
+
     /**
      * 计算两个图形之间重叠的线，默认容差距离为0公里
      *
@@ -365,4 +390,15 @@ public final class JTurfMisc {
         return SectorHelper.sector(center, radius, bearing1, bearing2, steps, units);
     }
 
+    /**
+     * 为要素集合构建空间索引，用于反复查询点所在的多边形要素、与边界框相交的要素
+     *
+     * @param featureCollection 要素集合
+     * @param <T>               要素的图形类型
+     * @return FeatureIndex
+     */
+    public static <T extends Geometry> FeatureIndex<T> featureIndex(FeatureCollection<T> featureCollection) {
+        return FeatureIndex.build(featureCollection);
+    }
+
 }
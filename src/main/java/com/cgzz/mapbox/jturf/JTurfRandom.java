@@ -3,6 +3,8 @@ package com.cgzz.mapbox.jturf;
 import com.cgzz.mapbox.jturf.shape.impl.*;
 import com.cgzz.mapbox.jturf.util.random.RandomHelper;
 
+import java.util.Random;
+
 public final class JTurfRandom {
 
     private JTurfRandom() {
@@ -49,6 +51,18 @@ public final class JTurfRandom {
         return RandomHelper.randomPoint(count, bbox);
     }
 
+    /**
+     * 使用指定的随机数生成器返回一组随机的点，相同种子的生成器得到相同的结果
+     *
+     * @param count  指定生成随机点的数量
+     * @param bbox   指定的随机边界框，默认在[-180, -90, 180, 90]范围
+     * @param random 随机数生成器
+     * @return GeoJSON FeatureCollection of points
+     */
+    public static FeatureCollection<Point> randomPoint(int count, BoundingBox bbox, Random random) {
+        return RandomHelper.randomPoint(count, bbox, random);
+    }
+
     /**
      * 返回随机的线段
      *
@@ -78,7 +92,7 @@ public final class JTurfRandom {
      * @return GeoJSON Feature of linestring
      */
     public static Feature<LineString> randomLineString(BoundingBox bbox, Integer numVertices, Double maxLength, Double maxRotation) {
-        return RandomHelper.randomLineString(bbox, null, null, null);
+        return RandomHelper.randomLineString(bbox, numVertices, maxLength, maxRotation);
     }
 
     /**
@@ -116,6 +130,21 @@ public final class JTurfRandom {
         return RandomHelper.randomLineString(count, bbox, numVertices, maxLength, maxRotation);
     }
 
+    /**
+     * 使用指定的随机数生成器返回一组随机的线段，相同种子的生成器得到相同的结果
+     *
+     * @param count       指定返回的数量
+     * @param bbox        指定的随机边界框，默认在[-180, -90, 180, 90]范围
+     * @param numVertices 每个 LineString 将包含的坐标数。（默认 10）
+     * @param maxLength   点与其前驱点之间可以相差的最大水平距离（默认为 0.0001）
+     * @param maxRotation 线段可以从上一条线段转动的最大弧度数。（默认为 Math.PI/8）
+     * @param random      随机数生成器
+     * @return GeoJSON FeatureCollection of linestrings
+     */
+    public static FeatureCollection<LineString> randomLineString(int count, BoundingBox bbox, Integer numVertices, Double maxLength, Double maxRotation, Random random) {
+        return RandomHelper.randomLineString(count, bbox, numVertices, maxLength, maxRotation, random);
+    }
+
     /**
      * 返回随机的多边形
      *
@@ -181,4 +210,18 @@ public final class JTurfRandom {
         return RandomHelper.randomPolygon(count, bbox, numVertices, maxRadialLength);
     }
 
+    /**
+     * 使用指定的随机数生成器返回一组随机的多边形，相同种子的生成器得到相同的结果
+     *
+     * @param count           指定返回的数量
+     * @param bbox            指定的随机边界框，默认在[-180, -90, 180, 90]范围
+     * @param numVertices     每个 Polygon 将包含的坐标数。（默认 10）
+     * @param maxRadialLength 点到达多边形中心的最大的纬度或经度数。（默认 10）
+     * @param random          随机数生成器
+     * @return GeoJSON FeatureCollection of polygons
+     */
+    public static FeatureCollection<Polygon> randomPolygon(int count, BoundingBox bbox, Integer numVertices, Double maxRadialLength, Random random) {
+        return RandomHelper.randomPolygon(count, bbox, numVertices, maxRadialLength, random);
+    }
+
 }
@@ -1,5 +1,6 @@
 package com.cgzz.mapbox.jturf;
 
+import com.cgzz.mapbox.jturf.enums.Aggregation;
 import com.cgzz.mapbox.jturf.enums.Orientation;
 import com.cgzz.mapbox.jturf.enums.Units;
 import com.cgzz.mapbox.jturf.exception.JTurfException;
@@ -9,10 +10,12 @@ import com.cgzz.mapbox.jturf.util.pkg.clipping.PolygonClippingHelper;
 import com.cgzz.mapbox.jturf.util.pkg.clipping.polygonclipping.PolygonClipping;
 import com.cgzz.mapbox.jturf.util.transformation.SimplifyHelper;
 import com.cgzz.mapbox.jturf.util.transformation.*;
+import com.cgzz.mapbox.jturf.util.measurement.DistanceCalculator;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 public final class JTurfTransformation {
 
@@ -55,9 +58,10 @@ public final class JTurfTransformation {
      * @return 多边形圆
      */
     public static Polygon circle(Point center, double radius, int steps, Units units) {
+        DistanceCalculator calculator = DistanceCalculator.forUnits(units);
         List<Point> coordinate = new ArrayList<>(steps + 1);
         for (int i = 0; i < steps; i++) {
-            coordinate.add(JTurfMeasurement.destination(center, radius, i * 360d / steps, units));
+            coordinate.add(calculator.destination(center, radius, i * 360d / steps));
         }
 
         if (coordinate.size() > 0) {
@@ -451,6 +455,106 @@ public final class JTurfTransformation {
         return PolygonClippingHelper.polygonClipping(geometry1, geometry2, PolygonClipping::union);
     }
 
+    /**
+     * 联合（固定精度）<br>
+     * 坐标先取整到 gridSize 的网格上，所有线段在经过的网格点处打断后按整数精确计算，结果的坐标也在网格上。
+     *
+     * @param geometry1 仅支持 Polygon和MultiPolygon
+     * @param geometry2 仅支持 Polygon和MultiPolygon
+     * @param gridSize  网格大小，例如 1e-7 度
+     * @return 返回组合后的图形，如果输入为空，则为 null
+     */
+    public static Geometry union(Geometry geometry1, Geometry geometry2, double gridSize) {
+        return PolygonClippingHelper.polygonClipping(geometry1, geometry2, (g1, g2) -> PolygonClipping.union(gridSize, g1, g2));
+    }
+
+    /**
+     * 联合<br>
+     * 合并集合中的所有多边形，按空间位置分组后以平衡二叉树的方式两两合并（级联合并），同一层的合并并行执行，
+     * 大量多边形时远快于逐个调用 {@link #union(Geometry, Geometry)}。
+     *
+     * @param featureCollection 仅支持 Polygon和MultiPolygon
+     * @return 返回组合后的图形，如果集合中没有多边形，则为 null
+     */
+    public static Geometry union(FeatureCollection<? extends Geometry> featureCollection) {
+        return CascadedUnionHelper.union(featureCollection);
+    }
+
+    /**
+     * 联合<br>
+     * 按属性值分组，属性值相同的多边形合并为一个要素，各组使用级联合并并行执行。
+     * 与 {@link #dissolve(FeatureCollection, String)} 不同，每个属性值只输出一个要素，也支持 MultiPolygon。
+     *
+     * @param featureCollection 仅支持 Polygon和MultiPolygon
+     * @param propertyName      分组的属性名称，缺少该属性的要素归为属性值为 null 的一组
+     * @return 每组一个要素（Polygon 或 MultiPolygon），按属性值首次出现的顺序排列，要素的属性只包含分组的属性
+     */
+    public static FeatureCollection<Geometry> union(FeatureCollection<? extends Geometry> featureCollection, String propertyName) {
+        return CascadedUnionHelper.union(featureCollection, propertyName);
+    }
+
+    /**
+     * 融合<br>
+     * 将相邻或重叠的多边形合并为一个多边形，不相交的多边形保持独立。
+     *
+     * @param featureCollection 多边形集合
+     * @return 融合后的多边形集合
+     */
+    public static FeatureCollection<Polygon> dissolve(FeatureCollection<Polygon> featureCollection) {
+        return DissolveHelper.dissolve(featureCollection, null, null);
+    }
+
+    /**
+     * 融合<br>
+     * 将属性值相同且相邻或重叠的多边形合并为一个多边形，结果要素的属性只包含分组的属性。
+     * 每个属性值只需要一个要素时使用 {@link #union(FeatureCollection, String)}。
+     *
+     * @param featureCollection 多边形集合
+     * @param propertyName      分组的属性名称，为null时不分组
+     * @return 融合后的多边形集合
+     */
+    public static FeatureCollection<Polygon> dissolve(FeatureCollection<Polygon> featureCollection, String propertyName) {
+        return DissolveHelper.dissolve(featureCollection, propertyName, null);
+    }
+
+    /**
+     * 融合<br>
+     * 将属性值相同且相邻或重叠的多边形合并为一个多边形，被合并要素的其他属性按指定的方式聚合。
+     *
+     * @param featureCollection 多边形集合
+     * @param propertyName      分组的属性名称，为null时不分组
+     * @param aggregations      属性的聚合方式，key为属性名称，例如 {"population": SUM, "name": FIRST}
+     * @return 融合后的多边形集合
+     */
+    public static FeatureCollection<Polygon> dissolve(FeatureCollection<Polygon> featureCollection, String propertyName, Map<String, Aggregation> aggregations) {
+        return DissolveHelper.dissolve(featureCollection, propertyName, aggregations);
+    }
+
+    /**
+     * 叠加<br>
+     * 求两个多边形图层之间所有相交的部分，通过空间索引查找候选要素对，逐对求交集并行执行。
+     *
+     * @param featureCollection1 第一个图层，仅支持 Polygon和MultiPolygon
+     * @param featureCollection2 第二个图层，仅支持 Polygon和MultiPolygon，会为它建立空间索引
+     * @return 每个相交的要素对一个要素，属性为两侧要素的属性（第二个图层中重名的属性追加 "_2" 后缀）以及交集的面积 "area"（平方米）
+     */
+    public static FeatureCollection<Geometry> overlay(FeatureCollection<? extends Geometry> featureCollection1, FeatureCollection<? extends Geometry> featureCollection2) {
+        return OverlayHelper.overlay(featureCollection1, featureCollection2, null);
+    }
+
+    /**
+     * 叠加<br>
+     * 求两个多边形图层之间所有相交的部分，通过空间索引查找候选要素对，逐对求交集并行执行。
+     *
+     * @param featureCollection1 第一个图层，仅支持 Polygon和MultiPolygon
+     * @param featureCollection2 第二个图层，仅支持 Polygon和MultiPolygon，会为它建立空间索引
+     * @param units              面积单位，支持公里、英里、米，为null时为平方米
+     * @return 每个相交的要素对一个要素，属性为两侧要素的属性（第二个图层中重名的属性追加 "_2" 后缀）以及交集的面积 "area"
+     */
+    public static FeatureCollection<Geometry> overlay(FeatureCollection<? extends Geometry> featureCollection1, FeatureCollection<? extends Geometry> featureCollection2, Units units) {
+        return OverlayHelper.overlay(featureCollection1, featureCollection2, units);
+    }
+
     /**
      * 计算交集<br>
      * 取两个多边形并找到它们的交点。如果它们共享一个边界，返回边界;如果它们不相交，返回
@@ -463,6 +567,19 @@ public final class JTurfTransformation {
         return PolygonClippingHelper.polygonClipping(geometry1, geometry2, PolygonClipping::intersection);
     }
 
+    /**
+     * 计算交集（固定精度）<br>
+     * 坐标先取整到 gridSize 的网格上，所有线段在经过的网格点处打断后按整数精确计算，结果的坐标也在网格上。
+     *
+     * @param geometry1 仅支持 Polygon和MultiPolygon
+     * @param geometry2 仅支持 Polygon和MultiPolygon
+     * @param gridSize  网格大小，例如 1e-7 度
+     * @return 返回交集图形，如果输入为空或它们不共享任何区域，则为 null
+     */
+    public static Geometry intersect(Geometry geometry1, Geometry geometry2, double gridSize) {
+        return PolygonClippingHelper.polygonClipping(geometry1, geometry2, (g1, g2) -> PolygonClipping.intersection(gridSize, g1, g2));
+    }
+
     /**
      * 计算差异<br>
      * 通过裁剪第二个多边形来找到两个多边形之间的差异。
@@ -475,6 +592,19 @@ public final class JTurfTransformation {
         return PolygonClippingHelper.polygonClipping(geometry1, geometry2, PolygonClipping::difference);
     }
 
+    /**
+     * 计算差异（固定精度）<br>
+     * 坐标先取整到 gridSize 的网格上，所有线段在经过的网格点处打断后按整数精确计算，结果的坐标也在网格上。
+     *
+     * @param geometry1 仅支持 Polygon和MultiPolygon
+     * @param geometry2 仅支持 Polygon和MultiPolygon
+     * @param gridSize  网格大小，例如 1e-7 度
+     * @return 返回差异图形，如果输入为空，则为 null
+     */
+    public static Geometry difference(Geometry geometry1, Geometry geometry2, double gridSize) {
+        return PolygonClippingHelper.polygonClipping(geometry1, geometry2, (g1, g2) -> PolygonClipping.difference(gridSize, g1, g2));
+    }
+
     /**
      * 计算补集<br>
      * 通过计算获取第二个图形相对第一个图形的补集。
@@ -487,6 +617,19 @@ public final class JTurfTransformation {
         return PolygonClippingHelper.polygonClipping(geometry1, geometry2, PolygonClipping::xor);
     }
 
+    /**
+     * 计算补集（固定精度）<br>
+     * 坐标先取整到 gridSize 的网格上，所有线段在经过的网格点处打断后按整数精确计算，结果的坐标也在网格上。
+     *
+     * @param geometry1 仅支持 Polygon和MultiPolygon
+     * @param geometry2 仅支持 Polygon和MultiPolygon
+     * @param gridSize  网格大小，例如 1e-7 度
+     * @return 返回补集图形，如果输入为空，则为 null
+     */
+    public static Geometry xor(Geometry geometry1, Geometry geometry2, double gridSize) {
+        return PolygonClippingHelper.polygonClipping(geometry1, geometry2, (g1, g2) -> PolygonClipping.xor(gridSize, g1, g2));
+    }
+
     /**
      * 计算缓冲区（辐射区），距离单位默认为KILOMETERS，steps默认为8。<br>
      * 计算组件在给定半径的缓冲区。支持的单位有英里、公里和度数。<br>
@@ -0,0 +1,19 @@
+package com.cgzz.mapbox.jturf.enums;
+
+/**
+ * 合并要素时属性值的聚合方式
+ */
+public enum Aggregation {
+
+    /**
+     * 取第一个不为空的值
+     */
+    FIRST,
+
+    /**
+     * 数值求和，为空的值会被忽略
+     */
+    SUM,
+    ;
+
+}
@@ -1,81 +1,120 @@
 package com.cgzz.mapbox.jturf.enums;
 
+import com.cgzz.mapbox.jturf.JTurfHelper;
+
 public enum Units {
 
     /**
      * 厘米
      */
-    CENTIMETERS,    // 厘米
+    CENTIMETERS(JTurfHelper.EARTH_RADIUS * 100), // 厘米
 
     /**
      * 厘米
      */
-    CENTIMETRES,    // 厘米
+    CENTIMETRES(JTurfHelper.EARTH_RADIUS * 100), // 厘米
 
     /**
      * 度
      */
-    DEGREES,        // 度
+    DEGREES(JTurfHelper.EARTH_RADIUS / 111325), // 度
 
     /**
      * 英尺
      */
-    FEET,           // 英尺
+    FEET(JTurfHelper.EARTH_RADIUS * 3.28084), // 英尺
 
     /**
      * 英寸
      */
-    INCHES,         // 英寸
+    INCHES(JTurfHelper.EARTH_RADIUS * 39.37), // 英寸
 
     /**
      * 公里
      */
-    KILOMETERS,     // 公里
+    KILOMETERS(JTurfHelper.EARTH_RADIUS / 1000), // 公里
 
     /**
      * 公里
      */
-    KILOMETRES,     // 公里
+    KILOMETRES(JTurfHelper.EARTH_RADIUS / 1000), // 公里
 
     /**
      * 米
      */
-    METERS,         // 米
+    METERS(JTurfHelper.EARTH_RADIUS), // 米
 
     /**
      * 米
      */
-    METRES,         // 米
+    METRES(JTurfHelper.EARTH_RADIUS), // 米
 
     /**
      * 英里
      */
-    MILES,          // 英里
+    MILES(JTurfHelper.EARTH_RADIUS / 1609.344), // 英里
 
     /**
      * 毫米
      */
-    MILLIMETERS,    // 毫米
+    MILLIMETERS(JTurfHelper.EARTH_RADIUS * 1000), // 毫米
 
     /**
      * 毫米
      */
-    MILLIMETRES,    // 毫米
+    MILLIMETRES(JTurfHelper.EARTH_RADIUS * 1000), // 毫米
 
     /**
      * 海里
      */
-    NAUTICAL_MILES, // 海里
+    NAUTICAL_MILES(JTurfHelper.EARTH_RADIUS / 1852), // 海里
 
     /**
      * 弧度
      */
-    RADIANS,        // 弧度
+    RADIANS(1D), // 弧度
 
     /**
      * 码
      */
-    YARDS,          // 码
-    ;
+    YARDS(JTurfHelper.EARTH_RADIUS * 1.0936); // 码
+
+    /**
+     * 1 弧度（地球为球形时）对应的长度
+     */
+    private final double factor;
+
+    Units(double factor) {
+        this.factor = factor;
+    }
+
+    /**
+     * 1 弧度（地球为球形时）对应的该单位的长度，即 {@link JTurfHelper#radiansToLength(double, Units)} 的换算系数
+     *
+     * @return double
+     */
+    public double factor() {
+        return factor;
+    }
+
+    /**
+     * 将弧度转换为该单位的长度
+     *
+     * @param radians 弧度
+     * @return 长度
+     */
+    public double toLength(double radians) {
+        return radians * factor;
+    }
+
+    /**
+     * 将该单位的长度转换为弧度
+     *
+     * @param length 长度
+     * @return 弧度
+     */
+    public double toRadians(double length) {
+        return length / factor;
+    }
 
 }
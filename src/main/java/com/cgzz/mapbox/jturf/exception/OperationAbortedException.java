@@ -0,0 +1,39 @@
+package com.cgzz.mapbox.jturf.exception;
+
+/**
+ * 运算因超时、被取消或超出工作量上限而中止，见 {@link com.cgzz.mapbox.jturf.models.OperationContext}
+ */
+public class OperationAbortedException extends JTurfException {
+
+    private static final long serialVersionUID = -2750923374532178194L;
+
+    /**
+     * 中止的原因
+     */
+    public enum Reason {
+        /**
+         * 被取消
+         */
+        CANCELLED,
+        /**
+         * 超过截止时间
+         */
+        TIMEOUT,
+        /**
+         * 超出工作量上限
+         */
+        BUDGET_EXCEEDED
+    }
+
+    private final Reason reason;
+
+    public OperationAbortedException(Reason reason, String message) {
+        super(message);
+        this.reason = reason;
+    }
+
+    public Reason getReason() {
+        return reason;
+    }
+
+}
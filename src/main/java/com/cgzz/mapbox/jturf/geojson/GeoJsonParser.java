@@ -0,0 +1,417 @@
+package com.cgzz.mapbox.jturf.geojson;
+
+import com.cgzz.mapbox.jturf.exception.GeoJsonException;
+import com.cgzz.mapbox.jturf.exception.JTurfException;
+import com.cgzz.mapbox.jturf.shape.Geometry;
+import com.cgzz.mapbox.jturf.shape.GeometryType;
+import com.cgzz.mapbox.jturf.shape.impl.*;
+import com.google.gson.JsonObject;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 手写的 GeoJSON 解析器，直接从词法单元构建图形，不经过反射、JsonElement 树以及装箱的坐标。<br>
+ * LineString、Polygon、MultiPolygon 解析为紧凑存储（{@link CoordinateSequence}），
+ * 其余图形与 Gson 适配器的解析结果一致（MultiPolygon 未闭合的环会与 Polygon 一样自动闭合）；只有 Feature 的 properties 仍然解析为 JsonObject。<br>
+ * 支持任意顺序的成员（type 可以出现在 coordinates 之后），坐标的解析缓冲区在同一个解析器内复用。
+ */
+public final class GeoJsonParser {
+
+    private final JsonReader in;
+
+    private final TypeAdapter<JsonObject> propertiesAdapter;
+
+    /**
+     * 每一层嵌套对象使用各自的坐标缓冲区
+     */
+    private final List<Coordinates> buffers = new ArrayList<>(2);
+
+    private int depth;
+
+    GeoJsonParser(JsonReader in) {
+        this.in = in;
+        this.propertiesAdapter = GeoJsonUtils.getGson().getAdapter(JsonObject.class);
+    }
+
+    /**
+     * 解析任意 GeoJSON 对象
+     *
+     * @param json GeoJSON 字符串
+     * @return 图形、Feature 或 FeatureCollection
+     */
+    public static Geometry parse(String json) {
+        if (json == null) {
+            throw new JTurfException("json is required");
+        }
+        return parse(new StringReader(json));
+    }
+
+    /**
+     * 解析任意 GeoJSON 对象
+     *
+     * @param reader 字符流，解析完成后不会关闭
+     * @return 图形、Feature 或 FeatureCollection
+     */
+    public static Geometry parse(Reader reader) {
+        if (reader == null) {
+            throw new JTurfException("reader is required");
+        }
+
+        JsonReader in = new JsonReader(reader);
+        in.setLenient(true);
+        try {
+            Geometry geometry = new GeoJsonParser(in).read();
+            if (in.peek() != JsonToken.END_DOCUMENT) {
+                throw new GeoJsonException("json document was not fully consumed");
+            }
+            return geometry;
+        } catch (IOException | IllegalStateException | NumberFormatException e) {
+            throw new JTurfException("parse geojson error: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 解析 Feature
+     *
+     * @param json GeoJSON 字符串
+     * @return Feature
+     */
+    @SuppressWarnings("unchecked")
+    public static Feature<Geometry> parseFeature(String json) {
+        return (Feature<Geometry>) parse(json, GeometryType.FEATURE);
+    }
+
+    /**
+     * 解析 FeatureCollection
+     *
+     * @param json GeoJSON 字符串
+     * @return FeatureCollection
+     */
+    @SuppressWarnings("unchecked")
+    public static FeatureCollection<Geometry> parseFeatureCollection(String json) {
+        return (FeatureCollection<Geometry>) parse(json, GeometryType.FEATURE_COLLECTION);
+    }
+
+    private static Geometry parse(String json, GeometryType type) {
+        Geometry geometry = parse(json);
+        if (geometry != null && geometry.geometryType() != type) {
+            throw new GeoJsonException("geojson type must be " + type.getName());
+        }
+        return geometry;
+    }
+
+    /**
+     * 读取一个 Feature，供流式读取使用
+     */
+    @SuppressWarnings("unchecked")
+    Feature<Geometry> readFeature() throws IOException {
+        Geometry geometry = read();
+        if (geometry != null && geometry.geometryType() != GeometryType.FEATURE) {
+            throw new GeoJsonException("features must only contain Feature");
+        }
+        return (Feature<Geometry>) geometry;
+    }
+
+    /**
+     * 读取一个 GeoJSON 对象，null 则返回null
+     */
+    Geometry read() throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        if (buffers.size() == depth) {
+            buffers.add(new Coordinates());
+        }
+        Coordinates coordinates = buffers.get(depth++);
+        coordinates.clear();
+        try {
+            return readObject(coordinates);
+        } finally {
+            depth--;
+        }
+    }
+
+    private Geometry readObject(Coordinates coordinates) throws IOException {
+        GeometryType type = null;
+        boolean hasCoordinates = false;
+        String id = null;
+        JsonObject properties = null;
+        Geometry geometry = null;
+        List<Geometry> geometries = null;
+        List<Feature<Geometry>> features = null;
+
+        in.beginObject();
+        while (in.hasNext()) {
+            String name = in.nextName();
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                continue;
+            }
+            switch (name) {
+                case "type":
+                    String typeName = in.nextString();
+                    type = GeometryType.getByName(typeName);
+                    if (type == null) {
+                        throw new GeoJsonException("unknown geojson type " + typeName);
+                    }
+                    break;
+
+                case "coordinates":
+                    coordinates.read(in);
+                    hasCoordinates = true;
+                    break;
+
+                case "id":
+                    id = in.peek() == JsonToken.BOOLEAN ? Boolean.toString(in.nextBoolean()) : in.nextString();
+                    break;
+
+                case "properties":
+                    properties = propertiesAdapter.read(in);
+                    break;
+
+                case "geometry":
+                    geometry = read();
+                    break;
+
+                case "geometries":
+                    geometries = new ArrayList<>();
+                    in.beginArray();
+                    while (in.hasNext()) {
+                        geometries.add(read());
+                    }
+                    in.endArray();
+                    break;
+
+                case "features":
+                    features = new ArrayList<>();
+                    in.beginArray();
+                    while (in.hasNext()) {
+                        features.add(readFeature());
+                    }
+                    in.endArray();
+                    break;
+
+                default:
+                    in.skipValue();
+
+            }
+        }
+        in.endObject();
+
+        if (type == null) {
+            throw new GeoJsonException("geojson type is required");
+        }
+
+        switch (type) {
+            case FEATURE:
+                return Feature.fromGeometry(geometry, properties, id);
+            case FEATURE_COLLECTION:
+                return FeatureCollection.fromFeatures(features);
+            case GEOMETRY_COLLECTION:
+                if (geometries != null) {
+                    for (Geometry g : geometries) {
+                        if (g != null && (g.geometryType() == GeometryType.FEATURE || g.geometryType() == GeometryType.FEATURE_COLLECTION)) {
+                            throw new GeoJsonException("geometries must not contain " + g.geometryType().getName());
+                        }
+                    }
+                }
+                return GeometryCollection.fromGeometries(geometries);
+            default:
+                if (!hasCoordinates) {
+                    throw new GeoJsonException(type.getName() + " coordinates is required");
+                }
+                return coordinates.build(type);
+        }
+    }
+
+    /**
+     * 坐标缓冲区，按先序记录嵌套数组：非负数为子数组的数量，负数 -(i + 1) 表示第 i 个坐标点。
+     * 坐标点按 x,y,z 存放，没有高度时 z 为 NaN。
+     */
+    private static final class Coordinates {
+
+        private double[] points = new double[3 * 64];
+
+        private int pointCount;
+
+        private int[] nodes = new int[64];
+
+        private int nodeCount;
+
+        private int cursor;
+
+        void clear() {
+            pointCount = 0;
+            nodeCount = 0;
+            cursor = 0;
+        }
+
+        void read(JsonReader in) throws IOException {
+            clear();
+            readNode(in);
+        }
+
+        private void readNode(JsonReader in) throws IOException {
+            in.beginArray();
+            JsonToken token = in.peek();
+            if (token == JsonToken.BEGIN_ARRAY || token == JsonToken.END_ARRAY) {
+                int slot = addNode(0);
+                int count = 0;
+                while (in.hasNext()) {
+                    readNode(in);
+                    count++;
+                }
+                nodes[slot] = count;
+            } else {
+                readPosition(in);
+            }
+            in.endArray();
+        }
+
+        private void readPosition(JsonReader in) throws IOException {
+            if (pointCount * 3 == points.length) {
+                points = Arrays.copyOf(points, points.length << 1);
+            }
+            int j = pointCount * 3;
+            points[j] = in.nextDouble();
+            if (!in.hasNext()) {
+                throw new GeoJsonException("position should have at least 2 numbers");
+            }
+            points[j + 1] = in.nextDouble();
+            points[j + 2] = in.hasNext() ? in.nextDouble() : Double.NaN;
+            // 超过三维的值忽略
+            while (in.hasNext()) {
+                in.skipValue();
+            }
+            addNode(-(pointCount + 1));
+            pointCount++;
+        }
+
+        private int addNode(int value) {
+            if (nodeCount == nodes.length) {
+                nodes = Arrays.copyOf(nodes, nodeCount << 1);
+            }
+            nodes[nodeCount] = value;
+            return nodeCount++;
+        }
+
+        Geometry build(GeometryType type) {
+            cursor = 0;
+            Geometry geometry;
+            switch (type) {
+                case POINT:
+                    geometry = point();
+                    break;
+                case MULTI_POINT:
+                    geometry = MultiPoint.fromLngLats(points());
+                    break;
+                case LINE_STRING:
+                    geometry = LineString.fromSequence(sequence());
+                    break;
+                case MULTI_LINE_STRING:
+                    int lines = array();
+                    List<List<Point>> coordinates = new ArrayList<>(lines);
+                    for (int i = 0; i < lines; i++) {
+                        coordinates.add(points());
+                    }
+                    geometry = MultiLineString.fromLngLats(coordinates);
+                    break;
+                case POLYGON:
+                    geometry = Polygon.fromSequences(rings());
+                    break;
+                case MULTI_POLYGON:
+                    CoordinateSequence[][] polygons = new CoordinateSequence[array()][];
+                    for (int i = 0; i < polygons.length; i++) {
+                        polygons[i] = rings();
+                    }
+                    geometry = MultiPolygon.fromSequences(polygons);
+                    break;
+                default:
+                    throw new GeoJsonException(type.getName() + " can not have coordinates");
+            }
+
+            if (cursor != nodeCount) {
+                throw invalid(type);
+            }
+            return geometry;
+        }
+
+        private int position() {
+            if (cursor == nodeCount || nodes[cursor] >= 0) {
+                throw new GeoJsonException("coordinates nesting is invalid, position expected");
+            }
+            return -nodes[cursor++] - 1;
+        }
+
+        private int array() {
+            if (cursor == nodeCount || nodes[cursor] < 0) {
+                throw new GeoJsonException("coordinates nesting is invalid, array expected");
+            }
+            return nodes[cursor++];
+        }
+
+        private Point point() {
+            int j = position() * 3;
+            double z = points[j + 2];
+            return Double.isNaN(z) ? Point.fromLngLat(points[j], points[j + 1]) : Point.fromLngLat(points[j], points[j + 1], z);
+        }
+
+        private List<Point> points() {
+            int n = array();
+            List<Point> result = new ArrayList<>(n);
+            for (int i = 0; i < n; i++) {
+                result.add(point());
+            }
+            return result;
+        }
+
+        private CoordinateSequence[] rings() {
+            CoordinateSequence[] rings = new CoordinateSequence[array()];
+            for (int i = 0; i < rings.length; i++) {
+                rings[i] = sequence();
+            }
+            return rings;
+        }
+
+        private CoordinateSequence sequence() {
+            int n = array();
+            int first = n > 0 ? position() : 0;
+            // 坐标点按先序连续存放，检查剩余的节点也都是坐标点
+            for (int i = 1; i < n; i++) {
+                position();
+            }
+
+            boolean hasZ = false;
+            for (int i = first; i < first + n && !hasZ; i++) {
+                hasZ = !Double.isNaN(points[i * 3 + 2]);
+            }
+
+            int dimension = hasZ ? 3 : 2;
+            double[] coords = new double[n * dimension];
+            for (int i = 0, j = first * 3, k = 0; i < n; i++, j += 3) {
+                coords[k++] = points[j];
+                coords[k++] = points[j + 1];
+                if (hasZ) {
+                    coords[k++] = points[j + 2];
+                }
+            }
+            return CoordinateSequence.fromLngLats(coords, dimension);
+        }
+
+        private static GeoJsonException invalid(GeometryType type) {
+            return new GeoJsonException("coordinates nesting is invalid for " + type.getName());
+        }
+
+    }
+
+}
@@ -0,0 +1,176 @@
+package com.cgzz.mapbox.jturf.geojson;
+
+import com.cgzz.mapbox.jturf.exception.GeoJsonException;
+import com.cgzz.mapbox.jturf.exception.JTurfException;
+import com.cgzz.mapbox.jturf.shape.Geometry;
+import com.cgzz.mapbox.jturf.shape.impl.Feature;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 流式读取 GeoJSON FeatureCollection，每次只解析一个要素，内存占用只与最大的单个要素有关。<br>
+ * 只读取顶层的 features 数组，其余顶层成员（type、bbox 等）会被跳过，features 中的 null 元素也会被跳过。
+ * 要素使用 {@link GeoJsonParser} 解析，图形为紧凑存储。<br>
+ * 使用示例：
+ * <pre>
+ * try (Stream&lt;Feature&lt;Geometry&gt;&gt; features = GeoJsonReader.of(inputStream).stream()) {
+ *     features.filter(...).forEach(...);
+ * }
+ * </pre>
+ * 非线程安全，读取完成或不再使用时需要关闭。
+ */
+public final class GeoJsonReader implements Iterator<Feature<Geometry>>, Closeable {
+
+    private static final int STATE_START = 0;
+
+    private static final int STATE_FEATURES = 1;
+
+    private static final int STATE_END = 2;
+
+    private final JsonReader jsonReader;
+
+    private final GeoJsonParser parser;
+
+    private int state = STATE_START;
+
+    private Feature<Geometry> next;
+
+    private GeoJsonReader(Reader reader) {
+        this.jsonReader = new JsonReader(reader);
+        this.parser = new GeoJsonParser(jsonReader);
+    }
+
+    /**
+     * 从字符流中读取要素
+     *
+     * @param reader 字符流，关闭 GeoJsonReader 时一并关闭
+     * @return GeoJsonReader
+     */
+    public static GeoJsonReader of(Reader reader) {
+        if (reader == null) {
+            throw new JTurfException("reader is required");
+        }
+        return new GeoJsonReader(reader);
+    }
+
+    /**
+     * 从字节流中按 UTF-8 编码读取要素
+     *
+     * @param inputStream 字节流，关闭 GeoJsonReader 时一并关闭
+     * @return GeoJsonReader
+     */
+    public static GeoJsonReader of(InputStream inputStream) {
+        if (inputStream == null) {
+            throw new JTurfException("inputStream is required");
+        }
+        return new GeoJsonReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null && state != STATE_END) {
+            try {
+                next = advance();
+            } catch (IOException | RuntimeException e) {
+                closeQuietly();
+                if (e instanceof JTurfException || e instanceof GeoJsonException) {
+                    throw (RuntimeException) e;
+                }
+                throw new JTurfException("read geojson error: " + e.getMessage(), e);
+            }
+        }
+        return next != null;
+    }
+
+    @Override
+    public Feature<Geometry> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        Feature<Geometry> feature = next;
+        next = null;
+        return feature;
+    }
+
+    /**
+     * 转换为顺序流，关闭流时会关闭 GeoJsonReader
+     *
+     * @return Stream
+     */
+    public Stream<Feature<Geometry>> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(this::closeQuietly);
+    }
+
+    @Override
+    public void close() throws IOException {
+        state = STATE_END;
+        next = null;
+        jsonReader.close();
+    }
+
+    private void closeQuietly() {
+        try {
+            close();
+        } catch (IOException ignored) {
+            // 关闭失败不影响已读取的结果
+        }
+    }
+
+    /**
+     * 读取下一个要素，没有更多要素时返回null
+     */
+    private Feature<Geometry> advance() throws IOException {
+        if (state == STATE_START) {
+            if (jsonReader.peek() != JsonToken.BEGIN_OBJECT) {
+                throw new JTurfException("geojson must be a FeatureCollection object");
+            }
+            jsonReader.beginObject();
+            // 跳过 features 之前的成员
+            while (state == STATE_START && jsonReader.hasNext()) {
+                String name = jsonReader.nextName();
+                if ("features".equals(name) && jsonReader.peek() == JsonToken.BEGIN_ARRAY) {
+                    jsonReader.beginArray();
+                    state = STATE_FEATURES;
+                } else {
+                    jsonReader.skipValue();
+                }
+            }
+            if (state == STATE_START) {
+                finish();
+                return null;
+            }
+        }
+
+        while (jsonReader.hasNext()) {
+            Feature<Geometry> feature = parser.readFeature();
+            if (feature != null) {
+                return feature;
+            }
+        }
+
+        jsonReader.endArray();
+        // 跳过 features 之后的成员
+        while (jsonReader.hasNext()) {
+            jsonReader.nextName();
+            jsonReader.skipValue();
+        }
+        finish();
+        return null;
+    }
+
+    private void finish() throws IOException {
+        jsonReader.endObject();
+        state = STATE_END;
+    }
+
+}
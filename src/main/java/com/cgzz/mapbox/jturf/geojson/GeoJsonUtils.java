@@ -1,5 +1,6 @@
 package com.cgzz.mapbox.jturf.geojson;
 
+import com.cgzz.mapbox.jturf.exception.JTurfException;
 import com.cgzz.mapbox.jturf.geojson.adapter.factory.GeoJsonAdapterFactory;
 import com.cgzz.mapbox.jturf.geojson.adapter.factory.GeometryAdapterFactory;
 import com.google.gson.Gson;
@@ -10,6 +11,26 @@ public final class GeoJsonUtils {
     private static final double ROUND_PRECISION = 10000000.0;
     private static final long MAX_DOUBLE_TO_ROUND = (long) (Long.MAX_VALUE / ROUND_PRECISION);
 
+    /**
+     * 默认保留的小数位数
+     */
+    public static final int DEFAULT_PRECISION = 7;
+
+    /**
+     * 支持的最大小数位数
+     */
+    public static final int MAX_PRECISION = 15;
+
+    private static final double[] ROUND_PRECISIONS = new double[MAX_PRECISION + 1];
+    private static final long[] MAX_DOUBLES_TO_ROUND = new long[MAX_PRECISION + 1];
+
+    static {
+        for (int i = 0; i <= MAX_PRECISION; i++) {
+            ROUND_PRECISIONS[i] = Math.pow(10, i);
+            MAX_DOUBLES_TO_ROUND[i] = (long) (Long.MAX_VALUE / ROUND_PRECISIONS[i]);
+        }
+    }
+
     private static final Gson GSON = new GsonBuilder()
             .registerTypeAdapterFactory(GeoJsonAdapterFactory.create())
             .registerTypeAdapterFactory(GeometryAdapterFactory.create())
@@ -32,6 +53,25 @@ public final class GeoJsonUtils {
         return Math.round(value * ROUND_PRECISION) / ROUND_PRECISION;
     }
 
+    /**
+     * 将双精度值调整为只有 precision 位小数，precision 为 {@link #DEFAULT_PRECISION} 时与 {@link #trim(double)} 一致。
+     *
+     * @param value     待调整的数值
+     * @param precision 保留的小数位数，0 到 {@link #MAX_PRECISION}
+     * @return 调整后的数值
+     */
+    public static double trim(double value, int precision) {
+        if (precision < 0 || precision > MAX_PRECISION) {
+            throw new JTurfException("precision must between 0 and " + MAX_PRECISION);
+        }
+        long max = MAX_DOUBLES_TO_ROUND[precision];
+        if (value > max || value < -max) {
+            return value;
+        }
+        double roundPrecision = ROUND_PRECISIONS[precision];
+        return Math.round(value * roundPrecision) / roundPrecision;
+    }
+
     /**
      * 返回Gson对象，用于GeoJson序列化和反序列化
      *
@@ -0,0 +1,390 @@
+package com.cgzz.mapbox.jturf.geojson;
+
+import com.cgzz.mapbox.jturf.exception.JTurfException;
+import com.cgzz.mapbox.jturf.shape.Geometry;
+import com.cgzz.mapbox.jturf.shape.GeometryType;
+import com.cgzz.mapbox.jturf.shape.impl.*;
+import com.google.gson.JsonObject;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * 流式输出 GeoJSON，要素逐个写入输出流，不会在内存中拼接整个字符串。<br>
+ * 默认输出与 {@link GeoJson#toJson()} 逐字节一致；可以通过 {@link #precision(int)} 调整坐标保留的小数位数（高度不做处理），
+ * 通过 {@link #flushEvery(int)} 每写入若干个要素刷新一次输出流，用于 HTTP 分块传输。<br>
+ * 使用示例：
+ * <pre>
+ * try (GeoJsonWriter writer = GeoJsonWriter.of(outputStream).precision(6).flushEvery(500)) {
+ *     writer.beginFeatureCollection();
+ *     features.forEach(writer::writeFeature);
+ *     writer.endFeatureCollection();
+ * }
+ * </pre>
+ * 非线程安全。
+ */
+public final class GeoJsonWriter implements Closeable, Flushable {
+
+    private final JsonWriter jsonWriter;
+
+    private final TypeAdapter<JsonObject> propertiesAdapter;
+
+    private int precision = GeoJsonUtils.DEFAULT_PRECISION;
+
+    private int flushEvery;
+
+    /**
+     * 当前 FeatureCollection 中自上次刷新后写入的要素数量，-1 表示不在 FeatureCollection 中
+     */
+    private int pending = -1;
+
+    private GeoJsonWriter(Writer writer) {
+        this.jsonWriter = new JsonWriter(writer);
+        // 与 Gson.toJson 使用相同的输出配置
+        this.jsonWriter.setLenient(true);
+        this.jsonWriter.setHtmlSafe(true);
+        this.jsonWriter.setSerializeNulls(false);
+        this.propertiesAdapter = GeoJsonUtils.getGson().getAdapter(JsonObject.class);
+    }
+
+    /**
+     * 输出到字符流
+     *
+     * @param writer 字符流，关闭 GeoJsonWriter 时一并关闭
+     * @return GeoJsonWriter
+     */
+    public static GeoJsonWriter of(Writer writer) {
+        if (writer == null) {
+            throw new JTurfException("writer is required");
+        }
+        return new GeoJsonWriter(writer);
+    }
+
+    /**
+     * 按 UTF-8 编码输出到字节流
+     *
+     * @param outputStream 字节流，关闭 GeoJsonWriter 时一并关闭
+     * @return GeoJsonWriter
+     */
+    public static GeoJsonWriter of(OutputStream outputStream) {
+        if (outputStream == null) {
+            throw new JTurfException("outputStream is required");
+        }
+        return new GeoJsonWriter(new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * 设置坐标保留的小数位数
+     *
+     * @param precision 小数位数，0 到 {@link GeoJsonUtils#MAX_PRECISION}，默认 {@link GeoJsonUtils#DEFAULT_PRECISION}
+     * @return this
+     */
+    public GeoJsonWriter precision(int precision) {
+        if (precision < 0 || precision > GeoJsonUtils.MAX_PRECISION) {
+            throw new JTurfException("precision must between 0 and " + GeoJsonUtils.MAX_PRECISION);
+        }
+        this.precision = precision;
+        return this;
+    }
+
+    /**
+     * 设置 FeatureCollection 中每写入多少个要素刷新一次输出流
+     *
+     * @param features 要素数量，0 表示不主动刷新
+     * @return this
+     */
+    public GeoJsonWriter flushEvery(int features) {
+        if (features < 0) {
+            throw new JTurfException("features must be greater than or equal to 0");
+        }
+        this.flushEvery = features;
+        return this;
+    }
+
+    /**
+     * 输出整个要素集合
+     *
+     * @param featureCollection 要素集合
+     * @return this
+     */
+    public GeoJsonWriter writeFeatureCollection(FeatureCollection<? extends Geometry> featureCollection) {
+        if (featureCollection == null) {
+            throw new JTurfException("featureCollection is required");
+        }
+        return writeFeatureCollection(featureCollection.geometries());
+    }
+
+    /**
+     * 将要素逐个输出为一个 FeatureCollection
+     *
+     * @param features 要素
+     * @return this
+     */
+    public GeoJsonWriter writeFeatureCollection(Iterable<? extends Feature<? extends Geometry>> features) {
+        if (features == null) {
+            throw new JTurfException("features is required");
+        }
+        beginFeatureCollection();
+        for (Feature<? extends Geometry> feature : features) {
+            writeFeature(feature);
+        }
+        return endFeatureCollection();
+    }
+
+    /**
+     * 开始输出 FeatureCollection，之后通过 {@link #writeFeature(Feature)} 逐个输出要素，最后调用 {@link #endFeatureCollection()}
+     *
+     * @return this
+     */
+    public GeoJsonWriter beginFeatureCollection() {
+        if (pending >= 0) {
+            throw new JTurfException("featureCollection already begun");
+        }
+        try {
+            jsonWriter.beginObject();
+            jsonWriter.name("type").value(GeometryType.FEATURE_COLLECTION.getName());
+            jsonWriter.name("features");
+            jsonWriter.beginArray();
+        } catch (IOException e) {
+            throw error(e);
+        }
+        pending = 0;
+        return this;
+    }
+
+    /**
+     * 结束输出 FeatureCollection
+     *
+     * @return this
+     */
+    public GeoJsonWriter endFeatureCollection() {
+        if (pending < 0) {
+            throw new JTurfException("featureCollection not begun");
+        }
+        try {
+            jsonWriter.endArray();
+            jsonWriter.endObject();
+        } catch (IOException e) {
+            throw error(e);
+        }
+        pending = -1;
+        return this;
+    }
+
+    /**
+     * 输出一个要素，在 FeatureCollection 之外调用时输出为独立的 Feature
+     *
+     * @param feature 要素
+     * @return this
+     */
+    public GeoJsonWriter writeFeature(Feature<? extends Geometry> feature) {
+        try {
+            if (feature == null) {
+                jsonWriter.nullValue();
+            } else {
+                jsonWriter.beginObject();
+                jsonWriter.name("type").value(feature.geometryType().getName());
+                jsonWriter.name("id").value(feature.id());
+                jsonWriter.name("geometry");
+                writeGeometry0(feature.geometry());
+                jsonWriter.name("properties");
+                if (feature.properties() == null) {
+                    jsonWriter.nullValue();
+                } else {
+                    propertiesAdapter.write(jsonWriter, feature.properties());
+                }
+                jsonWriter.endObject();
+            }
+
+            if (pending >= 0 && flushEvery > 0 && ++pending >= flushEvery) {
+                pending = 0;
+                jsonWriter.flush();
+            }
+        } catch (IOException e) {
+            throw error(e);
+        }
+        return this;
+    }
+
+    /**
+     * 输出一个图形
+     *
+     * @param geometry 图形，不支持 Feature、FeatureCollection
+     * @return this
+     */
+    public GeoJsonWriter writeGeometry(Geometry geometry) {
+        try {
+            writeGeometry0(geometry);
+        } catch (IOException e) {
+            throw error(e);
+        }
+        return this;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        jsonWriter.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        jsonWriter.close();
+    }
+
+    private void writeGeometry0(Geometry geometry) throws IOException {
+        if (geometry == null) {
+            jsonWriter.nullValue();
+            return;
+        }
+
+        GeometryType type = geometry.geometryType();
+        jsonWriter.beginObject();
+        jsonWriter.name("type").value(type.getName());
+        switch (type) {
+            case POINT:
+                jsonWriter.name("coordinates");
+                writePoint((Point) geometry);
+                break;
+            case MULTI_POINT:
+                jsonWriter.name("coordinates");
+                writePoints(MultiPoint.multiPoint(geometry).coordinates());
+                break;
+            case LINE_STRING:
+                LineString line = LineString.lineString(geometry);
+                jsonWriter.name("coordinates");
+                if (line.isPacked()) {
+                    writeSequence(line.coordinateSequence());
+                } else {
+                    writePoints(line.coordinates());
+                }
+                break;
+            case MULTI_LINE_STRING:
+                jsonWriter.name("coordinates");
+                writePointLists(MultiLineString.multiLineString(geometry).coordinates());
+                break;
+            case POLYGON:
+                Polygon polygon = Polygon.polygon(geometry);
+                jsonWriter.name("coordinates");
+                if (polygon.isPacked()) {
+                    writeSequences(polygon.coordinateSequences());
+                } else {
+                    writePointLists(polygon.coordinates());
+                }
+                break;
+            case MULTI_POLYGON:
+                MultiPolygon multiPolygon = MultiPolygon.multiPolygon(geometry);
+                jsonWriter.name("coordinates");
+                if (multiPolygon.isPacked()) {
+                    jsonWriter.beginArray();
+                    for (CoordinateSequence[] rings : multiPolygon.coordinateSequences()) {
+                        writeSequences(rings);
+                    }
+                    jsonWriter.endArray();
+                } else {
+                    List<List<List<Point>>> coordinates = multiPolygon.coordinates();
+                    if (coordinates == null) {
+                        jsonWriter.nullValue();
+                    } else {
+                        jsonWriter.beginArray();
+                        for (List<List<Point>> rings : coordinates) {
+                            writePointLists(rings);
+                        }
+                        jsonWriter.endArray();
+                    }
+                }
+                break;
+            case GEOMETRY_COLLECTION:
+                List<Geometry> geometries = GeometryCollection.geometryCollection(geometry).geometries();
+                jsonWriter.name("geometries");
+                if (geometries == null) {
+                    jsonWriter.nullValue();
+                } else {
+                    jsonWriter.beginArray();
+                    for (Geometry g : geometries) {
+                        writeGeometry0(g);
+                    }
+                    jsonWriter.endArray();
+                }
+                break;
+            default:
+                throw new JTurfException("geometry type " + type.getName() + " is not supported");
+        }
+        jsonWriter.endObject();
+    }
+
+    private void writePointLists(List<List<Point>> coordinates) throws IOException {
+        if (coordinates == null) {
+            jsonWriter.nullValue();
+            return;
+        }
+        jsonWriter.beginArray();
+        for (List<Point> points : coordinates) {
+            writePoints(points);
+        }
+        jsonWriter.endArray();
+    }
+
+    private void writePoints(List<Point> points) throws IOException {
+        if (points == null) {
+            jsonWriter.nullValue();
+            return;
+        }
+        jsonWriter.beginArray();
+        for (Point point : points) {
+            // 与坐标适配器一致，忽略空点
+            if (point != null) {
+                writePoint(point);
+            }
+        }
+        jsonWriter.endArray();
+    }
+
+    private void writePoint(Point point) throws IOException {
+        jsonWriter.beginArray();
+        jsonWriter.value(trim(point.longitude()));
+        jsonWriter.value(trim(point.latitude()));
+
+        // Includes altitude
+        if (point.hasAltitude()) {
+            jsonWriter.value(point.altitude());
+        }
+        jsonWriter.endArray();
+    }
+
+    private void writeSequences(CoordinateSequence[] sequences) throws IOException {
+        jsonWriter.beginArray();
+        for (CoordinateSequence sequence : sequences) {
+            writeSequence(sequence);
+        }
+        jsonWriter.endArray();
+    }
+
+    private void writeSequence(CoordinateSequence sequence) throws IOException {
+        jsonWriter.beginArray();
+        for (int i = 0, size = sequence.size(); i < size; i++) {
+            jsonWriter.beginArray();
+            jsonWriter.value(trim(sequence.getX(i)));
+            jsonWriter.value(trim(sequence.getY(i)));
+
+            // Includes altitude
+            double z = sequence.getZ(i);
+            if (!Double.isNaN(z)) {
+                jsonWriter.value(z);
+            }
+            jsonWriter.endArray();
+        }
+        jsonWriter.endArray();
+    }
+
+    private double trim(double value) {
+        return precision == GeoJsonUtils.DEFAULT_PRECISION ? GeoJsonUtils.trim(value) : GeoJsonUtils.trim(value, precision);
+    }
+
+    private static JTurfException error(IOException e) {
+        return new JTurfException("write geojson error: " + e.getMessage(), e);
+    }
+
+}
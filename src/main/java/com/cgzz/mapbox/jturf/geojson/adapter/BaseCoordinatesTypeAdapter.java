@@ -3,6 +3,7 @@ package com.cgzz.mapbox.jturf.geojson.adapter;
 import com.cgzz.mapbox.jturf.JTurfHelper;
 import com.cgzz.mapbox.jturf.exception.GeoJsonException;
 import com.cgzz.mapbox.jturf.geojson.GeoJsonUtils;
+import com.cgzz.mapbox.jturf.shape.impl.CoordinateSequence;
 import com.cgzz.mapbox.jturf.shape.impl.Point;
 import com.google.gson.TypeAdapter;
 import com.google.gson.stream.JsonReader;
@@ -44,6 +45,31 @@ public abstract class BaseCoordinatesTypeAdapter<T> extends TypeAdapter<T> {
         out.endArray();
     }
 
+    /**
+     * 直接输出紧凑存储的坐标序列，输出格式与逐个输出 Point 一致
+     *
+     * @param out      JsonWriter
+     * @param sequence 坐标序列
+     * @throws IOException IO异常
+     */
+    public static void writeSequence(JsonWriter out, CoordinateSequence sequence) throws IOException {
+        out.beginArray();
+        for (int i = 0, size = sequence.size(); i < size; i++) {
+            out.beginArray();
+
+            out.value(GeoJsonUtils.trim(sequence.getX(i)));
+            out.value(GeoJsonUtils.trim(sequence.getY(i)));
+
+            // Includes altitude
+            double z = sequence.getZ(i);
+            if (!Double.isNaN(z)) {
+                out.value(z);
+            }
+            out.endArray();
+        }
+        out.endArray();
+    }
+
     protected List<Double> readPointList(JsonReader in) throws IOException {
         if (in.peek() == JsonToken.NULL) {
             throw new NullPointerException();
@@ -40,6 +40,18 @@ public abstract class BaseGeometryTypeAdapter<G, T> extends TypeAdapter<G> {
         stringAdapter.write(jsonWriter, object.geometryType().getName());
 
         jsonWriter.name("coordinates");
+        writeCoordinates(jsonWriter, object);
+        jsonWriter.endObject();
+    }
+
+    /**
+     * 输出坐标信息，紧凑存储的图形可以重写此方法直接输出坐标序列
+     *
+     * @param jsonWriter JsonWriter
+     * @param object     图形
+     * @throws IOException IO异常
+     */
+    protected void writeCoordinates(JsonWriter jsonWriter, CoordinateContainer<T> object) throws IOException {
         if (object.coordinates() == null) {
             jsonWriter.nullValue();
         } else {
@@ -49,7 +61,6 @@ public abstract class BaseGeometryTypeAdapter<G, T> extends TypeAdapter<G> {
             }
             coordinatesAdapter.write(jsonWriter, object.coordinates());
         }
-        jsonWriter.endObject();
     }
 
     public CoordinateContainer<T> readCoordinateContainer(JsonReader jsonReader) throws IOException {
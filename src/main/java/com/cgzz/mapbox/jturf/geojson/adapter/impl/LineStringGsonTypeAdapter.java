@@ -1,5 +1,6 @@
 package com.cgzz.mapbox.jturf.geojson.adapter.impl;
 
+import com.cgzz.mapbox.jturf.geojson.adapter.BaseCoordinatesTypeAdapter;
 import com.cgzz.mapbox.jturf.geojson.adapter.BaseGeometryTypeAdapter;
 import com.cgzz.mapbox.jturf.geojson.adapter.ListOfPointCoordinatesTypeAdapter;
 import com.cgzz.mapbox.jturf.shape.CoordinateContainer;
@@ -24,6 +25,16 @@ public final class LineStringGsonTypeAdapter extends BaseGeometryTypeAdapter<Lin
         writeCoordinateContainer(jsonWriter, object);
     }
 
+    @Override
+    protected void writeCoordinates(JsonWriter jsonWriter, CoordinateContainer<List<Point>> object) throws IOException {
+        LineString line = (LineString) object;
+        if (line.isPacked()) {
+            BaseCoordinatesTypeAdapter.writeSequence(jsonWriter, line.coordinateSequence());
+        } else {
+            super.writeCoordinates(jsonWriter, object);
+        }
+    }
+
     @Override
     public LineString read(JsonReader jsonReader) throws IOException {
         return (LineString) readCoordinateContainer(jsonReader);
@@ -1,9 +1,11 @@
 package com.cgzz.mapbox.jturf.geojson.adapter.impl;
 
+import com.cgzz.mapbox.jturf.geojson.adapter.BaseCoordinatesTypeAdapter;
 import com.cgzz.mapbox.jturf.geojson.adapter.BaseGeometryTypeAdapter;
 import com.cgzz.mapbox.jturf.geojson.adapter.ListofListofListOfPointCoordinatesTypeAdapter;
 import com.cgzz.mapbox.jturf.shape.CoordinateContainer;
 import com.cgzz.mapbox.jturf.shape.GeometryType;
+import com.cgzz.mapbox.jturf.shape.impl.CoordinateSequence;
 import com.cgzz.mapbox.jturf.shape.impl.MultiPolygon;
 import com.cgzz.mapbox.jturf.shape.impl.Point;
 import com.google.gson.Gson;
@@ -24,6 +26,24 @@ public final class MultiPolygonGsonTypeAdapter extends BaseGeometryTypeAdapter<M
         writeCoordinateContainer(jsonWriter, object);
     }
 
+    @Override
+    protected void writeCoordinates(JsonWriter jsonWriter, CoordinateContainer<List<List<List<Point>>>> object) throws IOException {
+        MultiPolygon multiPolygon = (MultiPolygon) object;
+        if (multiPolygon.isPacked()) {
+            jsonWriter.beginArray();
+            for (CoordinateSequence[] rings : multiPolygon.coordinateSequences()) {
+                jsonWriter.beginArray();
+                for (CoordinateSequence ring : rings) {
+                    BaseCoordinatesTypeAdapter.writeSequence(jsonWriter, ring);
+                }
+                jsonWriter.endArray();
+            }
+            jsonWriter.endArray();
+        } else {
+            super.writeCoordinates(jsonWriter, object);
+        }
+    }
+
     @Override
     public MultiPolygon read(JsonReader jsonReader) throws IOException {
         return (MultiPolygon) readCoordinateContainer(jsonReader);
@@ -1,9 +1,11 @@
 package com.cgzz.mapbox.jturf.geojson.adapter.impl;
 
+import com.cgzz.mapbox.jturf.geojson.adapter.BaseCoordinatesTypeAdapter;
 import com.cgzz.mapbox.jturf.geojson.adapter.BaseGeometryTypeAdapter;
 import com.cgzz.mapbox.jturf.geojson.adapter.ListOfListOfPointCoordinatesTypeAdapter;
 import com.cgzz.mapbox.jturf.shape.CoordinateContainer;
 import com.cgzz.mapbox.jturf.shape.GeometryType;
+import com.cgzz.mapbox.jturf.shape.impl.CoordinateSequence;
 import com.cgzz.mapbox.jturf.shape.impl.Point;
 import com.cgzz.mapbox.jturf.shape.impl.Polygon;
 import com.google.gson.Gson;
@@ -24,6 +26,20 @@ public final class PolygonGsonTypeAdapter extends BaseGeometryTypeAdapter<Polygo
         writeCoordinateContainer(jsonWriter, object);
     }
 
+    @Override
+    protected void writeCoordinates(JsonWriter jsonWriter, CoordinateContainer<List<List<Point>>> object) throws IOException {
+        Polygon polygon = (Polygon) object;
+        if (polygon.isPacked()) {
+            jsonWriter.beginArray();
+            for (CoordinateSequence ring : polygon.coordinateSequences()) {
+                BaseCoordinatesTypeAdapter.writeSequence(jsonWriter, ring);
+            }
+            jsonWriter.endArray();
+        } else {
+            super.writeCoordinates(jsonWriter, object);
+        }
+    }
+
     @Override
     public Polygon read(JsonReader jsonReader) throws IOException {
         return (Polygon) readCoordinateContainer(jsonReader);
@@ -0,0 +1,251 @@
+package com.cgzz.mapbox.jturf.models;
+
+import com.cgzz.mapbox.jturf.exception.JTurfException;
+import com.cgzz.mapbox.jturf.exception.OperationAbortedException;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongConsumer;
+import java.util.function.Supplier;
+
+/**
+ * 耗时较长的几何运算的控制：截止时间、取消、工作量上限和进度回调。<br>
+ * 通过 {@link #call(Supplier)}、{@link #run(Runnable)} 绑定到当前线程后，PolygonClipping 的扫描、kinks、
+ * 三角剖分（Earcut）等循环会定期调用 {@link #advance(long)} 检查，超时、被取消或超出工作量上限时抛出
+ * {@link OperationAbortedException}。级联合并、dissolve、overlay 会把上下文传递给并行执行的工作线程。<br>
+ * 工作量的单位是循环的步数，例如扫描线事件、线段、三角剖分中检查的顶点，只用于相对的比较和限制。<br>
+ * 使用示例：
+ * <pre>
+ * OperationContext context = OperationContext.create().timeout(2, TimeUnit.SECONDS).budget(10000000);
+ * Geometry union = context.call(() -&gt; JTurfTransformation.union(featureCollection));
+ * </pre>
+ * 配置需要在绑定之前完成，{@link #cancel()} 可以在任意线程中调用。
+ */
+public final class OperationContext {
+
+    private static final ThreadLocal<Binding> CURRENT = new ThreadLocal<>();
+
+    /**
+     * 每个线程的工作量累计到这么多时才合并到总工作量，同时检查截止时间、工作量上限并回调进度
+     */
+    private static final long CHECK_INTERVAL = 1024;
+
+    /**
+     * 所有线程已经合并的总工作量，各线程先在自己的 {@link Binding} 中累计，避免并行时每一步都竞争同一个计数器
+     */
+    private final AtomicLong work = new AtomicLong();
+
+    private long batch = CHECK_INTERVAL;
+
+    private volatile boolean cancelled;
+
+    private boolean hasDeadline;
+
+    private long deadline;
+
+    private long budget = Long.MAX_VALUE;
+
+    private LongConsumer progress;
+
+    private OperationContext() {
+    }
+
+    /**
+     * 创建一个没有任何限制的上下文
+     *
+     * @return OperationContext
+     */
+    public static OperationContext create() {
+        return new OperationContext();
+    }
+
+    /**
+     * 当前线程绑定的上下文
+     *
+     * @return 没有绑定时为 null
+     */
+    public static OperationContext current() {
+        Binding binding = CURRENT.get();
+        return binding == null ? null : binding.context;
+    }
+
+    /**
+     * 设置超时时间，从调用此方法时开始计算
+     *
+     * @param timeout 超时时间，不能为负数
+     * @param unit    时间单位
+     * @return this
+     */
+    public OperationContext timeout(long timeout, TimeUnit unit) {
+        if (timeout < 0) {
+            throw new JTurfException("timeout must be non-negative");
+        }
+        if (unit == null) {
+            throw new JTurfException("unit is required");
+        }
+        this.hasDeadline = true;
+        this.deadline = System.nanoTime() + unit.toNanos(timeout);
+        return this;
+    }
+
+    /**
+     * 设置工作量上限
+     *
+     * @param budget 工作量上限，必须大于 0
+     * @return this
+     */
+    public OperationContext budget(long budget) {
+        if (budget <= 0) {
+            throw new JTurfException("budget must be greater than 0");
+        }
+        this.budget = budget;
+        this.batch = Math.min(CHECK_INTERVAL, budget);
+        return this;
+    }
+
+    /**
+     * 设置进度回调，工作量每增加 1024 左右回调一次，参数为目前的总工作量。
+     * 并行执行时可能在多个线程中同时回调
+     *
+     * @param progress 进度回调，为 null 时不回调
+     * @return this
+     */
+    public OperationContext progress(LongConsumer progress) {
+        this.progress = progress;
+        return this;
+    }
+
+    /**
+     * 取消运算，正在执行的运算在下一次检查时中止
+     */
+    public void cancel() {
+        this.cancelled = true;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * 目前的总工作量，正在执行的线程中尚未合并的部分（每个线程不超过 1024）不计入，运算结束后完整
+     *
+     * @return long
+     */
+    public long work() {
+        return work.get();
+    }
+
+    /**
+     * 在当前线程绑定此上下文后执行运算，结束后恢复原来绑定的上下文
+     *
+     * @param action 运算
+     * @param <T>    结果类型
+     * @return 运算的结果
+     */
+    public <T> T call(Supplier<T> action) {
+        return call(this, action);
+    }
+
+    /**
+     * 在当前线程绑定指定的上下文后执行运算，结束后恢复原来绑定的上下文。<br>
+     * 用于把创建任务时的上下文传递给工作线程，上下文为 null 时运算期间当前线程不绑定任何上下文
+     *
+     * @param context 上下文，可以为 null
+     * @param action  运算
+     * @param <T>     结果类型
+     * @return 运算的结果
+     */
+    public static <T> T call(OperationContext context, Supplier<T> action) {
+        Binding previous = CURRENT.get();
+        Binding binding = context == null ? null : new Binding(context);
+        set(binding);
+        try {
+            return action.get();
+        } finally {
+            if (binding != null) {
+                // 解除绑定时合并剩余的工作量，不再检查是否中止
+                context.work.addAndGet(binding.pending);
+            }
+            set(previous);
+        }
+    }
+
+    private static void set(Binding binding) {
+        if (binding == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(binding);
+        }
+    }
+
+    /**
+     * 在当前线程绑定此上下文后执行运算，结束后恢复原来绑定的上下文
+     *
+     * @param action 运算
+     */
+    public void run(Runnable action) {
+        call(() -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * 记录完成的工作量并检查是否需要中止，由运算的循环调用。<br>
+     * 工作量先累计在当前线程中，每累计 1024（工作量上限更小时为上限）合并一次并检查截止时间和上限，
+     * 因此并行执行时总工作量最多比上限多出每个线程一批
+     *
+     * @param units 工作量
+     */
+    public void advance(long units) {
+        if (cancelled) {
+            throw new OperationAbortedException(OperationAbortedException.Reason.CANCELLED, "operation cancelled");
+        }
+        Binding binding = CURRENT.get();
+        if (binding == null || binding.context != this) {
+            // 没有绑定到当前线程时直接合并
+            flush(units);
+            return;
+        }
+        long pending = binding.pending + units;
+        if (pending < batch) {
+            binding.pending = pending;
+            return;
+        }
+        binding.pending = 0;
+        flush(pending);
+    }
+
+    private void flush(long units) {
+        long total = work.addAndGet(units);
+        if (total > budget) {
+            throw new OperationAbortedException(OperationAbortedException.Reason.BUDGET_EXCEEDED, "operation exceeded the work budget of " + budget);
+        }
+        // 成批合并时每次都检查，没有绑定时逐步合并，跨过 1024 的整数倍才检查
+        if (units < batch && total / CHECK_INTERVAL == (total - units) / CHECK_INTERVAL) {
+            return;
+        }
+        if (hasDeadline && System.nanoTime() - deadline > 0) {
+            throw new OperationAbortedException(OperationAbortedException.Reason.TIMEOUT, "operation timed out");
+        }
+        if (progress != null) {
+            progress.accept(total);
+        }
+    }
+
+    /**
+     * 线程绑定的上下文以及该线程尚未合并的工作量，只在绑定的线程中访问
+     */
+    private static final class Binding {
+
+        private final OperationContext context;
+
+        private long pending;
+
+        Binding(OperationContext context) {
+            this.context = context;
+        }
+
+    }
+
+}
@@ -0,0 +1,345 @@
+package com.cgzz.mapbox.jturf.shape.impl;
+
+import com.cgzz.mapbox.jturf.exception.JTurfException;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 紧凑的坐标序列，所有坐标按 x,y[,z] 交错存放在一个 double[] 中。<br>
+ * 用于替代 List&lt;Point&gt; 保存大量顶点，避免每个顶点一个 Point 对象的堆开销。<br>
+ * 该对象是不可变的，如需修改坐标请通过几何图形的 coordinates() 获取点集合后再修改。
+ */
+public final class CoordinateSequence implements Serializable {
+
+    private static final long serialVersionUID = -2751468327016371539L;
+
+    /**
+     * 交错存放的坐标
+     */
+    private final double[] coords;
+
+    /**
+     * 坐标维度，2 或 3
+     */
+    private final int dimension;
+
+    /**
+     * 点的数量
+     */
+    private final int size;
+
+    CoordinateSequence(double[] coords, int dimension) {
+        if (coords == null) {
+            throw new NullPointerException("Null coords");
+        }
+        if (dimension != 2 && dimension != 3) {
+            throw new JTurfException("dimension must be 2 or 3");
+        }
+        if (coords.length % dimension != 0) {
+            throw new JTurfException("coordinates length must be a multiple of " + dimension);
+        }
+        this.coords = coords;
+        this.dimension = dimension;
+        this.size = coords.length / dimension;
+    }
+
+    /**
+     * 根据二维交错数组 [x1,y1,x2,y2...] 创建坐标序列，数组不会被拷贝
+     *
+     * @param coords 二维坐标数组
+     * @return CoordinateSequence
+     */
+    public static CoordinateSequence fromLngLats(double[] coords) {
+        return new CoordinateSequence(coords, 2);
+    }
+
+    /**
+     * 根据交错数组创建坐标序列，数组不会被拷贝
+     *
+     * @param coords    坐标数组
+     * @param dimension 维度，2 为 [x,y]，3 为 [x,y,z]（z 为 NaN 代表无高度）
+     * @return CoordinateSequence
+     */
+    public static CoordinateSequence fromLngLats(double[] coords, int dimension) {
+        return new CoordinateSequence(coords, dimension);
+    }
+
+    /**
+     * 将点集合压缩为坐标序列，如果有任意一个点包含高度，则序列为三维
+     *
+     * @param points 点集合
+     * @return CoordinateSequence
+     */
+    public static CoordinateSequence fromPoints(List<Point> points) {
+        int len = points.size();
+        boolean hasAltitude = false;
+        for (int i = 0; i < len; i++) {
+            if (points.get(i).hasAltitude()) {
+                hasAltitude = true;
+                break;
+            }
+        }
+
+        int dimension = hasAltitude ? 3 : 2;
+        double[] coords = new double[len * dimension];
+        for (int i = 0, j = 0; i < len; i++, j += dimension) {
+            Point p = points.get(i);
+            coords[j] = p.longitude();
+            coords[j + 1] = p.latitude();
+            if (hasAltitude) {
+                coords[j + 2] = p.altitude();
+            }
+        }
+        return new CoordinateSequence(coords, dimension);
+    }
+
+    /**
+     * 点的数量
+     *
+     * @return int
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 坐标维度
+     *
+     * @return 2 或 3
+     */
+    public int dimension() {
+        return dimension;
+    }
+
+    /**
+     * 第 i 个点的经度
+     *
+     * @param i 点下标
+     * @return 经度
+     */
+    public double getX(int i) {
+        return coords[i * dimension];
+    }
+
+    /**
+     * 第 i 个点的纬度
+     *
+     * @param i 点下标
+     * @return 纬度
+     */
+    public double getY(int i) {
+        return coords[i * dimension + 1];
+    }
+
+    /**
+     * 第 i 个点的高度
+     *
+     * @param i 点下标
+     * @return 高度，如果没有高度则返回 NaN
+     */
+    public double getZ(int i) {
+        return dimension == 3 ? coords[i * dimension + 2] : Double.NaN;
+    }
+
+    /**
+     * 创建第 i 个点的 Point 对象
+     *
+     * @param i 点下标
+     * @return Point
+     */
+    public Point getPoint(int i) {
+        int j = i * dimension;
+        return new Point(coords[j], coords[j + 1], dimension == 3 ? coords[j + 2] : Double.NaN);
+    }
+
+    /**
+     * 首尾两个点是否一致（二维）
+     *
+     * @return 闭合则返回true
+     */
+    public boolean isClosed() {
+        int last = (size - 1) * dimension;
+        return size > 0 && coords[0] == coords[last] && coords[1] == coords[last + 1];
+    }
+
+    /**
+     * 返回闭合的坐标序列，如果本身已闭合则返回自身，否则追加首个点
+     *
+     * @return CoordinateSequence
+     */
+    public CoordinateSequence closeRing() {
+        if (size < 3) {
+            throw new JTurfException("coordinates length at least 3");
+        }
+        boolean tail = isClosed();
+        if (size == 3 && tail) {
+            throw new JTurfException("when size = 3 then head can not equals tail");
+        }
+        if (tail) {
+            return this;
+        }
+
+        double[] closed = Arrays.copyOf(coords, coords.length + dimension);
+        System.arraycopy(coords, 0, closed, coords.length, dimension);
+        return new CoordinateSequence(closed, dimension);
+    }
+
+    /**
+     * 将当前序列的范围合并到 bbox 中
+     *
+     * @param bbox [minX, minY, maxX, maxY]
+     */
+    public void expandBBox(double[] bbox) {
+        double minX = bbox[0], minY = bbox[1], maxX = bbox[2], maxY = bbox[3];
+        for (int j = 0, len = size * dimension; j < len; j += dimension) {
+            double x = coords[j], y = coords[j + 1];
+            if (minX > x) {
+                minX = x;
+            }
+            if (minY > y) {
+                minY = y;
+            }
+            if (maxX < x) {
+                maxX = x;
+            }
+            if (maxY < y) {
+                maxY = y;
+            }
+        }
+        bbox[0] = minX;
+        bbox[1] = minY;
+        bbox[2] = maxX;
+        bbox[3] = maxY;
+    }
+
+    /**
+     * 按 [x1,y1,x2,y2...] 的形式拷贝出二维坐标
+     *
+     * @return double[]
+     */
+    public double[] toXYArray() {
+        if (dimension == 2) {
+            return coords.clone();
+        }
+        double[] xy = new double[size * 2];
+        for (int i = 0, j = 0; i < size; i++, j += dimension) {
+            xy[i * 2] = coords[j];
+            xy[i * 2 + 1] = coords[j + 1];
+        }
+        return xy;
+    }
+
+    /**
+     * 展开为新的可修改的点集合
+     *
+     * @return List&lt;Point&gt;
+     */
+    public List<Point> toPointList() {
+        List<Point> points = new ArrayList<>(size + 1);
+        for (int i = 0; i < size; i++) {
+            points.add(getPoint(i));
+        }
+        return points;
+    }
+
+    /**
+     * 与点集合逐点比较，比较规则与 Point.equals 一致
+     *
+     * @param points 点集合
+     * @return 完全一致则返回true
+     */
+    public boolean equalsPoints(List<Point> points) {
+        if (points == null || points.size() != size) {
+            return false;
+        }
+        for (int i = 0; i < size; i++) {
+            if (!pointEquals(i, points.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean pointEquals(int i, Point p) {
+        double z = getZ(i);
+        boolean z1 = !Double.isNaN(z), z2 = p.hasAltitude();
+        if (z1 != z2) {
+            return false;
+        }
+        return getX(i) == p.longitude() && getY(i) == p.latitude() && (!z1 || z == p.altitude());
+    }
+
+    /**
+     * 与 List&lt;Point&gt;.hashCode() 计算结果一致，保证紧凑存储与点集合存储的图形相等时哈希值也相等
+     *
+     * @return int
+     */
+    @Override
+    public int hashCode() {
+        int hashCode = 1;
+        for (int i = 0; i < size; i++) {
+            hashCode = 31 * hashCode + pointHashCode(i);
+        }
+        return hashCode;
+    }
+
+    private int pointHashCode(int i) {
+        // 与 Point.hashCode 保持一致
+        int hashCode = 1;
+        hashCode *= 1000003;
+        hashCode ^= Double.hashCode(getX(i));
+        hashCode *= 1000003;
+        hashCode ^= Double.hashCode(getY(i));
+        double z = getZ(i);
+        if (!Double.isNaN(z)) {
+            hashCode *= 1000003;
+            hashCode ^= Double.hashCode(z);
+        }
+        return hashCode;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (obj instanceof CoordinateSequence) {
+            CoordinateSequence that = (CoordinateSequence) obj;
+            if (that.size != size) {
+                return false;
+            }
+            for (int i = 0; i < size; i++) {
+                double z1 = getZ(i), z2 = that.getZ(i);
+                if (Double.isNaN(z1) != Double.isNaN(z2)) {
+                    return false;
+                }
+                if (getX(i) != that.getX(i) || getY(i) != that.getY(i) || (!Double.isNaN(z1) && z1 != z2)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 输出格式与 List&lt;Point&gt;.toString() 一致
+     *
+     * @return String
+     */
+    @Override
+    public String toString() {
+        StringBuilder buf = new StringBuilder("[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                buf.append(", ");
+            }
+            buf.append(getPoint(i));
+        }
+        return buf.append(']').toString();
+    }
+
+}
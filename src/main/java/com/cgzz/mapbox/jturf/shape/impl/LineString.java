@@ -11,7 +11,12 @@ import java.util.List;
 
 public final class LineString implements CoordinateContainer<List<Point>> {
 
-    private List<Point> coordinates;
+    private volatile List<Point> coordinates;
+
+    /**
+     * 紧凑存储的坐标，当 coordinates 为空时作为唯一的坐标数据，展开后置为 null
+     */
+    private volatile CoordinateSequence sequence;
 
     LineString(List<Point> coordinates) {
         if (coordinates == null) {
@@ -20,6 +25,13 @@ public final class LineString implements CoordinateContainer<List<Point>> {
         this.coordinates = coordinates;
     }
 
+    LineString(CoordinateSequence sequence) {
+        if (sequence == null) {
+            throw new NullPointerException("Null sequence");
+        }
+        this.sequence = sequence;
+    }
+
     public static LineString fromLngLats(List<Point> points) {
         if (points == null) {
             throw new JTurfException("points can not be null");
@@ -88,12 +100,24 @@ public final class LineString implements CoordinateContainer<List<Point>> {
             throw new JTurfException("coordinates length must be a multiple of 2");
         }
 
-        List<Point> points = new ArrayList<>(len / 2);
-        for (int i = 0; i < len; i = i + 2) {
-            points.add(Point.fromLngLat(coordinates[i], coordinates[i + 1]));
+        return new LineString(CoordinateSequence.fromLngLats(coordinates.clone()));
+    }
+
+    /**
+     * 使用紧凑的坐标序列创建线，coordinates() 只在需要时才展开为点集合
+     *
+     * @param sequence 坐标序列
+     * @return LineString
+     */
+    public static LineString fromSequence(CoordinateSequence sequence) {
+        if (sequence == null) {
+            throw new JTurfException("sequence can not be null");
+        }
+        if (sequence.size() < 2) {
+            throw new JTurfException("sequence size at least 2");
         }
 
-        return new LineString(points);
+        return new LineString(sequence);
     }
 
     public static LineString fromJson(String json) {
@@ -104,14 +128,52 @@ public final class LineString implements CoordinateContainer<List<Point>> {
         return (LineString) g;
     }
 
+    /**
+     * 是否为紧凑存储（尚未展开为点集合）
+     *
+     * @return 紧凑存储则返回true
+     */
+    public boolean isPacked() {
+        return coordinates == null;
+    }
+
+    /**
+     * 获取紧凑的坐标序列。已经展开为点集合时，点可能被修改，每次调用都根据当前点集合生成新的序列，
+     * 调用前应先用 {@link #isPacked()} 判断
+     *
+     * @return CoordinateSequence
+     */
+    public CoordinateSequence coordinateSequence() {
+        // 展开时先写 coordinates 再清除 sequence，所以 sequence 为 null 时 coordinates 一定可见
+        CoordinateSequence sequence = this.sequence;
+        return sequence != null ? sequence : CoordinateSequence.fromPoints(coordinates);
+    }
+
+    /**
+     * 获取点集合，如果为紧凑存储则在首次调用时展开并释放紧凑的坐标，之后以点集合为准
+     *
+     * @return List&lt;Point&gt;
+     */
     @Override
     public List<Point> coordinates() {
+        List<Point> coordinates = this.coordinates;
+        if (coordinates == null) {
+            synchronized (this) {
+                coordinates = this.coordinates;
+                if (coordinates == null) {
+                    coordinates = sequence.toPointList();
+                    this.coordinates = coordinates;
+                    this.sequence = null;
+                }
+            }
+        }
         return coordinates;
     }
 
     @Override
-    public void coordinates(List<Point> coordinates) {
+    public synchronized void coordinates(List<Point> coordinates) {
         this.coordinates = coordinates;
+        this.sequence = null;
     }
 
     @Override
@@ -123,8 +185,15 @@ public final class LineString implements CoordinateContainer<List<Point>> {
     public String toViewCoordsString() {
         StringBuilder buf = new StringBuilder();
         buf.append("├───── ").append(geometryType()).append("─────┤").append("\n");
-        for (Point p : coordinates) {
-            buf.append(p.toViewCoordsString());
+        CoordinateSequence sequence = this.sequence;
+        if (sequence != null) {
+            for (int i = 0, size = sequence.size(); i < size; i++) {
+                buf.append(sequence.getPoint(i).toViewCoordsString());
+            }
+        } else {
+            for (Point p : coordinates) {
+                buf.append(p.toViewCoordsString());
+            }
         }
         return buf.toString();
     }
@@ -136,8 +205,9 @@ public final class LineString implements CoordinateContainer<List<Point>> {
 
     @Override
     public String toString() {
+        CoordinateSequence sequence = this.sequence;
         return "LineString{"
-                + "coordinates=" + coordinates
+                + "coordinates=" + (sequence != null ? sequence : coordinates)
                 + "}";
     }
 
@@ -148,7 +218,11 @@ public final class LineString implements CoordinateContainer<List<Point>> {
         }
         if (obj instanceof LineString) {
             LineString that = (LineString) obj;
-            return this.coordinates.equals(that.coordinates());
+            CoordinateSequence thisSequence = this.sequence, thatSequence = that.sequence;
+            if (thisSequence != null) {
+                return thatSequence != null ? thisSequence.equals(thatSequence) : thisSequence.equalsPoints(that.coordinates);
+            }
+            return thatSequence != null ? thatSequence.equalsPoints(this.coordinates) : this.coordinates.equals(that.coordinates);
         }
         return false;
     }
@@ -157,7 +231,8 @@ public final class LineString implements CoordinateContainer<List<Point>> {
     public int hashCode() {
         int hashCode = 1;
         hashCode *= 1000003;
-        hashCode ^= coordinates.hashCode();
+        CoordinateSequence sequence = this.sequence;
+        hashCode ^= sequence != null ? sequence.hashCode() : coordinates.hashCode();
         return hashCode;
     }
 
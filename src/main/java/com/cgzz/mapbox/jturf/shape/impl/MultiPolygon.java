@@ -1,16 +1,23 @@
 package com.cgzz.mapbox.jturf.shape.impl;
 
+import com.cgzz.mapbox.jturf.exception.JTurfException;
 import com.cgzz.mapbox.jturf.geojson.GeoJsonUtils;
 import com.cgzz.mapbox.jturf.shape.CoordinateContainer;
 import com.cgzz.mapbox.jturf.shape.Geometry;
 import com.cgzz.mapbox.jturf.shape.GeometryType;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 public final class MultiPolygon implements CoordinateContainer<List<List<List<Point>>>> {
 
-    private List<List<List<Point>>> coordinates;
+    private volatile List<List<List<Point>>> coordinates;
+
+    /**
+     * 紧凑存储的多边形环集合，当 coordinates 为空时作为唯一的坐标数据，展开后置为 null
+     */
+    private volatile CoordinateSequence[][] polygons;
 
     MultiPolygon(List<List<List<Point>>> coordinates) {
         if (coordinates == null) {
@@ -19,7 +26,30 @@ public final class MultiPolygon implements CoordinateContainer<List<List<List<Po
         this.coordinates = coordinates;
     }
 
+    MultiPolygon(CoordinateSequence[][] polygons) {
+        if (polygons == null) {
+            throw new NullPointerException("Null polygons");
+        }
+        this.polygons = polygons;
+    }
+
     public static MultiPolygon fromPolygons(List<Polygon> polygons) {
+        // 如果所有的多边形均为紧凑存储，则直接共享坐标序列
+        boolean packed = !polygons.isEmpty();
+        for (Polygon polygon : polygons) {
+            if (!polygon.isPacked()) {
+                packed = false;
+                break;
+            }
+        }
+        if (packed) {
+            CoordinateSequence[][] sequences = new CoordinateSequence[polygons.size()][];
+            for (int i = 0; i < sequences.length; i++) {
+                sequences[i] = polygons.get(i).coordinateSequences();
+            }
+            return new MultiPolygon(sequences);
+        }
+
         List<List<List<Point>>> coordinates = new ArrayList<>(polygons.size());
         for (Polygon polygon : polygons) {
             coordinates.add(polygon.coordinates());
@@ -28,6 +58,10 @@ public final class MultiPolygon implements CoordinateContainer<List<List<List<Po
     }
 
     public static MultiPolygon fromPolygon(Polygon polygon) {
+        if (polygon.isPacked()) {
+            return new MultiPolygon(new CoordinateSequence[][]{polygon.coordinateSequences()});
+        }
+
         List<List<List<Point>>> coordinates = new ArrayList<>(1);
         coordinates.add(polygon.coordinates());
 
@@ -38,6 +72,24 @@ public final class MultiPolygon implements CoordinateContainer<List<List<List<Po
         return new MultiPolygon(points);
     }
 
+    /**
+     * 使用紧凑的坐标序列创建组合多边形，coordinates() 只在需要时才展开为点集合
+     *
+     * @param polygons 每个多边形的环集合，第一个为外环，未闭合的环会自动闭合
+     * @return MultiPolygon
+     */
+    public static MultiPolygon fromSequences(CoordinateSequence[]... polygons) {
+        if (polygons == null) {
+            throw new JTurfException("polygons can not be null");
+        }
+
+        CoordinateSequence[][] closed = new CoordinateSequence[polygons.length][];
+        for (int i = 0; i < polygons.length; i++) {
+            closed[i] = Polygon.fromSequences(polygons[i]).coordinateSequences();
+        }
+        return new MultiPolygon(closed);
+    }
+
     public static MultiPolygon fromLngLats(double[][][][] coordinates) {
         List<List<List<Point>>> converted = new ArrayList<>(coordinates.length);
         for (double[][][] coordinate : coordinates) {
@@ -77,6 +129,15 @@ public final class MultiPolygon implements CoordinateContainer<List<List<List<Po
     }
 
     public List<Polygon> polygons() {
+        CoordinateSequence[][] sequences = this.polygons;
+        if (sequences != null) {
+            List<Polygon> polygons = new ArrayList<>(sequences.length);
+            for (CoordinateSequence[] rings : sequences) {
+                polygons.add(new Polygon(rings));
+            }
+            return polygons;
+        }
+
         List<List<List<Point>>> coordinates = coordinates();
         List<Polygon> polygons = new ArrayList<>(coordinates.size());
         for (List<List<Point>> points : coordinates) {
@@ -85,14 +146,65 @@ public final class MultiPolygon implements CoordinateContainer<List<List<List<Po
         return polygons;
     }
 
+    /**
+     * 是否为紧凑存储（尚未展开为点集合）
+     *
+     * @return 紧凑存储则返回true
+     */
+    public boolean isPacked() {
+        return coordinates == null;
+    }
+
+    /**
+     * 获取紧凑的坐标序列。已经展开为点集合时，点可能被修改，每次调用都根据当前点集合生成新的序列，
+     * 调用前应先用 {@link #isPacked()} 判断
+     *
+     * @return 每个多边形的环集合，第一个为外环
+     */
+    public CoordinateSequence[][] coordinateSequences() {
+        // 展开时先写 coordinates 再清除 polygons，所以 polygons 为 null 时 coordinates 一定可见
+        CoordinateSequence[][] polygons = this.polygons;
+        if (polygons != null) {
+            return polygons;
+        }
+
+        List<List<List<Point>>> coordinates = this.coordinates;
+
+        CoordinateSequence[][] sequences = new CoordinateSequence[coordinates.size()][];
+        for (int i = 0; i < sequences.length; i++) {
+            sequences[i] = Polygon.toSequences(coordinates.get(i));
+        }
+        return sequences;
+    }
+
+    /**
+     * 获取点集合，如果为紧凑存储则在首次调用时展开并释放紧凑的坐标，之后以点集合为准
+     *
+     * @return List&lt;List&lt;List&lt;Point&gt;&gt;&gt;
+     */
     @Override
     public List<List<List<Point>>> coordinates() {
+        List<List<List<Point>>> coordinates = this.coordinates;
+        if (coordinates == null) {
+            synchronized (this) {
+                coordinates = this.coordinates;
+                if (coordinates == null) {
+                    coordinates = new ArrayList<>(polygons.length);
+                    for (CoordinateSequence[] rings : polygons) {
+                        coordinates.add(Polygon.toPointLists(rings));
+                    }
+                    this.coordinates = coordinates;
+                    this.polygons = null;
+                }
+            }
+        }
         return coordinates;
     }
 
     @Override
-    public void coordinates(List<List<List<Point>>> coordinates) {
+    public synchronized void coordinates(List<List<List<Point>>> coordinates) {
         this.coordinates = coordinates;
+        this.polygons = null;
     }
 
     /**
@@ -102,7 +214,7 @@ public final class MultiPolygon implements CoordinateContainer<List<List<List<Po
      */
     public List<List<Point>> decreaseOneCoordinates() {
         List<List<Point>> p = new ArrayList<>();
-        for (List<List<Point>> coords : coordinates) {
+        for (List<List<Point>> coords : coordinates()) {
             p.addAll(coords);
         }
         return p;
@@ -117,6 +229,22 @@ public final class MultiPolygon implements CoordinateContainer<List<List<List<Po
     public String toViewCoordsString() {
         StringBuilder buf = new StringBuilder();
         buf.append("├───── ").append(geometryType()).append("─────┤").append("\n");
+        CoordinateSequence[][] polygons = this.polygons;
+        if (polygons != null) {
+            for (CoordinateSequence[] rings : polygons) {
+                buf.append("[");
+                for (CoordinateSequence ring : rings) {
+                    buf.append("[");
+                    for (int i = 0, size = ring.size(); i < size; i++) {
+                        buf.append(ring.getPoint(i).toViewCoordsString());
+                    }
+                    buf.append("]");
+                }
+                buf.append("]");
+            }
+            return buf.toString();
+        }
+
         for (List<List<Point>> coordinate : coordinates) {
             buf.append("[");
             for (List<Point> pointList : coordinate) {
@@ -139,8 +267,9 @@ public final class MultiPolygon implements CoordinateContainer<List<List<List<Po
 
     @Override
     public String toString() {
+        CoordinateSequence[][] polygons = this.polygons;
         return "MultiPolygon{" +
-                "coordinates=" + coordinates +
+                "coordinates=" + (polygons != null ? Arrays.deepToString(polygons) : coordinates) +
                 '}';
     }
 
@@ -151,7 +280,11 @@ public final class MultiPolygon implements CoordinateContainer<List<List<List<Po
         }
         if (obj instanceof MultiPolygon) {
             MultiPolygon that = (MultiPolygon) obj;
-            return this.coordinates.equals(that.coordinates());
+            CoordinateSequence[][] thisPolygons = this.polygons, thatPolygons = that.polygons;
+            if (thisPolygons != null && thatPolygons != null) {
+                return Arrays.deepEquals(thisPolygons, thatPolygons);
+            }
+            return thisPolygons != null ? polygonsEquals(thisPolygons, that.coordinates) : thatPolygons != null ? polygonsEquals(thatPolygons, this.coordinates) : this.coordinates.equals(that.coordinates);
         }
         return false;
     }
@@ -160,8 +293,21 @@ public final class MultiPolygon implements CoordinateContainer<List<List<List<Po
     public int hashCode() {
         int hashCode = 1;
         hashCode *= 1000003;
-        hashCode ^= coordinates.hashCode();
+        CoordinateSequence[][] polygons = this.polygons;
+        hashCode ^= polygons != null ? Arrays.deepHashCode(polygons) : coordinates.hashCode();
         return hashCode;
     }
 
+    private static boolean polygonsEquals(CoordinateSequence[][] polygons, List<List<List<Point>>> coordinates) {
+        if (polygons.length != coordinates.size()) {
+            return false;
+        }
+        for (int i = 0; i < polygons.length; i++) {
+            if (!Polygon.ringsEquals(polygons[i], coordinates.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
 }
@@ -13,7 +13,12 @@ import java.util.List;
 
 public final class Polygon implements CoordinateContainer<List<List<Point>>> {
 
-    private List<List<Point>> coordinates;
+    private volatile List<List<Point>> coordinates;
+
+    /**
+     * 紧凑存储的环（第一个为外环），当 coordinates 为空时作为唯一的坐标数据，展开后置为 null
+     */
+    private volatile CoordinateSequence[] rings;
 
     Polygon(List<List<Point>> coordinates) {
         if (coordinates == null) {
@@ -22,6 +27,13 @@ public final class Polygon implements CoordinateContainer<List<List<Point>>> {
         this.coordinates = coordinates;
     }
 
+    Polygon(CoordinateSequence[] rings) {
+        if (rings == null) {
+            throw new NullPointerException("Null rings");
+        }
+        this.rings = rings;
+    }
+
     public static Polygon fromLngLats(List<List<Point>> coordinates) {
         // 修正数据
         for (List<Point> pointList : coordinates) {
@@ -147,19 +159,31 @@ public final class Polygon implements CoordinateContainer<List<List<Point>>> {
             throw new JTurfException("coordinates length must be a multiple of 2");
         }
 
-        int ps = len / 2;
-        List<Point> converted = new ArrayList<>(tail ? ps : (ps + 1));
-        for (int i = 0; i < len; i = i + 2) {
-            converted.add(Point.fromLngLat(outer[i], outer[i + 1]));
-        }
+        double[] ring = Arrays.copyOf(outer, tail ? len : (len + 2));
         if (!tail) {
-            converted.add(Point.fromLngLat(outer[0], outer[1]));
+            ring[len] = outer[0];
+            ring[len + 1] = outer[1];
         }
 
-        List<List<Point>> coordinates = new ArrayList<>(1);
-        coordinates.add(converted);
+        return new Polygon(new CoordinateSequence[]{CoordinateSequence.fromLngLats(ring)});
+    }
 
-        return new Polygon(coordinates);
+    /**
+     * 使用紧凑的坐标序列创建多边形，coordinates() 只在需要时才展开为点集合
+     *
+     * @param rings 第一个为外环，其余为内环，未闭合的环会自动闭合
+     * @return Polygon
+     */
+    public static Polygon fromSequences(CoordinateSequence... rings) {
+        if (rings == null || rings.length == 0) {
+            throw new JTurfException("rings can not be empty");
+        }
+
+        CoordinateSequence[] closed = new CoordinateSequence[rings.length];
+        for (int i = 0; i < rings.length; i++) {
+            closed[i] = rings[i].closeRing();
+        }
+        return new Polygon(closed);
     }
 
     private static void corrective(List<Point> pointList) {
@@ -204,10 +228,23 @@ public final class Polygon implements CoordinateContainer<List<List<Point>>> {
     }
 
     public LineString outer() {
+        CoordinateSequence[] rings = this.rings;
+        if (rings != null) {
+            return LineString.fromSequence(rings[0]);
+        }
         return LineString.fromLngLats(coordinates().get(0));
     }
 
     public List<LineString> inner() {
+        CoordinateSequence[] rings = this.rings;
+        if (rings != null) {
+            List<LineString> inner = new ArrayList<>(Math.max(rings.length - 1, 0));
+            for (int i = 1; i < rings.length; i++) {
+                inner.add(LineString.fromSequence(rings[i]));
+            }
+            return inner;
+        }
+
         List<List<Point>> coordinates = coordinates();
         if (coordinates.size() <= 1) {
             return new ArrayList<>(0);
@@ -219,14 +256,68 @@ public final class Polygon implements CoordinateContainer<List<List<Point>>> {
         return inner;
     }
 
+    /**
+     * 是否为紧凑存储（尚未展开为点集合）
+     *
+     * @return 紧凑存储则返回true
+     */
+    public boolean isPacked() {
+        return coordinates == null;
+    }
+
+    /**
+     * 获取紧凑的环坐标序列（第一个为外环）。已经展开为点集合时，点可能被修改，每次调用都根据当前点集合生成新的序列，
+     * 调用前应先用 {@link #isPacked()} 判断
+     *
+     * @return CoordinateSequence[]
+     */
+    public CoordinateSequence[] coordinateSequences() {
+        // 展开时先写 coordinates 再清除 rings，所以 rings 为 null 时 coordinates 一定可见
+        CoordinateSequence[] rings = this.rings;
+        return rings != null ? rings : toSequences(coordinates);
+    }
+
+    static CoordinateSequence[] toSequences(List<List<Point>> coordinates) {
+        CoordinateSequence[] sequences = new CoordinateSequence[coordinates.size()];
+        for (int i = 0; i < sequences.length; i++) {
+            sequences[i] = CoordinateSequence.fromPoints(coordinates.get(i));
+        }
+        return sequences;
+    }
+
+    static List<List<Point>> toPointLists(CoordinateSequence[] rings) {
+        List<List<Point>> coordinates = new ArrayList<>(rings.length);
+        for (CoordinateSequence ring : rings) {
+            coordinates.add(ring.toPointList());
+        }
+        return coordinates;
+    }
+
+    /**
+     * 获取点集合，如果为紧凑存储则在首次调用时展开并释放紧凑的坐标，之后以点集合为准
+     *
+     * @return List&lt;List&lt;Point&gt;&gt;
+     */
     @Override
     public List<List<Point>> coordinates() {
+        List<List<Point>> coordinates = this.coordinates;
+        if (coordinates == null) {
+            synchronized (this) {
+                coordinates = this.coordinates;
+                if (coordinates == null) {
+                    coordinates = toPointLists(rings);
+                    this.coordinates = coordinates;
+                    this.rings = null;
+                }
+            }
+        }
         return coordinates;
     }
 
     @Override
-    public void coordinates(List<List<Point>> coordinates) {
+    public synchronized void coordinates(List<List<Point>> coordinates) {
         this.coordinates = coordinates;
+        this.rings = null;
     }
 
     @Override
@@ -238,12 +329,23 @@ public final class Polygon implements CoordinateContainer<List<List<Point>>> {
     public String toViewCoordsString() {
         StringBuilder buf = new StringBuilder();
         buf.append("├───── ").append(geometryType()).append("─────┤").append("\n");
-        for (List<Point> pointList : coordinates) {
-            buf.append("[");
-            for (Point point : pointList) {
-                buf.append(point.toViewCoordsString());
+        CoordinateSequence[] rings = this.rings;
+        if (rings != null) {
+            for (CoordinateSequence ring : rings) {
+                buf.append("[");
+                for (int i = 0, size = ring.size(); i < size; i++) {
+                    buf.append(ring.getPoint(i).toViewCoordsString());
+                }
+                buf.append("]");
+            }
+        } else {
+            for (List<Point> pointList : coordinates) {
+                buf.append("[");
+                for (Point point : pointList) {
+                    buf.append(point.toViewCoordsString());
+                }
+                buf.append("]");
             }
-            buf.append("]");
         }
         return buf.toString();
     }
@@ -255,8 +357,9 @@ public final class Polygon implements CoordinateContainer<List<List<Point>>> {
 
     @Override
     public String toString() {
+        CoordinateSequence[] rings = this.rings;
         return "Polygon{" +
-                "coordinates=" + coordinates +
+                "coordinates=" + (rings != null ? Arrays.toString(rings) : coordinates) +
                 '}';
     }
 
@@ -267,7 +370,11 @@ public final class Polygon implements CoordinateContainer<List<List<Point>>> {
         }
         if (obj instanceof Polygon) {
             Polygon that = (Polygon) obj;
-            return this.coordinates.equals(that.coordinates());
+            CoordinateSequence[] thisRings = this.rings, thatRings = that.rings;
+            if (thisRings != null && thatRings != null) {
+                return Arrays.equals(thisRings, thatRings);
+            }
+            return thisRings != null ? ringsEquals(thisRings, that.coordinates) : thatRings != null ? ringsEquals(thatRings, this.coordinates) : this.coordinates.equals(that.coordinates);
         }
         return false;
     }
@@ -276,8 +383,21 @@ public final class Polygon implements CoordinateContainer<List<List<Point>>> {
     public int hashCode() {
         int hashCode = 1;
         hashCode *= 1000003;
-        hashCode ^= coordinates.hashCode();
+        CoordinateSequence[] rings = this.rings;
+        hashCode ^= rings != null ? Arrays.hashCode(rings) : coordinates.hashCode();
         return hashCode;
     }
 
+    static boolean ringsEquals(CoordinateSequence[] rings, List<List<Point>> coordinates) {
+        if (rings.length != coordinates.size()) {
+            return false;
+        }
+        for (int i = 0; i < rings.length; i++) {
+            if (!rings[i].equalsPoints(coordinates.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
 }
@@ -7,6 +7,7 @@ import com.cgzz.mapbox.jturf.exception.JTurfException;
 import com.cgzz.mapbox.jturf.shape.Geometry;
 import com.cgzz.mapbox.jturf.shape.GeometryType;
 import com.cgzz.mapbox.jturf.shape.impl.BoundingBox;
+import com.cgzz.mapbox.jturf.shape.impl.CoordinateSequence;
 import com.cgzz.mapbox.jturf.shape.impl.MultiPolygon;
 import com.cgzz.mapbox.jturf.shape.impl.Point;
 import com.cgzz.mapbox.jturf.shape.impl.Polygon;
@@ -49,6 +50,17 @@ public final class BooleanPointInPolygonHelper {
             return false;
         }
 
+        if (type == GeometryType.POLYGON && Polygon.polygon(polygon).isPacked()) {
+            return inPolygon(point, Polygon.polygon(polygon).coordinateSequences(), ignoreBoundary);
+        } else if (type == GeometryType.MULTI_POLYGON && MultiPolygon.multiPolygon(polygon).isPacked()) {
+            for (CoordinateSequence[] rings : MultiPolygon.multiPolygon(polygon).coordinateSequences()) {
+                if (inPolygon(point, rings, ignoreBoundary)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
         List<List<List<Point>>> coordinates;
         if (type == GeometryType.POLYGON) {
             coordinates = Collections.singletonList(Polygon.polygon(polygon).coordinates());
@@ -112,4 +124,58 @@ public final class BooleanPointInPolygonHelper {
         return isInside;
     }
 
+    /**
+     * 判断点是否在紧凑存储的多边形内（在外环内且不在任何内环内）
+     *
+     * @param pt             要判断的点
+     * @param rings          多边形环，第一个为外环
+     * @param ignoreBoundary 是否忽略多边形边界
+     * @return 如果点在多边形内，则返回true;否则返回false
+     */
+    private static boolean inPolygon(Point pt, CoordinateSequence[] rings, boolean ignoreBoundary) {
+        if (!inRing(pt, rings[0], ignoreBoundary)) {
+            return false;
+        }
+        for (int k = 1; k < rings.length; k++) {
+            if (inRing(pt, rings[k], !ignoreBoundary)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean inRing(Point pt, CoordinateSequence ring, boolean ignoreBoundary) {
+        boolean isInside = false;
+
+        // 判断第一个是否与最后一个点一致，如果一致，则循环的时候不要循环到最后一个点
+        int eachLimit = ring.size();
+        if (ring.isClosed()) {
+            eachLimit--;
+        }
+
+        double px = pt.getX(), py = pt.getY();
+        double xj = ring.getX(eachLimit - 1), yj = ring.getY(eachLimit - 1);
+        for (int i = 0; i < eachLimit; i++) {
+            double xi = ring.getX(i);
+            double yi = ring.getY(i);
+
+            boolean onBoundary = py * (xi - xj) + yi * (xj - px) + yj * (px - xi) == 0
+                    && (xi - px) * (xj - px) <= 0
+                    && (yi - py) * (yj - py) <= 0;
+            if (onBoundary) {
+                return !ignoreBoundary;
+            }
+
+            boolean intersect = yi > py != yj > py && px < ((xj - xi) * (py - yi)) / (yj - yi) + xi;
+            if (intersect) {
+                isInside = !isInside;
+            }
+
+            xj = xi;
+            yj = yi;
+        }
+
+        return isInside;
+    }
+
 }
@@ -0,0 +1,288 @@
+package com.cgzz.mapbox.jturf.util.booleans;
+
+import com.cgzz.mapbox.jturf.JTurfMeta;
+import com.cgzz.mapbox.jturf.exception.JTurfException;
+import com.cgzz.mapbox.jturf.shape.Geometry;
+import com.cgzz.mapbox.jturf.shape.GeometryType;
+import com.cgzz.mapbox.jturf.shape.impl.BoundingBox;
+import com.cgzz.mapbox.jturf.shape.impl.CoordinateSequence;
+import com.cgzz.mapbox.jturf.shape.impl.MultiPolygon;
+import com.cgzz.mapbox.jturf.shape.impl.Point;
+import com.cgzz.mapbox.jturf.shape.impl.Polygon;
+
+/**
+ * 预处理后的多边形，用于对同一个多边形反复做点是否在多边形内的判断。<br>
+ * 构建时缓存整体边界框、每个环的边界框，并将每个环的边按纬度划分到若干个桶中，
+ * 查询时只需要检查点所在纬度桶内的边，判断规则与 {@link BooleanPointInPolygonHelper} 完全一致。<br>
+ * 构建完成后对象不可变，可以在多个线程之间共享。
+ */
+public final class PreparedPolygon {
+
+    /**
+     * 每条边平均占用的桶条目上限，超过则减少桶的数量，防止跨越很多桶的长边占用过多内存
+     */
+    private static final int MAX_ENTRIES_PER_EDGE = 4;
+
+    private final double west, south, east, north;
+
+    /**
+     * polygons[i][0] 为外环，其余为内环
+     */
+    private final Ring[][] polygons;
+
+    private PreparedPolygon(Ring[][] polygons, double west, double south, double east, double north) {
+        this.polygons = polygons;
+        this.west = west;
+        this.south = south;
+        this.east = east;
+        this.north = north;
+    }
+
+    /**
+     * 预处理多边形
+     *
+     * @param geometry 多边形，支持 Polygon、MultiPolygon（Feature也要符合以上规则）
+     * @return PreparedPolygon
+     */
+    public static PreparedPolygon prepare(Geometry geometry) {
+        if (geometry == null) {
+            throw new JTurfException("polygon is required");
+        }
+
+        geometry = JTurfMeta.getGeom(geometry);
+        GeometryType type = geometry.geometryType();
+
+        CoordinateSequence[][] sequences;
+        if (type == GeometryType.POLYGON) {
+            sequences = new CoordinateSequence[][]{Polygon.polygon(geometry).coordinateSequences()};
+        } else if (type == GeometryType.MULTI_POLYGON) {
+            sequences = MultiPolygon.multiPolygon(geometry).coordinateSequences();
+        } else {
+            throw new JTurfException("polygon only support polygon or multiPolygon");
+        }
+
+        double west = Double.POSITIVE_INFINITY, south = Double.POSITIVE_INFINITY;
+        double east = Double.NEGATIVE_INFINITY, north = Double.NEGATIVE_INFINITY;
+
+        Ring[][] polygons = new Ring[sequences.length][];
+        for (int i = 0; i < sequences.length; i++) {
+            CoordinateSequence[] rings = sequences[i];
+            polygons[i] = new Ring[rings.length];
+            for (int k = 0; k < rings.length; k++) {
+                Ring ring = new Ring(rings[k]);
+                polygons[i][k] = ring;
+
+                west = Math.min(west, ring.minX);
+                south = Math.min(south, ring.minY);
+                east = Math.max(east, ring.maxX);
+                north = Math.max(north, ring.maxY);
+            }
+        }
+
+        return new PreparedPolygon(polygons, west, south, east, north);
+    }
+
+    /**
+     * 多边形的边界框
+     *
+     * @return BoundingBox
+     */
+    public BoundingBox bbox() {
+        return BoundingBox.fromLngLats(west, south, east, north);
+    }
+
+    /**
+     * 判断点是否在多边形内，如果点在多边形的边界上，也算在内。
+     *
+     * @param point 要判断的点
+     * @return 如果点在多边形内，则返回true;否则返回false
+     */
+    public boolean contains(Point point) {
+        return contains(point, false);
+    }
+
+    /**
+     * 判断点是否在多边形内
+     *
+     * @param point          要判断的点
+     * @param ignoreBoundary 是否忽略多边形边界（true如果点在多边形的边界上不算，false则也算在多边形内）
+     * @return 如果点在多边形内，则返回true;否则返回false
+     */
+    public boolean contains(Point point, boolean ignoreBoundary) {
+        if (point == null) {
+            throw new JTurfException("point is required");
+        }
+        return contains(point.getX(), point.getY(), ignoreBoundary);
+    }
+
+    /**
+     * 判断坐标是否在多边形内
+     *
+     * @param px             经度
+     * @param py             纬度
+     * @param ignoreBoundary 是否忽略多边形边界（true如果点在多边形的边界上不算，false则也算在多边形内）
+     * @return 如果点在多边形内，则返回true;否则返回false
+     */
+    public boolean contains(double px, double py, boolean ignoreBoundary) {
+        // Quick elimination if point is not inside bbox
+        if (px < west || px > east || py < south || py > north) {
+            return false;
+        }
+
+        for (Ring[] rings : polygons) {
+            // check if it is in the outer ring first
+            if (rings[0].contains(px, py, ignoreBoundary)) {
+                boolean inHole = false;
+                // check for the point in any of the holes
+                for (int k = 1; k < rings.length && !inHole; k++) {
+                    inHole = rings[k].contains(px, py, !ignoreBoundary);
+                }
+                if (!inHole) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 单个环，边按纬度分桶存放（CSR 结构，bucketStart[b] 到 bucketStart[b + 1] 为第 b 个桶的边）
+     */
+    private static final class Ring {
+
+        private final double[] xs, ys;
+
+        private final double minX, minY, maxX, maxY;
+
+        private final double bucketHeight;
+
+        private final int[] bucketStart;
+
+        /**
+         * 边的起点下标 i，对应的边为 (i, i - 1)，i 为 0 时对应 (0, n - 1)
+         */
+        private final int[] bucketEdges;
+
+        Ring(CoordinateSequence sequence) {
+            // 判断第一个是否与最后一个点一致，如果一致，则不需要最后一个点
+            int n = sequence.size();
+            if (n > 1 && sequence.isClosed()) {
+                n--;
+            }
+            if (n < 1) {
+                throw new JTurfException("ring must have at least one point");
+            }
+
+            xs = new double[n];
+            ys = new double[n];
+            double minX = Double.POSITIVE_INFINITY, minY = Double.POSITIVE_INFINITY;
+            double maxX = Double.NEGATIVE_INFINITY, maxY = Double.NEGATIVE_INFINITY;
+            for (int i = 0; i < n; i++) {
+                double x = sequence.getX(i), y = sequence.getY(i);
+                xs[i] = x;
+                ys[i] = y;
+                minX = Math.min(minX, x);
+                minY = Math.min(minY, y);
+                maxX = Math.max(maxX, x);
+                maxY = Math.max(maxY, y);
+            }
+            this.minX = minX;
+            this.minY = minY;
+            this.maxX = maxX;
+            this.maxY = maxY;
+
+            int buckets = maxY > minY ? n : 1;
+            double height;
+            long entries;
+            while (true) {
+                height = buckets > 1 ? (maxY - minY) / buckets : 0;
+                entries = countEntries(buckets, height);
+                if (buckets == 1 || entries <= (long) MAX_ENTRIES_PER_EDGE * n) {
+                    break;
+                }
+                buckets = Math.max(1, buckets / 2);
+            }
+            this.bucketHeight = height;
+
+            // 统计每个桶的边数，再转换为起始下标
+            int[] start = new int[buckets + 1];
+            for (int i = 0, j = n - 1; i < n; j = i++) {
+                int lo = bucket(Math.min(ys[i], ys[j]), buckets, height), hi = bucket(Math.max(ys[i], ys[j]), buckets, height);
+                for (int b = lo; b <= hi; b++) {
+                    start[b + 1]++;
+                }
+            }
+            for (int b = 0; b < buckets; b++) {
+                start[b + 1] += start[b];
+            }
+
+            int[] edges = new int[(int) entries];
+            int[] cursor = new int[buckets];
+            System.arraycopy(start, 0, cursor, 0, buckets);
+            for (int i = 0, j = n - 1; i < n; j = i++) {
+                int lo = bucket(Math.min(ys[i], ys[j]), buckets, height), hi = bucket(Math.max(ys[i], ys[j]), buckets, height);
+                for (int b = lo; b <= hi; b++) {
+                    edges[cursor[b]++] = i;
+                }
+            }
+
+            this.bucketStart = start;
+            this.bucketEdges = edges;
+        }
+
+        private long countEntries(int buckets, double height) {
+            long entries = 0;
+            int n = xs.length;
+            for (int i = 0, j = n - 1; i < n; j = i++) {
+                entries += bucket(Math.max(ys[i], ys[j]), buckets, height) - bucket(Math.min(ys[i], ys[j]), buckets, height) + 1;
+            }
+            return entries;
+        }
+
+        private int bucket(double y, int buckets, double height) {
+            if (buckets == 1) {
+                return 0;
+            }
+            int b = (int) ((y - minY) / height);
+            return b < 0 ? 0 : (b >= buckets ? buckets - 1 : b);
+        }
+
+        boolean contains(double px, double py, boolean ignoreBoundary) {
+            // 点不在环的边界框内，既不在环内也不可能在边界上
+            if (px < minX || px > maxX || py < minY || py > maxY) {
+                return false;
+            }
+
+            int buckets = bucketStart.length - 1;
+            int b = bucket(py, buckets, bucketHeight);
+            int n = xs.length;
+            boolean isInside = false;
+
+            for (int e = bucketStart[b], end = bucketStart[b + 1]; e < end; e++) {
+                int i = bucketEdges[e];
+                int j = i == 0 ? n - 1 : i - 1;
+
+                double xi = xs[i];
+                double yi = ys[i];
+                double xj = xs[j];
+                double yj = ys[j];
+
+                boolean onBoundary = py * (xi - xj) + yi * (xj - px) + yj * (px - xi) == 0
+                        && (xi - px) * (xj - px) <= 0
+                        && (yi - py) * (yj - py) <= 0;
+                if (onBoundary) {
+                    return !ignoreBoundary;
+                }
+
+                boolean intersect = yi > py != yj > py && px < ((xj - xi) * (py - yi)) / (yj - yi) + xi;
+                if (intersect) {
+                    isInside = !isInside;
+                }
+            }
+
+            return isInside;
+        }
+
+    }
+
+}
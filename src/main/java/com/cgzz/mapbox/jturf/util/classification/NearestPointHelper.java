@@ -30,14 +30,15 @@ public final class NearestPointHelper {
 
         int bestFeatureIndex = 0;
         double minDist = Double.POSITIVE_INFINITY;
-        for (Point point : points) {
-            double distanceToPoint = JTurfMeasurement.distance(targetPoint, point);
+        for (int i = 0, len = points.size(); i < len; i++) {
+            double distanceToPoint = JTurfMeasurement.distance(targetPoint, points.get(i));
             if (distanceToPoint < minDist) {
+                bestFeatureIndex = i;
                 minDist = distanceToPoint;
             }
         }
         Feature<Point> nearest = Feature.fromGeometry(JTurfTransformation.clone(points.get(bestFeatureIndex)));
-        nearest.addProperty("featureIndex", 0);
+        nearest.addProperty("featureIndex", bestFeatureIndex);
         nearest.addProperty("distanceToPoint", minDist);
 
         return nearest;
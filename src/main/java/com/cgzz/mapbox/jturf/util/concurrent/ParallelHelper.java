@@ -0,0 +1,97 @@
+package com.cgzz.mapbox.jturf.util.concurrent;
+
+import com.cgzz.mapbox.jturf.models.OperationContext;
+import com.cgzz.mapbox.jturf.util.concurrent.func.RangeFunc;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * 批量计算、级联合并、overlay 等共用的并行执行工具。<br>
+ * 在 ForkJoinPool 的工作线程中调用时使用当前线程池，否则使用公共线程池（{@link ForkJoinPool#commonPool()}）。
+ * 按下标区间切分的任务在工作线程中绑定调用时的 {@link OperationContext}。
+ */
+public final class ParallelHelper {
+
+    /**
+     * 每个工作线程平均分到的任务数，任务更细可以平衡各元素耗时不一带来的负载差异
+     */
+    private static final int TASKS_PER_THREAD = 8;
+
+    private ParallelHelper() {
+        throw new AssertionError("No Instances.");
+    }
+
+    /**
+     * 执行任务并等待结果
+     *
+     * @param task 任务
+     * @param <T>  结果类型
+     * @return 任务的结果
+     */
+    public static <T> T invoke(ForkJoinTask<T> task) {
+        if (ForkJoinTask.inForkJoinPool()) {
+            return task.invoke();
+        }
+        return ForkJoinPool.commonPool().invoke(task);
+    }
+
+    /**
+     * 将下标区间 [0, size) 切分后并行执行，等待全部完成
+     *
+     * @param size 区间大小
+     * @param func 顺序处理一个子区间
+     */
+    public static void forRange(int size, RangeFunc func) {
+        if (size == 0) {
+            return;
+        }
+
+        ForkJoinPool pool = ForkJoinTask.inForkJoinPool() ? ForkJoinTask.getPool() : ForkJoinPool.commonPool();
+        int grain = Math.max(1, size / (pool.getParallelism() * TASKS_PER_THREAD));
+        invoke(new RangeTask(0, size, grain, func, OperationContext.current()));
+    }
+
+    /**
+     * 将下标区间二分直到不超过 grain 后顺序执行
+     */
+    private static final class RangeTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+
+        private final int to;
+
+        private final int grain;
+
+        private final RangeFunc func;
+
+        private final OperationContext context;
+
+        RangeTask(int from, int to, int grain, RangeFunc func, OperationContext context) {
+            this.from = from;
+            this.to = to;
+            this.grain = grain;
+            this.func = func;
+            this.context = context;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= grain) {
+                OperationContext.call(context, () -> {
+                    func.apply(from, to);
+                    return null;
+                });
+                return;
+            }
+
+            int mid = (from + to) >>> 1;
+            invokeAll(new RangeTask(from, mid, grain, func, context), new RangeTask(mid, to, grain, func, context));
+        }
+
+    }
+
+}
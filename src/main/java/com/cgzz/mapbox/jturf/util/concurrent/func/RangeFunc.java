@@ -0,0 +1,14 @@
+package com.cgzz.mapbox.jturf.util.concurrent.func;
+
+@FunctionalInterface
+public interface RangeFunc {
+
+    /**
+     * 顺序处理下标区间 [from, to)
+     *
+     * @param from 起始下标（包括）
+     * @param to   结束下标（不包括）
+     */
+    void apply(int from, int to);
+
+}
@@ -0,0 +1,117 @@
+package com.cgzz.mapbox.jturf.util.index;
+
+/**
+ * 坐标的哈希集合，按经纬度的 long 位模式（Double.doubleToLongBits）判断是否重复。<br>
+ * 使用开放寻址保存在基本类型数组中，添加坐标时不会创建任何对象。
+ */
+public final class CoordinateHashSet {
+
+    private long[] xs, ys;
+
+    private boolean[] used;
+
+    private int size;
+
+    public CoordinateHashSet() {
+        this(16);
+    }
+
+    /**
+     * @param expectedSize 预计的坐标数量
+     */
+    public CoordinateHashSet(int expectedSize) {
+        int capacity = 16;
+        while (capacity < expectedSize * 2) {
+            capacity <<= 1;
+        }
+        allocate(capacity);
+    }
+
+    /**
+     * 添加坐标
+     *
+     * @param x 经度
+     * @param y 纬度
+     * @return 如果坐标之前不存在，则返回true
+     */
+    public boolean add(double x, double y) {
+        if ((size + 1) * 2 > used.length) {
+            rehash(used.length << 1);
+        }
+
+        long bx = Double.doubleToLongBits(x), by = Double.doubleToLongBits(y);
+        int mask = used.length - 1;
+        int i = hash(bx, by) & mask;
+        while (used[i]) {
+            if (xs[i] == bx && ys[i] == by) {
+                return false;
+            }
+            i = (i + 1) & mask;
+        }
+
+        used[i] = true;
+        xs[i] = bx;
+        ys[i] = by;
+        size++;
+        return true;
+    }
+
+    /**
+     * 是否包含坐标
+     *
+     * @param x 经度
+     * @param y 纬度
+     * @return 包含则返回true
+     */
+    public boolean contains(double x, double y) {
+        long bx = Double.doubleToLongBits(x), by = Double.doubleToLongBits(y);
+        int mask = used.length - 1;
+        for (int i = hash(bx, by) & mask; used[i]; i = (i + 1) & mask) {
+            if (xs[i] == bx && ys[i] == by) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 坐标数量
+     *
+     * @return int
+     */
+    public int size() {
+        return size;
+    }
+
+    private void allocate(int capacity) {
+        xs = new long[capacity];
+        ys = new long[capacity];
+        used = new boolean[capacity];
+    }
+
+    private void rehash(int capacity) {
+        long[] oldXs = xs, oldYs = ys;
+        boolean[] oldUsed = used;
+        allocate(capacity);
+
+        int mask = capacity - 1;
+        for (int j = 0; j < oldUsed.length; j++) {
+            if (oldUsed[j]) {
+                int i = hash(oldXs[j], oldYs[j]) & mask;
+                while (used[i]) {
+                    i = (i + 1) & mask;
+                }
+                used[i] = true;
+                xs[i] = oldXs[j];
+                ys[i] = oldYs[j];
+            }
+        }
+    }
+
+    private static int hash(long bx, long by) {
+        long h = bx * 0x9E3779B97F4A7C15L + by * 0xC2B2AE3D27D4EB4FL;
+        h ^= h >>> 32;
+        return (int) (h ^ (h >>> 16));
+    }
+
+}
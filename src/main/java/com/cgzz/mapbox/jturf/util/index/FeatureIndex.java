@@ -0,0 +1,286 @@
+package com.cgzz.mapbox.jturf.util.index;
+
+import com.cgzz.mapbox.jturf.JTurfMeasurement;
+import com.cgzz.mapbox.jturf.exception.JTurfException;
+import com.cgzz.mapbox.jturf.shape.Geometry;
+import com.cgzz.mapbox.jturf.shape.GeometryType;
+import com.cgzz.mapbox.jturf.shape.impl.BoundingBox;
+import com.cgzz.mapbox.jturf.shape.impl.Feature;
+import com.cgzz.mapbox.jturf.shape.impl.FeatureCollection;
+import com.cgzz.mapbox.jturf.shape.impl.Point;
+import com.cgzz.mapbox.jturf.util.booleans.PreparedPolygon;
+import com.github.davidmoten.rtree.Entries;
+import com.github.davidmoten.rtree.Entry;
+import com.github.davidmoten.rtree.Leaf;
+import com.github.davidmoten.rtree.Node;
+import com.github.davidmoten.rtree.NonLeaf;
+import com.github.davidmoten.rtree.RTree;
+import com.github.davidmoten.rtree.geometry.Geometries;
+import com.github.davidmoten.rtree.geometry.Rectangle;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 要素集合的空间索引，用于在大量要素中反复查询点落在哪些多边形内、哪些要素与边界框相交。<br>
+ * 构建时按要素的边界框批量装载一棵R树，查询时同步遍历R树筛选候选要素，
+ * 点是否在多边形内的精确判断使用 {@link PreparedPolygon}（首次命中时才创建并缓存）。<br>
+ * 查询结果按要素在集合中的顺序返回。构建完成后可以在多个线程之间共享。
+ *
+ * @param <T> 要素的图形类型
+ */
+public final class FeatureIndex<T extends Geometry> {
+
+    private final List<Feature<T>> features;
+
+    private final RTree<Integer, Rectangle> rtree;
+
+    /**
+     * 多边形要素的预处理结果，延迟创建；PreparedPolygon 不可变，多线程重复创建也不影响结果
+     */
+    private final PreparedPolygon[] prepared;
+
+    private FeatureIndex(List<Feature<T>> features, RTree<Integer, Rectangle> rtree) {
+        this.features = features;
+        this.rtree = rtree;
+        this.prepared = new PreparedPolygon[features.size()];
+    }
+
+    /**
+     * 为要素集合构建空间索引，没有坐标的要素不会进入索引
+     *
+     * @param featureCollection 要素集合
+     * @param <T>               要素的图形类型
+     * @return FeatureIndex
+     */
+    public static <T extends Geometry> FeatureIndex<T> build(FeatureCollection<T> featureCollection) {
+        if (featureCollection == null) {
+            throw new JTurfException("featureCollection is required");
+        }
+
+        List<Feature<T>> features = new ArrayList<>(featureCollection.geometries());
+        List<Entry<Integer, Rectangle>> entries = new ArrayList<>(features.size());
+        for (int i = 0; i < features.size(); i++) {
+            Feature<T> feature = features.get(i);
+            if (feature == null || feature.geometry() == null) {
+                continue;
+            }
+
+            BoundingBox bbox = JTurfMeasurement.bbox(feature);
+            if (bbox.west() > bbox.east() || bbox.south() > bbox.north()) {
+                continue;
+            }
+            entries.add(Entries.entry(i, Geometries.rectangle(bbox.west(), bbox.south(), bbox.east(), bbox.north())));
+        }
+
+        // 批量装载（STR），比逐个 add 构建的树更紧凑，构建也更快
+        RTree<Integer, Rectangle> rtree = RTree.minChildren(2).maxChildren(9).create(entries);
+        return new FeatureIndex<>(Collections.unmodifiableList(features), rtree);
+    }
+
+    /**
+     * 索引的要素数量（包含未进入索引的空要素）
+     *
+     * @return int
+     */
+    public int size() {
+        return features.size();
+    }
+
+    /**
+     * 获取第 index 个要素
+     *
+     * @param index 要素在集合中的下标
+     * @return Feature
+     */
+    public Feature<T> get(int index) {
+        return features.get(index);
+    }
+
+    /**
+     * 查找边界框与指定边界框相交的要素
+     *
+     * @param bbox 边界框
+     * @return 相交的要素集合
+     */
+    public List<Feature<T>> intersects(BoundingBox bbox) {
+        if (bbox == null) {
+            throw new JTurfException("bbox is required");
+        }
+
+        Hits hits = new Hits();
+        search(bbox.west(), bbox.south(), bbox.east(), bbox.north(), hits);
+        return toFeatures(hits);
+    }
+
+    /**
+     * 查找边界框与指定范围相交的要素下标
+     *
+     * @param minX 最小经度
+     * @param minY 最小纬度
+     * @param maxX 最大经度
+     * @param maxY 最大纬度
+     * @return 升序排列的要素下标
+     */
+    public int[] search(double minX, double minY, double maxX, double maxY) {
+        Hits hits = new Hits();
+        search(minX, minY, maxX, maxY, hits);
+        int[] result = Arrays.copyOf(hits.values, hits.size);
+        Arrays.sort(result);
+        return result;
+    }
+
+    /**
+     * 查找包含指定点的多边形要素，如果点在多边形的边界上，也算在内。
+     *
+     * @param point 要判断的点
+     * @return 包含该点的要素集合，非 Polygon、MultiPolygon 的要素会被忽略
+     */
+    public List<Feature<T>> pointInPolygon(Point point) {
+        return pointInPolygon(point, false);
+    }
+
+    /**
+     * 查找包含指定点的多边形要素
+     *
+     * @param point          要判断的点
+     * @param ignoreBoundary 是否忽略多边形边界（true如果点在多边形的边界上不算，false则也算在多边形内）
+     * @return 包含该点的要素集合，非 Polygon、MultiPolygon 的要素会被忽略
+     */
+    public List<Feature<T>> pointInPolygon(Point point, boolean ignoreBoundary) {
+        if (point == null) {
+            throw new JTurfException("point is required");
+        }
+        return pointInPolygon(point, ignoreBoundary, new Hits());
+    }
+
+    /**
+     * 批量查找每个点所在的多边形要素，如果点在多边形的边界上，也算在内。
+     *
+     * @param points 点集合
+     * @return 与 points 一一对应的结果，每个元素为包含该点的要素集合
+     */
+    public List<List<Feature<T>>> pointInPolygon(List<Point> points) {
+        return pointInPolygon(points, false);
+    }
+
+    /**
+     * 批量查找每个点所在的多边形要素
+     *
+     * @param points         点集合
+     * @param ignoreBoundary 是否忽略多边形边界（true如果点在多边形的边界上不算，false则也算在多边形内）
+     * @return 与 points 一一对应的结果，每个元素为包含该点的要素集合
+     */
+    public List<List<Feature<T>>> pointInPolygon(List<Point> points, boolean ignoreBoundary) {
+        if (points == null) {
+            throw new JTurfException("points is required");
+        }
+
+        List<List<Feature<T>>> result = new ArrayList<>(points.size());
+        Hits hits = new Hits();
+        for (Point point : points) {
+            if (point == null) {
+                throw new JTurfException("point is required");
+            }
+            hits.size = 0;
+            result.add(pointInPolygon(point, ignoreBoundary, hits));
+        }
+        return result;
+    }
+
+    private List<Feature<T>> pointInPolygon(Point point, boolean ignoreBoundary, Hits hits) {
+        double x = point.getX(), y = point.getY();
+        search(x, y, x, y, hits);
+
+        // 在候选要素中做精确判断，就地压缩命中的下标
+        int n = 0;
+        for (int i = 0; i < hits.size; i++) {
+            int index = hits.values[i];
+            PreparedPolygon polygon = prepared(index);
+            if (polygon != null && polygon.contains(x, y, ignoreBoundary)) {
+                hits.values[n++] = index;
+            }
+        }
+        hits.size = n;
+        return toFeatures(hits);
+    }
+
+    private PreparedPolygon prepared(int index) {
+        PreparedPolygon polygon = prepared[index];
+        if (polygon == null) {
+            Geometry geometry = features.get(index).geometry();
+            GeometryType type = geometry.geometryType();
+            if (type != GeometryType.POLYGON && type != GeometryType.MULTI_POLYGON) {
+                return null;
+            }
+            polygon = PreparedPolygon.prepare(geometry);
+            prepared[index] = polygon;
+        }
+        return polygon;
+    }
+
+    /**
+     * 同步遍历R树，收集边界框与查询范围相交的要素下标
+     */
+    private void search(double minX, double minY, double maxX, double maxY, Hits hits) {
+        if (rtree.root().isPresent()) {
+            search(rtree.root().get(), minX, minY, maxX, maxY, hits);
+        }
+    }
+
+    private static void search(Node<Integer, Rectangle> node, double minX, double minY, double maxX, double maxY, Hits hits) {
+        if (!intersects(node.geometry().mbr(), minX, minY, maxX, maxY)) {
+            return;
+        }
+
+        if (node instanceof Leaf) {
+            for (Entry<Integer, Rectangle> entry : ((Leaf<Integer, Rectangle>) node).entries()) {
+                if (intersects(entry.geometry(), minX, minY, maxX, maxY)) {
+                    hits.add(entry.value());
+                }
+            }
+        } else {
+            for (Node<Integer, Rectangle> child : ((NonLeaf<Integer, Rectangle>) node).children()) {
+                search(child, minX, minY, maxX, maxY, hits);
+            }
+        }
+    }
+
+    private static boolean intersects(Rectangle r, double minX, double minY, double maxX, double maxY) {
+        return r.x1() <= maxX && minX <= r.x2() && r.y1() <= maxY && minY <= r.y2();
+    }
+
+    private List<Feature<T>> toFeatures(Hits hits) {
+        if (hits.size == 0) {
+            return new ArrayList<>(0);
+        }
+
+        Arrays.sort(hits.values, 0, hits.size);
+        List<Feature<T>> result = new ArrayList<>(hits.size);
+        for (int i = 0; i < hits.size; i++) {
+            result.add(features.get(hits.values[i]));
+        }
+        return result;
+    }
+
+    /**
+     * 查询过程中命中的要素下标
+     */
+    private static final class Hits {
+
+        private int[] values = new int[16];
+
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size << 1);
+            }
+            values[size++] = value;
+        }
+
+    }
+
+}
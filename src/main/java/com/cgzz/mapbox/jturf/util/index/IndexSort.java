@@ -0,0 +1,63 @@
+package com.cgzz.mapbox.jturf.util.index;
+
+/**
+ * 按基本类型数组中的值对下标数组排序，避免为每个元素装箱或创建比较对象
+ */
+public final class IndexSort {
+
+    private IndexSort() {
+        throw new AssertionError("No Instance.");
+    }
+
+    /**
+     * 按 key[ids[i]] 升序对 ids[from, to) 排序，排序不稳定
+     *
+     * @param ids  下标数组
+     * @param key  排序依据的值
+     * @param from 起始位置（包含）
+     * @param to   结束位置（不包含）
+     */
+    public static void sort(int[] ids, double[] key, int from, int to) {
+        sort0(ids, key, from, to - 1);
+    }
+
+    private static void sort0(int[] ids, double[] key, int lo, int hi) {
+        while (hi - lo > 16) {
+            double pivot = key[ids[(lo + hi) >>> 1]];
+            int i = lo, j = hi;
+            while (i <= j) {
+                while (key[ids[i]] < pivot) {
+                    i++;
+                }
+                while (key[ids[j]] > pivot) {
+                    j--;
+                }
+                if (i <= j) {
+                    int t = ids[i];
+                    ids[i++] = ids[j];
+                    ids[j--] = t;
+                }
+            }
+            // 先递归处理较短的一半，控制递归深度
+            if (j - lo < hi - i) {
+                sort0(ids, key, lo, j);
+                lo = i;
+            } else {
+                sort0(ids, key, i, hi);
+                hi = j;
+            }
+        }
+
+        for (int i = lo + 1; i <= hi; i++) {
+            int id = ids[i];
+            double k = key[id];
+            int j = i - 1;
+            while (j >= lo && key[ids[j]] > k) {
+                ids[j + 1] = ids[j];
+                j--;
+            }
+            ids[j + 1] = id;
+        }
+    }
+
+}
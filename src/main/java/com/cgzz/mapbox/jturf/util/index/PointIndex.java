@@ -0,0 +1,555 @@
+package com.cgzz.mapbox.jturf.util.index;
+
+import com.cgzz.mapbox.jturf.JTurfHelper;
+import com.cgzz.mapbox.jturf.JTurfMeasurement;
+import com.cgzz.mapbox.jturf.JTurfTransformation;
+import com.cgzz.mapbox.jturf.enums.Units;
+import com.cgzz.mapbox.jturf.exception.JTurfException;
+import com.cgzz.mapbox.jturf.shape.impl.Feature;
+import com.cgzz.mapbox.jturf.shape.impl.FeatureCollection;
+import com.cgzz.mapbox.jturf.shape.impl.MultiPoint;
+import com.cgzz.mapbox.jturf.shape.impl.Point;
+import com.cgzz.mapbox.jturf.util.measurement.DistanceCalculator;
+import com.google.gson.JsonObject;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 点集合的空间索引（KD树），用于对同一批点反复做最近点、K近邻、半径范围查询。<br>
+ * 点被转换为单位球面上的三维坐标后建树，三维直线距离（弦长）与大圆距离单调对应，
+ * 因此按弦长剪枝的结果与按大圆距离逐点比较完全一致，也不受180度经线、两极的影响。<br>
+ * 返回的距离使用与 {@link JTurfMeasurement#distance(Point, Point, Units)} 相同的哈弗赛因公式计算，
+ * 并带有 featureIndex（点在原集合中的下标）、distanceToPoint 两个属性。构建完成后可以在多个线程之间共享。
+ */
+public final class PointIndex {
+
+    /**
+     * 原始顺序的点
+     */
+    private final Point[] points;
+
+    /**
+     * 原始顺序的要素属性，由点集合构建时为null
+     */
+    private final JsonObject[] properties;
+
+    /**
+     * 树中位置对应的原始下标
+     */
+    private final int[] order;
+
+    /**
+     * 树中位置对应的单位球面坐标
+     */
+    private final double[] xs, ys, zs;
+
+    /**
+     * 树中每个节点的切分轴，0、1、2 分别为 x、y、z
+     */
+    private final byte[] axis;
+
+    private PointIndex(Point[] points, JsonObject[] properties) {
+        int n = points.length;
+        if (n == 0) {
+            throw new JTurfException("points is required");
+        }
+
+        double[] ux = new double[n], uy = new double[n], uz = new double[n];
+        int[] order = new int[n];
+        for (int i = 0; i < n; i++) {
+            Point point = points[i];
+            if (point == null) {
+                throw new JTurfException("point is required");
+            }
+            double lat = JTurfHelper.degreesToRadians(point.latitude());
+            double lng = JTurfHelper.degreesToRadians(point.longitude());
+            double cosLat = Math.cos(lat);
+            ux[i] = cosLat * Math.cos(lng);
+            uy[i] = cosLat * Math.sin(lng);
+            uz[i] = Math.sin(lat);
+            order[i] = i;
+        }
+
+        this.points = points;
+        this.properties = properties;
+        this.order = order;
+        this.axis = new byte[n];
+        build(new double[][]{ux, uy, uz}, 0, n);
+
+        this.xs = new double[n];
+        this.ys = new double[n];
+        this.zs = new double[n];
+        for (int slot = 0; slot < n; slot++) {
+            int i = order[slot];
+            xs[slot] = ux[i];
+            ys[slot] = uy[i];
+            zs[slot] = uz[i];
+        }
+    }
+
+    /**
+     * 为点要素集合构建索引，查询结果会带上原要素的属性
+     *
+     * @param featureCollection 点要素集合
+     * @return PointIndex
+     */
+    public static PointIndex build(FeatureCollection<Point> featureCollection) {
+        if (featureCollection == null) {
+            throw new JTurfException("points is required");
+        }
+
+        int n = featureCollection.size();
+        Point[] points = new Point[n];
+        JsonObject[] properties = new JsonObject[n];
+        for (int i = 0; i < n; i++) {
+            Feature<Point> feature = featureCollection.get(i);
+            points[i] = feature.geometry();
+            properties[i] = feature.properties();
+        }
+        return new PointIndex(points, properties);
+    }
+
+    /**
+     * 为多点构建索引
+     *
+     * @param multiPoint 多点
+     * @return PointIndex
+     */
+    public static PointIndex build(MultiPoint multiPoint) {
+        if (multiPoint == null) {
+            throw new JTurfException("points is required");
+        }
+        return build(multiPoint.coordinates());
+    }
+
+    /**
+     * 为点集合构建索引
+     *
+     * @param points 点集合
+     * @return PointIndex
+     */
+    public static PointIndex build(List<Point> points) {
+        if (points == null) {
+            throw new JTurfException("points is required");
+        }
+        return new PointIndex(points.toArray(new Point[0]), null);
+    }
+
+    /**
+     * 索引中点的数量
+     *
+     * @return int
+     */
+    public int size() {
+        return points.length;
+    }
+
+    /**
+     * 获取原集合中第 index 个点
+     *
+     * @param index 下标
+     * @return Point
+     */
+    public Point get(int index) {
+        return points[index];
+    }
+
+    /**
+     * 查找距离目标点最近的点在原集合中的下标，距离相同时返回下标较小的点。<br>
+     * 该方法不创建结果对象，适合在循环中大量调用。
+     *
+     * @param longitude 经度
+     * @param latitude  纬度
+     * @return 最近点的下标
+     */
+    public int nearestIndex(double longitude, double latitude) {
+        Search search = new Search(longitude, latitude, 1);
+        nearest(0, points.length, search);
+        return order[search.slots[0]];
+    }
+
+    /**
+     * 查找距离目标点最近的点，distanceToPoint 单位为公里
+     *
+     * @param targetPoint 目标点
+     * @return Feature 返回距其最近的点
+     */
+    public Feature<Point> nearest(Point targetPoint) {
+        return nearest(targetPoint, Units.KILOMETERS);
+    }
+
+    /**
+     * 查找距离目标点最近的点
+     *
+     * @param targetPoint 目标点
+     * @param units       distanceToPoint 的单位
+     * @return Feature 返回距其最近的点
+     */
+    public Feature<Point> nearest(Point targetPoint, Units units) {
+        if (targetPoint == null) {
+            throw new JTurfException("targetPoint is required");
+        }
+        int index = nearestIndex(targetPoint.longitude(), targetPoint.latitude());
+        return toFeature(targetPoint, index, units);
+    }
+
+    /**
+     * 查找距离目标点最近的 k 个点，按距离从近到远排列，distanceToPoint 单位为公里
+     *
+     * @param targetPoint 目标点
+     * @param k           数量，超过点的数量时返回全部的点
+     * @return FeatureCollection
+     */
+    public FeatureCollection<Point> kNearest(Point targetPoint, int k) {
+        return kNearest(targetPoint, k, Units.KILOMETERS);
+    }
+
+    /**
+     * 查找距离目标点最近的 k 个点，按距离从近到远排列
+     *
+     * @param targetPoint 目标点
+     * @param k           数量，超过点的数量时返回全部的点
+     * @param units       distanceToPoint 的单位
+     * @return FeatureCollection
+     */
+    public FeatureCollection<Point> kNearest(Point targetPoint, int k, Units units) {
+        if (targetPoint == null) {
+            throw new JTurfException("targetPoint is required");
+        }
+        if (k <= 0) {
+            throw new JTurfException("k must be greater than 0");
+        }
+
+        Search search = new Search(targetPoint.longitude(), targetPoint.latitude(), Math.min(k, points.length));
+        nearest(0, points.length, search);
+        return toFeatureCollection(targetPoint, search, units);
+    }
+
+    /**
+     * 查找与目标点的距离不超过 distance 的所有点，按距离从近到远排列，单位为公里
+     *
+     * @param targetPoint 目标点
+     * @param distance    距离
+     * @return FeatureCollection
+     */
+    public FeatureCollection<Point> withinRadius(Point targetPoint, double distance) {
+        return withinRadius(targetPoint, distance, Units.KILOMETERS);
+    }
+
+    /**
+     * 查找与目标点的距离不超过 distance 的所有点，按距离从近到远排列
+     *
+     * @param targetPoint 目标点
+     * @param distance    距离
+     * @param units       distance 与 distanceToPoint 的单位
+     * @return FeatureCollection
+     */
+    public FeatureCollection<Point> withinRadius(Point targetPoint, double distance, Units units) {
+        if (targetPoint == null) {
+            throw new JTurfException("targetPoint is required");
+        }
+        if (units == null) {
+            units = Units.KILOMETERS;
+        }
+
+        DistanceCalculator calculator = DistanceCalculator.forUnits(units);
+        Search search = new Search(targetPoint.longitude(), targetPoint.latitude(), 0);
+        if (distance >= 0) {
+            double radians = calculator.toRadians(distance);
+            // 弧长转换为弦长，稍微放宽后再用哈弗赛因公式精确过滤，避免边界上的点因舍入误差被漏掉
+            double chord = radians >= Math.PI ? 2 : 2 * Math.sin(radians / 2);
+            within(0, points.length, chord * chord * (1 + 1e-9) + 1e-18, search);
+        }
+
+        // 精确过滤并按距离排序
+        List<Feature<Point>> features = new ArrayList<>(search.size);
+        double[] distances = new double[search.size];
+        int[] indexes = new int[search.size];
+        int n = 0;
+        for (int i = 0; i < search.size; i++) {
+            int index = order[search.slots[i]];
+            double d = calculator.distance(targetPoint, points[index]);
+            if (d <= distance) {
+                distances[n] = d;
+                indexes[n++] = index;
+            }
+        }
+        sort(distances, indexes, n);
+        for (int i = 0; i < n; i++) {
+            features.add(toFeature(indexes[i], distances[i]));
+        }
+        return FeatureCollection.fromFeatures(features);
+    }
+
+    /**
+     * 递归构建KD树，每层选择跨度最大的轴，以中位数作为节点
+     */
+    private void build(double[][] coords, int lo, int hi) {
+        if (hi - lo <= 1) {
+            return;
+        }
+
+        byte best = 0;
+        double bestExtent = -1;
+        for (byte a = 0; a < 3; a++) {
+            double[] c = coords[a];
+            double min = Double.POSITIVE_INFINITY, max = Double.NEGATIVE_INFINITY;
+            for (int i = lo; i < hi; i++) {
+                double v = c[order[i]];
+                min = Math.min(min, v);
+                max = Math.max(max, v);
+            }
+            if (max - min > bestExtent) {
+                bestExtent = max - min;
+                best = a;
+            }
+        }
+
+        int m = (lo + hi) >>> 1;
+        select(coords[best], lo, hi, m);
+        axis[m] = best;
+
+        build(coords, lo, m);
+        build(coords, m + 1, hi);
+    }
+
+    /**
+     * 快速选择，使 order[lo, m) 的值都不大于 order[m]，order(m, hi) 的值都不小于 order[m]
+     */
+    private void select(double[] key, int lo, int hi, int m) {
+        hi--;
+        while (hi > lo) {
+            double pivot = key[order[(lo + hi) >>> 1]];
+            int i = lo, j = hi;
+            while (i <= j) {
+                while (key[order[i]] < pivot) {
+                    i++;
+                }
+                while (key[order[j]] > pivot) {
+                    j--;
+                }
+                if (i <= j) {
+                    int t = order[i];
+                    order[i++] = order[j];
+                    order[j--] = t;
+                }
+            }
+            if (m <= j) {
+                hi = j;
+            } else if (m >= i) {
+                lo = i;
+            } else {
+                return;
+            }
+        }
+    }
+
+    private double distance2(int slot, Search search) {
+        double dx = xs[slot] - search.x, dy = ys[slot] - search.y, dz = zs[slot] - search.z;
+        return dx * dx + dy * dy + dz * dz;
+    }
+
+    private double axisDelta(int slot, Search search) {
+        switch (axis[slot]) {
+            case 0:
+                return search.x - xs[slot];
+            case 1:
+                return search.y - ys[slot];
+            default:
+                return search.z - zs[slot];
+        }
+    }
+
+    private void nearest(int lo, int hi, Search search) {
+        if (lo >= hi) {
+            return;
+        }
+
+        int m = (lo + hi) >>> 1;
+        search.offer(m, distance2(m, search), order);
+        if (hi - lo == 1) {
+            return;
+        }
+
+        double delta = axisDelta(m, search);
+        if (delta < 0) {
+            nearest(lo, m, search);
+            if (delta * delta <= search.worst()) {
+                nearest(m + 1, hi, search);
+            }
+        } else {
+            nearest(m + 1, hi, search);
+            if (delta * delta <= search.worst()) {
+                nearest(lo, m, search);
+            }
+        }
+    }
+
+    private void within(int lo, int hi, double radius2, Search search) {
+        if (lo >= hi) {
+            return;
+        }
+
+        int m = (lo + hi) >>> 1;
+        if (distance2(m, search) <= radius2) {
+            search.add(m);
+        }
+        if (hi - lo == 1) {
+            return;
+        }
+
+        double delta = axisDelta(m, search);
+        if (delta <= 0 || delta * delta <= radius2) {
+            within(lo, m, radius2, search);
+        }
+        if (delta >= 0 || delta * delta <= radius2) {
+            within(m + 1, hi, radius2, search);
+        }
+    }
+
+    private FeatureCollection<Point> toFeatureCollection(Point targetPoint, Search search, Units units) {
+        int n = search.size;
+        double[] distances = new double[n];
+        int[] indexes = new int[n];
+        DistanceCalculator calculator = DistanceCalculator.forUnits(units);
+        for (int i = 0; i < n; i++) {
+            indexes[i] = order[search.slots[i]];
+            distances[i] = calculator.distance(targetPoint, points[indexes[i]]);
+        }
+        sort(distances, indexes, n);
+
+        List<Feature<Point>> features = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            features.add(toFeature(indexes[i], distances[i]));
+        }
+        return FeatureCollection.fromFeatures(features);
+    }
+
+    private Feature<Point> toFeature(Point targetPoint, int index, Units units) {
+        return toFeature(index, JTurfMeasurement.distance(targetPoint, points[index], units));
+    }
+
+    private Feature<Point> toFeature(int index, double distance) {
+        Feature<Point> feature;
+        if (properties != null && properties[index] != null) {
+            feature = Feature.fromGeometry(JTurfTransformation.clone(points[index]), properties[index].deepCopy());
+        } else {
+            feature = Feature.fromGeometry(JTurfTransformation.clone(points[index]));
+        }
+        feature.addProperty("featureIndex", index);
+        feature.addProperty("distanceToPoint", distance);
+        return feature;
+    }
+
+    /**
+     * 按距离升序排序，距离相同时按下标升序（结果数量通常很小，使用插入排序）
+     */
+    private static void sort(double[] distances, int[] indexes, int n) {
+        for (int i = 1; i < n; i++) {
+            double d = distances[i];
+            int index = indexes[i];
+            int j = i - 1;
+            while (j >= 0 && (distances[j] > d || (distances[j] == d && indexes[j] > index))) {
+                distances[j + 1] = distances[j];
+                indexes[j + 1] = indexes[j];
+                j--;
+            }
+            distances[j + 1] = d;
+            indexes[j + 1] = index;
+        }
+    }
+
+    /**
+     * 一次查询的状态：目标点的单位球面坐标，以及当前找到的候选节点。<br>
+     * k 大于0时候选节点为容量为 k 的大顶堆（按弦长平方），否则为不限数量的列表。
+     */
+    private static final class Search {
+
+        private final double x, y, z;
+
+        private final int k;
+
+        private int[] slots;
+
+        private double[] distances;
+
+        private int size;
+
+        Search(double longitude, double latitude, int k) {
+            double lat = JTurfHelper.degreesToRadians(latitude);
+            double lng = JTurfHelper.degreesToRadians(longitude);
+            double cosLat = Math.cos(lat);
+            this.x = cosLat * Math.cos(lng);
+            this.y = cosLat * Math.sin(lng);
+            this.z = Math.sin(lat);
+            this.k = k;
+            this.slots = new int[k > 0 ? k : 16];
+            this.distances = new double[k > 0 ? k : 0];
+        }
+
+        double worst() {
+            return size < k ? Double.POSITIVE_INFINITY : distances[0];
+        }
+
+        void add(int slot) {
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size << 1);
+            }
+            slots[size++] = slot;
+        }
+
+        void offer(int slot, double d, int[] order) {
+            if (size < k) {
+                // 上浮
+                int i = size++;
+                while (i > 0) {
+                    int parent = (i - 1) >>> 1;
+                    if (!worse(d, slot, distances[parent], slots[parent], order)) {
+                        break;
+                    }
+                    distances[i] = distances[parent];
+                    slots[i] = slots[parent];
+                    i = parent;
+                }
+                distances[i] = d;
+                slots[i] = slot;
+                return;
+            }
+
+            if (!worse(distances[0], slots[0], d, slot, order)) {
+                return;
+            }
+
+            // 替换堆顶后下沉
+            int i = 0;
+            while (true) {
+                int child = (i << 1) + 1;
+                if (child >= size) {
+                    break;
+                }
+                if (child + 1 < size && worse(distances[child + 1], slots[child + 1], distances[child], slots[child], order)) {
+                    child++;
+                }
+                if (!worse(distances[child], slots[child], d, slot, order)) {
+                    break;
+                }
+                distances[i] = distances[child];
+                slots[i] = slots[child];
+                i = child;
+            }
+            distances[i] = d;
+            slots[i] = slot;
+        }
+
+        /**
+         * a 是否比 b 更远，距离相同时原始下标更大的视为更远
+         */
+        private static boolean worse(double da, int sa, double db, int sb, int[] order) {
+            return da > db || (da == db && order[sa] > order[sb]);
+        }
+
+    }
+
+}
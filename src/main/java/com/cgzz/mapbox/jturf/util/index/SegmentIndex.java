@@ -0,0 +1,406 @@
+package com.cgzz.mapbox.jturf.util.index;
+
+import com.cgzz.mapbox.jturf.JTurfMeta;
+import com.cgzz.mapbox.jturf.exception.JTurfException;
+import com.cgzz.mapbox.jturf.models.IntHolder;
+import com.cgzz.mapbox.jturf.models.ObjectHolder;
+import com.cgzz.mapbox.jturf.shape.Geometry;
+import com.cgzz.mapbox.jturf.shape.impl.CoordinateSequence;
+import com.cgzz.mapbox.jturf.shape.impl.LineString;
+import com.cgzz.mapbox.jturf.shape.impl.MultiLineString;
+import com.cgzz.mapbox.jturf.shape.impl.MultiPolygon;
+import com.cgzz.mapbox.jturf.shape.impl.Point;
+import com.cgzz.mapbox.jturf.shape.impl.Polygon;
+import com.cgzz.mapbox.jturf.util.index.func.SegmentSearchFunc;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 线段的空间索引，使用 Sort-Tile-Recursive 算法批量构建的静态R树。<br>
+ * 线段坐标保存在基本类型数组中，不会为每个线段创建 Feature、LineString 对象；
+ * 线段编号与 {@link com.cgzz.mapbox.jturf.JTurfMisc#lineSegment(Geometry)} 返回的线段顺序一致。<br>
+ * 构建完成后对象不可变，可以在多个线程之间共享。
+ */
+public final class SegmentIndex {
+
+    /**
+     * 每个节点的最大孩子数
+     */
+    private static final int NODE_SIZE = 16;
+
+    private final int size;
+
+    /**
+     * 按线段编号存放的坐标 [x1, y1, x2, y2]
+     */
+    private final double[] coords;
+
+    /**
+     * 按线段编号存放的高度 [z1, z2]，所有点都没有高度时为null
+     */
+    private final double[] zs;
+
+    /**
+     * 按树中顺序排列的线段编号，第 j 个叶子节点包含 ids[j * NODE_SIZE, (j + 1) * NODE_SIZE)
+     */
+    private final int[] ids;
+
+    /**
+     * 所有节点的边界框 [minX, minY, maxX, maxY]，从叶子层开始逐层存放
+     */
+    private final double[] boxes;
+
+    /**
+     * 每一层第一个节点的位置，最后一个元素为节点总数
+     */
+    private final int[] levels;
+
+    private SegmentIndex(int size, double[] coords, double[] zs) {
+        this.size = size;
+        this.coords = coords;
+        this.zs = zs;
+        this.ids = new int[size];
+
+        // 先按中心点 x 排序，切分为若干竖条，每个竖条内再按中心点 y 排序
+        double[] cx = new double[size], cy = new double[size];
+        for (int i = 0; i < size; i++) {
+            ids[i] = i;
+            cx[i] = (coords[i * 4] + coords[i * 4 + 2]) / 2;
+            cy[i] = (coords[i * 4 + 1] + coords[i * 4 + 3]) / 2;
+        }
+        IndexSort.sort(ids, cx, 0, size);
+
+        int leafCount = (size + NODE_SIZE - 1) / NODE_SIZE;
+        int sliceSize = (int) Math.ceil(Math.sqrt(leafCount)) * NODE_SIZE;
+        for (int start = 0; start < size; start += sliceSize) {
+            IndexSort.sort(ids, cy, start, Math.min(start + sliceSize, size));
+        }
+
+        // 计算每一层的节点数
+        int levelCount = 1;
+        for (int count = leafCount; count > 1; count = (count + NODE_SIZE - 1) / NODE_SIZE) {
+            levelCount++;
+        }
+        int[] levels = new int[levelCount + 1];
+        for (int l = 0, count = leafCount; l < levelCount; l++, count = (count + NODE_SIZE - 1) / NODE_SIZE) {
+            levels[l + 1] = levels[l] + count;
+        }
+        this.levels = levels;
+
+        // 叶子节点的边界框由线段计算，上层节点的边界框由孩子节点合并
+        double[] boxes = new double[levels[levelCount] * 4];
+        for (int j = 0; j < leafCount; j++) {
+            double minX = Double.POSITIVE_INFINITY, minY = Double.POSITIVE_INFINITY;
+            double maxX = Double.NEGATIVE_INFINITY, maxY = Double.NEGATIVE_INFINITY;
+            for (int k = j * NODE_SIZE, end = Math.min(k + NODE_SIZE, size); k < end; k++) {
+                int c = ids[k] * 4;
+                minX = Math.min(minX, Math.min(coords[c], coords[c + 2]));
+                minY = Math.min(minY, Math.min(coords[c + 1], coords[c + 3]));
+                maxX = Math.max(maxX, Math.max(coords[c], coords[c + 2]));
+                maxY = Math.max(maxY, Math.max(coords[c + 1], coords[c + 3]));
+            }
+            setBox(boxes, j, minX, minY, maxX, maxY);
+        }
+        for (int l = 1; l < levelCount; l++) {
+            int childStart = levels[l - 1], childEnd = levels[l];
+            for (int node = levels[l], j = 0; node < levels[l + 1]; node++, j++) {
+                double minX = Double.POSITIVE_INFINITY, minY = Double.POSITIVE_INFINITY;
+                double maxX = Double.NEGATIVE_INFINITY, maxY = Double.NEGATIVE_INFINITY;
+                for (int child = childStart + j * NODE_SIZE, end = Math.min(child + NODE_SIZE, childEnd); child < end; child++) {
+                    minX = Math.min(minX, boxes[child * 4]);
+                    minY = Math.min(minY, boxes[child * 4 + 1]);
+                    maxX = Math.max(maxX, boxes[child * 4 + 2]);
+                    maxY = Math.max(maxY, boxes[child * 4 + 3]);
+                }
+                setBox(boxes, node, minX, minY, maxX, maxY);
+            }
+        }
+        this.boxes = boxes;
+    }
+
+    /**
+     * 为图形的所有线段构建索引
+     *
+     * @param geometry 图形，支持 LineString、MultiLineString、Polygon、MultiPolygon（Feature、FeatureCollection、GeometryCollection也要符合以上规则）
+     * @return SegmentIndex
+     */
+    public static SegmentIndex build(Geometry geometry) {
+        Collector collector = collect(geometry);
+        return new SegmentIndex(collector.size, collector.coords, collector.zs);
+    }
+
+    /**
+     * 获取图形的所有线段，不构建索引
+     *
+     * @param geometry 图形，支持 LineString、MultiLineString、Polygon、MultiPolygon（Feature、FeatureCollection、GeometryCollection也要符合以上规则）
+     * @return 按 [x1, y1, x2, y2, ...] 存放的线段坐标，顺序与 lineSegment 返回的线段一致
+     */
+    public static double[] segments(Geometry geometry) {
+        Collector collector = collect(geometry);
+        return Arrays.copyOf(collector.coords, collector.size * 4);
+    }
+
+    private static Collector collect(Geometry geometry) {
+        if (geometry == null) {
+            throw new JTurfException("geometry is required");
+        }
+
+        Collector collector = new Collector();
+        JTurfMeta.geomEach(geometry, (g, featureIndex, properties, id) -> {
+            if (g == null) {
+                return true;
+            }
+            switch (g.geometryType()) {
+                case LINE_STRING: {
+                    LineString line = LineString.lineString(g);
+                    if (line.isPacked()) {
+                        collector.add(line.coordinateSequence());
+                    } else {
+                        collector.add(line.coordinates());
+                    }
+                    break;
+                }
+                case MULTI_LINE_STRING:
+                    for (List<Point> line : MultiLineString.multiLineString(g).coordinates()) {
+                        collector.add(line);
+                    }
+                    break;
+                case POLYGON: {
+                    Polygon polygon = Polygon.polygon(g);
+                    if (polygon.isPacked()) {
+                        for (CoordinateSequence ring : polygon.coordinateSequences()) {
+                            collector.add(ring);
+                        }
+                    } else {
+                        for (List<Point> ring : polygon.coordinates()) {
+                            collector.add(ring);
+                        }
+                    }
+                    break;
+                }
+                case MULTI_POLYGON: {
+                    MultiPolygon multiPolygon = MultiPolygon.multiPolygon(g);
+                    if (multiPolygon.isPacked()) {
+                        for (CoordinateSequence[] rings : multiPolygon.coordinateSequences()) {
+                            for (CoordinateSequence ring : rings) {
+                                collector.add(ring);
+                            }
+                        }
+                    } else {
+                        for (List<List<Point>> rings : multiPolygon.coordinates()) {
+                            for (List<Point> ring : rings) {
+                                collector.add(ring);
+                            }
+                        }
+                    }
+                    break;
+                }
+                default:
+                    break;
+            }
+            return true;
+        });
+
+        return collector;
+    }
+
+    /**
+     * 线段数量
+     *
+     * @return int
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 第 id 个线段起点的经度
+     *
+     * @param id 线段编号
+     * @return double
+     */
+    public double x1(int id) {
+        return coords[id * 4];
+    }
+
+    /**
+     * 第 id 个线段起点的纬度
+     *
+     * @param id 线段编号
+     * @return double
+     */
+    public double y1(int id) {
+        return coords[id * 4 + 1];
+    }
+
+    /**
+     * 第 id 个线段终点的经度
+     *
+     * @param id 线段编号
+     * @return double
+     */
+    public double x2(int id) {
+        return coords[id * 4 + 2];
+    }
+
+    /**
+     * 第 id 个线段终点的纬度
+     *
+     * @param id 线段编号
+     * @return double
+     */
+    public double y2(int id) {
+        return coords[id * 4 + 3];
+    }
+
+    /**
+     * 创建第 id 个线段的 LineString 对象
+     *
+     * @param id 线段编号
+     * @return LineString
+     */
+    public LineString lineString(int id) {
+        int c = id * 4;
+        if (zs == null) {
+            return LineString.fromLngLats(coords[c], coords[c + 1], coords[c + 2], coords[c + 3]);
+        }
+        return LineString.fromLngLats(Point.fromLngLat(coords[c], coords[c + 1], zs[id * 2]), Point.fromLngLat(coords[c + 2], coords[c + 3], zs[id * 2 + 1]));
+    }
+
+    /**
+     * 查找边界框与指定范围相交的线段
+     *
+     * @param minX 最小经度
+     * @param minY 最小纬度
+     * @param maxX 最大经度
+     * @param maxY 最大纬度
+     * @return 按编号升序排列的线段编号
+     */
+    public int[] search(double minX, double minY, double maxX, double maxY) {
+        IntHolder count = new IntHolder(0);
+        ObjectHolder<int[]> hits = new ObjectHolder<>(new int[8]);
+        search(minX, minY, maxX, maxY, id -> {
+            if (count.value == hits.value.length) {
+                hits.value = Arrays.copyOf(hits.value, count.value << 1);
+            }
+            hits.value[count.value++] = id;
+            return true;
+        });
+
+        int[] result = Arrays.copyOf(hits.value, count.value);
+        Arrays.sort(result);
+        return result;
+    }
+
+    /**
+     * 同步查找边界框与指定范围相交的线段，每命中一个线段回调一次，回调顺序为树中的顺序。<br>
+     * 查询过程不会创建任何对象，适合在循环中大量调用。
+     *
+     * @param minX 最小经度
+     * @param minY 最小纬度
+     * @param maxX 最大经度
+     * @param maxY 最大纬度
+     * @param func 回调处理函数
+     * @return 是否所有命中的线段均处理成功，回调返回false时查询被中断并返回false
+     */
+    public boolean search(double minX, double minY, double maxX, double maxY, SegmentSearchFunc func) {
+        if (size == 0) {
+            return true;
+        }
+        return search(levels.length - 2, 0, minX, minY, maxX, maxY, func);
+    }
+
+    private boolean search(int level, int j, double minX, double minY, double maxX, double maxY, SegmentSearchFunc func) {
+        if (!intersects(levels[level] + j, minX, minY, maxX, maxY)) {
+            return true;
+        }
+
+        if (level == 0) {
+            for (int k = j * NODE_SIZE, end = Math.min(k + NODE_SIZE, size); k < end; k++) {
+                int id = ids[k];
+                int c = id * 4;
+                if (Math.min(coords[c], coords[c + 2]) <= maxX && minX <= Math.max(coords[c], coords[c + 2])
+                        && Math.min(coords[c + 1], coords[c + 3]) <= maxY && minY <= Math.max(coords[c + 1], coords[c + 3])
+                        && !func.accept(id)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        int childCount = levels[level] - levels[level - 1];
+        for (int child = j * NODE_SIZE, end = Math.min(child + NODE_SIZE, childCount); child < end; child++) {
+            if (!search(level - 1, child, minX, minY, maxX, maxY, func)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean intersects(int node, double minX, double minY, double maxX, double maxY) {
+        int b = node * 4;
+        return boxes[b] <= maxX && minX <= boxes[b + 2] && boxes[b + 1] <= maxY && minY <= boxes[b + 3];
+    }
+
+    private static void setBox(double[] boxes, int node, double minX, double minY, double maxX, double maxY) {
+        int b = node * 4;
+        boxes[b] = minX;
+        boxes[b + 1] = minY;
+        boxes[b + 2] = maxX;
+        boxes[b + 3] = maxY;
+    }
+
+    /**
+     * 构建时收集线段坐标
+     */
+    private static final class Collector {
+
+        private double[] coords = new double[64];
+
+        private double[] zs;
+
+        private int size;
+
+        void add(List<Point> points) {
+            for (int i = 1, len = points.size(); i < len; i++) {
+                Point p1 = points.get(i - 1), p2 = points.get(i);
+                add(p1.longitude(), p1.latitude(), p1.altitude(), p2.longitude(), p2.latitude(), p2.altitude());
+            }
+        }
+
+        void add(CoordinateSequence sequence) {
+            for (int i = 1, len = sequence.size(); i < len; i++) {
+                add(sequence.getX(i - 1), sequence.getY(i - 1), sequence.getZ(i - 1), sequence.getX(i), sequence.getY(i), sequence.getZ(i));
+            }
+        }
+
+        private void add(double x1, double y1, double z1, double x2, double y2, double z2) {
+            if ((size + 1) * 4 > coords.length) {
+                coords = Arrays.copyOf(coords, coords.length << 1);
+            }
+            int c = size * 4;
+            coords[c] = x1;
+            coords[c + 1] = y1;
+            coords[c + 2] = x2;
+            coords[c + 3] = y2;
+
+            if (zs == null && (!Double.isNaN(z1) || !Double.isNaN(z2))) {
+                zs = new double[coords.length / 2];
+                Arrays.fill(zs, Double.NaN);
+            }
+            if (zs != null) {
+                if (zs.length < coords.length / 2) {
+                    int len = zs.length;
+                    zs = Arrays.copyOf(zs, coords.length / 2);
+                    Arrays.fill(zs, len, zs.length, Double.NaN);
+                }
+                zs[size * 2] = z1;
+                zs[size * 2 + 1] = z2;
+            }
+            size++;
+        }
+
+    }
+
+}
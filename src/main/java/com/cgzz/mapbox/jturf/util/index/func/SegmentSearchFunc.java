@@ -0,0 +1,14 @@
+package com.cgzz.mapbox.jturf.util.index.func;
+
+@FunctionalInterface
+public interface SegmentSearchFunc {
+
+    /**
+     * 处理查询命中的线段
+     *
+     * @param segmentId 线段编号，可通过 SegmentIndex 的 x1、y1、x2、y2 获取坐标
+     * @return 处理是否成功，当返回false时，查询即被中断
+     */
+    boolean accept(int segmentId);
+
+}
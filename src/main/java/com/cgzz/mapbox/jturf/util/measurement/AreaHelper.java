@@ -25,14 +25,24 @@ public final class AreaHelper {
         double total = 0.0D;
 
         switch (geometry.geometryType()) {
-            case POLYGON:
-                total = polygonArea(Polygon.polygon(geometry).coordinates());
+            case POLYGON: {
+                Polygon polygon = Polygon.polygon(geometry);
+                total = polygon.isPacked() ? polygonArea(polygon.coordinateSequences()) : polygonArea(polygon.coordinates());
                 break;
-            case MULTI_POLYGON:
-                for (List<List<Point>> coordinate : MultiPolygon.multiPolygon(geometry).coordinates()) {
-                    total += polygonArea(coordinate);
+            }
+            case MULTI_POLYGON: {
+                MultiPolygon multiPolygon = MultiPolygon.multiPolygon(geometry);
+                if (multiPolygon.isPacked()) {
+                    for (CoordinateSequence[] rings : multiPolygon.coordinateSequences()) {
+                        total += polygonArea(rings);
+                    }
+                } else {
+                    for (List<List<Point>> coordinate : multiPolygon.coordinates()) {
+                        total += polygonArea(coordinate);
+                    }
                 }
                 break;
+            }
             case GEOMETRY_COLLECTION:
                 for (Geometry singleGeometry : GeometryCollection.geometryCollection(geometry).geometries()) {
                     total += area(singleGeometry);
@@ -68,6 +78,27 @@ public final class AreaHelper {
         return total;
     }
 
+    /**
+     * 计算紧凑存储的Polygon的多边形面积（减除了内圈的面积）
+     *
+     * @param rings 环坐标序列，第一个为外环
+     * @return 面的近似符号测地线面积（以平方米为单位）
+     */
+    private static double polygonArea(CoordinateSequence[] rings) {
+        double total = 0;
+
+        if (rings == null || rings.length == 0) {
+            return total;
+        }
+
+        total += Math.abs(ringArea(rings[0]));
+
+        for (int i = 1; i < rings.length; i++) {
+            total -= Math.abs(ringArea(rings[i]));
+        }
+        return total;
+    }
+
     /**
      * 计算投影到地球上的多边形的大致面积。请注意，如果环方向为顺时针方向，则此区域将为正，否则它将是负面的。
      *
@@ -107,4 +138,37 @@ public final class AreaHelper {
         return total;
     }
 
+    /**
+     * 计算紧凑存储的环的大致面积，逻辑与 {@link #ringArea(List)} 一致，但直接读取坐标数组，避免创建Point对象。
+     *
+     * @param ring 坐标序列
+     * @return 面的近似符号测地线面积（以平方米为单位）。
+     */
+    private static double ringArea(CoordinateSequence ring) {
+        double total = 0.0f;
+        final int coordsLength = ring.size();
+
+        if (coordsLength > 2) {
+            // 滑动窗口复用上一轮读取的坐标，每个点只读取一次并转换一次弧度
+            double x1 = JTurfHelper.angleToRadians(ring.getX(0));
+            double y2 = JTurfHelper.angleToRadians(ring.getY(1));
+            double x2 = JTurfHelper.angleToRadians(ring.getX(1));
+            for (int i = 0; i < coordsLength; i++) {
+                int upperIndex = i + 2;
+                if (upperIndex >= coordsLength) {
+                    upperIndex -= coordsLength;
+                }
+                double x3 = JTurfHelper.angleToRadians(ring.getX(upperIndex));
+                total += (x3 - x1) * Math.sin(y2);
+
+                x1 = x2;
+                x2 = x3;
+                y2 = JTurfHelper.angleToRadians(ring.getY(upperIndex));
+            }
+
+            total = total * JTurfMeasurement.EARTH_RADIUS * JTurfMeasurement.EARTH_RADIUS / 2;
+        }
+        return total;
+    }
+
 }
@@ -0,0 +1,149 @@
+package com.cgzz.mapbox.jturf.util.measurement;
+
+import com.cgzz.mapbox.jturf.JTurfMeasurement;
+import com.cgzz.mapbox.jturf.enums.Units;
+import com.cgzz.mapbox.jturf.exception.JTurfException;
+import com.cgzz.mapbox.jturf.shape.Geometry;
+import com.cgzz.mapbox.jturf.shape.impl.BoundingBox;
+import com.cgzz.mapbox.jturf.shape.impl.Feature;
+import com.cgzz.mapbox.jturf.shape.impl.Point;
+import com.cgzz.mapbox.jturf.util.concurrent.ParallelHelper;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 测量函数的批量并行版本，按下标区间切分后由 {@link ParallelHelper#forRange(int, com.cgzz.mapbox.jturf.util.concurrent.func.RangeFunc)} 并行执行，
+ * 结果写入与输入顺序一致的基本类型数组。<br>
+ * 为空的要素或图形不会中断整个批次，其结果为 NaN。
+ */
+public final class BatchMeasurementHelper {
+
+    private BatchMeasurementHelper() {
+        throw new AssertionError("No Instances.");
+    }
+
+    /**
+     * 批量计算面积
+     *
+     * @param features 要素
+     * @param units    面积单位，支持公里、英里、米，为null时为平方米
+     * @return 与 features 一一对应的面积
+     */
+    public static double[] areas(List<? extends Feature<? extends Geometry>> features, Units units) {
+        return map(features, geometry -> JTurfMeasurement.area(geometry, units));
+    }
+
+    /**
+     * 批量计算长度（周长）
+     *
+     * @param features 要素
+     * @param units    距离单位
+     * @return 与 features 一一对应的长度
+     */
+    public static double[] lengths(List<? extends Feature<? extends Geometry>> features, Units units) {
+        return map(features, geometry -> LengthHelper.length(geometry, units));
+    }
+
+    /**
+     * 批量计算边界框
+     *
+     * @param features 要素
+     * @return 按 [west, south, east, north, ...] 存放的边界框，第 i 个要素的边界框位于 [i * 4, i * 4 + 4)
+     */
+    public static double[] bboxes(List<? extends Feature<? extends Geometry>> features) {
+        List<? extends Feature<? extends Geometry>> list = randomAccess(features);
+        double[] result = new double[list.size() * 4];
+        ParallelHelper.forRange(list.size(), (from, to) -> {
+            for (int i = from; i < to; i++) {
+                Geometry geometry = geometry(list.get(i));
+                if (geometry == null) {
+                    Arrays.fill(result, i * 4, i * 4 + 4, Double.NaN);
+                    continue;
+                }
+                BoundingBox bbox = JTurfMeasurement.bbox(geometry);
+                result[i * 4] = bbox.west();
+                result[i * 4 + 1] = bbox.south();
+                result[i * 4 + 2] = bbox.east();
+                result[i * 4 + 3] = bbox.north();
+            }
+        });
+        return result;
+    }
+
+    /**
+     * 批量计算质心（所有顶点的平均值）
+     *
+     * @param features 要素
+     * @return 按 [x, y, ...] 存放的质心，第 i 个要素的质心位于 [i * 2, i * 2 + 2)
+     */
+    public static double[] centroids(List<? extends Feature<? extends Geometry>> features) {
+        List<? extends Feature<? extends Geometry>> list = randomAccess(features);
+        double[] result = new double[list.size() * 2];
+        ParallelHelper.forRange(list.size(), (from, to) -> {
+            for (int i = from; i < to; i++) {
+                Geometry geometry = geometry(list.get(i));
+                if (geometry == null) {
+                    result[i * 2] = result[i * 2 + 1] = Double.NaN;
+                    continue;
+                }
+                Point centroid = JTurfMeasurement.centroid(geometry);
+                result[i * 2] = centroid.longitude();
+                result[i * 2 + 1] = centroid.latitude();
+            }
+        });
+        return result;
+    }
+
+    /**
+     * 批量计算两组点之间逐对的距离
+     *
+     * @param from  起点
+     * @param to    终点，数量必须与起点一致
+     * @param units 距离单位
+     * @return 第 i 个元素为 from[i] 到 to[i] 的距离
+     */
+    public static double[] distances(List<Point> from, List<Point> to, Units units) {
+        if (from.size() != to.size()) {
+            throw new JTurfException("from and to must have the same size");
+        }
+
+        DistanceCalculator calculator = DistanceCalculator.forUnits(units);
+        List<Point> p1 = randomAccess(from), p2 = randomAccess(to);
+        double[] result = new double[p1.size()];
+        ParallelHelper.forRange(result.length, (start, end) -> {
+            for (int i = start; i < end; i++) {
+                Point a = p1.get(i), b = p2.get(i);
+                result[i] = a == null || b == null ? Double.NaN : calculator.distance(a, b);
+            }
+        });
+        return result;
+    }
+
+    private static double[] map(List<? extends Feature<? extends Geometry>> features, ToDoubleFunction<Geometry> func) {
+        List<? extends Feature<? extends Geometry>> list = randomAccess(features);
+        double[] result = new double[list.size()];
+        ParallelHelper.forRange(result.length, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                Geometry geometry = geometry(list.get(i));
+                result[i] = geometry == null ? Double.NaN : func.applyAsDouble(geometry);
+            }
+        });
+        return result;
+    }
+
+    private static Geometry geometry(Feature<? extends Geometry> feature) {
+        return feature == null ? null : feature.geometry();
+    }
+
+    /**
+     * 并行任务按下标访问元素，链表等结构先复制为数组列表
+     */
+    private static <T> List<T> randomAccess(List<T> list) {
+        return list instanceof RandomAccess ? list : new ArrayList<>(list);
+    }
+
+}
@@ -0,0 +1,137 @@
+package com.cgzz.mapbox.jturf.util.measurement;
+
+import com.cgzz.mapbox.jturf.JTurfHelper;
+import com.cgzz.mapbox.jturf.enums.Units;
+import com.cgzz.mapbox.jturf.shape.impl.Point;
+
+/**
+ * 绑定了距离单位的距离计算，单位的换算系数在创建时确定，循环中反复计算距离、目标点时不再解析 {@link Units}。<br>
+ * 计算公式与 {@link com.cgzz.mapbox.jturf.JTurfMeasurement#distance(Point, Point, Units)}、
+ * {@link com.cgzz.mapbox.jturf.JTurfMeasurement#destination(Point, double, double, Units)} 相同，结果完全一致。<br>
+ * 使用示例：
+ * <pre>
+ * DistanceCalculator calculator = DistanceCalculator.forUnits(Units.METERS);
+ * for (int i = 1; i &lt; points.size(); i++) {
+ *     total += calculator.distance(points.get(i - 1), points.get(i));
+ * }
+ * </pre>
+ * 对象不可变，可以在多个线程之间共享。
+ */
+public final class DistanceCalculator {
+
+    private static final DistanceCalculator[] CALCULATORS;
+
+    static {
+        Units[] values = Units.values();
+        CALCULATORS = new DistanceCalculator[values.length];
+        for (Units units : values) {
+            CALCULATORS[units.ordinal()] = new DistanceCalculator(units);
+        }
+    }
+
+    private final Units units;
+
+    private final double factor;
+
+    private DistanceCalculator(Units units) {
+        this.units = units;
+        this.factor = units.factor();
+    }
+
+    /**
+     * 获取指定单位的距离计算
+     *
+     * @param units 距离单位，为null时为公里
+     * @return DistanceCalculator
+     */
+    public static DistanceCalculator forUnits(Units units) {
+        return CALCULATORS[(units == null ? Units.KILOMETERS : units).ordinal()];
+    }
+
+    /**
+     * 距离单位
+     *
+     * @return Units
+     */
+    public Units units() {
+        return units;
+    }
+
+    /**
+     * 将弧度转换为长度
+     *
+     * @param radians 弧度
+     * @return 长度
+     */
+    public double toLength(double radians) {
+        return radians * factor;
+    }
+
+    /**
+     * 将长度转换为弧度
+     *
+     * @param length 长度
+     * @return 弧度
+     */
+    public double toRadians(double length) {
+        return length / factor;
+    }
+
+    /**
+     * 使用哈弗赛因公式计算两点之间的距离
+     *
+     * @param p1 点1
+     * @param p2 点2
+     * @return 距离
+     */
+    public double distance(Point p1, Point p2) {
+        return distance(p1.longitude(), p1.latitude(), p2.longitude(), p2.latitude());
+    }
+
+    /**
+     * 使用哈弗赛因公式计算两点之间的距离
+     *
+     * @param lon1 点1经度
+     * @param lat1 点1纬度
+     * @param lon2 点2经度
+     * @param lat2 点2纬度
+     * @return 距离
+     */
+    public double distance(double lon1, double lat1, double lon2, double lat2) {
+        double dLat = JTurfHelper.degreesToRadians(lat2 - lat1);
+        double dLon = JTurfHelper.degreesToRadians(lon2 - lon1);
+        double radLat1 = JTurfHelper.degreesToRadians(lat1);
+        double radLat2 = JTurfHelper.degreesToRadians(lat2);
+
+        double sinDLat = Math.sin(dLat / 2), sinDLon = Math.sin(dLon / 2);
+        double value = sinDLat * sinDLat + sinDLon * sinDLon * Math.cos(radLat1) * Math.cos(radLat2);
+
+        return 2 * Math.atan2(Math.sqrt(value), Math.sqrt(1 - value)) * factor;
+    }
+
+    /**
+     * 根据起点、距离和方位角计算目标点
+     *
+     * @param p        起点
+     * @param distance 距离
+     * @param bearing  方位角，-180 到 180 度
+     * @return 目标点
+     */
+    public Point destination(Point p, double distance, double bearing) {
+        double longitude1 = JTurfHelper.degreesToRadians(p.longitude());
+        double latitude1 = JTurfHelper.degreesToRadians(p.latitude());
+        double bearingRad = JTurfHelper.degreesToRadians(bearing);
+        double radians = distance / factor;
+
+        double sinLatitude1 = Math.sin(latitude1), cosLatitude1 = Math.cos(latitude1);
+        double sinRadians = Math.sin(radians), cosRadians = Math.cos(radians);
+
+        double latitude2 = Math.asin(sinLatitude1 * cosRadians + cosLatitude1 * sinRadians * Math.cos(bearingRad));
+        double longitude2 = longitude1 + Math.atan2(
+                Math.sin(bearingRad) * sinRadians * cosLatitude1,
+                cosRadians - sinLatitude1 * Math.sin(latitude2));
+
+        return Point.fromLngLat(JTurfHelper.radiansToDegrees(longitude2), JTurfHelper.radiansToDegrees(latitude2));
+    }
+
+}
@@ -0,0 +1,121 @@
+package com.cgzz.mapbox.jturf.util.measurement;
+
+import com.cgzz.mapbox.jturf.enums.Units;
+import com.cgzz.mapbox.jturf.util.concurrent.ParallelHelper;
+
+/**
+ * 基于数组的哈弗赛因距离计算，与 {@link com.cgzz.mapbox.jturf.JTurfMeasurement#distance(com.cgzz.mapbox.jturf.shape.impl.Point, com.cgzz.mapbox.jturf.shape.impl.Point, Units)} 使用相同的公式。<br>
+ * 单位系数只解析一次，起点的正余弦每次调用只计算一次，数组版本的循环不分配对象。
+ * 同一批点反复计算时由 {@link PreparedPoints} 缓存每个点半角的正余弦，循环中不再调用三角函数，
+ * 代价是半角差按乘积之差计算，两点很近时有相消误差（见 {@link #distances(PreparedPoints, double, double, Units, double[])}）。<br>
+ * 经纬度按有效的度数处理（不做取模），相差 360 度以内的坐标与逐点计算的结果在舍入误差内一致。
+ */
+public final class DistanceKernel {
+
+    static final double TO_RADIANS = Math.PI / 180;
+
+    /**
+     * 矩阵超过该元素数量时按行并行计算
+     */
+    private static final int PARALLEL_THRESHOLD = 1 << 16;
+
+    private DistanceKernel() {
+        throw new AssertionError("No Instances.");
+    }
+
+    /**
+     * 计算每个点到同一个起点的距离，同一批点需要反复计算时使用 {@link #distances(PreparedPoints, double, double, Units, double[])}
+     *
+     * @param lons  经度
+     * @param lats  纬度，长度与 lons 一致
+     * @param lon0  起点经度
+     * @param lat0  起点纬度
+     * @param units 距离单位
+     * @param out   结果，out[i] 为第 i 个点到起点的距离
+     */
+    public static void distances(double[] lons, double[] lats, double lon0, double lat0, Units units, double[] out) {
+        double factor = 2 * units.factor();
+        double lon0r = lon0 * TO_RADIANS, lat0r = lat0 * TO_RADIANS;
+        double cosLat0 = Math.cos(lat0r);
+
+        for (int i = 0, n = lons.length; i < n; i++) {
+            double lat = lats[i] * TO_RADIANS;
+            double sinLat = Math.sin((lat - lat0r) * 0.5);
+            double sinLon = Math.sin((lons[i] * TO_RADIANS - lon0r) * 0.5);
+            double a = sinLat * sinLat + sinLon * sinLon * cosLat0 * Math.cos(lat);
+            out[i] = factor * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+        }
+    }
+
+    /**
+     * 计算预处理后的每个点到同一个起点的距离，循环中没有三角函数调用。<br>
+     * 半角差按 sin(b / 2)cos(a / 2) - cos(b / 2)sin(a / 2) 计算，两点很近时两个乘积相消，绝对误差约为几纳米，
+     * 相对误差随距离缩短而增大（1 毫米左右约为 1e-5）；需要近距离的相对精度时使用数组版本，它与逐点计算一样直接相减
+     *
+     * @param points 预处理后的点
+     * @param lon0   起点经度
+     * @param lat0   起点纬度
+     * @param units  距离单位
+     * @param out    结果，out[i] 为第 i 个点到起点的距离
+     */
+    public static void distances(PreparedPoints points, double lon0, double lat0, Units units, double[] out) {
+        double lat = lat0 * TO_RADIANS * 0.5, lon = lon0 * TO_RADIANS * 0.5;
+        double sinLat0 = Math.sin(lat), cosLat0 = Math.cos(lat);
+        row(points, sinLat0, cosLat0, Math.sin(lon), Math.cos(lon), (cosLat0 - sinLat0) * (cosLat0 + sinLat0), 2 * units.factor(), out, 0);
+    }
+
+    /**
+     * 计算起终点矩阵（OD 矩阵），元素数量较多时按行在 ForkJoinPool 中并行计算。<br>
+     * 每个点的半角正余弦只计算一次，矩阵内层循环只剩乘加运算（可被 JIT 向量化）与一次 atan2。
+     *
+     * @param fromLons 起点经度
+     * @param fromLats 起点纬度
+     * @param toLons   终点经度
+     * @param toLats   终点纬度
+     * @param units    距离单位
+     * @param out      按行存放的结果，out[i * toLons.length + j] 为第 i 个起点到第 j 个终点的距离
+     */
+    public static void distanceMatrix(double[] fromLons, double[] fromLats, double[] toLons, double[] toLats, Units units, double[] out) {
+        int rows = fromLons.length, cols = toLons.length;
+        if (rows == 0 || cols == 0) {
+            return;
+        }
+
+        double factor = 2 * units.factor();
+        PreparedPoints from = PreparedPoints.prepare(fromLons, fromLats);
+        PreparedPoints to = PreparedPoints.prepare(toLons, toLats);
+
+        if ((long) rows * cols <= PARALLEL_THRESHOLD) {
+            rows(from, to, factor, 0, rows, out);
+        } else {
+            ParallelHelper.forRange(rows, (start, end) -> rows(from, to, factor, start, end, out));
+        }
+    }
+
+    private static void rows(PreparedPoints from, PreparedPoints to, double factor, int start, int end, double[] out) {
+        for (int i = start; i < end; i++) {
+            row(to, from.sinLat[i], from.cosLat[i], from.sinLon[i], from.cosLon[i], from.cos[i], factor, out, i * to.size);
+        }
+    }
+
+    /**
+     * 计算 points 中每个点到一个起点的距离，写入 out[offset, offset + points.size)，起点以半角的正余弦和纬度的余弦给出
+     */
+    private static void row(PreparedPoints points, double sinLat0, double cosLat0, double sinLon0, double cosLon0, double cos0,
+                            double factor, double[] out, int offset) {
+        int size = points.size;
+        double[] sinLat = points.sinLat, cosLat = points.cosLat, sinLon = points.sinLon, cosLon = points.cosLon, cos = points.cos;
+
+        // sin((b - a) / 2) = sin(b / 2)cos(a / 2) - cos(b / 2)sin(a / 2)，两点很近时有相消误差，绝对误差约为几纳米
+        for (int j = 0; j < size; j++) {
+            double dLat = sinLat[j] * cosLat0 - cosLat[j] * sinLat0;
+            double dLon = sinLon[j] * cosLon0 - cosLon[j] * sinLon0;
+            out[offset + j] = dLat * dLat + dLon * dLon * cos0 * cos[j];
+        }
+        for (int j = offset, end = offset + size; j < end; j++) {
+            double a = out[j];
+            out[j] = factor * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+        }
+    }
+
+}
@@ -1,6 +1,6 @@
 package com.cgzz.mapbox.jturf.util.measurement;
 
-import com.cgzz.mapbox.jturf.JTurfMeasurement;
+import com.cgzz.mapbox.jturf.JTurfHelper;
 import com.cgzz.mapbox.jturf.JTurfMeta;
 import com.cgzz.mapbox.jturf.enums.Units;
 import com.cgzz.mapbox.jturf.exception.JTurfException;
@@ -27,14 +27,27 @@ public final class LengthHelper {
         geometry = JTurfMeta.getGeom(geometry);
 
         switch (geometry.geometryType()) {
-            case LINE_STRING:
-                return length(((LineString) geometry).coordinates(), units);
-            case POLYGON:
-                return lengthList(((Polygon) geometry).coordinates(), units);
+            case LINE_STRING: {
+                LineString line = (LineString) geometry;
+                return line.isPacked() ? length(line.coordinateSequence(), units) : length(line.coordinates(), units);
+            }
+            case POLYGON: {
+                Polygon polygon = (Polygon) geometry;
+                return polygon.isPacked() ? lengthList(polygon.coordinateSequences(), units) : lengthList(polygon.coordinates(), units);
+            }
             case MULTI_LINE_STRING:
                 return lengthList(((MultiLineString) geometry).coordinates(), units);
-            case MULTI_POLYGON:
-                return lengthListList(((MultiPolygon) geometry).coordinates(), units);
+            case MULTI_POLYGON: {
+                MultiPolygon multiPolygon = (MultiPolygon) geometry;
+                if (multiPolygon.isPacked()) {
+                    double total = 0;
+                    for (CoordinateSequence[] rings : multiPolygon.coordinateSequences()) {
+                        total += lengthList(rings, units);
+                    }
+                    return total;
+                }
+                return lengthListList(multiPolygon.coordinates(), units);
+            }
             case FEATURE_COLLECTION: {
                 double total = 0;
                 for (Feature<Geometry> feature : ((FeatureCollection<Geometry>) geometry).geometries()) {
@@ -92,15 +105,59 @@ public final class LengthHelper {
      * @return 以指定单位表示的长度
      */
     public static double length(List<Point> coords, Units units) {
+        DistanceCalculator calculator = DistanceCalculator.forUnits(units);
         double travelled = 0;
         Point prevCoords = coords.get(0);
         Point curCoords;
         for (int i = 1; i < coords.size(); i++) {
             curCoords = coords.get(i);
-            travelled += JTurfMeasurement.distance(prevCoords, curCoords, units);
+            travelled += calculator.distance(prevCoords, curCoords);
             prevCoords = curCoords;
         }
         return travelled;
     }
 
+    /**
+     * 获取多个坐标序列并以指定单位测量其周长
+     *
+     * @param sequences 坐标序列
+     * @param units     距离单位
+     * @return 以指定单位表示的输入面的总周长
+     */
+    public static double lengthList(CoordinateSequence[] sequences, Units units) {
+        double total = 0;
+        for (CoordinateSequence sequence : sequences) {
+            total += length(sequence, units);
+        }
+        return total;
+    }
+
+    /**
+     * 获取坐标序列并以指定的单位测量其长度。<br>
+     * 与 {@link #length(List, Units)} 使用相同的哈弗赛因公式，但直接读取坐标数组，复用上一个点的纬度余弦值，并且只在最后做一次单位换算。
+     *
+     * @param sequence 坐标序列
+     * @param units    距离单位
+     * @return 以指定单位表示的长度
+     */
+    public static double length(CoordinateSequence sequence, Units units) {
+        double radians = 0;
+        double prevLon = sequence.getX(0), prevLat = sequence.getY(0);
+        double prevCosLat = Math.cos(JTurfHelper.degreesToRadians(prevLat));
+        for (int i = 1, size = sequence.size(); i < size; i++) {
+            double lon = sequence.getX(i), lat = sequence.getY(i);
+            double cosLat = Math.cos(JTurfHelper.degreesToRadians(lat));
+
+            double sinDLat = Math.sin(JTurfHelper.degreesToRadians(lat - prevLat) / 2);
+            double sinDLon = Math.sin(JTurfHelper.degreesToRadians(lon - prevLon) / 2);
+            double value = sinDLat * sinDLat + sinDLon * sinDLon * prevCosLat * cosLat;
+            radians += 2 * Math.atan2(Math.sqrt(value), Math.sqrt(1 - value));
+
+            prevLon = lon;
+            prevLat = lat;
+            prevCosLat = cosLat;
+        }
+        return JTurfHelper.radiansToLength(radians, units);
+    }
+
 }
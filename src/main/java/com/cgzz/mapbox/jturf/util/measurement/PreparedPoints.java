@@ -0,0 +1,63 @@
+package com.cgzz.mapbox.jturf.util.measurement;
+
+import com.cgzz.mapbox.jturf.exception.JTurfException;
+
+/**
+ * 预处理后的点集合，用于对同一批点反复计算距离（例如到不同起点的距离）。<br>
+ * 构建时缓存每个点经纬度半角的正余弦以及纬度的余弦，{@link DistanceKernel} 的循环中不再需要对每个点调用三角函数。<br>
+ * 构建完成后对象不可变，可以在多个线程之间共享。
+ */
+public final class PreparedPoints {
+
+    final int size;
+
+    final double[] sinLat, cosLat, sinLon, cosLon, cos;
+
+    private PreparedPoints(double[] lons, double[] lats) {
+        size = lons.length;
+        sinLat = new double[size];
+        cosLat = new double[size];
+        sinLon = new double[size];
+        cosLon = new double[size];
+        cos = new double[size];
+        for (int i = 0; i < size; i++) {
+            double lat = lats[i] * DistanceKernel.TO_RADIANS * 0.5, lon = lons[i] * DistanceKernel.TO_RADIANS * 0.5;
+            sinLat[i] = Math.sin(lat);
+            cosLat[i] = Math.cos(lat);
+            sinLon[i] = Math.sin(lon);
+            cosLon[i] = Math.cos(lon);
+            // cos(lat) = cos²(lat / 2) - sin²(lat / 2)
+            cos[i] = (cosLat[i] - sinLat[i]) * (cosLat[i] + sinLat[i]);
+        }
+    }
+
+    /**
+     * 预处理点集合
+     *
+     * @param lons 经度
+     * @param lats 纬度，长度与 lons 一致
+     * @return PreparedPoints
+     */
+    public static PreparedPoints prepare(double[] lons, double[] lats) {
+        if (lons == null) {
+            throw new JTurfException("lons is required");
+        }
+        if (lats == null) {
+            throw new JTurfException("lats is required");
+        }
+        if (lons.length != lats.length) {
+            throw new JTurfException("lons and lats must have the same length");
+        }
+        return new PreparedPoints(lons, lats);
+    }
+
+    /**
+     * 点的数量
+     *
+     * @return int
+     */
+    public int size() {
+        return size;
+    }
+
+}
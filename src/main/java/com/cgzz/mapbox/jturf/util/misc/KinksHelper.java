@@ -6,6 +6,7 @@ import com.cgzz.mapbox.jturf.shape.Geometry;
 import com.cgzz.mapbox.jturf.shape.impl.*;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 public final class KinksHelper {
@@ -21,23 +22,7 @@ public final class KinksHelper {
      * @return 返回自相交点集合
      */
     public static FeatureCollection<Point> kinks(Geometry geometry) {
-        geometry = JTurfMeta.getGeom(geometry);
-
-        switch (geometry.geometryType()) {
-            case POLYGON:
-                return kinksMulti(((Polygon) geometry).coordinates());
-            case LINE_STRING:
-                return kinks(((LineString) geometry).coordinates());
-            case MULTI_LINE_STRING:
-                return kinksMulti(((MultiLineString) geometry).coordinates());
-            case MULTI_POLYGON:
-                return kinksMulti(((MultiPolygon) geometry).decreaseOneCoordinates());
-        }
-
-        return null;
-    }
-
-    private static FeatureCollection<Point> kinksMulti(List<List<Point>> coordinates) {
+        List<List<Point>> coordinates = lines(geometry);
         if (coordinates == null || coordinates.isEmpty()) {
             return null;
         }
@@ -54,47 +39,82 @@ public final class KinksHelper {
         return pointList.isEmpty() ? null : FeatureCollection.fromFeatures(pointList);
     }
 
-    private static FeatureCollection<Point> kinks(List<Point> coordinates) {
-        if (coordinates == null || coordinates.isEmpty()) {
-            return null;
+    /**
+     * 判断图形是否存在自相交点，找到第一个相交点即返回，适合用于校验
+     *
+     * @param geometry 图形，支持 POLYGON、LINE、MULTI_LINE、MULTI_POLYGON（Feature也不也需要这个类型）
+     * @return 存在自相交点则返回true
+     */
+    public static boolean hasKinks(Geometry geometry) {
+        List<List<Point>> coordinates = lines(geometry);
+        if (coordinates == null) {
+            return false;
         }
 
-        List<Feature<Point>> pointList = new ArrayList<>();
+        for (List<Point> c : coordinates) {
+            if (c != null && !c.isEmpty() && kinks(c, null)) {
+                return true;
+            }
+        }
+        return false;
+    }
 
-        kinks(coordinates, pointList);
+    private static List<List<Point>> lines(Geometry geometry) {
+        geometry = JTurfMeta.getGeom(geometry);
 
-        return pointList.isEmpty() ? null : FeatureCollection.fromFeatures(pointList);
+        switch (geometry.geometryType()) {
+            case POLYGON:
+                return ((Polygon) geometry).coordinates();
+            case LINE_STRING:
+                return Collections.singletonList(((LineString) geometry).coordinates());
+            case MULTI_LINE_STRING:
+                return ((MultiLineString) geometry).coordinates();
+            case MULTI_POLYGON:
+                return ((MultiPolygon) geometry).decreaseOneCoordinates();
+        }
+
+        return null;
     }
 
-    private static void kinks(List<Point> coordinates, List<Feature<Point>> pointList) {
-        int len = coordinates.size();
-        for (int i = 0; i < len - 1; i++) {
-            for (int k = i; k < len - 1; k++) {
-                // segments are adjacent and always share a vertex, not a kink
-                if (Math.abs(i - k) == 1) {
-                    continue;
-                }
-                // first and last segment in a closed lineString or ring always share a vertex, not a kink
-                if (i == 0
-                        && k == len - 2
-                        && coordinates.get(i).longitude() == coordinates.get(len - 1).longitude()
-                        && coordinates.get(i).latitude() == coordinates.get(len - 1).latitude()) {
-                    continue;
-                }
-
-                IntersectsResult result = lineIntersects(coordinates.get(i), coordinates.get(i + 1), coordinates.get(k), coordinates.get(k + 1));
-                if (result != null) {
-                    pointList.add(Feature.fromGeometry(Point.fromLngLat(result.getX(), result.getY())));
-                }
-            }
+    /**
+     * 使用 Bentley–Ottmann 扫描线（{@link KinksSweep}）查找一条线（环）自身的相交点。<br>
+     * 活动线段按扫描位置处的纬度保存在平衡树中，只比较插入、删除、交换后新相邻的线段，
+     * 耗时为 O((n + k) log n)，k 为相交的线段对数。结果按线段编号排序，与逐对比较的结果一致，
+     * 只是不再报告因舍入误差被逐对比较误判为相交的共线且不重叠的线段。
+     *
+     * @param coordinates 线（环）的点集合
+     * @param pointList   相交点集合，为null时找到第一个相交点即返回
+     * @return 是否存在相交点
+     */
+    private static boolean kinks(List<Point> coordinates, List<Feature<Point>> pointList) {
+        int m = coordinates.size() - 1;
+        // 少于3个线段时，任意两个线段都相邻
+        if (m < 3) {
+            return false;
+        }
+
+        double[] xs = new double[m + 1], ys = new double[m + 1];
+        for (int i = 0; i <= m; i++) {
+            Point p = coordinates.get(i);
+            xs[i] = p.longitude();
+            ys[i] = p.latitude();
+        }
+        // first and last segment in a closed lineString or ring always share a vertex, not a kink
+        boolean closed = xs[0] == xs[m] && ys[0] == ys[m];
+
+        long[] pairs = new KinksSweep(xs, ys, m, closed, pointList == null).run();
+        if (pointList == null) {
+            return pairs.length > 0;
+        }
+
+        // 按线段编号输出，保持与逐对比较时相同的顺序
+        for (long pair : pairs) {
+            int i = (int) (pair >>> 32), k = (int) pair;
+            IntersectsResult result = lineIntersects(xs[i], ys[i], xs[i + 1], ys[i + 1], xs[k], ys[k], xs[k + 1], ys[k + 1]);
+            pointList.add(Feature.fromGeometry(Point.fromLngLat(result.getX(), result.getY())));
         }
-    }
 
-    private static IntersectsResult lineIntersects(Point line1Start, Point line1End, Point line2Start, Point line2End) {
-        return lineIntersects(line1Start.longitude(), line1Start.latitude(),
-                line1End.longitude(), line1End.latitude(),
-                line2Start.longitude(), line2Start.latitude(),
-                line2End.longitude(), line2End.latitude());
+        return pairs.length > 0;
     }
 
     private static IntersectsResult lineIntersects(double line1StartX, double line1StartY,
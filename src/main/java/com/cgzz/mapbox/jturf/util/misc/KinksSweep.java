@@ -0,0 +1,865 @@
+package com.cgzz.mapbox.jturf.util.misc;
+
+import com.cgzz.mapbox.jturf.models.OperationContext;
+import com.cgzz.mapbox.jturf.util.index.IndexSort;
+
+import java.util.Arrays;
+
+/**
+ * 查找一条线（环）中相交线段对的 Bentley–Ottmann 扫描线。<br>
+ * 事件按 (经度, 纬度) 的字典序处理：线段的左端点插入、右端点删除，以及相邻线段的交点。活动线段保存在按扫描位置处纬度排序的
+ * 平衡树（treap）中，只在插入、删除、交换时比较新相邻的线段，耗时为 O((n + k) log n)，k 为相交的线段对数。<br>
+ * 到达交点时两条线段从交点处重新插入（相当于在交点处切开），活动线段之间不会跨越，比较只需要扫描位置处的纬度和方向。
+ * 相交的判断与逐对比较使用完全相同的公式，因此只会找到逐对比较也能找到的线段对；
+ * 多条线段经过同一点时，会把经过事件点的线段与事件点上的所有线段逐对判断。
+ */
+final class KinksSweep {
+
+    private final double[] xs, ys;
+
+    private final int m;
+
+    private final boolean closed;
+
+    private final OperationContext context;
+
+    /**
+     * 线段按字典序的左、右端点
+     */
+    private final double[] lx, ly, rx, ry;
+
+    /**
+     * 活动线段当前的起点，经过交点后为交点
+     */
+    private final double[] cx, cy;
+
+    private final StatusTree tree;
+
+    /**
+     * 每条线段最近的交点事件，线段切开后会重新检查相邻的线段，只需要保留最近的一个
+     */
+    private final double[] nx, ny;
+
+    /**
+     * 交点事件的最小堆，按 (hx, hy) 的字典序
+     */
+    private double[] hx = new double[16], hy = new double[16];
+
+    private int[] hs = new int[16];
+
+    private int heapSize;
+
+    private long[] pairs = new long[16];
+
+    private int pairCount;
+
+    /**
+     * 每条线段最近一次报告的另一条线段，同一对线段往往在相邻的几个事件中重复检查，先在这里去掉大部分重复
+     */
+    private final int[] partner;
+
+    /**
+     * 当前的事件点
+     */
+    private double px, py;
+
+    /**
+     * 比较坐标时的容差，纬度相差不超过容差的线段按方向排序，经度范围不超过容差的线段按竖直线段处理
+     */
+    private final double tolerance;
+
+    /**
+     * 竖直（经度范围不超过容差）的线段，不放入树中
+     */
+    private final boolean[] vertical;
+
+    /**
+     * 经度范围仍然覆盖扫描位置的竖直线段
+     */
+    private int[] verticals = new int[8];
+
+    private int verticalCount;
+
+    /**
+     * 当前事件点的交换次数
+     */
+    private int swaps;
+
+    /**
+     * lines 求得的直线交点以及在两条线段上的参数
+     */
+    private double ix, iy, ia, ib;
+
+    /**
+     * 当前事件点上开始、结束、经过交点的线段，以及本次插入的线段
+     */
+    private int[] group = new int[8], inserted = new int[8];
+
+    private int groupSize, insertedSize;
+
+    private int[] work = new int[16];
+
+    private int workSize;
+
+    private static final int SWAP_LIMIT = 1024;
+
+    private final boolean firstOnly;
+
+    private boolean found;
+
+    /**
+     * @param xs        顶点经度，线段 i 为顶点 i 到 i + 1
+     * @param ys        顶点纬度
+     * @param m         线段数量
+     * @param closed    首尾闭合，第一条与最后一条线段相邻
+     * @param firstOnly 找到第一个相交的线段对即停止
+     */
+    KinksSweep(double[] xs, double[] ys, int m, boolean closed, boolean firstOnly) {
+        this.xs = xs;
+        this.ys = ys;
+        this.m = m;
+        this.closed = closed;
+        this.firstOnly = firstOnly;
+        this.context = OperationContext.current();
+
+        lx = new double[m];
+        ly = new double[m];
+        rx = new double[m];
+        ry = new double[m];
+        cx = new double[m];
+        cy = new double[m];
+        double maxAbs = 0;
+        for (int i = 0; i <= m; i++) {
+            maxAbs = Math.max(maxAbs, Math.max(Math.abs(xs[i]), Math.abs(ys[i])));
+        }
+        tolerance = 1e-12 * (1 + maxAbs);
+        vertical = new boolean[m];
+        for (int i = 0; i < m; i++) {
+            double x1 = xs[i], y1 = ys[i], x2 = xs[i + 1], y2 = ys[i + 1];
+            boolean forward = x1 < x2 || (x1 == x2 && y1 <= y2);
+            lx[i] = forward ? x1 : x2;
+            ly[i] = forward ? y1 : y2;
+            rx[i] = forward ? x2 : x1;
+            ry[i] = forward ? y2 : y1;
+            vertical[i] = rx[i] - lx[i] <= tolerance;
+        }
+        nx = new double[m];
+        ny = new double[m];
+        Arrays.fill(nx, Double.POSITIVE_INFINITY);
+        partner = new int[m];
+        Arrays.fill(partner, -1);
+        tree = new StatusTree(m);
+    }
+
+    /**
+     * 执行扫描
+     *
+     * @return 按线段编号排序、去重后的相交线段对，高 32 位为较小的编号；firstOnly 时找到一对即返回
+     */
+    long[] run() {
+        // 长度为 0 的线段与任何线段的方向叉积都为 0，逐对比较时也不会相交
+        int[] starts = new int[m], ends = new int[m];
+        int n = 0;
+        for (int i = 0; i < m; i++) {
+            if (lx[i] != rx[i] || ly[i] != ry[i]) {
+                starts[n] = ends[n] = i;
+                n++;
+            }
+        }
+        sortByPoint(starts, n, lx, ly);
+        sortByPoint(ends, n, rx, ry);
+
+        int si = 0, ei = 0;
+        while (si < n || ei < n || heapSize > 0) {
+            // 下一个事件点为三个事件来源中字典序最小的点
+            double x = Double.POSITIVE_INFINITY, y = Double.POSITIVE_INFINITY;
+            if (si < n) {
+                x = lx[starts[si]];
+                y = ly[starts[si]];
+            }
+            if (ei < n && less(rx[ends[ei]], ry[ends[ei]], x, y)) {
+                x = rx[ends[ei]];
+                y = ry[ends[ei]];
+            }
+            if (heapSize > 0 && less(hx[0], hy[0], x, y)) {
+                x = hx[0];
+                y = hy[0];
+            }
+            px = x;
+            py = y;
+            swaps = 0;
+            groupSize = 0;
+            insertedSize = 0;
+
+            while (ei < n && rx[ends[ei]] == px && ry[ends[ei]] == py) {
+                int s = ends[ei++];
+                if (!vertical[s]) {
+                    tree.remove(s);
+                }
+                addGroup(s);
+            }
+            int ended = groupSize;
+            while (heapSize > 0 && hx[0] == px && hy[0] == py) {
+                int s = pop();
+                // 同一个交点可能被多次加入，已经结束或者已经在此处切开的线段忽略
+                if (tree.contains(s) && less(cx[s], cy[s], px, py)) {
+                    tree.remove(s);
+                    cx[s] = px;
+                    cy[s] = py;
+                    nx[s] = Double.POSITIVE_INFINITY;
+                    addGroup(s);
+                    addInserted(s);
+                }
+            }
+            while (si < n && lx[starts[si]] == px && ly[starts[si]] == py) {
+                int s = starts[si++];
+                cx[s] = px;
+                cy[s] = py;
+                addGroup(s);
+                if (!vertical[s]) {
+                    addInserted(s);
+                }
+            }
+            if (context != null) {
+                context.advance(groupSize);
+            }
+
+            for (int i = 0; i < insertedSize; i++) {
+                tree.insert(inserted[i]);
+            }
+            verticals();
+            for (int i = ended; i < groupSize; i++) {
+                if (vertical[group[i]]) {
+                    addVertical(group[i]);
+                }
+            }
+
+            // 事件点上的线段都经过该点，逐对判断
+            for (int i = 0; i < groupSize; i++) {
+                for (int j = i + 1; j < groupSize; j++) {
+                    verify(group[i], group[j]);
+                }
+            }
+
+            neighbours();
+            if (ended > 0) {
+                lookahead(starts, si, n, ended);
+            }
+            if (found) {
+                break;
+            }
+        }
+
+        if (pairCount == 0) {
+            return new long[0];
+        }
+        Arrays.sort(pairs, 0, pairCount);
+        int unique = 1;
+        for (int i = 1; i < pairCount; i++) {
+            if (pairs[i] != pairs[unique - 1]) {
+                pairs[unique++] = pairs[i];
+            }
+        }
+        return Arrays.copyOf(pairs, unique);
+    }
+
+    /**
+     * 处理事件点附近的活动线段：经过事件点的线段与事件点上的线段逐对判断，再检查新相邻的线段
+     */
+    private void neighbours() {
+        int first = -1, last = -1, below, above;
+        if (insertedSize > 0) {
+            first = last = tree.nodeOf(inserted[0]);
+            below = tree.prev(first);
+            above = tree.next(last);
+        } else {
+            // 只有删除时从事件点所在的位置开始
+            above = tree.above();
+            below = above == -1 ? tree.last() : tree.prev(above);
+        }
+
+        // 向下、向上扩展到不再经过事件点的线段，[first, last] 为经过事件点的连续线段
+        while (below != -1 && touches(tree.segment(below))) {
+            if (last == -1) {
+                last = below;
+            }
+            first = below;
+            below = tree.prev(below);
+        }
+        while (above != -1 && touches(tree.segment(above))) {
+            if (first == -1) {
+                first = above;
+            }
+            last = above;
+            above = tree.next(above);
+        }
+        if (found) {
+            return;
+        }
+
+        // 新相邻的线段：范围下方的线段以及范围内每条线段与其下一条
+        workSize = 0;
+        if (below != -1) {
+            push(tree.segment(below));
+        }
+        for (int node = first; node != -1; node = tree.next(node)) {
+            push(tree.segment(node));
+            if (node == last) {
+                break;
+            }
+        }
+        while (workSize > 0 && !found) {
+            int a = work[--workSize];
+            if (!tree.contains(a)) {
+                continue;
+            }
+            int next = tree.next(tree.nodeOf(a));
+            if (next != -1) {
+                check(a, tree.segment(next));
+            }
+        }
+    }
+
+    /**
+     * 移除已经离开扫描位置的竖直线段，经过事件点的竖直线段与事件点上的线段逐对判断
+     */
+    private void verticals() {
+        int kept = 0;
+        for (int i = 0; i < verticalCount; i++) {
+            int v = verticals[i];
+            double bottom = Math.min(ly[v], ry[v]) - tolerance, top = Math.max(ly[v], ry[v]) + tolerance;
+            if (px > rx[v] + tolerance || (px >= rx[v] && py > top)) {
+                continue;
+            }
+            verticals[kept++] = v;
+            if (py >= bottom && py <= top) {
+                for (int j = 0; j < groupSize; j++) {
+                    if (group[j] != v) {
+                        verify(group[j], v);
+                    }
+                }
+            }
+        }
+        verticalCount = kept;
+    }
+
+    /**
+     * 竖直线段开始时与树中纬度范围内的线段以及纬度范围重叠的竖直线段逐对判断，
+     * 之后在经度范围内的事件点上与事件点上的线段逐对判断
+     */
+    private void addVertical(int v) {
+        double bottom = Math.min(ly[v], ry[v]) - tolerance, top = Math.max(ly[v], ry[v]) + tolerance;
+        for (int node = tree.lowerBound(bottom); node != -1 && yAt(tree.segment(node)) <= top; node = tree.next(node)) {
+            verify(v, tree.segment(node));
+        }
+        for (int i = 0; i < verticalCount; i++) {
+            int w = verticals[i];
+            if (Math.min(ly[w], ry[w]) <= top && Math.max(ly[w], ry[w]) >= bottom) {
+                verify(v, w);
+            }
+        }
+        if (verticalCount == verticals.length) {
+            verticals = Arrays.copyOf(verticals, verticalCount << 1);
+        }
+        verticals[verticalCount++] = v;
+    }
+
+    /**
+     * 舍入误差使相接的端点成为两个很近的事件点时，两条线段不会同时位于树中，
+     * 在事件点结束的线段与随后在容差范围内开始的线段逐对判断
+     *
+     * @param ended 在事件点结束的线段数量，位于 group 的开头
+     */
+    private void lookahead(int[] starts, int from, int n, int ended) {
+        double maxX = px + tolerance;
+        int j = lowerBound(starts, from, n, px, py - tolerance);
+        while (j < n && lx[starts[j]] <= maxX) {
+            int s = starts[j];
+            if (ly[s] > py + tolerance) {
+                // 跳到下一个经度
+                j = lowerBound(starts, j, n, lx[s], Double.POSITIVE_INFINITY);
+                if (j < n) {
+                    j = lowerBound(starts, j, n, lx[starts[j]], py - tolerance);
+                }
+                continue;
+            }
+            for (int i = 0; i < ended; i++) {
+                verify(group[i], s);
+            }
+            j++;
+        }
+    }
+
+    /**
+     * 已排序的起点中第一个不小于 (x, y) 的位置
+     */
+    private int lowerBound(int[] starts, int from, int to, double x, double y) {
+        while (from < to) {
+            int mid = (from + to) >>> 1;
+            int s = starts[mid];
+            if (less(lx[s], ly[s], x, y)) {
+                from = mid + 1;
+            } else {
+                to = mid;
+            }
+        }
+        return from;
+    }
+
+    /**
+     * 线段是否在容差范围内经过事件点，同时与事件点上的线段逐对判断。<br>
+     * 容差按斜率放大，相当于到事件点的水平距离不超过容差，较陡的线段在舍入误差下也不会漏掉
+     */
+    private boolean touches(int t) {
+        for (int i = 0; i < groupSize; i++) {
+            int g = group[i];
+            if (g != t) {
+                verify(t, g);
+            }
+        }
+        double slope = Math.abs((ry[t] - ly[t]) / (rx[t] - lx[t]));
+        return Math.abs(yAt(t) - py) <= tolerance * (1 + slope);
+    }
+
+    /**
+     * 检查相邻的线段 a（下）与 b（上）：相交则记录；事件点之后 b 应在 a 下方时交换，
+     * 到较近的右端点为止顺序会改变时在直线交点处加入交点事件。<br>
+     * 记录只取决于与逐对比较相同的公式，顺序只取决于纬度和方向，舍入误差使二者不一致时树中的顺序仍然正确
+     */
+    private void check(int a, int b) {
+        int i = Math.min(a, b), k = Math.max(a, b);
+        if (intersects(i, k)) {
+            report(i, k);
+        }
+
+        if (compare(a, b) > 0) {
+            // 容差使比较不满足传递性时可能反复交换，限制每个事件点的交换次数
+            if (swaps++ > SWAP_LIMIT + tree.size()) {
+                return;
+            }
+            tree.swap(a, b);
+            int below = tree.prev(tree.nodeOf(b));
+            if (below != -1) {
+                push(tree.segment(below));
+            }
+            push(b);
+            push(a);
+            return;
+        }
+
+        double x = Math.min(rx[a], rx[b]);
+        if (x > px && yAt(a, x) - yAt(b, x) > tolerance && lines(i, k) && less(px, py, ix, iy)) {
+            schedule(a, ix, iy);
+            schedule(b, ix, iy);
+        }
+    }
+
+    private void schedule(int s, double x, double y) {
+        if ((x == rx[s] && y == ry[s]) || !less(x, y, nx[s], ny[s])) {
+            // 在右端点相交由删除事件处理，已经有更近的交点事件时切开后会重新检查
+            return;
+        }
+        nx[s] = x;
+        ny[s] = y;
+        if (heapSize == hs.length) {
+            hx = Arrays.copyOf(hx, heapSize << 1);
+            hy = Arrays.copyOf(hy, heapSize << 1);
+            hs = Arrays.copyOf(hs, heapSize << 1);
+        }
+        int i = heapSize++;
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (!less(x, y, hx[parent], hy[parent])) {
+                break;
+            }
+            hx[i] = hx[parent];
+            hy[i] = hy[parent];
+            hs[i] = hs[parent];
+            i = parent;
+        }
+        hx[i] = x;
+        hy[i] = y;
+        hs[i] = s;
+    }
+
+    private int pop() {
+        int top = hs[0];
+        int size = --heapSize;
+        double x = hx[size], y = hy[size];
+        int s = hs[size];
+        int i = 0;
+        while (true) {
+            int child = (i << 1) + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && less(hx[child + 1], hy[child + 1], hx[child], hy[child])) {
+                child++;
+            }
+            if (!less(hx[child], hy[child], x, y)) {
+                break;
+            }
+            hx[i] = hx[child];
+            hy[i] = hy[child];
+            hs[i] = hs[child];
+            i = child;
+        }
+        hx[i] = x;
+        hy[i] = y;
+        hs[i] = s;
+        return top;
+    }
+
+    /**
+     * 判断并记录两条线段是否相交
+     */
+    private boolean verify(int a, int b) {
+        int i = Math.min(a, b), k = Math.max(a, b);
+        if (!intersects(i, k)) {
+            return false;
+        }
+        report(i, k);
+        return true;
+    }
+
+    private void report(int i, int k) {
+        // segments are adjacent and always share a vertex, not a kink
+        if (k - i == 1 || (closed && i == 0 && k == m - 1)) {
+            return;
+        }
+        if (partner[i] == k || partner[k] == i) {
+            return;
+        }
+        partner[i] = k;
+        partner[k] = i;
+        if (pairCount == pairs.length) {
+            pairs = Arrays.copyOf(pairs, pairCount << 1);
+        }
+        pairs[pairCount++] = ((long) i << 32) | k;
+        if (firstOnly) {
+            found = true;
+        }
+    }
+
+    /**
+     * 与 KinksHelper.lineIntersects(i, k) 完全相同的计算
+     */
+    private boolean intersects(int i, int k) {
+        return lines(i, k) && ia >= 0 && ia <= 1 && ib >= 0 && ib <= 1;
+    }
+
+    /**
+     * 两条线段所在直线的交点写入 ix、iy，在两条线段上的参数写入 ia、ib
+     *
+     * @return 直线不平行
+     */
+    private boolean lines(int i, int k) {
+        double line1StartX = xs[i], line1StartY = ys[i], line1EndX = xs[i + 1], line1EndY = ys[i + 1];
+        double line2StartX = xs[k], line2StartY = ys[k], line2EndX = xs[k + 1], line2EndY = ys[k + 1];
+        double denominator = (line2EndY - line2StartY) * (line1EndX - line1StartX) - (line2EndX - line2StartX) * (line1EndY - line1StartY);
+        if (denominator == 0) {
+            return false;
+        }
+
+        double a = line1StartY - line2StartY;
+        double b = line1StartX - line2StartX;
+        double numerator1 = (line2EndX - line2StartX) * a - (line2EndY - line2StartY) * b;
+        double numerator2 = (line1EndX - line1StartX) * a - (line1EndY - line1StartY) * b;
+        ia = numerator1 / denominator;
+        ib = numerator2 / denominator;
+
+        ix = line1StartX + ia * (line1EndX - line1StartX);
+        iy = line1StartY + ia * (line1EndY - line1StartY);
+        return true;
+    }
+
+    /**
+     * 线段在当前扫描经度处的纬度
+     */
+    private double yAt(int s) {
+        return yAt(s, px);
+    }
+
+    /**
+     * 线段在经度 x 处的纬度，x 位于线段当前的起点与右端点之间
+     */
+    private double yAt(int s, double x) {
+        if (x == cx[s]) {
+            return cy[s];
+        }
+        if (x == rx[s]) {
+            return ry[s];
+        }
+        return cy[s] + (x - cx[s]) * (ry[s] - cy[s]) / (rx[s] - cx[s]);
+    }
+
+    /**
+     * 从 a 的方向到 b 的方向的叉积，大于 0 时经过公共点之后 b 在 a 的上方
+     */
+    private double orient(int a, int b) {
+        return (rx[a] - lx[a]) * (ry[b] - ly[b]) - (ry[a] - ly[a]) * (rx[b] - lx[b]);
+    }
+
+    /**
+     * 比较两条活动线段在事件点之后的上下顺序，纬度相差不超过容差时按方向比较
+     *
+     * @return 小于 0 时 s 在 t 的下方
+     */
+    private int compare(int s, int t) {
+        double y1 = yAt(s), y2 = yAt(t);
+        if (Math.abs(y1 - y2) > tolerance) {
+            return y1 < y2 ? -1 : 1;
+        }
+        double orient = orient(t, s);
+        if (orient != 0) {
+            return orient > 0 ? 1 : -1;
+        }
+        return Integer.compare(s, t);
+    }
+
+    private void addGroup(int s) {
+        if (groupSize == group.length) {
+            group = Arrays.copyOf(group, groupSize << 1);
+        }
+        group[groupSize++] = s;
+    }
+
+    private void addInserted(int s) {
+        if (insertedSize == inserted.length) {
+            inserted = Arrays.copyOf(inserted, insertedSize << 1);
+        }
+        inserted[insertedSize++] = s;
+    }
+
+    private void push(int s) {
+        if (workSize == work.length) {
+            work = Arrays.copyOf(work, workSize << 1);
+        }
+        work[workSize++] = s;
+    }
+
+    private static boolean less(double x1, double y1, double x2, double y2) {
+        return x1 < x2 || (x1 == x2 && y1 < y2);
+    }
+
+    private static void sortByPoint(int[] ids, int n, double[] x, double[] y) {
+        IndexSort.sort(ids, x, 0, n);
+        for (int from = 0; from < n; ) {
+            int to = from + 1;
+            while (to < n && x[ids[to]] == x[ids[from]]) {
+                to++;
+            }
+            if (to - from > 1) {
+                IndexSort.sort(ids, y, from, to);
+            }
+            from = to;
+        }
+    }
+
+    /**
+     * 活动线段的有序集合，treap 的节点与线段一一对应，交换两条线段只交换节点上的线段编号
+     */
+    private final class StatusTree {
+
+        private final int[] left, right, parent, priority, segment, node;
+
+        private final boolean[] active;
+
+        private int root = -1;
+
+        private int size;
+
+        StatusTree(int size) {
+            left = new int[size];
+            right = new int[size];
+            parent = new int[size];
+            priority = new int[size];
+            segment = new int[size];
+            node = new int[size];
+            active = new boolean[size];
+            for (int i = 0; i < size; i++) {
+                segment[i] = node[i] = i;
+                // 固定的伪随机优先级，结果可重复
+                int h = i * 0x9E3779B9;
+                priority[i] = h ^ (h >>> 16);
+            }
+        }
+
+        boolean contains(int s) {
+            return active[s];
+        }
+
+        int size() {
+            return size;
+        }
+
+        int nodeOf(int s) {
+            return node[s];
+        }
+
+        int segment(int n) {
+            return segment[n];
+        }
+
+        void insert(int s) {
+            int n = node[s];
+            active[s] = true;
+            size++;
+            left[n] = right[n] = -1;
+            int p = -1;
+            boolean toLeft = false;
+            for (int cur = root; cur != -1; ) {
+                p = cur;
+                toLeft = compare(s, segment[cur]) < 0;
+                cur = toLeft ? left[cur] : right[cur];
+            }
+            parent[n] = p;
+            if (p == -1) {
+                root = n;
+            } else if (toLeft) {
+                left[p] = n;
+            } else {
+                right[p] = n;
+            }
+            while (parent[n] != -1 && priority[n] > priority[parent[n]]) {
+                rotateUp(n);
+            }
+        }
+
+        void remove(int s) {
+            int n = node[s];
+            active[s] = false;
+            size--;
+            while (left[n] != -1 || right[n] != -1) {
+                int child;
+                if (left[n] == -1) {
+                    child = right[n];
+                } else if (right[n] == -1) {
+                    child = left[n];
+                } else {
+                    child = priority[left[n]] > priority[right[n]] ? left[n] : right[n];
+                }
+                rotateUp(child);
+            }
+            int p = parent[n];
+            if (p == -1) {
+                root = -1;
+            } else if (left[p] == n) {
+                left[p] = -1;
+            } else {
+                right[p] = -1;
+            }
+        }
+
+        void swap(int a, int b) {
+            int na = node[a], nb = node[b];
+            segment[na] = b;
+            segment[nb] = a;
+            node[a] = nb;
+            node[b] = na;
+        }
+
+        /**
+         * 第一条位于事件点上方的线段所在的节点
+         */
+        int above() {
+            int result = -1;
+            for (int cur = root; cur != -1; ) {
+                if (yAt(segment[cur]) > py) {
+                    result = cur;
+                    cur = left[cur];
+                } else {
+                    cur = right[cur];
+                }
+            }
+            return result;
+        }
+
+        /**
+         * 第一条在扫描位置处纬度不小于 y 的线段所在的节点
+         */
+        int lowerBound(double y) {
+            int result = -1;
+            for (int cur = root; cur != -1; ) {
+                if (yAt(segment[cur]) >= y) {
+                    result = cur;
+                    cur = left[cur];
+                } else {
+                    cur = right[cur];
+                }
+            }
+            return result;
+        }
+
+        int last() {
+            int n = root;
+            if (n == -1) {
+                return -1;
+            }
+            while (right[n] != -1) {
+                n = right[n];
+            }
+            return n;
+        }
+
+        int next(int n) {
+            if (right[n] != -1) {
+                n = right[n];
+                while (left[n] != -1) {
+                    n = left[n];
+                }
+                return n;
+            }
+            int p = parent[n];
+            while (p != -1 && right[p] == n) {
+                n = p;
+                p = parent[p];
+            }
+            return p;
+        }
+
+        int prev(int n) {
+            if (left[n] != -1) {
+                n = left[n];
+                while (right[n] != -1) {
+                    n = right[n];
+                }
+                return n;
+            }
+            int p = parent[n];
+            while (p != -1 && left[p] == n) {
+                n = p;
+                p = parent[p];
+            }
+            return p;
+        }
+
+        private void rotateUp(int c) {
+            int p = parent[c], g = parent[p];
+            if (left[p] == c) {
+                left[p] = right[c];
+                if (right[c] != -1) {
+                    parent[right[c]] = p;
+                }
+                right[c] = p;
+            } else {
+                right[p] = left[c];
+                if (left[c] != -1) {
+                    parent[left[c]] = p;
+                }
+                left[c] = p;
+            }
+            parent[p] = c;
+            parent[c] = g;
+            if (g == -1) {
+                root = c;
+            } else if (left[g] == p) {
+                left[g] = c;
+            } else {
+                right[g] = c;
+            }
+        }
+
+    }
+
+}
@@ -8,6 +8,7 @@ import com.cgzz.mapbox.jturf.shape.impl.Feature;
 import com.cgzz.mapbox.jturf.shape.impl.LineString;
 import com.cgzz.mapbox.jturf.shape.impl.Point;
 import com.cgzz.mapbox.jturf.shape.impl.Polygon;
+import com.cgzz.mapbox.jturf.util.measurement.DistanceCalculator;
 import com.google.gson.JsonObject;
 
 import java.util.ArrayList;
@@ -54,6 +55,7 @@ public final class LineArcHelper {
         double arcEndDegree = angle1 < angle2 ? angle2 : angle2 + 360;
 
         double alpha = arcStartDegree;
+        DistanceCalculator calculator = DistanceCalculator.forUnits(units);
         List<Point> coordinates = new ArrayList<>();
         int i = 0;
 
@@ -62,7 +64,7 @@ public final class LineArcHelper {
         // Add coords to the list, increasing the angle from our start bearing
         // (alpha) by arcStep degrees until we reach the end bearing.
         while (alpha <= arcEndDegree) {
-            coordinates.add(JTurfMeasurement.destination(center, radius, alpha, units));
+            coordinates.add(calculator.destination(center, radius, alpha));
             i++;
             alpha = arcStartDegree + i * arcStep;
         }
@@ -1,7 +1,6 @@
 package com.cgzz.mapbox.jturf.util.misc;
 
 import com.cgzz.mapbox.jturf.JTurfMeta;
-import com.cgzz.mapbox.jturf.JTurfMisc;
 import com.cgzz.mapbox.jturf.exception.JTurfException;
 import com.cgzz.mapbox.jturf.shape.Geometry;
 import com.cgzz.mapbox.jturf.shape.GeometryType;
@@ -9,11 +8,10 @@ import com.cgzz.mapbox.jturf.shape.impl.Feature;
 import com.cgzz.mapbox.jturf.shape.impl.FeatureCollection;
 import com.cgzz.mapbox.jturf.shape.impl.LineString;
 import com.cgzz.mapbox.jturf.shape.impl.Point;
-import com.cgzz.mapbox.jturf.util.pkg.RTreeHelper;
-import com.github.davidmoten.rtree.Entry;
-import com.github.davidmoten.rtree.RTree;
-import com.github.davidmoten.rtree.geometry.Rectangle;
-import rx.Observable;
+import com.cgzz.mapbox.jturf.util.index.CoordinateHashSet;
+import com.cgzz.mapbox.jturf.util.index.SegmentIndex;
+import com.cgzz.mapbox.jturf.util.index.func.SegmentSearchFunc;
+import com.cgzz.mapbox.jturf.util.misc.func.LineIntersectFunc;
 
 import java.util.*;
 
@@ -31,32 +29,11 @@ public final class LineIntersectHelper {
      * @return 返回相交点集合
      */
     public static FeatureCollection<Point> lineIntersect(Geometry geometry1, Geometry geometry2) {
-        if (geometry1 == null) {
-            throw new JTurfException("geometry1 is required");
-        }
-        if (geometry2 == null) {
-            throw new JTurfException("geometry2 is required");
-        }
-
-        geometry1 = JTurfMeta.getGeom(geometry1);
-        geometry2 = JTurfMeta.getGeom(geometry2);
-
-        GeometryType t1 = geometry1.geometryType(), t2 = geometry2.geometryType();
-        if (t1 != GeometryType.LINE_STRING
-                && t1 != GeometryType.POLYGON
-                && t1 != GeometryType.MULTI_LINE_STRING
-                && t1 != GeometryType.MULTI_POLYGON) {
-            throw new JTurfException("geometry1 type must LineString、Polygon、MultiLineString、MultiPolygon");
-        }
-        if (t2 != GeometryType.LINE_STRING
-                && t2 != GeometryType.POLYGON
-                && t2 != GeometryType.MULTI_LINE_STRING
-                && t2 != GeometryType.MULTI_POLYGON) {
-            throw new JTurfException("geometry2 type must LineString、Polygon、MultiLineString、MultiPolygon");
-        }
+        geometry1 = checkGeometry(geometry1, "geometry1");
+        geometry2 = checkGeometry(geometry2, "geometry2");
 
         // 如果两个都是一条线段的话，不需要展开处理
-        if (t1 == GeometryType.LINE_STRING && t2 == GeometryType.LINE_STRING) {
+        if (geometry1.geometryType() == GeometryType.LINE_STRING && geometry2.geometryType() == GeometryType.LINE_STRING) {
             LineString l1 = LineString.lineString(geometry1), l2 = LineString.lineString(geometry2);
             if (l1.coordinates().size() == 2 && l2.coordinates().size() == 2) {
                 Point intersect = intersects(LineString.lineString(geometry1), LineString.lineString(geometry2));
@@ -67,26 +44,53 @@ public final class LineIntersectHelper {
 
         // 处理复杂的几何图形
         List<Feature<Point>> results = new ArrayList<>();
-        Set<String> unique = new HashSet<>();
+        lineIntersect0(geometry1, geometry2, (x, y) -> results.add(Feature.fromGeometry(Point.fromLngLat(x, y))));
 
-        RTree<LineString, Rectangle> rtree = RTreeHelper.initRTree(geometry2);
-        for (Feature<LineString> feature : JTurfMisc.lineSegment(geometry1).geometries()) {
-            LineString segment = LineString.lineString(feature.geometry());
+        return FeatureCollection.fromFeatures(results);
+    }
 
-            Observable<Entry<LineString, Rectangle>> entries = rtree.search(RTreeHelper.createRectangle(segment));
+    /**
+     * 计算两个图形相交点，每找到一个不重复的相交点即回调一次，不会创建相交点的结果对象
+     *
+     * @param geometry1 图形1，支持 Line、Polygon
+     * @param geometry2 图形2，支持 Line、Polygon
+     * @param func      相交点回调处理函数
+     * @return 是否所有相交点均处理成功，回调返回false时计算被中断并返回false
+     */
+    public static boolean lineIntersect(Geometry geometry1, Geometry geometry2, LineIntersectFunc func) {
+        if (func == null) {
+            throw new JTurfException("func is required");
+        }
+        return lineIntersect0(checkGeometry(geometry1, "geometry1"), checkGeometry(geometry2, "geometry2"), func);
+    }
 
-            for (Entry<LineString, Rectangle> p : entries.toBlocking().toIterable()) {
-                Point intersect = intersects(segment, p.value());
-                if (intersect != null) {
-                    // 防止重复点
-                    if (unique.add(intersect.getX() + "," + intersect.getY())) {
-                        results.add(Feature.fromGeometry(intersect));
-                    }
-                }
-            }
+    private static Geometry checkGeometry(Geometry geometry, String name) {
+        if (geometry == null) {
+            throw new JTurfException(name + " is required");
         }
 
-        return FeatureCollection.fromFeatures(results);
+        geometry = JTurfMeta.getGeom(geometry);
+
+        GeometryType type = geometry.geometryType();
+        if (type != GeometryType.LINE_STRING
+                && type != GeometryType.POLYGON
+                && type != GeometryType.MULTI_LINE_STRING
+                && type != GeometryType.MULTI_POLYGON) {
+            throw new JTurfException(name + " type must LineString、Polygon、MultiLineString、MultiPolygon");
+        }
+        return geometry;
+    }
+
+    private static boolean lineIntersect0(Geometry geometry1, Geometry geometry2, LineIntersectFunc func) {
+        IntersectVisitor visitor = new IntersectVisitor(SegmentIndex.build(geometry2), func);
+
+        double[] segments = SegmentIndex.segments(geometry1);
+        for (int c = 0; c < segments.length; c += 4) {
+            if (!visitor.search(segments[c], segments[c + 1], segments[c + 2], segments[c + 3])) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
@@ -106,31 +110,79 @@ public final class LineIntersectHelper {
             throw new JTurfException("<intersects> line2 must only contain 2 coordinates");
         }
 
-        double x1 = coords1.get(0).getX(), y1 = coords1.get(0).getY();
-        double x2 = coords1.get(1).getX(), y2 = coords1.get(1).getY();
-        double x3 = coords2.get(0).getX(), y3 = coords2.get(0).getY();
-        double x4 = coords2.get(1).getX(), y4 = coords2.get(1).getY();
+        double[] out = new double[2];
+        if (intersects(coords1.get(0).getX(), coords1.get(0).getY(), coords1.get(1).getX(), coords1.get(1).getY(),
+                coords2.get(0).getX(), coords2.get(0).getY(), coords2.get(1).getX(), coords2.get(1).getY(), out)) {
+            return Point.fromLngLat(out[0], out[1]);
+        }
+        return null;
+    }
 
+    /**
+     * 计算线段 (x1,y1)-(x2,y2) 与线段 (x3,y3)-(x4,y4) 的相交点，平行或共线的线段视为不相交
+     *
+     * @param out 相交时写入相交点 [x, y]
+     * @return 相交则返回true
+     */
+    static boolean intersects(double x1, double y1, double x2, double y2, double x3, double y3, double x4, double y4, double[] out) {
         double denom = (y4 - y3) * (x2 - x1) - (x4 - x3) * (y2 - y1);
-        double numeA = (x4 - x3) * (y1 - y3) - (y4 - y3) * (x1 - x3);
-        double numeB = (x2 - x1) * (y1 - y3) - (y2 - y1) * (x1 - x3);
-
         if (denom == 0) {
-            if (numeA == 0 && numeB == 0) {
-                return null;
-            }
-            return null;
+            return false;
         }
 
+        double numeA = (x4 - x3) * (y1 - y3) - (y4 - y3) * (x1 - x3);
+        double numeB = (x2 - x1) * (y1 - y3) - (y2 - y1) * (x1 - x3);
+
         double uA = numeA / denom;
         double uB = numeB / denom;
 
         if (uA >= 0 && uA <= 1 && uB >= 0 && uB <= 1) {
-            double x = x1 + uA * (x2 - x1);
-            double y = y1 + uA * (y2 - y1);
-            return Point.fromLngLat(x, y);
+            out[0] = x1 + uA * (x2 - x1);
+            out[1] = y1 + uA * (y2 - y1);
+            return true;
         }
-        return null;
+        return false;
+    }
+
+    /**
+     * 在线段索引中查找与当前线段相交的线段，去重后回调相交点，整个计算过程复用同一个对象
+     */
+    private static final class IntersectVisitor implements SegmentSearchFunc {
+
+        private final SegmentIndex index;
+
+        private final LineIntersectFunc func;
+
+        private final CoordinateHashSet unique = new CoordinateHashSet();
+
+        private final double[] hit = new double[2];
+
+        private double x1, y1, x2, y2;
+
+        IntersectVisitor(SegmentIndex index, LineIntersectFunc func) {
+            this.index = index;
+            this.func = func;
+        }
+
+        boolean search(double x1, double y1, double x2, double y2) {
+            this.x1 = x1;
+            this.y1 = y1;
+            this.x2 = x2;
+            this.y2 = y2;
+            return index.search(Math.min(x1, x2), Math.min(y1, y2), Math.max(x1, x2), Math.max(y1, y2), this);
+        }
+
+        @Override
+        public boolean accept(int id) {
+            if (intersects(x1, y1, x2, y2, index.x1(id), index.y1(id), index.x2(id), index.y2(id), hit)) {
+                // 防止重复点
+                if (unique.add(hit[0], hit[1])) {
+                    return func.accept(hit[0], hit[1]);
+                }
+            }
+            return true;
+        }
+
     }
 
 }
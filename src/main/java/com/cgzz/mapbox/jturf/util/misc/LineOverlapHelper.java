@@ -6,18 +6,14 @@ import com.cgzz.mapbox.jturf.JTurfMeta;
 import com.cgzz.mapbox.jturf.JTurfMisc;
 import com.cgzz.mapbox.jturf.enums.Units;
 import com.cgzz.mapbox.jturf.exception.JTurfException;
-import com.cgzz.mapbox.jturf.models.ObjectHolder;
 import com.cgzz.mapbox.jturf.shape.Geometry;
 import com.cgzz.mapbox.jturf.shape.GeometryType;
 import com.cgzz.mapbox.jturf.shape.impl.Feature;
 import com.cgzz.mapbox.jturf.shape.impl.FeatureCollection;
 import com.cgzz.mapbox.jturf.shape.impl.LineString;
 import com.cgzz.mapbox.jturf.shape.impl.Point;
-import com.cgzz.mapbox.jturf.util.pkg.RTreeHelper;
-import com.github.davidmoten.rtree.Entry;
-import com.github.davidmoten.rtree.RTree;
-import com.github.davidmoten.rtree.geometry.Rectangle;
-import rx.Observable;
+import com.cgzz.mapbox.jturf.util.index.SegmentIndex;
+import com.cgzz.mapbox.jturf.util.index.func.SegmentSearchFunc;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -63,82 +59,21 @@ public final class LineOverlapHelper {
         }
 
         int disparity = tolerance == null ? 0 : tolerance; // 差距
-        Units units = Units.KILOMETERS; // 计算距离的单位为公里
 
-        // 构建R树
-        RTree<LineString, Rectangle> rtree = RTreeHelper.initRTree(geometry1);
-
-        List<Feature<LineString>> result = new ArrayList<>();
-        ObjectHolder<List<Point>> overlapSegment = new ObjectHolder<>(new ArrayList<>()); // 线段点集合
+        // 构建线段索引
+        OverlapVisitor visitor = new OverlapVisitor(SegmentIndex.build(geometry1), disparity);
 
         JTurfMeta.segmentEach(geometry2, (segment, featureIndex, multiFeatureIndex, geometryIndex, segmentIndex) -> {
-            boolean doesOverlaps = false;
-
-            Observable<Entry<LineString, Rectangle>> entries = rtree.search(RTreeHelper.createRectangle(segment));
-            // 迭代落在相同边界内的每个段
-            for (Entry<LineString, Rectangle> p : entries.toBlocking().toIterable()) {
-                if (doesOverlaps) {
-                    break;
-                }
-
-                LineString match = p.value();
-
-                List<Point> coordsSegment = new ArrayList<>(segment.coordinates());
-                List<Point> coordsMatch = new ArrayList<>(match.coordinates());
-
-                Collections.sort(coordsSegment);
-                Collections.sort(coordsMatch);
-
-                // 线段重叠
-                if (JTurfHelper.deepEquals(coordsSegment, coordsMatch)) {
-                    doesOverlaps = true;
-
-                    // 重叠已存在 - 仅附加线段的最后一个坐标
-                    if (overlapSegment.value.size() > 0) {
-                        concatSegment(overlapSegment.value, segment);
-                    } else {
-                        overlapSegment.value = segment.coordinates();
-                    }
-                } else if (disparity == 0
-                        ? (JTurfBooleans.booleanPointOnLine(coordsSegment.get(0), match)
-                        && JTurfBooleans.booleanPointOnLine(coordsSegment.get(1), match))
-                        : (JTurfMisc.nearestPointOnLine(match, coordsSegment.get(0), units).getPropertyAsNumber("dist").intValue() <= disparity
-                        && JTurfMisc.nearestPointOnLine(match, coordsSegment.get(1), units).getPropertyAsNumber("dist").intValue() <= disparity)) {
-                    doesOverlaps = true;
-                    if (overlapSegment.value.size() > 0) {
-                        concatSegment(overlapSegment.value, segment);
-                    } else {
-                        overlapSegment.value = segment.coordinates();
-                    }
-                } else if (disparity == 0
-                        ? (JTurfBooleans.booleanPointOnLine(coordsMatch.get(0), segment)
-                        && JTurfBooleans.booleanPointOnLine(coordsMatch.get(1), segment))
-                        : (JTurfMisc.nearestPointOnLine(segment, coordsMatch.get(0), units).getPropertyAsNumber("dist").intValue() <= disparity
-                        && JTurfMisc.nearestPointOnLine(segment, coordsMatch.get(1), units).getPropertyAsNumber("dist").intValue() <= disparity)) {
-                    // 不要定义（doesOverlap = true），因为同一段中可能会出现更多匹配项
-                    if (overlapSegment.value.size() > 0) {
-                        concatSegment(overlapSegment.value, match);
-                    } else {
-                        overlapSegment.value = match.coordinates();
-                    }
-                }
-            }
-
-            // Segment 不重叠 - 向结果添加重叠并重置
-            if (!doesOverlaps && overlapSegment.value.size() > 0) {
-                result.add(Feature.fromGeometry(LineString.fromLngLatsShallowCopy(overlapSegment.value)));
-                overlapSegment.value.clear();
-            }
-
+            visitor.search(segment);
             return true;
         });
 
         // 添加最后一个段（如果存在）
-        if (overlapSegment.value.size() > 0) {
-            result.add(Feature.fromGeometry(LineString.fromLngLatsShallowCopy(overlapSegment.value)));
+        if (visitor.overlapSegment.size() > 0) {
+            visitor.result.add(Feature.fromGeometry(LineString.fromLngLatsShallowCopy(visitor.overlapSegment)));
         }
 
-        return FeatureCollection.fromFeatures(result);
+        return FeatureCollection.fromFeatures(visitor.result);
     }
 
     private static void concatSegment(List<Point> lineCoords, LineString segment) {
@@ -160,4 +95,124 @@ public final class LineOverlapHelper {
         }
     }
 
+    /**
+     * 点是否在线段上（包括两端），与 {@link JTurfBooleans#booleanPointOnLine(Point, LineString)} 对两点线段的判断相同
+     */
+    private static boolean onSegment(double x, double y, double x1, double y1, double x2, double y2) {
+        double dxc = x - x1, dyc = y - y1;
+        double dxl = x2 - x1, dyl = y2 - y1;
+        if (dxc * dyl - dyc * dxl != 0) {
+            return false;
+        }
+        if (Math.abs(dxl) >= Math.abs(dyl)) {
+            return dxl > 0 ? x1 <= x && x <= x2 : x2 <= x && x <= x1;
+        }
+        return dyl > 0 ? y1 <= y && y <= y2 : y2 <= y && y <= y1;
+    }
+
+    /**
+     * 在线段索引中查找与当前线段重叠的线段，整个计算过程复用同一个对象
+     */
+    private static final class OverlapVisitor implements SegmentSearchFunc {
+
+        private static final Units UNITS = Units.KILOMETERS; // 计算距离的单位为公里
+
+        private final SegmentIndex index;
+
+        private final int disparity;
+
+        private final List<Feature<LineString>> result = new ArrayList<>();
+
+        private List<Point> overlapSegment = new ArrayList<>(); // 线段点集合
+
+        private LineString segment;
+
+        private List<Point> coordsSegment;
+
+        private double sx1, sy1, sx2, sy2;
+
+        private boolean doesOverlaps;
+
+        OverlapVisitor(SegmentIndex index, int disparity) {
+            this.index = index;
+            this.disparity = disparity;
+        }
+
+        void search(LineString segment) {
+            List<Point> coords = segment.coordinates();
+            double x1 = coords.get(0).getX(), y1 = coords.get(0).getY();
+            double x2 = coords.get(1).getX(), y2 = coords.get(1).getY();
+
+            this.segment = segment;
+            this.sx1 = x1;
+            this.sy1 = y1;
+            this.sx2 = x2;
+            this.sy2 = y2;
+            this.coordsSegment = new ArrayList<>(coords);
+            Collections.sort(coordsSegment);
+            this.doesOverlaps = false;
+
+            // 迭代落在相同边界内的每个段，找到重叠的线段后即停止
+            index.search(Math.min(x1, x2), Math.min(y1, y2), Math.max(x1, x2), Math.max(y1, y2), this);
+
+            // Segment 不重叠 - 向结果添加重叠并重置
+            if (!doesOverlaps && overlapSegment.size() > 0) {
+                result.add(Feature.fromGeometry(LineString.fromLngLatsShallowCopy(overlapSegment)));
+                overlapSegment.clear();
+            }
+        }
+
+        @Override
+        public boolean accept(int id) {
+            // 先直接比较索引中的坐标，只有重叠或者需要按容差计算距离时才创建线段对象
+            double mx1 = index.x1(id), my1 = index.y1(id), mx2 = index.x2(id), my2 = index.y2(id);
+            // 与排序后的 coordsSegment 比较时，匹配线段的两端也按经度、纬度排序
+            boolean swap = mx2 < mx1 || (mx2 == mx1 && my2 < my1);
+            Point s1 = coordsSegment.get(0), s2 = coordsSegment.get(1);
+
+            // 线段重叠
+            if (swap ? s1.getX() == mx2 && s1.getY() == my2 && s2.getX() == mx1 && s2.getY() == my1
+                    : s1.getX() == mx1 && s1.getY() == my1 && s2.getX() == mx2 && s2.getY() == my2) {
+                doesOverlaps = true;
+
+                // 重叠已存在 - 仅附加线段的最后一个坐标
+                if (overlapSegment.size() > 0) {
+                    concatSegment(overlapSegment, segment);
+                } else {
+                    overlapSegment = segment.coordinates();
+                }
+                return false;
+            }
+
+            LineString match = disparity == 0 ? null : index.lineString(id);
+            if (disparity == 0
+                    ? (onSegment(s1.getX(), s1.getY(), mx1, my1, mx2, my2) && onSegment(s2.getX(), s2.getY(), mx1, my1, mx2, my2))
+                    : (JTurfMisc.nearestPointOnLine(match, s1, UNITS).getPropertyAsNumber("dist").intValue() <= disparity
+                    && JTurfMisc.nearestPointOnLine(match, s2, UNITS).getPropertyAsNumber("dist").intValue() <= disparity)) {
+                doesOverlaps = true;
+                if (overlapSegment.size() > 0) {
+                    concatSegment(overlapSegment, segment);
+                } else {
+                    overlapSegment = segment.coordinates();
+                }
+            } else if (disparity == 0
+                    ? (onSegment(mx1, my1, sx1, sy1, sx2, sy2) && onSegment(mx2, my2, sx1, sy1, sx2, sy2))
+                    : (JTurfMisc.nearestPointOnLine(segment, match.coordinates().get(0), UNITS).getPropertyAsNumber("dist").intValue() <= disparity
+                    && JTurfMisc.nearestPointOnLine(segment, match.coordinates().get(1), UNITS).getPropertyAsNumber("dist").intValue() <= disparity)) {
+                // 不要定义（doesOverlap = true），因为同一段中可能会出现更多匹配项
+                if (match == null) {
+                    match = index.lineString(id);
+                }
+                if (overlapSegment.size() > 0) {
+                    concatSegment(overlapSegment, match);
+                } else {
+                    overlapSegment = match.coordinates();
+                }
+            }
+
+            return !doesOverlaps;
+        }
+
+    }
+
 }
@@ -6,6 +6,7 @@ import com.cgzz.mapbox.jturf.exception.JTurfException;
 import com.cgzz.mapbox.jturf.shape.impl.Feature;
 import com.cgzz.mapbox.jturf.shape.impl.LineString;
 import com.cgzz.mapbox.jturf.shape.impl.Point;
+import com.cgzz.mapbox.jturf.util.measurement.DistanceCalculator;
 import com.google.gson.JsonObject;
 
 import java.util.ArrayList;
@@ -30,10 +31,7 @@ public final class LineSliceAlongHelper {
      * @return 切片线段
      */
     public static Feature<LineString> lineSliceAlong(LineString line, double startDist, double stopDist, Units units, JsonObject properties) {
-        if (units == null) {
-            units = Units.KILOMETERS;
-        }
-
+        DistanceCalculator calculator = DistanceCalculator.forUnits(units);
         List<Point> slice = new ArrayList<>();
         List<Point> coords = line.coordinates();
         int origCoordsLength = coords.size();
@@ -50,7 +48,7 @@ public final class LineSliceAlongHelper {
                     return Feature.fromGeometry(LineString.fromLngLats(slice), properties);
                 }
                 direction = JTurfMeasurement.bearing(coords.get(i), coords.get(i - 1)) - 180;
-                interpolated = JTurfMeasurement.destination(coords.get(i), overshot, direction, units);
+                interpolated = calculator.destination(coords.get(i), overshot, direction);
                 slice.add(interpolated);
             }
 
@@ -61,7 +59,7 @@ public final class LineSliceAlongHelper {
                     return Feature.fromGeometry(LineString.fromLngLats(slice), properties);
                 }
                 direction = JTurfMeasurement.bearing(coords.get(i), coords.get(i - 1)) - 180;
-                interpolated = JTurfMeasurement.destination(coords.get(i), overshot, direction, units);
+                interpolated = calculator.destination(coords.get(i), overshot, direction);
                 slice.add(interpolated);
                 return Feature.fromGeometry(LineString.fromLngLats(slice), properties);
             }
@@ -74,7 +72,7 @@ public final class LineSliceAlongHelper {
                 return Feature.fromGeometry(LineString.fromLngLats(slice), properties);
             }
 
-            travelled += JTurfMeasurement.distance(coords.get(i), coords.get(i + 1), units);
+            travelled += calculator.distance(coords.get(i), coords.get(i + 1));
         }
 
         if (travelled < startDist) {
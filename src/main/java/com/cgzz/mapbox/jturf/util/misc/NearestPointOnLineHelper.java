@@ -12,6 +12,7 @@ import com.cgzz.mapbox.jturf.shape.impl.Feature;
 import com.cgzz.mapbox.jturf.shape.impl.FeatureCollection;
 import com.cgzz.mapbox.jturf.shape.impl.LineString;
 import com.cgzz.mapbox.jturf.shape.impl.Point;
+import com.cgzz.mapbox.jturf.util.measurement.DistanceCalculator;
 import org.omg.CORBA.DoubleHolder;
 import org.omg.CORBA.IntHolder;
 
@@ -58,25 +59,26 @@ public final class NearestPointOnLineHelper {
         DoubleHolder closestLocation = new DoubleHolder();
 
         DoubleHolder length = new DoubleHolder();
+        DistanceCalculator calculator = DistanceCalculator.forUnits(units);
 
         JTurfMeta.flattenEach(lines, ((f, featureIndex, multiFeatureIndex) -> {
             List<Point> coords = LineString.lineString(f.geometry()).coordinates();
 
             for (int i = 0, size = coords.size(); i < size - 1; i++) {
                 Point start = coords.get(i);
-                double startDist = JTurfMeasurement.distance(pt, start, units);
+                double startDist = calculator.distance(pt, start);
 
                 Point stop = coords.get(i + 1);
-                double stopDist = JTurfMeasurement.distance(pt, stop, units);
+                double stopDist = calculator.distance(pt, stop);
 
-                double sectionLength = JTurfMeasurement.distance(start, stop, units);
+                double sectionLength = calculator.distance(start, stop);
 
                 double heightDistance = Math.max(startDist, stopDist);
                 // 计算方位角
                 double direction = JTurfMeasurement.bearing(start, stop);
 
-                Point perpendicularPt1 = JTurfMeasurement.destination(pt, heightDistance, direction + 90, units);
-                Point perpendicularPt2 = JTurfMeasurement.destination(pt, heightDistance, direction - 90, units);
+                Point perpendicularPt1 = calculator.destination(pt, heightDistance, direction + 90);
+                Point perpendicularPt2 = calculator.destination(pt, heightDistance, direction - 90);
 
                 // 计算两个线的相交点
                 FeatureCollection<Point> intersect = JTurfMisc.lineIntersect(LineString.fromLngLats(perpendicularPt1, perpendicularPt2), LineString.fromLngLats(start, stop));
@@ -85,8 +87,8 @@ public final class NearestPointOnLineHelper {
                 double intersectDist = 0, intersectLocation = 0;
                 if (intersect != null && intersect.size() > 0) {
                     intersectPt = (Point)intersect.get(0).geometry();
-                    intersectDist = JTurfMeasurement.distance(pt, intersectPt, units);
-                    intersectLocation = length.value + JTurfMeasurement.distance(start, intersectPt, units);
+                    intersectDist = calculator.distance(pt, intersectPt);
+                    intersectLocation = length.value + calculator.distance(start, intersectPt);
                 }
 
                 if (startDist < closestDist.value) {
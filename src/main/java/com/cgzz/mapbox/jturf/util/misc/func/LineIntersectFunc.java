@@ -0,0 +1,15 @@
+package com.cgzz.mapbox.jturf.util.misc.func;
+
+@FunctionalInterface
+public interface LineIntersectFunc {
+
+    /**
+     * 处理两个图形的相交点，同一个坐标只会回调一次
+     *
+     * @param x 相交点经度
+     * @param y 相交点纬度
+     * @return 处理是否成功，当返回false时，计算即被中断
+     */
+    boolean accept(double x, double y);
+
+}
@@ -6,10 +6,15 @@ import com.cgzz.mapbox.jturf.shape.Geometry;
 import com.cgzz.mapbox.jturf.shape.impl.BoundingBox;
 import com.cgzz.mapbox.jturf.shape.impl.Feature;
 import com.cgzz.mapbox.jturf.shape.impl.LineString;
+import com.github.davidmoten.rtree.Entries;
+import com.github.davidmoten.rtree.Entry;
 import com.github.davidmoten.rtree.RTree;
 import com.github.davidmoten.rtree.geometry.Geometries;
 import com.github.davidmoten.rtree.geometry.Rectangle;
 
+import java.util.ArrayList;
+import java.util.List;
+
 public final class RTreeHelper {
 
     private RTreeHelper() {
@@ -29,21 +34,21 @@ public final class RTreeHelper {
     }
 
     /**
-     * 构建一棵R树
+     * 构建一棵R树，线段较多时建议使用基于基本类型数组的 {@link com.cgzz.mapbox.jturf.util.index.SegmentIndex}
      *
      * @param geometry 图形
      * @return RTree<LineString, Rectangle>
      */
     public static RTree<LineString, Rectangle> initRTree(Geometry geometry) {
-        // 创建R树时，可以指定最小、最大孩子结点数
-        RTree<LineString, Rectangle> rtree = RTree.minChildren(2).maxChildren(9).create();
+        List<Entry<LineString, Rectangle>> entries = new ArrayList<>();
         for (Feature feature : JTurfMisc.lineSegment(geometry).geometries()) {
             LineString line = LineString.lineString(feature.geometry());
 
-            rtree = rtree.add(line, createRectangle(line));
+            entries.add(Entries.entry(line, createRectangle(line)));
         }
 
-        return rtree;
+        // 一次性批量装载（STR），避免逐个 add 时每次复制树的路径；创建R树时，可以指定最小、最大孩子结点数
+        return RTree.minChildren(2).maxChildren(9).create(entries);
     }
 
 }
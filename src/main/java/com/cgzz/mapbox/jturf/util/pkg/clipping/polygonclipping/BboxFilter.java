@@ -0,0 +1,261 @@
+package com.cgzz.mapbox.jturf.util.pkg.clipping.polygonclipping;
+
+import com.cgzz.mapbox.jturf.shape.impl.BoundingBox;
+import com.cgzz.mapbox.jturf.shape.impl.Point;
+import com.cgzz.mapbox.jturf.util.transformation.TailClipHelper;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 扫描之前基于边界框的预处理，按原始坐标计算，不需要先构造线段和事件：<br>
+ * 1. 边界框与其它多边形都不相交的多边形：并集、补集时直接并入结果，差集时丢弃；交集时结果为空；<br>
+ * 2. 与坐标轴平行的矩形包含其它多边形的边界框时：并集就是该矩形，交集中去掉该矩形，被矩形覆盖的差集为空；<br>
+ * 3. 交集、差集的结果只可能位于重叠窗口（交集为各边界框的交，差集为被减多边形的边界框）之内，
+ * 超出窗口的环先裁剪到窗口，减少扫描的线段。窗口向外留出少量余量，裁剪产生的新边不会落在结果的边界上，不改变结果。
+ */
+final class BboxFilter {
+
+    /**
+     * 裁剪窗口向外留出的余量，相对窗口较长的边
+     */
+    private static final double WINDOW_MARGIN = 1e-3;
+
+    private BboxFilter() {
+        throw new AssertionError("No Instances.");
+    }
+
+    /**
+     * 过滤参与运算的多边形
+     *
+     * @param type     运算类型
+     * @param geoms    参与运算的多边形，原地修改为仍需扫描的多边形，差集时第一个为被减的多边形
+     * @param disjoint 与其它多边形都不相交、直接并入结果的多边形
+     * @return 结果是否一定为空
+     */
+    static boolean filter(PolygonClippingType type, List<List<List<List<Point>>>> geoms, List<List<List<Point>>> disjoint) {
+        int n = geoms.size();
+        double[][] bboxes = new double[n][];
+        for (int i = 0; i < n; i++) {
+            bboxes[i] = bbox(geoms.get(i));
+            if (bboxes[i] == null) {
+                // 空的多边形交给扫描处理
+                return false;
+            }
+        }
+
+        switch (type) {
+            case INTERSECT:
+                return filterIntersect(geoms, bboxes);
+            case DIFFERENCE:
+                return filterDifference(geoms, bboxes);
+            default:
+                filterUnion(type, geoms, bboxes, disjoint);
+                return false;
+        }
+    }
+
+    private static boolean filterIntersect(List<List<List<List<Point>>>> geoms, double[][] bboxes) {
+        int n = geoms.size();
+        double[] window = bboxes[0].clone();
+        for (int i = 1; i < n; i++) {
+            if (!overlaps(window, bboxes[i])) {
+                return true;
+            }
+            window[0] = Math.max(window[0], bboxes[i][0]);
+            window[1] = Math.max(window[1], bboxes[i][1]);
+            window[2] = Math.min(window[2], bboxes[i][2]);
+            window[3] = Math.min(window[3], bboxes[i][3]);
+        }
+
+        // 包含其它所有多边形的矩形不影响交集
+        for (int i = 0; i < geoms.size() && geoms.size() > 1; i++) {
+            if (isRectangle(geoms.get(i)) && containsOthers(bboxes, i, geoms.size())) {
+                geoms.remove(i);
+                System.arraycopy(bboxes, i + 1, bboxes, i, geoms.size() - i);
+                i--;
+            }
+        }
+        if (geoms.size() == 1) {
+            return false;
+        }
+
+        for (int i = 0; i < geoms.size(); i++) {
+            if (!contains(window, bboxes[i])) {
+                List<List<List<Point>>> trimmed = trim(geoms.get(i), window);
+                if (trimmed == null) {
+                    return false;
+                } else if (trimmed.isEmpty()) {
+                    return true;
+                }
+                geoms.set(i, trimmed);
+            }
+        }
+        return false;
+    }
+
+    private static boolean filterDifference(List<List<List<List<Point>>>> geoms, double[][] bboxes) {
+        double[] subject = bboxes[0];
+        int k = 1;
+        for (int i = 1, n = geoms.size(); i < n; i++) {
+            if (!overlaps(subject, bboxes[i])) {
+                continue;
+            }
+            List<List<List<Point>>> geom = geoms.get(i);
+            if (isRectangle(geom) && contains(bboxes[i], subject)) {
+                return true;
+            }
+            if (!contains(subject, bboxes[i])) {
+                List<List<List<Point>>> trimmed = trim(geom, subject);
+                if (trimmed != null && trimmed.isEmpty()) {
+                    continue;
+                } else if (trimmed != null) {
+                    geom = trimmed;
+                }
+            }
+            geoms.set(k++, geom);
+        }
+        geoms.subList(k, geoms.size()).clear();
+        return false;
+    }
+
+    private static void filterUnion(PolygonClippingType type, List<List<List<List<Point>>>> geoms, double[][] bboxes, List<List<List<Point>>> disjoint) {
+        int n = geoms.size();
+        if (type == PolygonClippingType.UNION) {
+            for (int i = 0; i < n; i++) {
+                if (isRectangle(geoms.get(i)) && containsOthers(bboxes, i, n)) {
+                    List<List<List<Point>>> rectangle = geoms.get(i);
+                    geoms.clear();
+                    geoms.add(rectangle);
+                    return;
+                }
+            }
+        }
+
+        // 边界框与其它多边形都不相交的多边形不参与扫描
+        boolean[] isolated = new boolean[n];
+        for (int i = 0; i < n; i++) {
+            isolated[i] = true;
+            for (int j = 0; j < n && isolated[i]; j++) {
+                isolated[i] = i == j || !overlaps(bboxes[i], bboxes[j]);
+            }
+        }
+        int k = 0;
+        for (int i = 0; i < n; i++) {
+            if (isolated[i]) {
+                disjoint.addAll(geoms.get(i));
+            } else {
+                geoms.set(k++, geoms.get(i));
+            }
+        }
+        geoms.subList(k, n).clear();
+    }
+
+    /**
+     * 把多边形裁剪到窗口（向外留出余量）内，外环完全在窗口外的多边形被丢弃
+     *
+     * @return 裁剪后的多边形，窗口退化时返回 null 表示不裁剪
+     */
+    private static List<List<List<Point>>> trim(List<List<List<Point>>> geom, double[] window) {
+        double margin = Math.max(window[2] - window[0], window[3] - window[1]) * WINDOW_MARGIN;
+        if (!(margin > 0)) {
+            return null;
+        }
+        BoundingBox bbox = BoundingBox.fromLngLats(window[0] - margin, window[1] - margin, window[2] + margin, window[3] + margin);
+
+        List<List<List<Point>>> trimmed = new ArrayList<>(geom.size());
+        for (List<List<Point>> polygon : geom) {
+            List<List<Point>> rings = new ArrayList<>(polygon.size());
+            for (List<Point> ring : polygon) {
+                List<Point> clipped = TailClipHelper.polygonClip(ring, bbox);
+                if (clipped.size() < 3) {
+                    if (rings.isEmpty()) {
+                        // 外环在窗口外，内环也一定在窗口外
+                        break;
+                    }
+                    continue;
+                }
+                clipped.add(clipped.get(0));
+                rings.add(clipped);
+            }
+            if (!rings.isEmpty()) {
+                trimmed.add(rings);
+            }
+        }
+        return trimmed;
+    }
+
+    /**
+     * 外环的边界框 [west, south, east, north]，没有坐标时为 null
+     */
+    private static double[] bbox(List<List<List<Point>>> geom) {
+        double west = Double.POSITIVE_INFINITY, south = Double.POSITIVE_INFINITY;
+        double east = Double.NEGATIVE_INFINITY, north = Double.NEGATIVE_INFINITY;
+        boolean empty = true;
+        for (List<List<Point>> polygon : geom) {
+            if (polygon.isEmpty() || polygon.get(0).isEmpty()) {
+                return null;
+            }
+            for (Point p : polygon.get(0)) {
+                west = Math.min(west, p.getX());
+                south = Math.min(south, p.getY());
+                east = Math.max(east, p.getX());
+                north = Math.max(north, p.getY());
+            }
+            empty = false;
+        }
+        return empty ? null : new double[]{west, south, east, north};
+    }
+
+    /**
+     * 是否为与坐标轴平行、没有内环的矩形：4 个不同的顶点都在边界框的角上，相邻顶点只有一个坐标不同
+     */
+    private static boolean isRectangle(List<List<List<Point>>> geom) {
+        if (geom.size() != 1 || geom.get(0).size() != 1) {
+            return false;
+        }
+        List<Point> ring = geom.get(0).get(0);
+        int size = ring.size();
+        if (size == 5 && ring.get(0).getX() == ring.get(4).getX() && ring.get(0).getY() == ring.get(4).getY()) {
+            size = 4;
+        }
+        if (size != 4) {
+            return false;
+        }
+
+        double[] bbox = bbox(geom);
+        if (!(bbox[0] < bbox[2] && bbox[1] < bbox[3])) {
+            return false;
+        }
+        int corners = 0;
+        for (int i = 0; i < 4; i++) {
+            Point p = ring.get(i), q = ring.get((i + 1) % 4);
+            if ((p.getX() != bbox[0] && p.getX() != bbox[2]) || (p.getY() != bbox[1] && p.getY() != bbox[3])) {
+                return false;
+            }
+            if ((p.getX() == q.getX()) == (p.getY() == q.getY())) {
+                return false;
+            }
+            corners |= 1 << ((p.getX() == bbox[0] ? 0 : 1) + (p.getY() == bbox[1] ? 0 : 2));
+        }
+        return corners == 0b1111;
+    }
+
+    private static boolean containsOthers(double[][] bboxes, int i, int n) {
+        for (int j = 0; j < n; j++) {
+            if (j != i && !contains(bboxes[i], bboxes[j])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean overlaps(double[] a, double[] b) {
+        return a[0] <= b[2] && b[0] <= a[2] && a[1] <= b[3] && b[1] <= a[3];
+    }
+
+    private static boolean contains(double[] outer, double[] inner) {
+        return outer[0] <= inner[0] && inner[2] <= outer[2] && outer[1] <= inner[1] && inner[3] <= outer[3];
+    }
+
+}
@@ -1,11 +1,20 @@
 package com.cgzz.mapbox.jturf.util.pkg.clipping.polygonclipping;
 
-import com.cgzz.mapbox.jturf.util.pkg.clipping.splaytree.Node;
-import com.cgzz.mapbox.jturf.util.pkg.clipping.splaytree.SplayTree;
+import java.util.Arrays;
 
 public class CoordRounder {
 
-    private final SplayTree<Double, Object> tree = new SplayTree<>();
+    // 已出现过的坐标值保存在基于数组的伸展树中，按 Double.compare 排序，不需要为每个坐标装箱或创建树节点。
+    // 扫描线按 x 推进，新的坐标大多落在最近访问过的值附近，伸展树可以利用这种局部性。
+    // 下标 0 为自顶向下伸展时使用的头节点，相邻的两个值一定不是 flp 相等的。
+    private static final int NIL = -1;
+    private static final int HEADER = 0;
+
+    private double[] keys = new double[64];
+    private int[] left = new int[64];
+    private int[] right = new int[64];
+    private int size = 1;
+    private int root = NIL;
 
     public CoordRounder() {
         // preseed with 0 so we don't end up with values < Number.EPSILON
@@ -20,21 +29,124 @@ public class CoordRounder {
     //       to endpoints (to establish independence from the segment
     //       angle for t-intersections).
     public double round(double coord) {
-        Node<Double, Object> node = this.tree.add(coord);
+        if (this.root == NIL) {
+            this.root = this.newNode(coord);
+            return coord;
+        }
+
+        int t = this.root = this.splay(coord, this.root);
+        int cmp = Double.compare(coord, this.keys[t]);
+        if (cmp == 0) {
+            return coord;
+        }
 
-        Node<Double, Object> prevNode = this.tree.prev(node);
-        if (prevNode != null && Flp.cmp(node.getKey(), prevNode.getKey()) == 0) {
-            this.tree.remove(coord);
-            return prevNode.getKey();
+        // after splaying, the neighbours of coord are the root and the closest node of one subtree
+        int prev, next;
+        if (cmp < 0) {
+            next = t;
+            prev = this.left[t];
+            if (prev != NIL) {
+                while (this.right[prev] != NIL) {
+                    prev = this.right[prev];
+                }
+            }
+        } else {
+            prev = t;
+            next = this.right[t];
+            if (next != NIL) {
+                while (this.left[next] != NIL) {
+                    next = this.left[next];
+                }
+            }
         }
 
-        Node<Double, Object> nextNode = this.tree.next(node);
-        if (nextNode != null && Flp.cmp(node.getKey(), nextNode.getKey()) == 0) {
-            this.tree.remove(coord);
-            return nextNode.getKey();
+        if (prev != NIL && Flp.cmp(coord, this.keys[prev]) == 0) {
+            return this.keys[prev];
+        }
+        if (next != NIL && Flp.cmp(coord, this.keys[next]) == 0) {
+            return this.keys[next];
         }
 
+        int node = this.newNode(coord);
+        if (cmp < 0) {
+            this.left[node] = this.left[t];
+            this.right[node] = t;
+            this.left[t] = NIL;
+        } else {
+            this.right[node] = this.right[t];
+            this.left[node] = t;
+            this.right[t] = NIL;
+        }
+        this.root = node;
         return coord;
     }
 
+    private int newNode(double key) {
+        if (this.size == this.keys.length) {
+            int capacity = this.size << 1;
+            this.keys = Arrays.copyOf(this.keys, capacity);
+            this.left = Arrays.copyOf(this.left, capacity);
+            this.right = Arrays.copyOf(this.right, capacity);
+        }
+
+        int node = this.size++;
+        this.keys[node] = key;
+        this.left[node] = this.right[node] = NIL;
+        return node;
+    }
+
+    // Simple top down splay, same as SplayTree.splay()
+    private int splay(double key, int t) {
+        int[] left = this.left, right = this.right;
+        double[] keys = this.keys;
+        left[HEADER] = right[HEADER] = NIL;
+        int l = HEADER, r = HEADER;
+
+        while (true) {
+            int cmp = Double.compare(key, keys[t]);
+            if (cmp < 0) {
+                if (left[t] == NIL) {
+                    break;
+                }
+                if (Double.compare(key, keys[left[t]]) < 0) {
+                    int y = left[t];                      /* rotate right */
+                    left[t] = right[y];
+                    right[y] = t;
+                    t = y;
+                    if (left[t] == NIL) {
+                        break;
+                    }
+                }
+                left[r] = t;                              /* link right */
+                r = t;
+                t = left[t];
+            } else if (cmp > 0) {
+                if (right[t] == NIL) {
+                    break;
+                }
+                if (Double.compare(key, keys[right[t]]) > 0) {
+                    int y = right[t];                     /* rotate left */
+                    right[t] = left[y];
+                    left[y] = t;
+                    t = y;
+                    if (right[t] == NIL) {
+                        break;
+                    }
+                }
+                right[l] = t;                             /* link left */
+                l = t;
+                t = right[t];
+            } else {
+                break;
+            }
+        }
+
+        /* assemble */
+        right[l] = left[t];
+        left[r] = right[t];
+        left[t] = right[HEADER];
+        right[t] = left[HEADER];
+        return t;
+    }
+
 }
@@ -0,0 +1,91 @@
+package com.cgzz.mapbox.jturf.util.pkg.clipping.polygonclipping;
+
+import com.cgzz.mapbox.jturf.exception.JTurfException;
+import com.cgzz.mapbox.jturf.shape.impl.Point;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 固定精度模式下的坐标取整。<br>
+ * 输入坐标除以网格大小后取整（{@link #toGrid(List)}），再经 {@link SnapRounder} 打断，扫描过程中的坐标都是整数
+ * （以 double 存放，在 2^53 以内是精确的）。点与线段的位置关系按整数精确计算（见 {@link Vector#crossSign(double, double, double, double)}），
+ * 不需要像 {@link CoordRounder} 那样查找已出现过的相近坐标。输出时再乘回网格大小。
+ */
+final class GridRounder extends PtRounder {
+
+    /**
+     * double 可以精确表示的最大整数
+     */
+    private static final double MAX_EXACT = 9007199254740992.0;
+
+    private final double scale;
+
+    GridRounder(double gridSize) {
+        super(null, null);
+        if (!(gridSize > 0) || Double.isInfinite(gridSize)) {
+            throw new JTurfException("gridSize must be a positive number");
+        }
+        this.scale = 1 / gridSize;
+    }
+
+    /**
+     * 输入已经取整到网格上，打断之后的线段只在端点相交，这里只对意外出现的交点取整
+     */
+    @Override
+    public Location round(double x, double y) {
+        return new Location(Math.rint(x), Math.rint(y));
+    }
+
+    @Override
+    public Point toPoint(Location location) {
+        return Point.fromLngLat(location.x / this.scale, location.y / this.scale);
+    }
+
+    /**
+     * 坐标转换为网格上的整数
+     */
+    List<List<List<Point>>> toGrid(List<List<List<Point>>> geom) {
+        List<List<List<Point>>> result = new ArrayList<>(geom.size());
+        for (List<List<Point>> polygon : geom) {
+            List<List<Point>> rings = new ArrayList<>(polygon.size());
+            for (List<Point> ring : polygon) {
+                List<Point> points = new ArrayList<>(ring.size());
+                for (Point p : ring) {
+                    points.add(Point.fromLngLat(this.snap(p.getX()), this.snap(p.getY())));
+                }
+                rings.add(points);
+            }
+            result.add(rings);
+        }
+        return result;
+    }
+
+    /**
+     * 不参与扫描、原样输出的多边形也取整到网格上
+     */
+    List<List<List<Point>>> snap(List<List<List<Point>>> geom) {
+        List<List<List<Point>>> snapped = new ArrayList<>(geom.size());
+        for (List<List<Point>> polygon : geom) {
+            List<List<Point>> rings = new ArrayList<>(polygon.size());
+            for (List<Point> ring : polygon) {
+                List<Point> points = new ArrayList<>(ring.size());
+                for (Point p : ring) {
+                    points.add(Point.fromLngLat(this.snap(p.getX()) / this.scale, this.snap(p.getY()) / this.scale));
+                }
+                rings.add(points);
+            }
+            snapped.add(rings);
+        }
+        return snapped;
+    }
+
+    private double snap(double coord) {
+        double value = Math.rint(coord * this.scale);
+        if (!(Math.abs(value) <= MAX_EXACT)) {
+            throw new JTurfException("coordinate " + coord + " is out of range for the grid size");
+        }
+        return value;
+    }
+
+}
@@ -0,0 +1,253 @@
+package com.cgzz.mapbox.jturf.util.pkg.clipping.polygonclipping;
+
+import java.util.Arrays;
+
+/**
+ * 基于四叉堆的事件队列。<br>
+ * 事件记录自己在堆数组中的下标（{@link SweepEvent#queueIndex}），删除时直接定位，不需要按键查找。
+ * 被删除的右端点事件通常会在分割后以新的位置重新入队，因此删除是立即生效的，堆中不会留下过期的条目。<br>
+ * 伸展树在插入时总会与坐标相同的相邻事件比较并链接，堆做不到这一点，所以另外维护一张队列中的点坐标表，
+ * 入队时与坐标相同的点链接。
+ */
+final class HeapEventQueue implements SweepEventQueue {
+
+    private static final int NOT_QUEUED = -1;
+
+    // 堆中事件的点坐标与事件并列存放，大多数比较只看坐标，不需要经由事件和点两次取址
+    private SweepEvent[] heap = new SweepEvent[64];
+    private double[] xs = new double[64];
+    private double[] ys = new double[64];
+    private int size;
+
+    // 队列中事件的点坐标（开放寻址、线性探测），counts 为该坐标上排队的事件数
+    private double[] pointXs = new double[64];
+    private double[] pointYs = new double[64];
+    private Location[] points = new Location[64];
+    private int[] counts = new int[64];
+    private int used;
+
+    @Override
+    public void insert(SweepEvent event) {
+        this.addPoint(event);
+
+        if (this.size == this.heap.length) {
+            int capacity = this.size << 1;
+            this.heap = Arrays.copyOf(this.heap, capacity);
+            this.xs = Arrays.copyOf(this.xs, capacity);
+            this.ys = Arrays.copyOf(this.ys, capacity);
+        }
+        Location point = event.getPoint();
+        this.siftUp(this.size++, event, point.x, point.y);
+    }
+
+    @Override
+    public SweepEvent pop() {
+        if (this.size == 0) {
+            return null;
+        }
+        SweepEvent event = this.heap[0];
+        this.removeAt(0);
+        return event;
+    }
+
+    @Override
+    public void remove(SweepEvent event) {
+        int i = event.queueIndex;
+        if (i != NOT_QUEUED && i < this.size && this.heap[i] == event) {
+            this.removeAt(i);
+        }
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    private void removeAt(int i) {
+        SweepEvent event = this.heap[i];
+        event.queueIndex = NOT_QUEUED;
+        this.removePoint(event);
+
+        int last = --this.size;
+        SweepEvent lastEvent = this.heap[last];
+        double x = this.xs[last], y = this.ys[last];
+        this.heap[last] = null;
+        if (i == last) {
+            return;
+        }
+        if (i > 0 && compare(lastEvent, x, y, this.heap[(i - 1) >>> 2], this.xs[(i - 1) >>> 2], this.ys[(i - 1) >>> 2]) < 0) {
+            this.siftUp(i, lastEvent, x, y);
+        } else {
+            this.siftDown(i, lastEvent, x, y);
+        }
+    }
+
+    private void siftUp(int i, SweepEvent event, double x, double y) {
+        SweepEvent[] heap = this.heap;
+        double[] xs = this.xs, ys = this.ys;
+        while (i > 0) {
+            int parent = (i - 1) >>> 2;
+            if (compare(event, x, y, heap[parent], xs[parent], ys[parent]) >= 0) {
+                break;
+            }
+            this.move(parent, i);
+            i = parent;
+        }
+        this.set(i, event, x, y);
+    }
+
+    // 自底向上：先沿最小的子节点下沉到叶子，再把事件从叶子上浮。
+    // 从堆尾取来的事件通常属于底层，这样每层只需要在子节点之间比较
+    private void siftDown(int i, SweepEvent event, double x, double y) {
+        SweepEvent[] heap = this.heap;
+        double[] xs = this.xs, ys = this.ys;
+        int size = this.size;
+        int start = i;
+        while (true) {
+            int first = (i << 2) + 1;
+            if (first >= size) {
+                break;
+            }
+            int min = first;
+            for (int c = first + 1, end = Math.min(first + 4, size); c < end; c++) {
+                if (compare(heap[c], xs[c], ys[c], heap[min], xs[min], ys[min]) < 0) {
+                    min = c;
+                }
+            }
+            this.move(min, i);
+            i = min;
+        }
+        while (i > start) {
+            int parent = (i - 1) >>> 2;
+            if (compare(event, x, y, heap[parent], xs[parent], ys[parent]) >= 0) {
+                break;
+            }
+            this.move(parent, i);
+            i = parent;
+        }
+        this.set(i, event, x, y);
+    }
+
+    private void move(int from, int to) {
+        SweepEvent event = this.heap[from];
+        this.heap[to] = event;
+        this.xs[to] = this.xs[from];
+        this.ys[to] = this.ys[from];
+        event.queueIndex = to;
+    }
+
+    private void set(int i, SweepEvent event, double x, double y) {
+        this.heap[i] = event;
+        this.xs[i] = x;
+        this.ys[i] = y;
+        event.queueIndex = i;
+    }
+
+    // 与 SweepEvent.compare 一致，点坐标不同时直接按坐标比较
+    private static int compare(SweepEvent a, double ax, double ay, SweepEvent b, double bx, double by) {
+        if (ax < bx) {
+            return -1;
+        } else if (ax > bx) {
+            return 1;
+        }
+        if (ay < by) {
+            return -1;
+        } else if (ay > by) {
+            return 1;
+        }
+        return SweepEvent.compare(a, b);
+    }
+
+    private void addPoint(SweepEvent event) {
+        Location point = event.getPoint();
+        // 加 0.0 把 -0.0 归一为 0.0，与 SweepEvent.comparePoints 的相等判断一致
+        double x = point.x + 0.0, y = point.y + 0.0;
+        int mask = this.points.length - 1;
+        int i = slot(x, y, mask);
+        while (this.points[i] != null) {
+            if (this.pointXs[i] == x && this.pointYs[i] == y) {
+                if (this.points[i] != point) {
+                    // 与伸展树中新事件和已有事件比较时的链接方向一致
+                    event.link(this.points[i].getEvents().get(0));
+                    this.points[i] = event.getPoint();
+                }
+                this.counts[i]++;
+                return;
+            }
+            i = (i + 1) & mask;
+        }
+
+        this.pointXs[i] = x;
+        this.pointYs[i] = y;
+        this.points[i] = point;
+        this.counts[i] = 1;
+        if (++this.used << 1 > this.points.length) {
+            this.rehash();
+        }
+    }
+
+    private void removePoint(SweepEvent event) {
+        Location point = event.getPoint();
+        double x = point.x + 0.0, y = point.y + 0.0;
+        int mask = this.points.length - 1;
+        int i = slot(x, y, mask);
+        while (this.pointXs[i] != x || this.pointYs[i] != y) {
+            i = (i + 1) & mask;
+        }
+        if (--this.counts[i] > 0) {
+            return;
+        }
+
+        // 线性探测的删除：把后面探测链上的条目往前移，填补空位
+        this.used--;
+        int hole = i;
+        while (true) {
+            i = (i + 1) & mask;
+            if (this.points[i] == null) {
+                break;
+            }
+            int home = slot(this.pointXs[i], this.pointYs[i], mask);
+            if (((i - home) & mask) >= ((i - hole) & mask)) {
+                this.pointXs[hole] = this.pointXs[i];
+                this.pointYs[hole] = this.pointYs[i];
+                this.points[hole] = this.points[i];
+                this.counts[hole] = this.counts[i];
+                hole = i;
+            }
+        }
+        this.points[hole] = null;
+    }
+
+    private void rehash() {
+        double[] xs = this.pointXs, ys = this.pointYs;
+        Location[] points = this.points;
+        int[] counts = this.counts;
+
+        int capacity = points.length << 1, mask = capacity - 1;
+        this.pointXs = new double[capacity];
+        this.pointYs = new double[capacity];
+        this.points = new Location[capacity];
+        this.counts = new int[capacity];
+        for (int j = 0; j < points.length; j++) {
+            if (points[j] == null) {
+                continue;
+            }
+            int i = slot(xs[j], ys[j], mask);
+            while (this.points[i] != null) {
+                i = (i + 1) & mask;
+            }
+            this.pointXs[i] = xs[j];
+            this.pointYs[i] = ys[j];
+            this.points[i] = points[j];
+            this.counts[i] = counts[j];
+        }
+    }
+
+    private static int slot(double x, double y, int mask) {
+        long bits = Double.doubleToLongBits(x) * 31 + Double.doubleToLongBits(y);
+        int h = (int) (bits ^ (bits >>> 32));
+        h *= 0x9E3779B9;
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+}
@@ -32,7 +32,8 @@ public final class Location {
 
     public void addEvent(SweepEvent event) {
         if (events == null) {
-            events = new ArrayList<>();
+            // a point usually joins the events of two or four segments
+            events = new ArrayList<>(4);
         }
         events.add(event);
     }
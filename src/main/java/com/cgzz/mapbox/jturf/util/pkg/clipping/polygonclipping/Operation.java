@@ -1,9 +1,8 @@
 package com.cgzz.mapbox.jturf.util.pkg.clipping.polygonclipping;
 
 import com.cgzz.mapbox.jturf.exception.JTurfException;
+import com.cgzz.mapbox.jturf.models.OperationContext;
 import com.cgzz.mapbox.jturf.shape.impl.Point;
-import com.cgzz.mapbox.jturf.util.pkg.clipping.splaytree.Node;
-import com.cgzz.mapbox.jturf.util.pkg.clipping.splaytree.SplayTree;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -16,25 +15,87 @@ public final class Operation {
     public static final int POLYGON_CLIPPING_MAX_SWEEPLINE_SEGMENTS = 1000000;
 
     int numMultiPolys;
+    int lastSegmentId;
     PolygonClippingType type;
     PtRounder rounder;
+    // 固定精度模式，坐标为网格上的整数，见 GridRounder
+    boolean fixedPrecision;
 
     @SafeVarargs
     public static List<List<List<Point>>> run(PolygonClippingType type, List<List<List<Point>>> geom, List<List<List<Point>>>... moreGeoms) {
+        return run(type, SweepEventQueueType.SPLAY_TREE, 0, geom, moreGeoms);
+    }
+
+    @SafeVarargs
+    public static List<List<List<Point>>> run(PolygonClippingType type, SweepEventQueueType queueType, List<List<List<Point>>> geom, List<List<List<Point>>>... moreGeoms) {
+        return run(type, queueType, 0, geom, moreGeoms);
+    }
+
+    /**
+     * @param gridSize 固定精度模式的网格大小，例如 1e-7，坐标取整到网格上后按整数精确计算；为 0 时使用浮点数和 epsilon 比较
+     */
+    @SafeVarargs
+    public static List<List<List<Point>>> run(PolygonClippingType type, SweepEventQueueType queueType, double gridSize, List<List<List<Point>>> geom, List<List<List<Point>>>... moreGeoms) {
+        GridRounder grid = gridSize == 0 ? null : new GridRounder(gridSize);
+
+        List<List<List<List<Point>>>> geoms = new ArrayList<>();
+        geoms.add(geom);
+        if (moreGeoms != null) {
+            for (List<List<List<Point>>> moreGeom : moreGeoms) {
+                geoms.add(moreGeom);
+            }
+        }
+
+        /* 基于边界框的预处理，见 BboxFilter */
+        List<List<List<Point>>> disjoint = new ArrayList<>();
+        if (geoms.size() > 1) {
+            if (BboxFilter.filter(type, geoms, disjoint)) {
+                return null;
+            }
+            if (grid != null && !disjoint.isEmpty()) {
+                disjoint = grid.snap(disjoint);
+            }
+            // 与 PolygonClipping 一致，只剩一个多边形时原样返回
+            if (geoms.size() <= 1) {
+                if (!geoms.isEmpty()) {
+                    disjoint.addAll(0, grid == null ? geoms.get(0) : grid.snap(geoms.get(0)));
+                }
+                return disjoint;
+            }
+        }
+
+        /* 固定精度模式下坐标取整到网格上，并在扫描之前打断所有线段，见 SnapRounder */
+        if (grid != null) {
+            for (int i = 0; i < geoms.size(); i++) {
+                geoms.set(i, grid.toGrid(geoms.get(i)));
+            }
+            geoms = SnapRounder.snapRound(geoms);
+
+            // 取整后退化为空的多边形：交集、被减的多边形为空时结果为空，其余的直接去掉
+            for (int i = geoms.size() - 1; i >= 0; i--) {
+                if (geoms.get(i).isEmpty()) {
+                    if (type == PolygonClippingType.INTERSECT || (type == PolygonClippingType.DIFFERENCE && i == 0)) {
+                        return disjoint.isEmpty() ? null : disjoint;
+                    }
+                    geoms.remove(i);
+                }
+            }
+            if (geoms.isEmpty()) {
+                return disjoint;
+            }
+        }
+
         Operation operation = new Operation();
-        PtRounder rounder = new PtRounder();
+        PtRounder rounder = grid == null ? new PtRounder() : grid;
 
         operation.type = type;
         operation.rounder = rounder;
+        operation.fixedPrecision = grid != null;
 
         /* Convert inputs to MultiPoly objects */
         List<MultiPolyIn> multipolys = new ArrayList<>();
-        multipolys.add(new MultiPolyIn(geom, true, rounder, operation));
-
-        if (moreGeoms != null) {
-            for (List<List<List<Point>>> moreGeom : moreGeoms) {
-                multipolys.add(new MultiPolyIn(moreGeom, false, rounder, operation));
-            }
+        for (int i = 0; i < geoms.size(); i++) {
+            multipolys.add(new MultiPolyIn(geoms.get(i), i == 0, rounder, operation));
         }
 
         operation.numMultiPolys = multipolys.size();
@@ -73,7 +134,7 @@ public final class Operation {
         }
 
         /* Put segment endpoints in a priority queue */
-        SplayTree<SweepEvent, Object> queue = new SplayTree<>(SweepEvent::compare);
+        SweepEventQueue queue = queueType.create();
         for (MultiPolyIn multipoly : multipolys) {
             List<SweepEvent> sweepEvents = multipoly.getSweepEvents();
             for (SweepEvent sweepEvent : sweepEvents) {
@@ -89,11 +150,16 @@ public final class Operation {
 
         /* Pass the sweep line over those endpoints */
         SweepLine sweepLine = new SweepLine(queue, Segment::compare, operation);
+        OperationContext context = OperationContext.current();
         int prevQueueSize = queue.size();
-        Node<SweepEvent, Object> node = queue.pop();
+        SweepEvent evt = queue.pop();
+
+        while (evt != null) {
+            // 每个事件记一个工作量，超时、被取消时中止
+            if (context != null) {
+                context.advance(1);
+            }
 
-        while (node != null) {
-            SweepEvent evt = node.getKey();
             if (queue.size() == prevQueueSize) {
                 // prevents an infinite loop, an otherwise common manifestation of bugs
                 Segment seg = evt.segment;
@@ -122,7 +188,7 @@ public final class Operation {
                 }
             }
             prevQueueSize = queue.size();
-            node = queue.pop();
+            evt = queue.pop();
         }
 
         // free some memory we don't need anymore
@@ -131,6 +197,8 @@ public final class Operation {
         /* Collect and compile segments we're keeping into a multipolygon */
         List<RingOut> ringsOut = RingOut.factory(sweepLine.segments);
         MultiPolyOut result = new MultiPolyOut(ringsOut);
-        return result.getGeom();
+        List<List<List<Point>>> geomOut = result.getGeom();
+        geomOut.addAll(disjoint);
+        return geomOut;
     }
 }
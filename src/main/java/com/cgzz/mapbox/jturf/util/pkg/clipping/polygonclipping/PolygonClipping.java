@@ -43,4 +43,37 @@ public final class PolygonClipping {
         return Operation.run(PolygonClippingType.DIFFERENCE, subjectGeom, clippingGeoms);
     }
 
+    /**
+     * 固定精度模式的并集，坐标取整到 gridSize 的网格上后按整数精确计算，见 {@link Operation#run(PolygonClippingType, SweepEventQueueType, double, List, List[])}。<br>
+     * 只有一个多边形时也会执行运算，返回取整到网格上并整理后的多边形，而不是原样返回，以下固定精度模式的运算相同
+     */
+    @SafeVarargs
+    public static List<List<List<Point>>> union(double gridSize, List<List<List<Point>>> geom, List<List<List<Point>>>... moreGeoms) {
+        return Operation.run(PolygonClippingType.UNION, SweepEventQueueType.SPLAY_TREE, gridSize, geom, moreGeoms);
+    }
+
+    /**
+     * 固定精度模式的交集
+     */
+    @SafeVarargs
+    public static List<List<List<Point>>> intersection(double gridSize, List<List<List<Point>>> geom, List<List<List<Point>>>... moreGeoms) {
+        return Operation.run(PolygonClippingType.INTERSECT, SweepEventQueueType.SPLAY_TREE, gridSize, geom, moreGeoms);
+    }
+
+    /**
+     * 固定精度模式的补集
+     */
+    @SafeVarargs
+    public static List<List<List<Point>>> xor(double gridSize, List<List<List<Point>>> geom, List<List<List<Point>>>... moreGeoms) {
+        return Operation.run(PolygonClippingType.XOR, SweepEventQueueType.SPLAY_TREE, gridSize, geom, moreGeoms);
+    }
+
+    /**
+     * 固定精度模式的差集
+     */
+    @SafeVarargs
+    public static List<List<List<Point>>> difference(double gridSize, List<List<List<Point>>> subjectGeom, List<List<List<Point>>>... clippingGeoms) {
+        return Operation.run(PolygonClippingType.DIFFERENCE, SweepEventQueueType.SPLAY_TREE, gridSize, subjectGeom, clippingGeoms);
+    }
+
 }
@@ -1,12 +1,30 @@
 package com.cgzz.mapbox.jturf.util.pkg.clipping.polygonclipping;
 
+import com.cgzz.mapbox.jturf.shape.impl.Point;
+
 public class PtRounder {
 
-    private final CoordRounder xRounder = new CoordRounder();
-    private final CoordRounder yRounder = new CoordRounder();
+    private final CoordRounder xRounder;
+    private final CoordRounder yRounder;
+
+    public PtRounder() {
+        this(new CoordRounder(), new CoordRounder());
+    }
+
+    PtRounder(CoordRounder xRounder, CoordRounder yRounder) {
+        this.xRounder = xRounder;
+        this.yRounder = yRounder;
+    }
 
     public Location round(double x, double y) {
         return new Location(this.xRounder.round(x), this.yRounder.round(y));
     }
 
+    /**
+     * 扫描使用的坐标转换为输出的点
+     */
+    public Point toPoint(Location location) {
+        return Point.fromLngLat(location.x, location.y);
+    }
+
 }
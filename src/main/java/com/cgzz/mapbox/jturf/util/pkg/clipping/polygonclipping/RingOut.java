@@ -27,6 +27,8 @@ public class RingOut {
     }
 
     public List<Point> getGeom() {
+        Operation operation = this.events.get(0).segment.operation;
+
         // Remove superfluous points (ie extra points along a straight line),
         Location prevPt = this.events.get(0).getPoint();
         List<Location> points = new ArrayList<>();
@@ -35,7 +37,7 @@ public class RingOut {
         for (int i = 1, iMax = this.events.size() - 1; i < iMax; i++) {
             Location pt = this.events.get(i).getPoint();
             Location nextPt = this.events.get(i + 1).getPoint();
-            if (Vector.compareVectorAngles(pt, prevPt, nextPt) == 0) {
+            if (compareVectorAngles(operation, pt, prevPt, nextPt) == 0) {
                 continue;
             }
             points.add(pt);
@@ -50,7 +52,7 @@ public class RingOut {
         // check if the starting point is necessary
         Location pt = points.get(0);
         Location nextPt = points.get(1);
-        if (Vector.compareVectorAngles(pt, prevPt, nextPt) == 0) {
+        if (compareVectorAngles(operation, pt, prevPt, nextPt) == 0) {
             points.remove(0);
         }
 
@@ -62,11 +64,18 @@ public class RingOut {
         for (int i = iStart; i != iEnd; i += step) {
             Location p = points.get(i);
 
-            orderedPoints.add(Point.fromLngLat(p.x, p.y));
+            orderedPoints.add(operation.rounder.toPoint(p));
         }
         return orderedPoints;
     }
 
+    private static int compareVectorAngles(Operation operation, Location basePt, Location endPt1, Location endPt2) {
+        if (operation.fixedPrecision) {
+            return Vector.compareVectorAnglesExact(basePt, endPt1, endPt2);
+        }
+        return Vector.compareVectorAngles(basePt, endPt1, endPt2);
+    }
+
     public boolean isExteriorRing() {
         if (this._isExteriorRing == null) {
             RingOut enclosing = this.enclosingRing();
@@ -187,8 +196,11 @@ public class RingOut {
                     }
                     /* Found a completed loop. Cut that off and make a ring */
                     if (indexLE != null) {
-                        IntersectionPoint intersectionLE = intersectionLEs.remove(indexLE.intValue());
-                        List<SweepEvent> ringEvents = new ArrayList<>(events.subList(0, intersectionLE.index));
+                        IntersectionPoint intersectionLE = intersectionLEs.get(indexLE);
+                        intersectionLEs.subList(indexLE, intersectionLEs.size()).clear();
+                        List<SweepEvent> loop = events.subList(intersectionLE.index, events.size());
+                        List<SweepEvent> ringEvents = new ArrayList<>(loop);
+                        loop.clear();
                         ringEvents.add(0, ringEvents.get(0).otherSE);
 
                         Collections.reverse(ringEvents);
@@ -4,12 +4,10 @@ import com.cgzz.mapbox.jturf.exception.JTurfException;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.atomic.AtomicInteger;
 
 public class Segment implements Comparable<Segment> {
 
-    private static final AtomicInteger LAST_SEGMENT_ID = new AtomicInteger();
-
+    // 只在同一次 Operation 中比较，由 Operation 递增分配，并行执行的多个 Operation 之间不需要同步
     final int id;
 
     SweepEvent leftSE;
@@ -30,16 +28,12 @@ public class Segment implements Comparable<Segment> {
 
     private Boolean _isInResult;
 
-    private Operation operation;
-
-    public Segment() {
-        this.id = LAST_SEGMENT_ID.incrementAndGet();
-    }
+    final Operation operation;
 
     /* Warning: a reference to ringWindings input will be stored,
      *  and possibly will be later modified */
     public Segment(SweepEvent leftSE, SweepEvent rightSE, List<RingIn> rings, List<Integer> windings, Operation operation) {
-        this.id = LAST_SEGMENT_ID.incrementAndGet();
+        this.id = ++operation.lastSegmentId;
         this.leftSE = leftSE;
         leftSE.segment = this;
         leftSE.otherSE = rightSE;
@@ -105,7 +99,14 @@ public class Segment implements Comparable<Segment> {
 
         Location lPt = this.leftSE.getPoint();
         Location rPt = this.rightSE.getPoint();
-        Location v = this.vector();
+        // the vector from the left point to the right, kept in locals to avoid an allocation per comparison
+        double vx = rPt.x - lPt.x;
+        double vy = rPt.y - lPt.y;
+
+        // 固定精度模式下坐标都是整数，直接按叉积的符号精确判断
+        if (this.operation.fixedPrecision) {
+            return Vector.crossSign(vx, vy, point.x - lPt.x, point.y - lPt.y);
+        }
 
         // Exactly vertical segments.
         if (lPt.x == rPt.x) {
@@ -117,16 +118,16 @@ public class Segment implements Comparable<Segment> {
 
         // Nearly vertical segments with an intersection.
         // Check to see where a point on the line with matching Y coordinate is.
-        double yDist = (point.y - lPt.y) / v.y;
-        double xFromYDist = lPt.x + yDist * v.x;
+        double yDist = (point.y - lPt.y) / vy;
+        double xFromYDist = lPt.x + yDist * vx;
         if (point.x == xFromYDist) {
             return 0;
         }
 
         // General case.
         // Check to see where a point on the line with matching X coordinate is.
-        double xDist = (point.x - lPt.x) / v.x;
-        double yFromXDist = lPt.y + xDist * v.y;
+        double xDist = (point.x - lPt.x) / vx;
+        double yFromXDist = lPt.y + xDist * vy;
         if (point.y == yFromXDist) {
             return 0;
         }
@@ -149,11 +150,16 @@ public class Segment implements Comparable<Segment> {
      * Else, return null.
      */
     public Location getIntersection(Segment other) {
+        Location tlp = this.leftSE.getPoint();
+        Location trp = this.rightSE.getPoint();
+        Location olp = other.leftSE.getPoint();
+        Location orp = other.rightSE.getPoint();
+
         // If bboxes don't overlap, there can't be any intersections
-        Bbox tBbox = this.bbox();
-        Bbox oBbox = other.bbox();
-        Bbox bboxOverlap = Bbox.getBboxOverlap(tBbox, oBbox);
-        if (bboxOverlap == null) {
+        // (the bboxes are kept in locals, same values as bbox() without the allocations)
+        double tMinY = Math.min(tlp.y, trp.y), tMaxY = Math.max(tlp.y, trp.y);
+        double oMinY = Math.min(olp.y, orp.y), oMaxY = Math.max(olp.y, orp.y);
+        if (orp.x < tlp.x || trp.x < olp.x || oMaxY < tMinY || tMaxY < oMinY) {
             return null;
         }
 
@@ -161,18 +167,13 @@ public class Segment implements Comparable<Segment> {
         // This will 'snap' intersections to endpoints if possible, and will
         // handle cases of colinearity.
 
-        Location tlp = this.leftSE.getPoint();
-        Location trp = this.rightSE.getPoint();
-        Location olp = other.leftSE.getPoint();
-        Location orp = other.rightSE.getPoint();
-
         // does each endpoint touch the other segment?
         // note that we restrict the 'touching' definition to only allow segments
         // to touch endpoints that lie forward from where we are in the sweep line pass
-        boolean touchesOtherLSE = Bbox.isInBbox(tBbox, olp) && this.comparePoint(olp) == 0;
-        boolean touchesThisLSE = Bbox.isInBbox(oBbox, tlp) && other.comparePoint(tlp) == 0;
-        boolean touchesOtherRSE = Bbox.isInBbox(tBbox, orp) && this.comparePoint(orp) == 0;
-        boolean touchesThisRSE = Bbox.isInBbox(oBbox, trp) && other.comparePoint(trp) == 0;
+        boolean touchesOtherLSE = isInBox(tlp.x, tMinY, trp.x, tMaxY, olp) && this.comparePoint(olp) == 0;
+        boolean touchesThisLSE = isInBox(olp.x, oMinY, orp.x, oMaxY, tlp) && other.comparePoint(tlp) == 0;
+        boolean touchesOtherRSE = isInBox(tlp.x, tMinY, trp.x, tMaxY, orp) && this.comparePoint(orp) == 0;
+        boolean touchesThisRSE = isInBox(olp.x, oMinY, orp.x, oMaxY, trp) && other.comparePoint(trp) == 0;
 
         // do left endpoints match?
         if (touchesThisLSE && touchesOtherLSE) {
@@ -226,6 +227,12 @@ public class Segment implements Comparable<Segment> {
             return orp;
         }
 
+        // 固定精度模式下先按整数精确判断两个线段是否交叉，浮点数求出的交点在线段附近时可能落在边界框内
+        if (this.operation.fixedPrecision
+                && (this.comparePoint(olp) * this.comparePoint(orp) >= 0 || other.comparePoint(tlp) * other.comparePoint(trp) >= 0)) {
+            return null;
+        }
+
         // None of our endpoints intersect. Look for a general intersection between
         // infinite lines laid over the segments
         Location pt = Vector.intersection(tlp, this.vector(), olp, other.vector());
@@ -237,7 +244,7 @@ public class Segment implements Comparable<Segment> {
         }
 
         // is the intersection found between the lines not on the segments?
-        if (!Bbox.isInBbox(bboxOverlap, pt)) {
+        if (!isInBox(Math.max(tlp.x, olp.x), Math.max(tMinY, oMinY), Math.min(trp.x, orp.x), Math.min(tMaxY, oMaxY), pt)) {
             return null;
         }
 
@@ -245,6 +252,10 @@ public class Segment implements Comparable<Segment> {
         return operation.rounder.round(pt.x, pt.y);
     }
 
+    private static boolean isInBox(double minX, double minY, double maxX, double maxY, Location point) {
+        return minX <= point.x && point.x <= maxX && minY <= point.y && point.y <= maxY;
+    }
+
     /**
      * Split the given segment into multiple segments on the given points.
      * * Each existing segment will retain its leftSE and a new rightSE will be
@@ -258,7 +269,16 @@ public class Segment implements Comparable<Segment> {
      * Warning: input array of points is modified
      */
     public List<SweepEvent> split(Location point) {
-        List<SweepEvent> newEvents = new ArrayList<>();
+        List<SweepEvent> newEvents = new ArrayList<>(2);
+        this.split(point, newEvents);
+        return newEvents;
+    }
+
+    /**
+     * Same as {@link #split(Location)}, the newly generated SweepEvents are
+     * appended to the given list instead of a new one.
+     */
+    public void split(Location point, List<SweepEvent> newEvents) {
         boolean alreadyLinked = point.getEvents() != null;
 
         SweepEvent newLeftSE = new SweepEvent(point, true);
@@ -286,8 +306,6 @@ public class Segment implements Comparable<Segment> {
             newLeftSE.checkForConsuming();
             newRightSE.checkForConsuming();
         }
-
-        return newEvents;
     }
 
     /* Swap which event is left and right */
@@ -0,0 +1,434 @@
+package com.cgzz.mapbox.jturf.util.pkg.clipping.polygonclipping;
+
+import com.cgzz.mapbox.jturf.models.OperationContext;
+import com.cgzz.mapbox.jturf.shape.impl.MultiLineString;
+import com.cgzz.mapbox.jturf.shape.impl.Point;
+import com.cgzz.mapbox.jturf.util.index.SegmentIndex;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 固定精度模式下扫描之前的 snap rounding（Hobby）。<br>
+ * 所有输入顶点、线段之间交点所在的网格单元称为 hot pixel（以网格点为中心、边长为 1 的正方形），
+ * 线段经过哪些 hot pixel 就依次在这些网格点处打断。打断之后的线段除了端点以外不会再相交，
+ * 扫描时不需要计算、取整交点，取整引起的线段位置变化也就不会破坏扫描线上线段的顺序。<br>
+ * 坐标都是网格上的整数，所有判断都按整数精确计算。
+ */
+final class SnapRounder {
+
+    // 分量都在这个范围内时，叉积不会超出 long
+    private static final double LONG_SAFE = 2147483648.0;
+
+    // 交点坐标的小数部分离 0.5 足够远时，浮点数的误差不会影响取整的结果
+    private static final double ROUNDING_MARGIN = 1e-3;
+
+    private SnapRounder() {
+        throw new AssertionError("No Instances.");
+    }
+
+    /**
+     * 打断所有多边形的线段
+     *
+     * @param geoms 坐标为网格整数的多边形，见 {@link GridRounder#toGrid(List)}
+     * @return 打断之后的多边形，取整后少于 3 个点的环被丢弃，外环被丢弃时整个多边形被丢弃
+     */
+    static List<List<List<List<Point>>>> snapRound(List<List<List<List<Point>>>> geoms) {
+        // 去掉重复的点并闭合，所有环的线段按顺序编号
+        List<List<Point>> rings = new ArrayList<>();
+        for (List<List<List<Point>>> geom : geoms) {
+            for (List<List<Point>> polygon : geom) {
+                for (List<Point> ring : polygon) {
+                    rings.add(close(ring));
+                }
+            }
+        }
+        SegmentIndex index = SegmentIndex.build(MultiLineString.fromLngLats(rings));
+        int n = index.size();
+
+        // 输入顶点和交点所在的 hot pixel
+        HotPixels pixels = new HotPixels();
+        for (int i = 0; i < n; i++) {
+            pixels.add(index.x1(i), index.y1(i));
+        }
+        findCrossings(index, n, pixels);
+        pixels.build();
+
+        // 每个线段经过的 hot pixel，按到起点的距离排序
+        int[] hitStart = new int[n + 1];
+        Hits hits = new Hits();
+        for (int i = 0; i < n; i++) {
+            hitStart[i] = hits.size;
+            pixels.search(index.x1(i), index.y1(i), index.x2(i), index.y2(i), hits);
+        }
+        hitStart[n] = hits.size;
+
+        List<List<List<List<Point>>>> result = new ArrayList<>(geoms.size());
+        int r = 0, firstSegment = 0;
+        for (List<List<List<Point>>> geom : geoms) {
+            List<List<List<Point>>> polygons = new ArrayList<>(geom.size());
+            for (List<List<Point>> polygon : geom) {
+                List<List<Point>> snapped = new ArrayList<>(polygon.size());
+                for (int k = 0; k < polygon.size(); k++) {
+                    List<Point> ring = rings.get(r++);
+                    int segmentCount = Math.max(ring.size() - 1, 0);
+                    List<Point> points = new ArrayList<>(ring.size());
+                    for (int i = 0; i < segmentCount; i++) {
+                        append(points, ring.get(i));
+                        for (int h = hitStart[firstSegment + i]; h < hitStart[firstSegment + i + 1]; h++) {
+                            append(points, Point.fromLngLat(hits.xs[h], hits.ys[h]));
+                        }
+                    }
+                    firstSegment += segmentCount;
+                    closeSpikes(points);
+
+                    // 外环退化时整个多边形被丢弃，内环也在外环里面
+                    if (points.size() >= 3) {
+                        points.add(points.get(0));
+                        snapped.add(points);
+                    } else if (k == 0) {
+                        snapped = null;
+                    }
+                    if (snapped == null) {
+                        // 剩下的环仍要跳过它们的线段
+                        for (k++; k < polygon.size(); k++) {
+                            firstSegment += Math.max(rings.get(r++).size() - 1, 0);
+                        }
+                    }
+                }
+                if (snapped != null) {
+                    polygons.add(snapped);
+                }
+            }
+            result.add(polygons);
+        }
+        return result;
+    }
+
+    /**
+     * 添加一个点，去掉重复的点和折返的尖刺（A -> P -> A）。
+     * 打断到同一个网格点上的线段会产生尖刺，尖刺没有面积，去掉后扫描的线段更少
+     */
+    private static void append(List<Point> points, Point p) {
+        int size = points.size();
+        if (size > 0 && equals(points.get(size - 1), p)) {
+            return;
+        }
+        if (size > 1 && equals(points.get(size - 2), p)) {
+            points.remove(size - 1);
+            return;
+        }
+        points.add(p);
+    }
+
+    /**
+     * 去掉首尾相接处的重复点和尖刺
+     */
+    private static void closeSpikes(List<Point> points) {
+        while (points.size() > 1) {
+            int last = points.size() - 1;
+            if (equals(points.get(last), points.get(0))) {
+                points.remove(last);
+            } else if (points.size() > 2 && equals(points.get(last - 1), points.get(0))) {
+                points.remove(last);
+                points.remove(last - 1);
+            } else if (points.size() > 2 && equals(points.get(last), points.get(1))) {
+                points.remove(last);
+                points.remove(0);
+            } else {
+                break;
+            }
+        }
+    }
+
+    private static boolean equals(Point a, Point b) {
+        return a.getX() == b.getX() && a.getY() == b.getY();
+    }
+
+    private static List<Point> close(List<Point> ring) {
+        List<Point> points = new ArrayList<>(ring.size() + 1);
+        for (Point p : ring) {
+            Point last = points.isEmpty() ? null : points.get(points.size() - 1);
+            if (last == null || last.getX() != p.getX() || last.getY() != p.getY()) {
+                points.add(p);
+            }
+        }
+        if (points.size() > 1) {
+            Point first = points.get(0), last = points.get(points.size() - 1);
+            if (first.getX() == last.getX() && first.getY() == last.getY()) {
+                points.remove(points.size() - 1);
+            }
+        }
+        if (!points.isEmpty()) {
+            points.add(points.get(0));
+        }
+        return points;
+    }
+
+    /**
+     * 所有真正相交（交点不在端点上）的线段对，交点取整后作为 hot pixel。
+     * 端点在另一个线段上的情况，端点本身就是 hot pixel
+     */
+    private static void findCrossings(SegmentIndex index, int n, HotPixels pixels) {
+        OperationContext context = OperationContext.current();
+        for (int i = 0; i < n; i++) {
+            if (context != null) {
+                context.advance(1);
+            }
+            double ax = index.x1(i), ay = index.y1(i), bx = index.x2(i), by = index.y2(i);
+            final int a = i;
+            index.search(Math.min(ax, bx), Math.min(ay, by), Math.max(ax, bx), Math.max(ay, by), j -> {
+                if (j > a) {
+                    crossing(index, a, j, pixels);
+                }
+                return true;
+            });
+        }
+    }
+
+    private static void crossing(SegmentIndex index, int i, int j, HotPixels pixels) {
+        double px = index.x1(i), py = index.y1(i), d1x = index.x2(i) - px, d1y = index.y2(i) - py;
+        double qx = index.x1(j), qy = index.y1(j), d2x = index.x2(j) - qx, d2y = index.y2(j) - qy;
+
+        int o1 = Vector.crossSign(d1x, d1y, qx - px, qy - py);
+        int o2 = Vector.crossSign(d1x, d1y, qx + d2x - px, qy + d2y - py);
+        if (o1 * o2 >= 0) {
+            return;
+        }
+        int o3 = Vector.crossSign(d2x, d2y, px - qx, py - qy);
+        int o4 = Vector.crossSign(d2x, d2y, px + d1x - qx, py + d1y - qy);
+        if (o3 * o4 >= 0) {
+            return;
+        }
+
+        // 交点为 p + d1 * num / den
+        double x, y;
+        if (Math.abs(d1x) < LONG_SAFE && Math.abs(d1y) < LONG_SAFE && Math.abs(d2x) < LONG_SAFE && Math.abs(d2y) < LONG_SAFE
+                && Math.abs(qx - px) < LONG_SAFE && Math.abs(qy - py) < LONG_SAFE) {
+            long den = (long) d1x * (long) d2y - (long) d1y * (long) d2x;
+            long num = (long) (qx - px) * (long) d2y - (long) (qy - py) * (long) d2x;
+            x = px + roundQuotient((long) d1x, num, den);
+            y = py + roundQuotient((long) d1y, num, den);
+        } else {
+            BigInteger den = big(d1x).multiply(big(d2y)).subtract(big(d1y).multiply(big(d2x)));
+            BigInteger num = big(qx - px).multiply(big(d2y)).subtract(big(qy - py).multiply(big(d2x)));
+            x = px + roundQuotient(big(d1x).multiply(num), den);
+            y = py + roundQuotient(big(d1y).multiply(num), den);
+        }
+        pixels.add(x, y);
+    }
+
+    /**
+     * a * num / den 取整到最近的整数，0 < num / den < 1
+     */
+    private static double roundQuotient(long a, long num, long den) {
+        double q = a * ((double) num / den);
+        double f = q - Math.floor(q);
+        if (Math.abs(f - 0.5) > ROUNDING_MARGIN) {
+            return Math.rint(q);
+        }
+        return roundQuotient(BigInteger.valueOf(a).multiply(BigInteger.valueOf(num)), BigInteger.valueOf(den));
+    }
+
+    /**
+     * 精确的 n / d 取整到最近的整数，恰好在中间时向上取整
+     */
+    private static double roundQuotient(BigInteger n, BigInteger d) {
+        if (d.signum() < 0) {
+            n = n.negate();
+            d = d.negate();
+        }
+        // floor((2n + d) / 2d)
+        BigInteger[] qr = n.shiftLeft(1).add(d).divideAndRemainder(d.shiftLeft(1));
+        BigInteger q = qr[1].signum() < 0 ? qr[0].subtract(BigInteger.ONE) : qr[0];
+        return q.doubleValue();
+    }
+
+    private static BigInteger big(double value) {
+        return BigInteger.valueOf((long) value);
+    }
+
+    /**
+     * 线段经过网格点 (cx, cy) 的 hot pixel 时记录下来，不含线段自己的端点
+     */
+    private static void hit(double lx, double ly, double rx, double ry, double cx, double cy, Hits hits, int start) {
+        if ((cx == lx && cy == ly) || (cx == rx && cy == ry)) {
+            return;
+        }
+        // 分离轴：x、y 两个方向上网格单元与线段的边界框重叠（坐标都是整数，即中心在边界框内），
+        // 并且线段所在直线到中心的距离不超过中心到角在法向上的投影：|v × (c - l)| <= (|vx| + |vy|) / 2
+        if (cx < Math.min(lx, rx) || cx > Math.max(lx, rx) || cy < Math.min(ly, ry) || cy > Math.max(ly, ry)) {
+            return;
+        }
+        double vx = rx - lx, vy = ry - ly;
+        long limit = (long) (Math.abs(vx) + Math.abs(vy)) / 2;
+        if (!Vector.crossWithin(vx, vy, cx - lx, cy - ly, limit)) {
+            return;
+        }
+        hits.add(cx, cy, start);
+    }
+
+    /**
+     * 所有 hot pixel 的网格点，按均匀的网格分桶，查找线段经过的 hot pixel 时只需要检查线段附近的桶
+     */
+    private static final class HotPixels {
+
+        double[] xs = new double[16];
+        double[] ys = new double[16];
+        int size;
+
+        private double minX, minY, cellSize;
+        private int columns, rows;
+        // 按桶排列的点的下标，第 c 个桶为 order[cellStart[c], cellStart[c + 1])
+        private int[] cellStart;
+        private int[] order;
+
+        void add(double x, double y) {
+            if (this.size == this.xs.length) {
+                int capacity = this.size << 1;
+                this.xs = Arrays.copyOf(this.xs, capacity);
+                this.ys = Arrays.copyOf(this.ys, capacity);
+            }
+            this.xs[this.size] = x;
+            this.ys[this.size] = y;
+            this.size++;
+        }
+
+        void build() {
+            if (this.size == 0) {
+                return;
+            }
+            double minX = Double.POSITIVE_INFINITY, minY = Double.POSITIVE_INFINITY;
+            double maxX = Double.NEGATIVE_INFINITY, maxY = Double.NEGATIVE_INFINITY;
+            for (int p = 0; p < this.size; p++) {
+                minX = Math.min(minX, this.xs[p]);
+                minY = Math.min(minY, this.ys[p]);
+                maxX = Math.max(maxX, this.xs[p]);
+                maxY = Math.max(maxY, this.ys[p]);
+            }
+            double width = maxX - minX, height = maxY - minY;
+            // 平均每个桶两个点左右，行、列数都不超过点数
+            double cellSize = Math.sqrt(Math.max(width, 1) * Math.max(height, 1) * 2 / this.size);
+            cellSize = Math.max(Math.max(cellSize, 1), Math.max(width, height) / this.size);
+
+            this.minX = minX;
+            this.minY = minY;
+            this.cellSize = cellSize;
+            this.columns = (int) (width / cellSize) + 1;
+            this.rows = (int) (height / cellSize) + 1;
+
+            int[] cells = new int[this.size];
+            int[] cellStart = new int[this.columns * this.rows + 1];
+            for (int p = 0; p < this.size; p++) {
+                cells[p] = row(this.ys[p]) * this.columns + column(this.xs[p]);
+                cellStart[cells[p] + 1]++;
+            }
+            for (int c = 1; c < cellStart.length; c++) {
+                cellStart[c] += cellStart[c - 1];
+            }
+            int[] next = Arrays.copyOf(cellStart, cellStart.length - 1);
+            int[] order = new int[this.size];
+            for (int p = 0; p < this.size; p++) {
+                order[next[cells[p]]++] = p;
+            }
+            this.cellStart = cellStart;
+            this.order = order;
+        }
+
+        /**
+         * 查找线段经过的 hot pixel，按在线段上的投影排序后追加到 hits。<br>
+         * 沿线段的主方向逐列（或逐行）查找，线段经过的 hot pixel 在另一个方向上离线段不超过 1
+         */
+        void search(double lx, double ly, double rx, double ry, Hits hits) {
+            int start = hits.size;
+            if (this.size == 0) {
+                return;
+            }
+            double vx = rx - lx, vy = ry - ly;
+            double x0 = Math.min(lx, rx), x1 = Math.max(lx, rx), y0 = Math.min(ly, ry), y1 = Math.max(ly, ry);
+            if (Math.abs(vx) >= Math.abs(vy)) {
+                for (int c = column(x0), end = column(x1); c <= end; c++) {
+                    double a = Math.max(x0, this.minX + c * this.cellSize), b = Math.min(x1, this.minX + (c + 1) * this.cellSize);
+                    double ya = ly + (a - lx) * vy / vx, yb = ly + (b - lx) * vy / vx;
+                    visit(c, c, row(Math.max(y0, Math.min(ya, yb) - 2)), row(Math.min(y1, Math.max(ya, yb) + 2)), lx, ly, rx, ry, hits, start);
+                }
+            } else {
+                for (int r = row(y0), end = row(y1); r <= end; r++) {
+                    double a = Math.max(y0, this.minY + r * this.cellSize), b = Math.min(y1, this.minY + (r + 1) * this.cellSize);
+                    double xa = lx + (a - ly) * vx / vy, xb = lx + (b - ly) * vx / vy;
+                    visit(column(Math.max(x0, Math.min(xa, xb) - 2)), column(Math.min(x1, Math.max(xa, xb) + 2)), r, r, lx, ly, rx, ry, hits, start);
+                }
+            }
+            hits.sort(start, lx, ly, rx, ry);
+        }
+
+        private void visit(int c0, int c1, int r0, int r1, double lx, double ly, double rx, double ry, Hits hits, int start) {
+            for (int r = r0; r <= r1; r++) {
+                for (int c = c0; c <= c1; c++) {
+                    int cell = r * this.columns + c;
+                    for (int k = this.cellStart[cell]; k < this.cellStart[cell + 1]; k++) {
+                        int p = this.order[k];
+                        hit(lx, ly, rx, ry, this.xs[p], this.ys[p], hits, start);
+                    }
+                }
+            }
+        }
+
+        private int column(double x) {
+            return Math.min(Math.max((int) ((x - this.minX) / this.cellSize), 0), this.columns - 1);
+        }
+
+        private int row(double y) {
+            return Math.min(Math.max((int) ((y - this.minY) / this.cellSize), 0), this.rows - 1);
+        }
+
+    }
+
+    /**
+     * 所有线段经过的 hot pixel，按线段依次存放
+     */
+    private static final class Hits {
+
+        double[] xs = new double[16];
+        double[] ys = new double[16];
+        int size;
+
+        // 同一个网格点可能同时是多个线段的端点或交点，只记录一次
+        void add(double x, double y, int start) {
+            for (int h = start; h < this.size; h++) {
+                if (this.xs[h] == x && this.ys[h] == y) {
+                    return;
+                }
+            }
+            if (this.size == this.xs.length) {
+                int capacity = this.size << 1;
+                this.xs = Arrays.copyOf(this.xs, capacity);
+                this.ys = Arrays.copyOf(this.ys, capacity);
+            }
+            this.xs[this.size] = x;
+            this.ys[this.size] = y;
+            this.size++;
+        }
+
+        // 按在线段上的投影排序，一般只有几个，插入排序即可
+        void sort(int start, double lx, double ly, double rx, double ry) {
+            double vx = rx - lx, vy = ry - ly;
+            for (int h = start + 1; h < this.size; h++) {
+                double x = this.xs[h], y = this.ys[h];
+                double key = (x - lx) * vx + (y - ly) * vy;
+                int k = h - 1;
+                while (k >= start && (this.xs[k] - lx) * vx + (this.ys[k] - ly) * vy > key) {
+                    this.xs[k + 1] = this.xs[k];
+                    this.ys[k + 1] = this.ys[k];
+                    k--;
+                }
+                this.xs[k + 1] = x;
+                this.ys[k + 1] = y;
+            }
+        }
+
+    }
+
+}
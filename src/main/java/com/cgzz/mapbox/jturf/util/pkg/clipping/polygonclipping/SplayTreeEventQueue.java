@@ -0,0 +1,32 @@
+package com.cgzz.mapbox.jturf.util.pkg.clipping.polygonclipping;
+
+import com.cgzz.mapbox.jturf.util.pkg.clipping.splaytree.SplayTree;
+
+/**
+ * 基于 {@link SplayTree} 的事件队列，插入和删除时的比较会顺带链接相同的点
+ */
+final class SplayTreeEventQueue implements SweepEventQueue {
+
+    private final SplayTree<SweepEvent, Object> tree = new SplayTree<>(SweepEvent::compare);
+
+    @Override
+    public void insert(SweepEvent event) {
+        tree.insert(event);
+    }
+
+    @Override
+    public SweepEvent pop() {
+        return tree.isEmpty() ? null : tree.pop().getKey();
+    }
+
+    @Override
+    public void remove(SweepEvent event) {
+        tree.remove(event);
+    }
+
+    @Override
+    public int size() {
+        return tree.size();
+    }
+
+}
@@ -16,6 +16,9 @@ public class SweepEvent implements Comparable<SweepEvent> {
 
     SweepEvent consumedBy;
 
+    // 在 HeapEventQueue 堆数组中的下标，不在堆中时为 -1
+    int queueIndex = -1;
+
     public SweepEvent(Location point, boolean isLeft) {
         point.addEvent(this);
         this.point = point;
@@ -96,6 +99,9 @@ public class SweepEvent implements Comparable<SweepEvent> {
      * re-computing already-computed values.
      */
     public Comparator<SweepEvent> getLeftmostComparator(SweepEvent baseEvent) {
+        if (this.segment.operation.fixedPrecision) {
+            return this.getExactLeftmostComparator(baseEvent);
+        }
         Map<SweepEvent, SweepEventLeftMost> cache = new HashMap<>();
 
         return (a, b) -> {
@@ -123,6 +129,33 @@ public class SweepEvent implements Comparable<SweepEvent> {
         };
     }
 
+    /**
+     * 固定精度模式下按整数精确比较，与 {@link #getLeftmostComparator(SweepEvent)} 的顺序一致：
+     * 从 baseEvent 的方向开始按顺时针的角度排序。线段很长、夹角很小时 cosine 无法区分
+     */
+    private Comparator<SweepEvent> getExactLeftmostComparator(SweepEvent baseEvent) {
+        double bx = baseEvent.point.x - this.point.x, by = baseEvent.point.y - this.point.y;
+
+        return (a, b) -> {
+            double ax = a.otherSE.point.x - this.point.x, ay = a.otherSE.point.y - this.point.y;
+            double cx = b.otherSE.point.x - this.point.x, cy = b.otherSE.point.y - this.point.y;
+
+            // sine >= 0 的在前
+            int halfA = Vector.crossSign(ax, ay, bx, by) >= 0 ? 0 : 1;
+            int halfB = Vector.crossSign(cx, cy, bx, by) >= 0 ? 0 : 1;
+            if (halfA != halfB) {
+                return halfA - halfB;
+            }
+
+            int cmp = Vector.crossSign(ax, ay, cx, cy);
+            if (cmp != 0) {
+                return cmp;
+            }
+            // 共线：同向时相等，反向时与 baseEvent 同向的在前
+            return Double.compare(Math.signum(cx * bx + cy * by), Math.signum(ax * bx + ay * by));
+        };
+    }
+
     private void fillCache(Map<SweepEvent, SweepEventLeftMost> cache, SweepEvent linkedEvent, SweepEvent baseEvent) {
         SweepEvent nextEvent = linkedEvent.otherSE;
         cache.put(linkedEvent, SweepEventLeftMost.create(
@@ -0,0 +1,27 @@
+package com.cgzz.mapbox.jturf.util.pkg.clipping.polygonclipping;
+
+/**
+ * 扫描线的事件队列，按 {@link SweepEvent#compare(SweepEvent, SweepEvent)} 的顺序弹出事件。<br>
+ * 点坐标相同但不是同一个 {@link Location} 的事件在队列中共存时必须被链接（{@link SweepEvent#link(SweepEvent)}），
+ * 实现需要保证这一点。
+ */
+public interface SweepEventQueue {
+
+    /**
+     * 加入事件
+     */
+    void insert(SweepEvent event);
+
+    /**
+     * 弹出最小的事件，队列为空时返回 null
+     */
+    SweepEvent pop();
+
+    /**
+     * 移除事件，事件不在队列中时忽略
+     */
+    void remove(SweepEvent event);
+
+    int size();
+
+}
@@ -0,0 +1,31 @@
+package com.cgzz.mapbox.jturf.util.pkg.clipping.polygonclipping;
+
+/**
+ * 事件队列的实现方式
+ */
+public enum SweepEventQueueType {
+
+    /**
+     * 伸展树，与 polygon-clipping 原版一致
+     */
+    SPLAY_TREE {
+        @Override
+        SweepEventQueue create() {
+            return new SplayTreeEventQueue();
+        }
+    },
+
+    /**
+     * 带下标的四叉堆，入队时通过坐标表链接相同的点
+     */
+    HEAP {
+        @Override
+        SweepEventQueue create() {
+            return new HeapEventQueue();
+        }
+    },
+    ;
+
+    abstract SweepEventQueue create();
+
+}
@@ -10,12 +10,15 @@ import java.util.List;
 
 public class SweepLine {
 
-    SplayTree<SweepEvent, Object> queue;
+    SweepEventQueue queue;
     SplayTree<Segment, Object> tree;
     List<Segment> segments;
     Operation operation;
 
-    public SweepLine(SplayTree<SweepEvent, Object> queue, Comparator<Segment> comparator, Operation operation) {
+    // process() 返回的新事件，调用方在下一次 process() 之前处理完，因此可以复用
+    private final List<SweepEvent> newEvents = new ArrayList<>();
+
+    public SweepLine(SweepEventQueue queue, Comparator<Segment> comparator, Operation operation) {
         this.queue = queue;
         this.tree = new SplayTree<>(comparator);
         this.segments = new ArrayList<>();
@@ -24,7 +27,8 @@ public class SweepLine {
 
     public List<SweepEvent> process(SweepEvent event) {
         Segment segment = event.segment;
-        List<SweepEvent> newEvents = new ArrayList<>();
+        List<SweepEvent> newEvents = this.newEvents;
+        newEvents.clear();
 
         // if we've already been consumed by another segment,
         // clean up our body parts and get out
@@ -49,57 +53,50 @@ public class SweepLine {
 
         Node<Segment, Object> prevNode = node;
         Node<Segment, Object> nextNode = node;
-        Segment sentinel = new Segment();
-        Segment prevSeg = sentinel;
-        Segment nextSeg = sentinel;
+        Segment prevSeg = null;
+        Segment nextSeg = null;
 
         // skip consumed segments still in tree
-        while (prevSeg == sentinel) {
-            prevNode = this.tree.prev(prevNode);
-            if (prevNode == null) {
-                prevSeg = null;
-            } else if (prevNode.getKey().consumedBy == null) {
+        while ((prevNode = this.tree.prev(prevNode)) != null) {
+            if (prevNode.getKey().consumedBy == null) {
                 prevSeg = prevNode.getKey();
+                break;
             }
         }
 
         // skip consumed segments still in tree
-        while (nextSeg == sentinel) {
-            nextNode = this.tree.next(nextNode);
-            if (nextNode == null) {
-                nextSeg = null;
-            } else if (nextNode.getKey().consumedBy == null) {
+        while ((nextNode = this.tree.next(nextNode)) != null) {
+            if (nextNode.getKey().consumedBy == null) {
                 nextSeg = nextNode.getKey();
+                break;
             }
         }
 
         if (event.isLeft) {
             // Check for intersections against the previous segment in the sweep line
             Location prevMySplitter = null;
-            if (prevSeg != null && prevSeg != sentinel) {
+            if (prevSeg != null) {
                 Location prevInter = prevSeg.getIntersection(segment);
                 if (prevInter != null) {
                     if (!segment.isAnEndpoint(prevInter)) {
                         prevMySplitter = prevInter;
                     }
                     if (!prevSeg.isAnEndpoint(prevInter)) {
-                        List<SweepEvent> newEventsFromSplit = this._splitSafely(prevSeg, prevInter);
-                        newEvents.addAll(newEventsFromSplit);
+                        this._splitSafely(prevSeg, prevInter, newEvents);
                     }
                 }
             }
 
             // Check for intersections against the next segment in the sweep line
             Location nextMySplitter = null;
-            if (nextSeg != null && nextSeg != sentinel) {
+            if (nextSeg != null) {
                 Location nextInter = nextSeg.getIntersection(segment);
                 if (nextInter != null) {
                     if (!segment.isAnEndpoint(nextInter)) {
                         nextMySplitter = nextInter;
                     }
                     if (!nextSeg.isAnEndpoint(nextInter)) {
-                        List<SweepEvent> newEventsFromSplit = this._splitSafely(nextSeg, nextInter);
-                        newEvents.addAll(newEventsFromSplit);
+                        this._splitSafely(nextSeg, nextInter, newEvents);
                     }
                 }
             }
@@ -123,8 +120,7 @@ public class SweepLine {
                 this.queue.remove(segment.rightSE);
                 newEvents.add(segment.rightSE);
 
-                List<SweepEvent> newEventsFromSplit = segment.split(mySplitter);
-                newEvents.addAll(newEventsFromSplit);
+                segment.split(mySplitter, newEvents);
             }
 
             if (newEvents.size() > 0) {
@@ -147,12 +143,10 @@ public class SweepLine {
                 Location inter = prevSeg.getIntersection(nextSeg);
                 if (inter != null) {
                     if (!prevSeg.isAnEndpoint(inter)) {
-                        List<SweepEvent> newEventsFromSplit = this._splitSafely(prevSeg, inter);
-                        newEvents.addAll(newEventsFromSplit);
+                        this._splitSafely(prevSeg, inter, newEvents);
                     }
                     if (!nextSeg.isAnEndpoint(inter)) {
-                        List<SweepEvent> newEventsFromSplit = this._splitSafely(nextSeg, inter);
-                        newEvents.addAll(newEventsFromSplit);
+                        this._splitSafely(nextSeg, inter, newEvents);
                     }
                 }
             }
@@ -165,7 +159,7 @@ public class SweepLine {
 
     /* Safely split a segment that is currently in the datastructures
      * IE - a segment other than the one that is currently being processed. */
-    public List<SweepEvent> _splitSafely(Segment seg, Location pt) {
+    public void _splitSafely(Segment seg, Location pt, List<SweepEvent> newEvents) {
         // Rounding errors can cause changes in ordering,
         // so remove afected segments and right sweep events before splitting
         // removeNode() doesn't work, so have re-find the seg
@@ -173,13 +167,12 @@ public class SweepLine {
         this.tree.remove(seg);
         SweepEvent rightSE = seg.rightSE;
         this.queue.remove(rightSE);
-        List<SweepEvent> newEvents = seg.split(pt);
+        seg.split(pt, newEvents);
         newEvents.add(rightSE);
         // splitting can trigger consumption
         if (seg.consumedBy == null) {
             this.tree.add(seg);
         }
-        return newEvents;
     }
 
 }
@@ -1,7 +1,12 @@
 package com.cgzz.mapbox.jturf.util.pkg.clipping.polygonclipping;
 
+import java.math.BigInteger;
+
 public class Vector {
 
+    // 分量都在这个范围内时，叉积的两个乘积及其差都不会超出 long
+    private static final double LONG_SAFE = 2147483648.0;
+
     // Cross Product of two vectors with first point at origin
     public static double crossProduct(Location a, Location b) {
         return a.x * b.y - a.y * b.x;
@@ -21,6 +26,35 @@ public class Vector {
         return Flp.cmp(kross, 0);
     }
 
+    /**
+     * 整数坐标（固定精度模式）下叉积 ax * by - ay * bx 的符号，精确计算
+     */
+    public static int crossSign(double ax, double ay, double bx, double by) {
+        if (Math.abs(ax) < LONG_SAFE && Math.abs(ay) < LONG_SAFE && Math.abs(bx) < LONG_SAFE && Math.abs(by) < LONG_SAFE) {
+            return Long.signum((long) ax * (long) by - (long) ay * (long) bx);
+        }
+        BigInteger left = BigInteger.valueOf((long) ax).multiply(BigInteger.valueOf((long) by));
+        BigInteger right = BigInteger.valueOf((long) ay).multiply(BigInteger.valueOf((long) bx));
+        return left.compareTo(right);
+    }
+
+    /**
+     * 整数坐标（固定精度模式）下 |ax * by - ay * bx| <= limit，精确计算
+     */
+    public static boolean crossWithin(double ax, double ay, double bx, double by, long limit) {
+        if (Math.abs(ax) < LONG_SAFE && Math.abs(ay) < LONG_SAFE && Math.abs(bx) < LONG_SAFE && Math.abs(by) < LONG_SAFE) {
+            return Math.abs((long) ax * (long) by - (long) ay * (long) bx) <= limit;
+        }
+        BigInteger cross = BigInteger.valueOf((long) ax).multiply(BigInteger.valueOf((long) by))
+                .subtract(BigInteger.valueOf((long) ay).multiply(BigInteger.valueOf((long) bx)));
+        return cross.abs().compareTo(BigInteger.valueOf(limit)) <= 0;
+    }
+
+    // compareVectorAngles 的固定精度版本
+    public static int compareVectorAnglesExact(Location basePt, Location endPt1, Location endPt2) {
+        return crossSign(endPt1.x - basePt.x, endPt1.y - basePt.y, endPt2.x - basePt.x, endPt2.y - basePt.y);
+    }
+
     public static double length(Location v) {
         return Math.sqrt(dotProduct(v, v));
     }
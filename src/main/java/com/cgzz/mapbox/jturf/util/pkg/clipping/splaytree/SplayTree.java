@@ -38,6 +38,9 @@ public class SplayTree<K extends Comparable<K>, V> {
     private Node<K, V> _root;
     private int _size = 0;
 
+    // 自顶向下伸展时临时挂接左右子树的头节点，复用以避免每次伸展都创建对象
+    private final Node<K, V> _header = new Node<>(null, null);
+
     public SplayTree() {
         _comparator = Comparable::compareTo;
     }
@@ -48,7 +51,8 @@ public class SplayTree<K extends Comparable<K>, V> {
 
     // Simple top down splay, not requiring i to be in the tree t.
     public Node<K, V> splay(K i, Node<K, V> t) {
-        Node<K, V> N = new Node<>(null, null);
+        Node<K, V> N = this._header;
+        N.left = N.right = null;
         Node<K, V> l = N, r = N;
 
         while (true) {
@@ -95,6 +99,7 @@ public class SplayTree<K extends Comparable<K>, V> {
         r.left = t.right;
         t.left = N.right;
         t.right = N.left;
+        N.left = N.right = null;
         return t;
     }
 
@@ -182,11 +187,9 @@ public class SplayTree<K extends Comparable<K>, V> {
      * Adds a key, if it is not present in the tree
      */
     public Node<K, V> add(K key, V data) {
-        Node<K, V> node = new Node<>(key, data);
         if (this._root == null) {
-            node.left = node.right = null;
             this._size++;
-            this._root = node;
+            return this._root = new Node<>(key, data);
         }
 
         Node<K, V> t = splay(key, this._root);
@@ -194,6 +197,8 @@ public class SplayTree<K extends Comparable<K>, V> {
         if (cmp == 0) {
             this._root = t;
         } else {
+            // 只有确实需要插入时才创建节点
+            Node<K, V> node = new Node<>(key, data);
             if (cmp < 0) {
                 node.left = t.left;
                 node.right = t;
@@ -243,6 +248,14 @@ public class SplayTree<K extends Comparable<K>, V> {
                 node = node.left;
             }
             this._root = splay(node.key, this._root);
+
+            // 伸展后最小节点位于根且没有左子树，直接摘下，不需要再按键查找一次
+            if (this._root == node && node.left == null) {
+                this._root = node.right;
+                this._size--;
+                node.right = null;
+                return node;
+            }
             this._root = this._remove(node.key, this._root);
 
             return new Node<>(node.key, node.data);
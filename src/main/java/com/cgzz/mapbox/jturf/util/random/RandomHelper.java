@@ -6,8 +6,9 @@ import com.cgzz.mapbox.jturf.shape.impl.*;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.stream.Collectors;
-import java.util.stream.DoubleStream;
 
 public final class RandomHelper {
 
@@ -24,7 +25,7 @@ public final class RandomHelper {
     public static Feature<Point> randomPoint(BoundingBox bbox) {
         double[] b = bbox != null ? bbox.bbox() : null;
 
-        return Feature.fromGeometry(randomPositionUnchecked(b));
+        return Feature.fromGeometry(randomPositionUnchecked(b, ThreadLocalRandom.current()));
     }
 
     /**
@@ -35,6 +36,21 @@ public final class RandomHelper {
      * @return GeoJSON FeatureCollection of point
      */
     public static FeatureCollection<Point> randomPoint(int count, BoundingBox bbox) {
+        return randomPoint(count, bbox, ThreadLocalRandom.current());
+    }
+
+    /**
+     * 使用指定的随机数生成器返回一组随机的点，相同种子的生成器得到相同的结果
+     *
+     * @param count  指定生成随机点的数量
+     * @param bbox   指定的随机边界框，默认在[-180, -90, 180, 90]范围
+     * @param random 随机数生成器
+     * @return GeoJSON FeatureCollection of point
+     */
+    public static FeatureCollection<Point> randomPoint(int count, BoundingBox bbox, Random random) {
+        if (random == null) {
+            throw new JTurfException("random is required");
+        }
         if (count <= 0) {
             count = 1;
         }
@@ -42,7 +58,7 @@ public final class RandomHelper {
 
         List<Feature<Point>> features = new ArrayList<>(count);
         for (int i = 0; i < count; i++) {
-            features.add(Feature.fromGeometry(randomPositionUnchecked(b)));
+            features.add(Feature.fromGeometry(randomPositionUnchecked(b, random)));
         }
 
         return FeatureCollection.fromFeatures(features);
@@ -72,6 +88,24 @@ public final class RandomHelper {
      * @return GeoJSON FeatureCollection of linestrings
      */
     public static FeatureCollection<LineString> randomLineString(int count, BoundingBox bbox, Integer numVertices, Double maxLength, Double maxRotation) {
+        return randomLineString(count, bbox, numVertices, maxLength, maxRotation, ThreadLocalRandom.current());
+    }
+
+    /**
+     * 使用指定的随机数生成器返回一组随机的线段，相同种子的生成器得到相同的结果
+     *
+     * @param count       指定生成随机线段的数量
+     * @param bbox        指定的随机边界框，默认在[-180, -90, 180, 90]范围
+     * @param numVertices 每个 LineString 将包含的坐标数。（默认 10）
+     * @param maxLength   点与其前驱点之间可以相差的最大水平距离（默认为 0.0001）
+     * @param maxRotation 线段可以从上一条线段转动的最大弧度数。（默认为 Math.PI/8）
+     * @param random      随机数生成器
+     * @return GeoJSON FeatureCollection of linestrings
+     */
+    public static FeatureCollection<LineString> randomLineString(int count, BoundingBox bbox, Integer numVertices, Double maxLength, Double maxRotation, Random random) {
+        if (random == null) {
+            throw new JTurfException("random is required");
+        }
         if (count <= 0) {
             count = 1;
         }
@@ -89,7 +123,7 @@ public final class RandomHelper {
 
         List<Feature<LineString>> features = new ArrayList<>(count);
         for (int i = 0; i < count; i++) {
-            Point startingPoint = randomPositionUnchecked(b);
+            Point startingPoint = randomPositionUnchecked(b, random);
 
             List<Point> vertices = new ArrayList<>(numVertices);
             vertices.add(startingPoint);
@@ -98,14 +132,14 @@ public final class RandomHelper {
                 Point prev = vertices.get(j);
                 double priorAngle;
                 if (j == 0) {
-                    priorAngle = Math.random() * 2 * Math.PI;
+                    priorAngle = random.nextDouble() * 2 * Math.PI;
                 } else {
                     Point prev2 = vertices.get(j - 1);
                     priorAngle = Math.tan((prev.getY() - prev2.getY()) / (prev.getX() - prev2.getX()));
                 }
 
-                double angle = priorAngle + (Math.random() - 0.5) * maxRotation * 2;
-                double distance = Math.random() * maxLength;
+                double angle = priorAngle + (random.nextDouble() - 0.5) * maxRotation * 2;
+                double distance = random.nextDouble() * maxLength;
 
                 vertices.add(Point.fromLngLat(prev.getX() + distance * Math.cos(angle), prev.getY() + distance * Math.sin(angle)));
             }
@@ -137,11 +171,29 @@ public final class RandomHelper {
      * @return GeoJSON FeatureCollection of polygons
      */
     public static FeatureCollection<Polygon> randomPolygon(int count, BoundingBox bbox, Integer numVertices, Double maxRadialLength) {
+        return randomPolygon(count, bbox, numVertices, maxRadialLength, ThreadLocalRandom.current());
+    }
+
+    /**
+     * 使用指定的随机数生成器返回一组随机的多边形，相同种子的生成器得到相同的结果
+     *
+     * @param count           指定生成随机线段的数量
+     * @param bbox            指定的随机边界框，默认在[-180, -90, 180, 90]范围
+     * @param numVertices     每个 Polygon 将包含的坐标数。（默认 10）
+     * @param maxRadialLength 点到达多边形中心的最大的纬度或经度数。（默认 10）
+     * @param random          随机数生成器
+     * @return GeoJSON FeatureCollection of polygons
+     */
+    public static FeatureCollection<Polygon> randomPolygon(int count, BoundingBox bbox, Integer numVertices, Double maxRadialLength, Random random) {
+        if (random == null) {
+            throw new JTurfException("random is required");
+        }
         if (count <= 0) {
             count = 1;
         }
         double[] b = bbox != null ? bbox.bbox() : new double[]{-180, -90, 180, 90};
-        if (numVertices == null) {
+        // 至少也要求3个点
+        if (numVertices == null || numVertices < 3) {
             numVertices = 10;
         }
         if (maxRadialLength == null) {
@@ -163,7 +215,10 @@ public final class RandomHelper {
         List<Feature<Polygon>> features = new ArrayList<>(count);
         for (int i = 0; i < count; i++) {
             List<Point> vertices = new ArrayList<>(numVertices + 1);
-            double[] circleOffsets = DoubleStream.generate(Math::random).limit(10).toArray();
+            double[] circleOffsets = new double[numVertices];
+            for (int j = 0; j < circleOffsets.length; j++) {
+                circleOffsets[j] = random.nextDouble();
+            }
             // 将每个元素替换为它与前一个元素的和
             for (int j = 1; j < circleOffsets.length; j++) {
                 circleOffsets[j] += circleOffsets[j - 1];
@@ -172,7 +227,7 @@ public final class RandomHelper {
             double last = circleOffsets[circleOffsets.length - 1];
             for (double cur : circleOffsets) {
                 cur = (cur * 2 * Math.PI) / last;
-                double radialScaler = Math.random();
+                double radialScaler = random.nextDouble();
 
                 vertices.add(Point.fromLngLat(radialScaler * maxRadialLength * Math.sin(cur), radialScaler * maxRadialLength * Math.cos(cur)));
             }
@@ -181,10 +236,11 @@ public final class RandomHelper {
             // center the polygon around something
             Collections.reverse(vertices); // Make counter-clockwise to adhere to right hand rule.
 
-            Polygon polygon = Polygon.fromOuterInner(vertices.stream().map(cur -> {
-                Point hub = randomPositionUnchecked(paddedBbox);
-                return Point.fromLngLat(cur.getX() + hub.getX(), cur.getY() + hub.getY());
-            }).collect(Collectors.toList()));
+            // 整个多边形共用一个中心点
+            Point hub = randomPositionUnchecked(paddedBbox, random);
+            Polygon polygon = Polygon.fromOuterInner(vertices.stream()
+                    .map(cur -> Point.fromLngLat(cur.getX() + hub.getX(), cur.getY() + hub.getY()))
+                    .collect(Collectors.toList()));
 
             features.add(Feature.fromGeometry(polygon));
         }
@@ -192,28 +248,28 @@ public final class RandomHelper {
         return FeatureCollection.fromFeatures(features);
     }
 
-    private static Point randomPositionUnchecked(double[] bbox) {
+    private static Point randomPositionUnchecked(double[] bbox, Random random) {
         if (bbox == null) {
-            return Point.fromLngLat(lon(), lat());
+            return Point.fromLngLat(lon(random), lat(random));
         } else {
-            return coordInBBox(bbox);
+            return coordInBBox(bbox, random);
         }
     }
 
-    private static Point coordInBBox(double[] bbox) {
-        return Point.fromLngLat(Math.random() * (bbox[2] - bbox[0]) + bbox[0], Math.random() * (bbox[3] - bbox[1]) + bbox[1]);
+    private static Point coordInBBox(double[] bbox, Random random) {
+        return Point.fromLngLat(random.nextDouble() * (bbox[2] - bbox[0]) + bbox[0], random.nextDouble() * (bbox[3] - bbox[1]) + bbox[1]);
     }
 
-    private static double rnd() {
-        return Math.random() - 0.5;
+    private static double rnd(Random random) {
+        return random.nextDouble() - 0.5;
     }
 
-    private static double lon() {
-        return rnd() * 360;
+    private static double lon(Random random) {
+        return rnd(random) * 360;
     }
 
-    private static double lat() {
-        return rnd() * 180;
+    private static double lat(Random random) {
+        return rnd(random) * 180;
     }
 
 }
@@ -5,6 +5,7 @@ import com.cgzz.mapbox.jturf.JTurfMeasurement;
 import com.cgzz.mapbox.jturf.JTurfMeta;
 import com.cgzz.mapbox.jturf.enums.Units;
 import com.cgzz.mapbox.jturf.exception.JTurfException;
+import com.cgzz.mapbox.jturf.models.OperationContext;
 import com.cgzz.mapbox.jturf.shape.Geometry;
 import com.cgzz.mapbox.jturf.shape.GeometryType;
 import com.cgzz.mapbox.jturf.shape.impl.*;
@@ -110,7 +111,14 @@ public final class BufferHelper {
         // FIXME 此处计算与Turf有一些误差，将来可以替换为Turf的原生方法
 
         // 这里可以直接做一层中转，以后可以实现GeoJSON，就不需要这么麻烦咯。。。
-        com.vividsolutions.jts.geom.Geometry buffered = BufferOp.bufferOp(transformation(geometry, projection), distance, steps);
+        com.vividsolutions.jts.geom.Geometry projected = transformation(geometry, projection);
+
+        // JTS 的缓冲区计算中途无法检查，只在每个图形开始之前按顶点数记工作量
+        OperationContext context = OperationContext.current();
+        if (context != null) {
+            context.advance(projected.getNumPoints());
+        }
+        com.vividsolutions.jts.geom.Geometry buffered = BufferOp.bufferOp(projected, distance, steps);
 
         // Detect if empty geometries
         if (coordsIsNaN(buffered.getCoordinates())) {
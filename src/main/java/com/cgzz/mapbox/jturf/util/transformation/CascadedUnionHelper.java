@@ -0,0 +1,264 @@
+package com.cgzz.mapbox.jturf.util.transformation;
+
+import com.cgzz.mapbox.jturf.JTurfMeta;
+import com.cgzz.mapbox.jturf.exception.JTurfException;
+import com.cgzz.mapbox.jturf.models.OperationContext;
+import com.cgzz.mapbox.jturf.shape.Geometry;
+import com.cgzz.mapbox.jturf.shape.GeometryType;
+import com.cgzz.mapbox.jturf.shape.impl.Feature;
+import com.cgzz.mapbox.jturf.shape.impl.FeatureCollection;
+import com.cgzz.mapbox.jturf.shape.impl.MultiPolygon;
+import com.cgzz.mapbox.jturf.shape.impl.Point;
+import com.cgzz.mapbox.jturf.shape.impl.Polygon;
+import com.cgzz.mapbox.jturf.util.concurrent.ParallelHelper;
+import com.cgzz.mapbox.jturf.util.index.IndexSort;
+import com.cgzz.mapbox.jturf.util.pkg.clipping.polygonclipping.PolygonClipping;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * 多边形集合的级联合并（cascaded union）。<br>
+ * 先按边界框中心以 STR 的方式排序，使相邻的多边形在序列中也相邻，再以平衡二叉树的方式两两合并：
+ * 叶子上的若干个多边形一次扫描合并，上层只合并左右两个子结果。相比逐个累加合并，每次扫描的规模更小，
+ * 内部的公共边在下层就已经消去，同一层的合并由 {@link ParallelHelper} 并行执行。
+ */
+public final class CascadedUnionHelper {
+
+    /**
+     * 叶子上一次扫描合并的多边形数量
+     */
+    private static final int LEAF_SIZE = 8;
+
+    private CascadedUnionHelper() {
+        throw new AssertionError("No Instances.");
+    }
+
+    /**
+     * 合并集合中的所有多边形
+     *
+     * @param featureCollection 仅支持 Polygon和MultiPolygon，为空的要素会被忽略
+     * @return 返回 Polygon、MultiPolygon，集合中没有多边形时为 null
+     */
+    public static Geometry union(FeatureCollection<? extends Geometry> featureCollection) {
+        if (featureCollection == null) {
+            throw new JTurfException("featureCollection is required");
+        }
+
+        List<List<List<List<Point>>>> polygons = new ArrayList<>(featureCollection.size());
+        for (Feature<? extends Geometry> feature : featureCollection.geometries()) {
+            addPolygons(feature, polygons);
+        }
+        return toGeometry(ParallelHelper.invoke(new UnionTask(sort(polygons), 0, polygons.size())));
+    }
+
+    /**
+     * 按属性值分组合并，属性值相同的多边形合并为一个要素，各组之间并行执行。<br>
+     * 与 {@link DissolveHelper} 不同，每个属性值只输出一个要素（合并后不相连时为 MultiPolygon），也支持 MultiPolygon 要素
+     *
+     * @param featureCollection 仅支持 Polygon和MultiPolygon，为空的要素会被忽略
+     * @param propertyName      分组的属性名称，缺少该属性的要素归为属性值为 null 的一组
+     * @return 每组一个要素，按属性值首次出现的顺序排列，要素只带有分组的属性
+     */
+    public static FeatureCollection<Geometry> union(FeatureCollection<? extends Geometry> featureCollection, String propertyName) {
+        if (featureCollection == null) {
+            throw new JTurfException("featureCollection is required");
+        }
+        if (propertyName == null) {
+            throw new JTurfException("propertyName is required");
+        }
+
+        Map<JsonElement, List<List<List<List<Point>>>>> groups = new LinkedHashMap<>();
+        for (Feature<? extends Geometry> feature : featureCollection.geometries()) {
+            if (feature == null || feature.geometry() == null) {
+                continue;
+            }
+            JsonElement value = feature.getProperty(propertyName);
+            addPolygons(feature, groups.computeIfAbsent(value == null ? JsonNull.INSTANCE : value, k -> new ArrayList<>()));
+        }
+
+        List<UnionTask> tasks = new ArrayList<>(groups.size());
+        for (List<List<List<List<Point>>>> polygons : groups.values()) {
+            tasks.add(new UnionTask(sort(polygons), 0, polygons.size()));
+        }
+        ParallelHelper.invoke(new GroupTask(tasks));
+
+        List<Feature<Geometry>> features = new ArrayList<>(groups.size());
+        int i = 0;
+        for (JsonElement value : groups.keySet()) {
+            Geometry geometry = toGeometry(tasks.get(i++).join());
+            if (geometry == null) {
+                continue;
+            }
+            JsonObject properties = new JsonObject();
+            properties.add(propertyName, value.deepCopy());
+            features.add(Feature.fromGeometry(geometry, properties));
+        }
+        return FeatureCollection.fromFeatures(features);
+    }
+
+    private static void addPolygons(Geometry geometry, List<List<List<List<Point>>>> polygons) {
+        if (geometry == null) {
+            return;
+        }
+        geometry = JTurfMeta.getGeom(geometry);
+        if (geometry == null) {
+            return;
+        }
+
+        GeometryType type = geometry.geometryType();
+        if (type == GeometryType.POLYGON) {
+            List<List<Point>> coordinates = Polygon.polygon(geometry).coordinates();
+            if (!coordinates.isEmpty()) {
+                polygons.add(Collections.singletonList(coordinates));
+            }
+        } else if (type == GeometryType.MULTI_POLYGON) {
+            List<List<List<Point>>> coordinates = MultiPolygon.multiPolygon(geometry).coordinates();
+            if (!coordinates.isEmpty()) {
+                polygons.add(coordinates);
+            }
+        } else {
+            throw new JTurfException("geometry " + type + " not supported");
+        }
+    }
+
+    /**
+     * 按边界框中心做 STR 排序：先按 x 切成若干竖条，竖条内再按 y 排序，没有坐标的多边形中心按 (0, 0) 处理
+     */
+    static List<List<List<List<Point>>>> sort(List<List<List<List<Point>>>> polygons) {
+        int n = polygons.size();
+        if (n <= LEAF_SIZE) {
+            return polygons;
+        }
+
+        double[] x = new double[n], y = new double[n];
+        int[] ids = new int[n];
+        for (int i = 0; i < n; i++) {
+            // 外环决定边界框，内环不需要遍历
+            double west = Double.POSITIVE_INFINITY, south = Double.POSITIVE_INFINITY;
+            double east = Double.NEGATIVE_INFINITY, north = Double.NEGATIVE_INFINITY;
+            for (List<List<Point>> polygon : polygons.get(i)) {
+                if (polygon.isEmpty()) {
+                    continue;
+                }
+                for (Point p : polygon.get(0)) {
+                    west = Math.min(west, p.longitude());
+                    south = Math.min(south, p.latitude());
+                    east = Math.max(east, p.longitude());
+                    north = Math.max(north, p.latitude());
+                }
+            }
+            boolean empty = west > east;
+            x[i] = empty ? 0 : (west + east) / 2;
+            y[i] = empty ? 0 : (south + north) / 2;
+            ids[i] = i;
+        }
+
+        IndexSort.sort(ids, x, 0, n);
+        int slices = (int) Math.ceil(Math.sqrt((double) n / LEAF_SIZE));
+        int sliceSize = (n + slices - 1) / slices;
+        for (int from = 0; from < n; from += sliceSize) {
+            IndexSort.sort(ids, y, from, Math.min(n, from + sliceSize));
+        }
+
+        List<List<List<List<Point>>>> sorted = new ArrayList<>(n);
+        for (int id : ids) {
+            sorted.add(polygons.get(id));
+        }
+        return sorted;
+    }
+
+    private static Geometry toGeometry(List<List<List<Point>>> points) {
+        if (points == null || points.isEmpty()) {
+            return null;
+        } else if (points.size() == 1) {
+            return Polygon.fromLngLats(points.get(0));
+        } else {
+            return MultiPolygon.fromLngLats(points);
+        }
+    }
+
+    /**
+     * 合并 [from, to) 区间内的多边形，在工作线程中绑定创建任务时的 {@link OperationContext}
+     */
+    static final class UnionTask extends RecursiveTask<List<List<List<Point>>>> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final List<List<List<List<Point>>>> polygons;
+
+        private final int from;
+
+        private final int to;
+
+        private final OperationContext context = OperationContext.current();
+
+        UnionTask(List<List<List<List<Point>>>> polygons, int from, int to) {
+            this.polygons = polygons;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected List<List<List<Point>>> compute() {
+            return OperationContext.call(context, this::merge);
+        }
+
+        @SuppressWarnings("unchecked")
+        private List<List<List<Point>>> merge() {
+            int size = to - from;
+            if (size == 0) {
+                return null;
+            } else if (size <= LEAF_SIZE) {
+                List<List<List<List<Point>>>> more = polygons.subList(from + 1, to);
+                return PolygonClipping.union(polygons.get(from), (List<List<List<Point>>>[]) more.toArray(new List<?>[0]));
+            }
+
+            int mid = (from + to) >>> 1;
+            UnionTask right = new UnionTask(polygons, mid, to);
+            right.fork();
+            List<List<List<Point>>> left = new UnionTask(polygons, from, mid).compute();
+            return union(left, right.join());
+        }
+
+        private static List<List<List<Point>>> union(List<List<List<Point>>> a, List<List<List<Point>>> b) {
+            if (a == null || a.isEmpty()) {
+                return b;
+            } else if (b == null || b.isEmpty()) {
+                return a;
+            }
+            return PolygonClipping.union(a, b);
+        }
+
+    }
+
+    /**
+     * 并行执行一组任务，例如各个分组的合并
+     */
+    static final class GroupTask extends RecursiveTask<Void> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final List<? extends ForkJoinTask<?>> tasks;
+
+        GroupTask(List<? extends ForkJoinTask<?>> tasks) {
+            this.tasks = tasks;
+        }
+
+        @Override
+        protected Void compute() {
+            invokeAll(tasks);
+            return null;
+        }
+
+    }
+
+}
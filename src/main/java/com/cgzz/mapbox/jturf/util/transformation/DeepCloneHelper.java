@@ -63,6 +63,10 @@ public final class DeepCloneHelper {
      * @return 克隆后的LineString
      */
     private static LineString deepClone(LineString lineString) {
+        // 紧凑存储的坐标序列不可变，可以直接共享
+        if (lineString.isPacked()) {
+            return LineString.fromSequence(lineString.coordinateSequence());
+        }
         return LineString.fromLngLats(deepClonePointList(lineString.coordinates()));
     }
 
@@ -89,6 +93,9 @@ public final class DeepCloneHelper {
      * @return 克隆后的Polygon
      */
     private static Polygon deepClone(Polygon polygon) {
+        if (polygon.isPacked()) {
+            return Polygon.fromSequences(polygon.coordinateSequences());
+        }
         return Polygon.fromLngLats(deepClonePointListList(polygon.coordinates()));
     }
 
@@ -135,6 +142,10 @@ public final class DeepCloneHelper {
      * @return 返回克隆后的MultiPolygon
      */
     private static MultiPolygon deepClone(MultiPolygon multiPolygon) {
+        if (multiPolygon.isPacked()) {
+            return MultiPolygon.fromSequences(multiPolygon.coordinateSequences());
+        }
+
         List<List<List<Point>>> originPointListListList = multiPolygon.coordinates();
         List<List<List<Point>>> newPointListListList = new ArrayList<>(originPointListListList.size());
 
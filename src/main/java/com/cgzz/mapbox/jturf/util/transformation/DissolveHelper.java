@@ -0,0 +1,270 @@
+package com.cgzz.mapbox.jturf.util.transformation;
+
+import com.cgzz.mapbox.jturf.JTurfBooleans;
+import com.cgzz.mapbox.jturf.JTurfMeasurement;
+import com.cgzz.mapbox.jturf.enums.Aggregation;
+import com.cgzz.mapbox.jturf.exception.JTurfException;
+import com.cgzz.mapbox.jturf.models.OperationContext;
+import com.cgzz.mapbox.jturf.shape.impl.BoundingBox;
+import com.cgzz.mapbox.jturf.shape.impl.Feature;
+import com.cgzz.mapbox.jturf.shape.impl.FeatureCollection;
+import com.cgzz.mapbox.jturf.shape.impl.Point;
+import com.cgzz.mapbox.jturf.shape.impl.Polygon;
+import com.cgzz.mapbox.jturf.util.booleans.PreparedPolygon;
+import com.cgzz.mapbox.jturf.util.concurrent.ParallelHelper;
+import com.cgzz.mapbox.jturf.util.index.FeatureIndex;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * 按属性值融合（dissolve）相邻或重叠的多边形。<br>
+ * 先按属性值分组，组内通过 {@link FeatureIndex} 查找边界框相交的候选要素，精确判断相交（包括边界相接）后用并查集得到连通的要素，
+ * 每个连通块使用 {@link CascadedUnionHelper} 的级联合并。各组之间、各连通块之间由 {@link ParallelHelper} 并行执行。
+ */
+public final class DissolveHelper {
+
+    private DissolveHelper() {
+        throw new AssertionError("No Instances.");
+    }
+
+    /**
+     * 融合相邻或重叠的多边形
+     *
+     * @param featureCollection 多边形集合，为空的要素会被忽略
+     * @param propertyName      分组的属性名称，只融合属性值相同的多边形，为null时不分组
+     * @param aggregations      属性的聚合方式，key为属性名称，可以为null；SUM 的属性值必须是数字，否则抛出 JTurfException
+     * @return 融合后的多边形，按分组首次出现的顺序排列；合并后不相连的部分（例如只在顶点处相接）拆分为多个要素，
+     * 每个要素只聚合落在其中的原要素的属性
+     */
+    public static FeatureCollection<Polygon> dissolve(FeatureCollection<Polygon> featureCollection, String propertyName, Map<String, Aggregation> aggregations) {
+        if (featureCollection == null) {
+            throw new JTurfException("featureCollection is required");
+        }
+
+        Map<JsonElement, List<Feature<Polygon>>> groups = new LinkedHashMap<>();
+        for (Feature<Polygon> feature : featureCollection.geometries()) {
+            if (feature == null || feature.geometry() == null) {
+                continue;
+            }
+            JsonElement value = propertyName == null ? null : feature.getProperty(propertyName);
+            groups.computeIfAbsent(value == null ? JsonNull.INSTANCE : value, k -> new ArrayList<>()).add(feature);
+        }
+
+        Map<String, Aggregation> aggregation = aggregations == null ? Collections.emptyMap() : aggregations;
+        List<DissolveTask> tasks = new ArrayList<>(groups.size());
+        for (Map.Entry<JsonElement, List<Feature<Polygon>>> entry : groups.entrySet()) {
+            tasks.add(new DissolveTask(entry.getValue(), propertyName, entry.getKey(), aggregation));
+        }
+        ParallelHelper.invoke(new CascadedUnionHelper.GroupTask(tasks));
+
+        List<Feature<Polygon>> result = new ArrayList<>();
+        for (DissolveTask task : tasks) {
+            result.addAll(task.join());
+        }
+        return FeatureCollection.fromFeatures(result);
+    }
+
+    /**
+     * 查找相交的要素，返回每个要素所属连通块的根
+     */
+    private static int[] components(List<Feature<Polygon>> features) {
+        int n = features.size();
+        int[] parent = new int[n];
+        for (int i = 0; i < n; i++) {
+            parent[i] = i;
+        }
+
+        FeatureIndex<Polygon> index = FeatureIndex.build(FeatureCollection.fromFeatures(features));
+        for (int i = 0; i < n; i++) {
+            Polygon polygon = features.get(i).geometry();
+            BoundingBox bbox = JTurfMeasurement.bbox(polygon);
+            for (int j : index.search(bbox.west(), bbox.south(), bbox.east(), bbox.north())) {
+                // 已经在同一个连通块中的要素不需要再精确判断
+                if (j <= i || find(parent, i) == find(parent, j)) {
+                    continue;
+                }
+                if (JTurfBooleans.booleanIntersects(polygon, features.get(j).geometry())) {
+                    parent[find(parent, j)] = find(parent, i);
+                }
+            }
+        }
+
+        for (int i = 0; i < n; i++) {
+            parent[i] = find(parent, i);
+        }
+        return parent;
+    }
+
+    private static int find(int[] parent, int i) {
+        while (parent[i] != i) {
+            parent[i] = parent[parent[i]];
+            i = parent[i];
+        }
+        return i;
+    }
+
+    private static JsonObject properties(List<Feature<Polygon>> members, String propertyName, JsonElement value, Map<String, Aggregation> aggregations) {
+        JsonObject properties = new JsonObject();
+        if (propertyName != null) {
+            properties.add(propertyName, value.deepCopy());
+        }
+
+        for (Map.Entry<String, Aggregation> entry : aggregations.entrySet()) {
+            String name = entry.getKey();
+            if (entry.getValue() == Aggregation.SUM) {
+                BigDecimal sum = BigDecimal.ZERO;
+                for (Feature<Polygon> member : members) {
+                    if (member.hasNonNullValueForProperty(name)) {
+                        sum = sum.add(number(member.getProperty(name), name));
+                    }
+                }
+                properties.addProperty(name, sum);
+            } else {
+                for (Feature<Polygon> member : members) {
+                    if (member.hasNonNullValueForProperty(name)) {
+                        properties.add(name, member.getProperty(name).deepCopy());
+                        break;
+                    }
+                }
+            }
+        }
+        return properties;
+    }
+
+    /**
+     * 求和的属性值，数字或数字形式的字符串
+     */
+    private static BigDecimal number(JsonElement element, String name) {
+        if (element.isJsonPrimitive()) {
+            try {
+                return new BigDecimal(element.getAsString());
+            } catch (NumberFormatException ignored) {
+                // 下面统一抛出异常
+            }
+        }
+        throw new JTurfException("property " + name + " must be numeric to SUM, but was " + element);
+    }
+
+    /**
+     * 把连通块中的要素分配到合并结果的各个部分，要素的所有顶点都在某个部分内（包括边界）时属于该部分
+     */
+    private static List<List<Feature<Polygon>>> assign(List<Feature<Polygon>> component, List<List<List<Point>>> union) {
+        List<PreparedPolygon> prepared = new ArrayList<>(union.size());
+        List<List<Feature<Polygon>>> parts = new ArrayList<>(union.size());
+        for (List<List<Point>> part : union) {
+            prepared.add(JTurfBooleans.preparePolygon(Polygon.fromLngLats(part)));
+            parts.add(new ArrayList<>());
+        }
+
+        for (Feature<Polygon> member : component) {
+            List<Point> ring = member.geometry().coordinates().get(0);
+            int target = 0;
+            for (int j = 0; j < prepared.size(); j++) {
+                if (containsAll(prepared.get(j), ring)) {
+                    target = j;
+                    break;
+                }
+            }
+            parts.get(target).add(member);
+        }
+        return parts;
+    }
+
+    private static boolean containsAll(PreparedPolygon prepared, List<Point> ring) {
+        for (Point point : ring) {
+            if (!JTurfBooleans.booleanPointInPolygon(point, prepared)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 融合一个分组，在工作线程中绑定创建任务时的 {@link OperationContext}
+     */
+    private static final class DissolveTask extends RecursiveTask<List<Feature<Polygon>>> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final List<Feature<Polygon>> features;
+
+        private final String propertyName;
+
+        private final JsonElement value;
+
+        private final Map<String, Aggregation> aggregations;
+
+        private final OperationContext context = OperationContext.current();
+
+        DissolveTask(List<Feature<Polygon>> features, String propertyName, JsonElement value, Map<String, Aggregation> aggregations) {
+            this.features = features;
+            this.propertyName = propertyName;
+            this.value = value;
+            this.aggregations = aggregations;
+        }
+
+        @Override
+        protected List<Feature<Polygon>> compute() {
+            return OperationContext.call(context, this::dissolveGroup);
+        }
+
+        private List<Feature<Polygon>> dissolveGroup() {
+            int[] roots = components(features);
+
+            // 按连通块中第一个要素的顺序收集成员
+            Map<Integer, List<Feature<Polygon>>> components = new LinkedHashMap<>();
+            for (int i = 0; i < roots.length; i++) {
+                components.computeIfAbsent(roots[i], k -> new ArrayList<>()).add(features.get(i));
+            }
+
+            List<List<Feature<Polygon>>> members = new ArrayList<>(components.values());
+            List<CascadedUnionHelper.UnionTask> tasks = new ArrayList<>(members.size());
+            for (List<Feature<Polygon>> component : members) {
+                List<List<List<List<Point>>>> polygons = new ArrayList<>(component.size());
+                if (component.size() > 1) {
+                    for (Feature<Polygon> feature : component) {
+                        polygons.add(Collections.singletonList(feature.geometry().coordinates()));
+                    }
+                }
+                tasks.add(new CascadedUnionHelper.UnionTask(CascadedUnionHelper.sort(polygons), 0, polygons.size()));
+            }
+            invokeAll(tasks);
+
+            List<Feature<Polygon>> result = new ArrayList<>();
+            for (int i = 0; i < members.size(); i++) {
+                List<Feature<Polygon>> component = members.get(i);
+                if (component.size() == 1) {
+                    result.add(Feature.fromGeometry(component.get(0).geometry(), properties(component, propertyName, value, aggregations)));
+                    continue;
+                }
+
+                List<List<List<Point>>> union = tasks.get(i).join();
+                if (union == null) {
+                    continue;
+                }
+                if (union.size() == 1) {
+                    result.add(Feature.fromGeometry(Polygon.fromLngLats(union.get(0)), properties(component, propertyName, value, aggregations)));
+                    continue;
+                }
+
+                // 只在顶点处相接的要素合并后仍是多个部分，每个部分只聚合落在其中的要素，避免属性重复计算
+                List<List<Feature<Polygon>>> parts = assign(component, union);
+                for (int j = 0; j < union.size(); j++) {
+                    result.add(Feature.fromGeometry(Polygon.fromLngLats(union.get(j)), properties(parts.get(j), propertyName, value, aggregations)));
+                }
+            }
+            return result;
+        }
+
+    }
+
+}
@@ -1,5 +1,7 @@
 package com.cgzz.mapbox.jturf.util.transformation;
 
+import com.cgzz.mapbox.jturf.models.OperationContext;
+
 import java.util.ArrayList;
 import java.util.List;
 
@@ -132,9 +134,13 @@ final class Earcut {
         if (pass == 0 && invSize != 0) indexCurve(ear, minX, minY, invSize);
 
         Node stop = ear, prev, next;
+        OperationContext context = OperationContext.current();
 
         // iterate through ears, slicing them one by one
         while (ear.prev != ear.next) {
+            if (context != null) {
+                context.advance(1);
+            }
             prev = ear.prev;
             next = ear.next;
 
@@ -277,10 +283,14 @@ final class Earcut {
     // try splitting polygon into two and triangulate them independently
     private static void splitEarcut(Node start, List<Integer> triangles, int dim, double minX, double minY, int invSize) {
         // look for a valid diagonal that divides the polygon into two
+        OperationContext context = OperationContext.current();
         Node a = start;
         do {
             Node b = a.next.next;
             while (b != a.prev) {
+                if (context != null) {
+                    context.advance(1);
+                }
                 if (a.i != b.i && isValidDiagonal(a, b)) {
                     // split the polygon in two by the diagonal
                     Node c = splitPolygon(a, b);
@@ -316,7 +326,11 @@ final class Earcut {
         queue.sort(Earcut::compareX);
 
         // process holes from left to right
+        OperationContext context = OperationContext.current();
         for (Node node : queue) {
+            if (context != null) {
+                context.advance(1);
+            }
             outerNode = eliminateHole(node, outerNode);
         }
 
@@ -0,0 +1,125 @@
+package com.cgzz.mapbox.jturf.util.transformation;
+
+import com.cgzz.mapbox.jturf.JTurfMeasurement;
+import com.cgzz.mapbox.jturf.enums.Units;
+import com.cgzz.mapbox.jturf.exception.JTurfException;
+import com.cgzz.mapbox.jturf.shape.Geometry;
+import com.cgzz.mapbox.jturf.shape.impl.BoundingBox;
+import com.cgzz.mapbox.jturf.shape.impl.Feature;
+import com.cgzz.mapbox.jturf.shape.impl.FeatureCollection;
+import com.cgzz.mapbox.jturf.util.concurrent.ParallelHelper;
+import com.cgzz.mapbox.jturf.util.index.FeatureIndex;
+import com.cgzz.mapbox.jturf.util.pkg.clipping.PolygonClippingHelper;
+import com.cgzz.mapbox.jturf.util.pkg.clipping.polygonclipping.PolygonClipping;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 两个多边形图层的叠加（overlay join）。<br>
+ * 为第二个集合建立 {@link FeatureIndex}，第一个集合按下标区间切分后由 {@link ParallelHelper#forRange(int, com.cgzz.mapbox.jturf.util.concurrent.func.RangeFunc)} 并行执行：
+ * 每个要素通过索引找到边界框相交的候选要素，逐对求交集，交集不为空时输出一个要素。
+ */
+public final class OverlayHelper {
+
+    /**
+     * 结果要素中交集面积的属性名称
+     */
+    public static final String AREA_PROPERTY = "area";
+
+    /**
+     * 第二个集合的属性与第一个集合重名时追加的后缀
+     */
+    public static final String DUPLICATE_SUFFIX = "_2";
+
+    private OverlayHelper() {
+        throw new AssertionError("No Instances.");
+    }
+
+    /**
+     * 求两个多边形集合之间所有相交的部分
+     *
+     * @param featureCollection1 第一个集合，仅支持 Polygon和MultiPolygon，为空的要素会被忽略
+     * @param featureCollection2 第二个集合，仅支持 Polygon和MultiPolygon，为空的要素会被忽略；会为它建立空间索引
+     * @param units              面积单位，支持公里、英里、米，为null时为平方米
+     * @return 每个相交的要素对输出一个要素，按第一个集合、第二个集合中的顺序排列。
+     * 属性依次为第一个要素的属性、第二个要素的属性（与前者重名时名称追加 {@link #DUPLICATE_SUFFIX}）、交集的面积 {@link #AREA_PROPERTY}
+     */
+    public static FeatureCollection<Geometry> overlay(FeatureCollection<? extends Geometry> featureCollection1, FeatureCollection<? extends Geometry> featureCollection2, Units units) {
+        if (featureCollection1 == null) {
+            throw new JTurfException("featureCollection1 is required");
+        }
+        if (featureCollection2 == null) {
+            throw new JTurfException("featureCollection2 is required");
+        }
+
+        List<? extends Feature<? extends Geometry>> features = new ArrayList<>(featureCollection1.geometries());
+        FeatureIndex<? extends Geometry> index = FeatureIndex.build(featureCollection2);
+
+        @SuppressWarnings("unchecked")
+        List<Feature<Geometry>>[] results = (List<Feature<Geometry>>[]) new List<?>[features.size()];
+        ParallelHelper.forRange(features.size(), (from, to) -> {
+            for (int i = from; i < to; i++) {
+                results[i] = overlay(features.get(i), index, units);
+            }
+        });
+
+        List<Feature<Geometry>> overlay = new ArrayList<>();
+        for (List<Feature<Geometry>> result : results) {
+            if (result != null) {
+                overlay.addAll(result);
+            }
+        }
+        return FeatureCollection.fromFeatures(overlay);
+    }
+
+    /**
+     * 第一个要素与所有候选要素求交集
+     */
+    private static List<Feature<Geometry>> overlay(Feature<? extends Geometry> feature, FeatureIndex<? extends Geometry> index, Units units) {
+        if (feature == null || feature.geometry() == null) {
+            return null;
+        }
+
+        Geometry geometry = feature.geometry();
+        BoundingBox bbox = JTurfMeasurement.bbox(geometry);
+        List<Feature<Geometry>> result = null;
+        for (int j : index.search(bbox.west(), bbox.south(), bbox.east(), bbox.north())) {
+            Feature<? extends Geometry> other = index.get(j);
+            Geometry intersection = PolygonClippingHelper.polygonClipping(geometry, other.geometry(), PolygonClipping::intersection);
+            if (intersection == null) {
+                continue;
+            }
+            double area = JTurfMeasurement.area(intersection, units);
+            if (!(area > 0)) {
+                // 只在边界上相接
+                continue;
+            }
+
+            if (result == null) {
+                result = new ArrayList<>();
+            }
+            result.add(Feature.fromGeometry(intersection, properties(feature, other, area)));
+        }
+        return result;
+    }
+
+    private static JsonObject properties(Feature<? extends Geometry> feature1, Feature<? extends Geometry> feature2, double area) {
+        JsonObject properties = feature1.properties() == null ? new JsonObject() : feature1.properties().deepCopy();
+        if (feature2.properties() != null) {
+            for (Map.Entry<String, JsonElement> entry : feature2.properties().entrySet()) {
+                String name = entry.getKey();
+                if (feature1.hasProperty(name)) {
+                    name += DUPLICATE_SUFFIX;
+                }
+                properties.add(name, entry.getValue().deepCopy());
+            }
+        }
+        properties.addProperty(AREA_PROPERTY, area);
+        return properties;
+    }
+
+}
@@ -0,0 +1,609 @@
+package com.cgzz.mapbox.jturf.wkb;
+
+import com.cgzz.mapbox.jturf.JTurfMeasurement;
+import com.cgzz.mapbox.jturf.exception.JTurfException;
+import com.cgzz.mapbox.jturf.shape.Geometry;
+import com.cgzz.mapbox.jturf.shape.impl.BoundingBox;
+import com.cgzz.mapbox.jturf.shape.impl.Feature;
+import com.cgzz.mapbox.jturf.shape.impl.FeatureCollection;
+import com.cgzz.mapbox.jturf.util.index.IndexSort;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 只读的磁盘要素库，文件中保存 {@link WkbWriter#writeFeature(Feature)} 编码的要素以及按要素边界框批量构建（STR）的静态R树。<br>
+ * 通过 {@link FileChannel#map} 打开，打开时只读取文件头，遍历、按下标读取、边界框查询都只解码用到的要素；
+ * 多个进程打开同一个文件时共享操作系统的页缓存。超过 2GB 的文件按要素边界分段映射。<br>
+ * 文件布局（小端字节序）：
+ * <pre>
+ * header  = magic(4) version(int32) count(int32) indexed(int32) levelCount(int32) reserved(int32) bbox(double * 4) indexOffset(int64)
+ * data    = Feature * count
+ * index   = levels(int32 * (levelCount + 1)，按 8 字节对齐) nodeBoxes(double * 4 * 节点数) itemBoxes(double * 4 * indexed)
+ *           ids(int32 * indexed，按 8 字节对齐) offsets(int64 * (count + 1))
+ * </pre>
+ * 没有坐标的要素不会进入索引，但仍然可以遍历、按下标读取。<br>
+ * 使用示例：
+ * <pre>
+ * try (GeoJsonReader reader = GeoJsonReader.of(inputStream)) {
+ *     FeatureStore.write(path, reader);
+ * }
+ * FeatureStore store = FeatureStore.open(path);
+ * List&lt;Feature&lt;Geometry&gt;&gt; features = store.intersects(bbox);
+ * </pre>
+ * 打开后对象不可变，可以在多个线程之间共享；映射在对象被回收后才会释放。
+ */
+public final class FeatureStore implements Iterable<Feature<Geometry>> {
+
+    private static final int MAGIC = 0x5346544a;
+
+    private static final int VERSION = 1;
+
+    private static final int HEADER_SIZE = 64;
+
+    /**
+     * R树每个节点的最大孩子数
+     */
+    private static final int NODE_SIZE = 16;
+
+    private final int count;
+
+    private final int indexed;
+
+    private final BoundingBox bbox;
+
+    /**
+     * 每一层第一个节点的位置，最后一个元素为节点总数
+     */
+    private final int[] levels;
+
+    /**
+     * 所有节点的边界框 [minX, minY, maxX, maxY]，从叶子层开始逐层存放
+     */
+    private final DoubleBuffer nodeBoxes;
+
+    /**
+     * 按树中顺序排列的要素边界框
+     */
+    private final DoubleBuffer itemBoxes;
+
+    /**
+     * 按树中顺序排列的要素下标
+     */
+    private final IntBuffer ids;
+
+    /**
+     * 每个要素在文件中的起始位置，最后一个元素为数据区的结束位置
+     */
+    private final LongBuffer offsets;
+
+    /**
+     * 数据区的分段映射，第 s 段从第 segmentFirst[s] 个要素开始，映射文件中 segmentStart[s] 之后的内容
+     */
+    private final MappedByteBuffer[] segments;
+
+    private final int[] segmentFirst;
+
+    private final long[] segmentStart;
+
+    private FeatureStore(FileChannel channel, int maxSegment) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        while (header.hasRemaining() && channel.read(header, header.position()) > 0) {
+            // 读满文件头
+        }
+        header.flip();
+        if (header.remaining() < HEADER_SIZE || header.getInt() != MAGIC) {
+            throw new JTurfException("file is not a feature store");
+        }
+        int version = header.getInt();
+        if (version != VERSION) {
+            throw new JTurfException("feature store version " + version + " is not supported");
+        }
+        this.count = header.getInt();
+        this.indexed = header.getInt();
+        int levelCount = header.getInt();
+        header.getInt();
+        this.bbox = BoundingBox.fromLngLats(header.getDouble(), header.getDouble(), header.getDouble(), header.getDouble());
+        long position = header.getLong();
+
+        IntBuffer levelBuffer = map(channel, position, (levelCount + 1) * 4L).asIntBuffer();
+        this.levels = new int[levelCount + 1];
+        levelBuffer.get(levels);
+        position += align((levelCount + 1) * 4L);
+
+        int nodeCount = levels[levelCount];
+        this.nodeBoxes = map(channel, position, nodeCount * 32L).asDoubleBuffer();
+        position += nodeCount * 32L;
+        this.itemBoxes = map(channel, position, indexed * 32L).asDoubleBuffer();
+        position += indexed * 32L;
+        this.ids = map(channel, position, indexed * 4L).asIntBuffer();
+        position += align(indexed * 4L);
+        this.offsets = map(channel, position, (count + 1) * 8L).asLongBuffer();
+
+        // 按要素边界贪心切分数据区，每段不超过 maxSegment 字节
+        List<MappedByteBuffer> segments = new ArrayList<>();
+        List<Integer> firsts = new ArrayList<>();
+        List<Long> starts = new ArrayList<>();
+        for (int first = 0; first < count; ) {
+            long start = offsets.get(first);
+            int last = lastFeature(first, start + maxSegment);
+            if (last < first) {
+                throw new JTurfException("feature " + first + " is too large to map");
+            }
+            segments.add(map(channel, start, offsets.get(last + 1) - start));
+            firsts.add(first);
+            starts.add(start);
+            first = last + 1;
+        }
+        this.segments = segments.toArray(new MappedByteBuffer[0]);
+        this.segmentFirst = new int[firsts.size()];
+        this.segmentStart = new long[starts.size()];
+        for (int s = 0; s < segmentFirst.length; s++) {
+            segmentFirst[s] = firsts.get(s);
+            segmentStart[s] = starts.get(s);
+        }
+    }
+
+    /**
+     * 打开要素库
+     *
+     * @param path 文件路径
+     * @return FeatureStore
+     */
+    public static FeatureStore open(Path path) {
+        return open(path, Integer.MAX_VALUE);
+    }
+
+    static FeatureStore open(Path path, int maxSegment) {
+        if (path == null) {
+            throw new JTurfException("path is required");
+        }
+        // 映射建立后即可关闭通道，映射在缓冲区被回收前一直有效
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return new FeatureStore(channel, maxSegment);
+        } catch (IOException e) {
+            throw new JTurfException("open feature store error: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 将要素集合写入要素库文件，已存在的文件会被覆盖
+     *
+     * @param path              文件路径
+     * @param featureCollection 要素集合
+     */
+    public static void write(Path path, FeatureCollection<? extends Geometry> featureCollection) {
+        if (featureCollection == null) {
+            throw new JTurfException("featureCollection is required");
+        }
+        write(path, featureCollection.geometries().iterator());
+    }
+
+    /**
+     * 将要素逐个写入要素库文件，已存在的文件会被覆盖。<br>
+     * 要素编码后直接写入文件，内存中只保留每个要素的边界框与位置，可以配合 {@link com.cgzz.mapbox.jturf.geojson.GeoJsonReader} 转换大文件。
+     *
+     * @param path     文件路径
+     * @param features 要素，不能包含null
+     */
+    public static void write(Path path, Iterator<? extends Feature<? extends Geometry>> features) {
+        if (path == null) {
+            throw new JTurfException("path is required");
+        }
+        if (features == null) {
+            throw new JTurfException("features is required");
+        }
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            channel.position(HEADER_SIZE);
+            Builder builder = new Builder();
+            OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel), 1 << 16);
+            while (features.hasNext()) {
+                Feature<? extends Geometry> feature = features.next();
+                if (feature == null) {
+                    throw new JTurfException("features can not contain null feature");
+                }
+                byte[] bytes = WkbWriter.writeFeature(feature);
+                builder.add(JTurfMeasurement.bbox(feature), bytes.length);
+                out.write(bytes);
+            }
+            builder.writeIndex(out);
+            out.flush();
+
+            ByteBuffer header = builder.header();
+            for (long position = 0; header.hasRemaining(); ) {
+                position += channel.write(header, position);
+            }
+        } catch (IOException e) {
+            throw new JTurfException("write feature store error: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 要素数量
+     *
+     * @return int
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * 所有要素的边界框，没有任何要素有坐标时为 [+∞, +∞, -∞, -∞]
+     *
+     * @return BoundingBox
+     */
+    public BoundingBox bbox() {
+        return bbox;
+    }
+
+    /**
+     * 解码第 index 个要素
+     *
+     * @param index 要素写入时的下标
+     * @return Feature
+     */
+    public Feature<Geometry> get(int index) {
+        if (index < 0 || index >= count) {
+            throw new IndexOutOfBoundsException("index: " + index + ", size: " + count);
+        }
+
+        int s = Arrays.binarySearch(segmentFirst, index);
+        if (s < 0) {
+            s = -s - 2;
+        }
+        ByteBuffer buffer = segments[s].duplicate();
+        buffer.position((int) (offsets.get(index) - segmentStart[s]));
+        return WkbReader.readFeature(buffer);
+    }
+
+    /**
+     * 按写入顺序遍历要素，每次迭代时才解码
+     *
+     * @return Iterator
+     */
+    @Override
+    public Iterator<Feature<Geometry>> iterator() {
+        return new Iterator<Feature<Geometry>>() {
+
+            private int next;
+
+            @Override
+            public boolean hasNext() {
+                return next < count;
+            }
+
+            @Override
+            public Feature<Geometry> next() {
+                if (next >= count) {
+                    throw new NoSuchElementException();
+                }
+                return get(next++);
+            }
+
+        };
+    }
+
+    /**
+     * 转换为顺序流，每个元素在被消费时才解码
+     *
+     * @return Stream
+     */
+    public Stream<Feature<Geometry>> stream() {
+        return StreamSupport.stream(Spliterators.spliterator(iterator(), count, Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    /**
+     * 查找边界框与指定范围相交的要素下标，只读取索引，不解码要素
+     *
+     * @param minX 最小经度
+     * @param minY 最小纬度
+     * @param maxX 最大经度
+     * @param maxY 最大纬度
+     * @return 按下标升序排列的要素下标
+     */
+    public int[] search(double minX, double minY, double maxX, double maxY) {
+        Hits hits = new Hits();
+        if (indexed > 0) {
+            search(levels.length - 2, 0, minX, minY, maxX, maxY, hits);
+        }
+        int[] result = Arrays.copyOf(hits.values, hits.size);
+        Arrays.sort(result);
+        return result;
+    }
+
+    /**
+     * 查找并解码边界框与指定边界框相交的要素
+     *
+     * @param bbox 边界框
+     * @return 按下标顺序排列的要素
+     */
+    public List<Feature<Geometry>> intersects(BoundingBox bbox) {
+        if (bbox == null) {
+            throw new JTurfException("bbox is required");
+        }
+
+        int[] hits = search(bbox.west(), bbox.south(), bbox.east(), bbox.north());
+        List<Feature<Geometry>> result = new ArrayList<>(hits.length);
+        for (int index : hits) {
+            result.add(get(index));
+        }
+        return result;
+    }
+
+    private void search(int level, int j, double minX, double minY, double maxX, double maxY, Hits hits) {
+        if (!intersects(nodeBoxes, levels[level] + j, minX, minY, maxX, maxY)) {
+            return;
+        }
+
+        if (level == 0) {
+            for (int k = j * NODE_SIZE, end = Math.min(k + NODE_SIZE, indexed); k < end; k++) {
+                if (intersects(itemBoxes, k, minX, minY, maxX, maxY)) {
+                    hits.add(ids.get(k));
+                }
+            }
+            return;
+        }
+
+        int childCount = levels[level] - levels[level - 1];
+        for (int child = j * NODE_SIZE, end = Math.min(child + NODE_SIZE, childCount); child < end; child++) {
+            search(level - 1, child, minX, minY, maxX, maxY, hits);
+        }
+    }
+
+    private static boolean intersects(DoubleBuffer boxes, int i, double minX, double minY, double maxX, double maxY) {
+        int b = i * 4;
+        return boxes.get(b) <= maxX && minX <= boxes.get(b + 2) && boxes.get(b + 1) <= maxY && minY <= boxes.get(b + 3);
+    }
+
+    /**
+     * 从 first 开始，最后一个结束位置不超过 limit 的要素下标
+     */
+    private int lastFeature(int first, long limit) {
+        int lo = first, hi = count - 1, last = first - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            if (offsets.get(mid + 1) <= limit) {
+                last = mid;
+                lo = mid + 1;
+            } else {
+                hi = mid - 1;
+            }
+        }
+        return last;
+    }
+
+    private static MappedByteBuffer map(FileChannel channel, long position, long size) throws IOException {
+        if (position + size > channel.size()) {
+            throw new JTurfException("feature store is truncated");
+        }
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, size);
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        return buffer;
+    }
+
+    private static long align(long size) {
+        return (size + 7) & ~7L;
+    }
+
+    /**
+     * 写入时收集要素的边界框与位置，所有要素写完后构建R树
+     */
+    private static final class Builder {
+
+        private int count;
+
+        private long position = HEADER_SIZE;
+
+        private long[] offsets = new long[64];
+
+        /**
+         * 按下标存放的边界框，没有坐标的要素为 NaN
+         */
+        private double[] boxes = new double[64 * 4];
+
+        private double minX = Double.POSITIVE_INFINITY, minY = Double.POSITIVE_INFINITY;
+
+        private double maxX = Double.NEGATIVE_INFINITY, maxY = Double.NEGATIVE_INFINITY;
+
+        private int indexed;
+
+        private int levelCount;
+
+        private long indexOffset;
+
+        void add(BoundingBox bbox, int length) {
+            if (count == Integer.MAX_VALUE - 1) {
+                throw new JTurfException("too many features");
+            }
+            if (count + 1 >= offsets.length) {
+                offsets = Arrays.copyOf(offsets, offsets.length << 1);
+                boxes = Arrays.copyOf(boxes, boxes.length << 1);
+            }
+
+            int b = count * 4;
+            if (bbox.west() > bbox.east() || bbox.south() > bbox.north()) {
+                Arrays.fill(boxes, b, b + 4, Double.NaN);
+            } else {
+                boxes[b] = bbox.west();
+                boxes[b + 1] = bbox.south();
+                boxes[b + 2] = bbox.east();
+                boxes[b + 3] = bbox.north();
+                minX = Math.min(minX, bbox.west());
+                minY = Math.min(minY, bbox.south());
+                maxX = Math.max(maxX, bbox.east());
+                maxY = Math.max(maxY, bbox.north());
+                indexed++;
+            }
+
+            offsets[count++] = position;
+            position += length;
+        }
+
+        /**
+         * 按 Sort-Tile-Recursive 排列要素，计算各层节点的边界框并写出索引区
+         */
+        void writeIndex(OutputStream out) throws IOException {
+            offsets[count] = position;
+            indexOffset = align(position);
+
+            int[] ids = new int[indexed];
+            double[] cx = new double[count], cy = new double[count];
+            for (int i = 0, k = 0; i < count; i++) {
+                int b = i * 4;
+                if (!Double.isNaN(boxes[b])) {
+                    ids[k++] = i;
+                    cx[i] = (boxes[b] + boxes[b + 2]) / 2;
+                    cy[i] = (boxes[b + 1] + boxes[b + 3]) / 2;
+                }
+            }
+            IndexSort.sort(ids, cx, 0, indexed);
+
+            int leafCount = (indexed + NODE_SIZE - 1) / NODE_SIZE;
+            int sliceSize = (int) Math.ceil(Math.sqrt(leafCount)) * NODE_SIZE;
+            for (int start = 0; start < indexed; start += sliceSize) {
+                IndexSort.sort(ids, cy, start, Math.min(start + sliceSize, indexed));
+            }
+
+            // 计算每一层的节点数，没有要素进入索引时只有一个空的叶子层
+            levelCount = 1;
+            for (int n = leafCount; n > 1; n = (n + NODE_SIZE - 1) / NODE_SIZE) {
+                levelCount++;
+            }
+            int[] levels = new int[levelCount + 1];
+            for (int l = 0, n = leafCount; l < levelCount; l++, n = (n + NODE_SIZE - 1) / NODE_SIZE) {
+                levels[l + 1] = levels[l] + n;
+            }
+
+            double[] itemBoxes = new double[indexed * 4];
+            for (int k = 0; k < indexed; k++) {
+                System.arraycopy(boxes, ids[k] * 4, itemBoxes, k * 4, 4);
+            }
+            double[] nodeBoxes = new double[levels[levelCount] * 4];
+            for (int j = 0; j < leafCount; j++) {
+                union(itemBoxes, j * NODE_SIZE, Math.min((j + 1) * NODE_SIZE, indexed), nodeBoxes, j);
+            }
+            for (int l = 1; l < levelCount; l++) {
+                int childStart = levels[l - 1], childEnd = levels[l];
+                for (int node = levels[l], j = 0; node < levels[l + 1]; node++, j++) {
+                    int from = childStart + j * NODE_SIZE;
+                    union(nodeBoxes, from, Math.min(from + NODE_SIZE, childEnd), nodeBoxes, node);
+                }
+            }
+
+            ByteBuffer buffer = ByteBuffer.allocate(1 << 16).order(ByteOrder.LITTLE_ENDIAN);
+            for (long p = position; p < indexOffset; p++) {
+                buffer.put((byte) 0);
+            }
+            for (int level : levels) {
+                buffer = put(out, buffer, 4).putInt(level);
+            }
+            buffer = pad(out, buffer, levels.length * 4L);
+            for (double value : nodeBoxes) {
+                buffer = put(out, buffer, 8).putDouble(value);
+            }
+            for (double value : itemBoxes) {
+                buffer = put(out, buffer, 8).putDouble(value);
+            }
+            for (int id : ids) {
+                buffer = put(out, buffer, 4).putInt(id);
+            }
+            buffer = pad(out, buffer, ids.length * 4L);
+            for (int i = 0; i <= count; i++) {
+                buffer = put(out, buffer, 8).putLong(offsets[i]);
+            }
+            out.write(buffer.array(), 0, buffer.position());
+        }
+
+        ByteBuffer header() {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            header.putInt(MAGIC);
+            header.putInt(VERSION);
+            header.putInt(count);
+            header.putInt(indexed);
+            header.putInt(levelCount);
+            header.putInt(0);
+            header.putDouble(minX);
+            header.putDouble(minY);
+            header.putDouble(maxX);
+            header.putDouble(maxY);
+            header.putLong(indexOffset);
+            header.flip();
+            return header;
+        }
+
+        private static void union(double[] boxes, int from, int to, double[] target, int node) {
+            double minX = Double.POSITIVE_INFINITY, minY = Double.POSITIVE_INFINITY;
+            double maxX = Double.NEGATIVE_INFINITY, maxY = Double.NEGATIVE_INFINITY;
+            for (int i = from; i < to; i++) {
+                minX = Math.min(minX, boxes[i * 4]);
+                minY = Math.min(minY, boxes[i * 4 + 1]);
+                maxX = Math.max(maxX, boxes[i * 4 + 2]);
+                maxY = Math.max(maxY, boxes[i * 4 + 3]);
+            }
+            int b = node * 4;
+            target[b] = minX;
+            target[b + 1] = minY;
+            target[b + 2] = maxX;
+            target[b + 3] = maxY;
+        }
+
+        /**
+         * 缓冲区剩余空间不足时先写出
+         */
+        private static ByteBuffer put(OutputStream out, ByteBuffer buffer, int size) throws IOException {
+            if (buffer.remaining() < size) {
+                out.write(buffer.array(), 0, buffer.position());
+                buffer.clear();
+            }
+            return buffer;
+        }
+
+        private static ByteBuffer pad(OutputStream out, ByteBuffer buffer, long size) throws IOException {
+            for (long i = size; i < align(size); i++) {
+                put(out, buffer, 1).put((byte) 0);
+            }
+            return buffer;
+        }
+
+    }
+
+    /**
+     * 查询过程中命中的要素下标
+     */
+    private static final class Hits {
+
+        private int[] values = new int[16];
+
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size << 1);
+            }
+            values[size++] = value;
+        }
+
+    }
+
+}
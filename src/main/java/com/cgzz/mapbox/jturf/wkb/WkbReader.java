@@ -0,0 +1,347 @@
+package com.cgzz.mapbox.jturf.wkb;
+
+import com.cgzz.mapbox.jturf.exception.JTurfException;
+import com.cgzz.mapbox.jturf.geojson.GeoJsonUtils;
+import com.cgzz.mapbox.jturf.shape.Geometry;
+import com.cgzz.mapbox.jturf.shape.impl.*;
+import com.google.gson.JsonObject;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 解码 WKB 以及 {@link WkbWriter} 输出的 Feature、FeatureCollection。<br>
+ * 每个图形按自身首字节的字节序读取；类型码支持 ISO 的 Z、M、ZM（+1000、+2000、+3000）与 EWKB 的标志位，
+ * M 值会被忽略，EWKB 的 SRID 会被跳过，值为 NaN 的高度视为没有高度。<br>
+ * LineString、Polygon、MultiPolygon 解码为紧凑存储（{@link CoordinateSequence}）。
+ */
+public final class WkbReader {
+
+    private static final int EWKB_Z = 0x80000000;
+
+    private static final int EWKB_M = 0x40000000;
+
+    private static final int EWKB_SRID = 0x20000000;
+
+    private WkbReader() {
+        throw new AssertionError("No Instance.");
+    }
+
+    /**
+     * 解码图形
+     *
+     * @param bytes WKB
+     * @return 图形
+     */
+    public static Geometry read(byte[] bytes) {
+        return read(wrap(bytes));
+    }
+
+    /**
+     * 从缓冲区的当前位置解码图形，解码完成后缓冲区的位置移动到图形之后
+     *
+     * @param buffer 缓冲区
+     * @return 图形
+     */
+    public static Geometry read(ByteBuffer buffer) {
+        checkBuffer(buffer);
+        ByteBuffer in = buffer.duplicate();
+        Geometry geometry = decode(() -> readGeometry(in));
+        buffer.position(in.position());
+        return geometry;
+    }
+
+    /**
+     * 解码要素
+     *
+     * @param bytes 编码结果
+     * @return 要素
+     */
+    public static Feature<Geometry> readFeature(byte[] bytes) {
+        return readFeature(wrap(bytes));
+    }
+
+    /**
+     * 从缓冲区的当前位置解码要素，解码完成后缓冲区的位置移动到要素之后
+     *
+     * @param buffer 缓冲区
+     * @return 要素
+     */
+    public static Feature<Geometry> readFeature(ByteBuffer buffer) {
+        checkBuffer(buffer);
+        ByteBuffer in = buffer.duplicate();
+        Feature<Geometry> feature = decode(() -> readFeature0(in));
+        buffer.position(in.position());
+        return feature;
+    }
+
+    /**
+     * 解码要素集合
+     *
+     * @param bytes 编码结果
+     * @return 要素集合
+     */
+    public static FeatureCollection<Geometry> readFeatureCollection(byte[] bytes) {
+        return readFeatureCollection(wrap(bytes));
+    }
+
+    /**
+     * 从缓冲区的当前位置解码要素集合，解码完成后缓冲区的位置移动到要素集合之后
+     *
+     * @param buffer 缓冲区
+     * @return 要素集合
+     */
+    public static FeatureCollection<Geometry> readFeatureCollection(ByteBuffer buffer) {
+        checkBuffer(buffer);
+        ByteBuffer in = buffer.duplicate();
+        FeatureCollection<Geometry> featureCollection = decode(() -> {
+            readByteOrder(in);
+            int count = readCount(in);
+            List<Feature<Geometry>> features = new ArrayList<>(Math.min(count, 1024));
+            for (int i = 0; i < count; i++) {
+                features.add(readFeature0(in));
+            }
+            return FeatureCollection.fromFeatures(features);
+        });
+        buffer.position(in.position());
+        return featureCollection;
+    }
+
+    private static ByteBuffer wrap(byte[] bytes) {
+        if (bytes == null) {
+            throw new JTurfException("bytes is required");
+        }
+        return ByteBuffer.wrap(bytes);
+    }
+
+    private static void checkBuffer(ByteBuffer buffer) {
+        if (buffer == null) {
+            throw new JTurfException("buffer is required");
+        }
+    }
+
+    private static <T> T decode(Supplier<T> decoder) {
+        try {
+            return decoder.get();
+        } catch (BufferUnderflowException e) {
+            throw new JTurfException("wkb is truncated", e);
+        }
+    }
+
+    private static Feature<Geometry> readFeature0(ByteBuffer in) {
+        readByteOrder(in);
+
+        String id = null;
+        int idLength = in.getInt();
+        if (idLength >= 0) {
+            id = readString(in, idLength);
+        } else if (idLength != -1) {
+            throw new JTurfException("feature id length is invalid: " + idLength);
+        }
+
+        int propertiesLength = readCount(in);
+        JsonObject properties = propertiesLength == 0 ? null
+                : GeoJsonUtils.getGson().fromJson(readString(in, propertiesLength), JsonObject.class);
+        return Feature.fromGeometry(readGeometry(in), properties, id);
+    }
+
+    private static String readString(ByteBuffer in, int length) {
+        if (length > in.remaining()) {
+            throw new JTurfException("wkb is truncated");
+        }
+        String value;
+        if (in.hasArray()) {
+            value = new String(in.array(), in.arrayOffset() + in.position(), length, StandardCharsets.UTF_8);
+            in.position(in.position() + length);
+        } else {
+            byte[] bytes = new byte[length];
+            in.get(bytes);
+            value = new String(bytes, StandardCharsets.UTF_8);
+        }
+        return value;
+    }
+
+    private static void readByteOrder(ByteBuffer in) {
+        byte order = in.get();
+        if (order == WkbWriter.LITTLE_ENDIAN) {
+            in.order(ByteOrder.LITTLE_ENDIAN);
+        } else if (order == WkbWriter.BIG_ENDIAN) {
+            in.order(ByteOrder.BIG_ENDIAN);
+        } else {
+            throw new JTurfException("wkb byte order is invalid: " + order);
+        }
+    }
+
+    private static int readCount(ByteBuffer in) {
+        int count = in.getInt();
+        if (count < 0) {
+            throw new JTurfException("wkb count is invalid: " + count);
+        }
+        return count;
+    }
+
+    private static Geometry readGeometry(ByteBuffer in) {
+        return readGeometry(in, 0);
+    }
+
+    /**
+     * @param expected 期望的类型，0 表示任意类型
+     */
+    private static Geometry readGeometry(ByteBuffer in, int expected) {
+        readByteOrder(in);
+        int code = in.getInt();
+
+        boolean hasZ = (code & EWKB_Z) != 0;
+        boolean hasM = (code & EWKB_M) != 0;
+        if ((code & EWKB_SRID) != 0) {
+            in.getInt();
+        }
+        code &= 0x0fffffff;
+
+        int type = code % 1000;
+        int dimensions = code / 1000;
+        if (dimensions > 3) {
+            throw new JTurfException("wkb type is invalid: " + code);
+        }
+        hasZ |= dimensions == 1 || dimensions == 3;
+        hasM |= dimensions == 2 || dimensions == 3;
+
+        if (expected != 0 && type != expected) {
+            throw new JTurfException("wkb type " + type + " is unexpected, " + expected + " expected");
+        }
+
+        Dimension dimension = new Dimension(hasZ, hasM);
+        switch (type) {
+            case WkbWriter.WKB_POINT:
+                return readPoint(in, dimension);
+            case WkbWriter.WKB_LINE_STRING:
+                return LineString.fromSequence(readSequence(in, dimension));
+            case WkbWriter.WKB_POLYGON:
+                return Polygon.fromSequences(readRings(in, dimension));
+            case WkbWriter.WKB_MULTI_POINT:
+                int count = readCount(in);
+                List<Point> points = new ArrayList<>(Math.min(count, 1024));
+                for (int i = 0; i < count; i++) {
+                    points.add((Point) readGeometry(in, WkbWriter.WKB_POINT));
+                }
+                return MultiPoint.fromLngLats(points);
+            case WkbWriter.WKB_MULTI_LINE_STRING:
+                count = readCount(in);
+                List<List<Point>> lines = new ArrayList<>(Math.min(count, 1024));
+                for (int i = 0; i < count; i++) {
+                    lines.add(LineString.lineString(readGeometry(in, WkbWriter.WKB_LINE_STRING)).coordinates());
+                }
+                return MultiLineString.fromLngLats(lines);
+            case WkbWriter.WKB_MULTI_POLYGON:
+                count = readCount(in);
+                // 每个多边形至少包含字节序、类型和环数 9 个字节，数量不可信时避免按其分配数组
+                if ((long) count * 9 > in.remaining()) {
+                    throw new JTurfException("wkb is truncated");
+                }
+                CoordinateSequence[][] polygons = new CoordinateSequence[count][];
+                for (int i = 0; i < polygons.length; i++) {
+                    polygons[i] = Polygon.polygon(readGeometry(in, WkbWriter.WKB_POLYGON)).coordinateSequences();
+                }
+                return MultiPolygon.fromSequences(polygons);
+            case WkbWriter.WKB_GEOMETRY_COLLECTION:
+                count = readCount(in);
+                List<Geometry> geometries = new ArrayList<>(Math.min(count, 1024));
+                for (int i = 0; i < count; i++) {
+                    geometries.add(readGeometry(in));
+                }
+                return GeometryCollection.fromGeometries(geometries);
+            default:
+                throw new JTurfException("wkb type " + type + " is not supported");
+        }
+    }
+
+    private static Point readPoint(ByteBuffer in, Dimension dimension) {
+        double x = in.getDouble();
+        double y = in.getDouble();
+        double z = dimension.hasZ ? in.getDouble() : Double.NaN;
+        if (dimension.hasM) {
+            in.getDouble();
+        }
+        return Double.isNaN(z) ? Point.fromLngLat(x, y) : Point.fromLngLat(x, y, z);
+    }
+
+    private static CoordinateSequence[] readRings(ByteBuffer in, Dimension dimension) {
+        int count = readCount(in);
+        // 每个环至少包含 4 个字节的点数
+        if ((long) count * 4 > in.remaining()) {
+            throw new JTurfException("wkb is truncated");
+        }
+        CoordinateSequence[] rings = new CoordinateSequence[count];
+        for (int i = 0; i < rings.length; i++) {
+            rings[i] = readSequence(in, dimension);
+        }
+        return rings;
+    }
+
+    private static CoordinateSequence readSequence(ByteBuffer in, Dimension dimension) {
+        int size = readCount(in);
+        int stride = dimension.stride();
+        if ((long) size * stride * 8 > in.remaining()) {
+            throw new JTurfException("wkb is truncated");
+        }
+
+        if (!dimension.hasZ) {
+            double[] coords = new double[size * 2];
+            for (int i = 0, j = 0; i < size; i++) {
+                coords[j++] = in.getDouble();
+                coords[j++] = in.getDouble();
+                if (dimension.hasM) {
+                    in.getDouble();
+                }
+            }
+            return CoordinateSequence.fromLngLats(coords);
+        }
+
+        double[] coords = new double[size * 3];
+        boolean hasZ = false;
+        for (int i = 0, j = 0; i < size; i++) {
+            coords[j++] = in.getDouble();
+            coords[j++] = in.getDouble();
+            double z = in.getDouble();
+            hasZ |= !Double.isNaN(z);
+            coords[j++] = z;
+            if (dimension.hasM) {
+                in.getDouble();
+            }
+        }
+        if (hasZ) {
+            return CoordinateSequence.fromLngLats(coords, 3);
+        }
+
+        // 高度全部为 NaN 时按二维存放
+        double[] xy = new double[size * 2];
+        for (int i = 0, j = 0, k = 0; i < size; i++, k++) {
+            xy[j++] = coords[k++];
+            xy[j++] = coords[k++];
+        }
+        return CoordinateSequence.fromLngLats(xy);
+    }
+
+    private static final class Dimension {
+
+        private final boolean hasZ;
+
+        private final boolean hasM;
+
+        Dimension(boolean hasZ, boolean hasM) {
+            this.hasZ = hasZ;
+            this.hasM = hasM;
+        }
+
+        int stride() {
+            return 2 + (hasZ ? 1 : 0) + (hasM ? 1 : 0);
+        }
+
+    }
+
+}
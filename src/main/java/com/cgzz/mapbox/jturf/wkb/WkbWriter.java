@@ -0,0 +1,489 @@
+package com.cgzz.mapbox.jturf.wkb;
+
+import com.cgzz.mapbox.jturf.exception.JTurfException;
+import com.cgzz.mapbox.jturf.geojson.GeoJsonUtils;
+import com.cgzz.mapbox.jturf.shape.Geometry;
+import com.cgzz.mapbox.jturf.shape.GeometryType;
+import com.cgzz.mapbox.jturf.shape.impl.*;
+import com.google.gson.JsonObject;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * 将图形编码为 WKB（Well-Known Binary），含高度的图形使用 ISO 的 Z 类型（类型码 + 1000），缺失的高度写入 NaN。<br>
+ * Feature、FeatureCollection 不在 WKB 规范内，使用以下自定义布局（整数与 WKB 一样按首字节指定的字节序）：
+ * <pre>
+ * Feature           = byteOrder(1) idLength(int32, -1 为 null) id(UTF-8) propertiesLength(int32, 0 为空对象) properties(JSON, UTF-8) geometry(WKB)
+ * FeatureCollection = byteOrder(1) count(int32) Feature * count
+ * </pre>
+ * 编码前先计算出准确的长度，只分配一次结果数组。
+ */
+public final class WkbWriter {
+
+    static final byte BIG_ENDIAN = 0;
+
+    static final byte LITTLE_ENDIAN = 1;
+
+    static final int WKB_POINT = 1;
+    static final int WKB_LINE_STRING = 2;
+    static final int WKB_POLYGON = 3;
+    static final int WKB_MULTI_POINT = 4;
+    static final int WKB_MULTI_LINE_STRING = 5;
+    static final int WKB_MULTI_POLYGON = 6;
+    static final int WKB_GEOMETRY_COLLECTION = 7;
+
+    /**
+     * ISO WKB 中 Z 类型的偏移
+     */
+    static final int WKB_Z = 1000;
+
+    private static final int HEADER = 1 + 4;
+
+    private WkbWriter() {
+        throw new AssertionError("No Instance.");
+    }
+
+    /**
+     * 按小端字节序编码图形
+     *
+     * @param geometry 图形，Feature、FeatureCollection 请使用 {@link #writeFeature(Feature)}、{@link #writeFeatureCollection(FeatureCollection)}
+     * @return WKB
+     */
+    public static byte[] write(Geometry geometry) {
+        return write(geometry, ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * 编码图形
+     *
+     * @param geometry  图形
+     * @param byteOrder 字节序
+     * @return WKB
+     */
+    public static byte[] write(Geometry geometry, ByteOrder byteOrder) {
+        checkGeometry(geometry);
+        ByteBuffer buffer = allocate(sizeOf(geometry), byteOrder);
+        writeGeometry(buffer, geometry);
+        return buffer.array();
+    }
+
+    /**
+     * 按小端字节序编码要素
+     *
+     * @param feature 要素
+     * @return 编码结果
+     */
+    public static byte[] writeFeature(Feature<? extends Geometry> feature) {
+        return writeFeature(feature, ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * 编码要素
+     *
+     * @param feature   要素
+     * @param byteOrder 字节序
+     * @return 编码结果
+     */
+    public static byte[] writeFeature(Feature<? extends Geometry> feature, ByteOrder byteOrder) {
+        if (feature == null) {
+            throw new JTurfException("feature is required");
+        }
+        EncodedFeature encoded = new EncodedFeature(feature);
+        ByteBuffer buffer = allocate(encoded.size, byteOrder);
+        encoded.write(buffer);
+        return buffer.array();
+    }
+
+    /**
+     * 按小端字节序编码要素集合
+     *
+     * @param featureCollection 要素集合
+     * @return 编码结果
+     */
+    public static byte[] writeFeatureCollection(FeatureCollection<? extends Geometry> featureCollection) {
+        return writeFeatureCollection(featureCollection, ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * 编码要素集合
+     *
+     * @param featureCollection 要素集合
+     * @param byteOrder         字节序
+     * @return 编码结果
+     */
+    public static byte[] writeFeatureCollection(FeatureCollection<? extends Geometry> featureCollection, ByteOrder byteOrder) {
+        if (featureCollection == null) {
+            throw new JTurfException("featureCollection is required");
+        }
+
+        List<? extends Feature<? extends Geometry>> features = featureCollection.geometries();
+        EncodedFeature[] encoded = new EncodedFeature[features.size()];
+        int size = 1 + 4;
+        for (int i = 0; i < encoded.length; i++) {
+            Feature<? extends Geometry> feature = features.get(i);
+            if (feature == null) {
+                throw new JTurfException("featureCollection can not contain null feature");
+            }
+            encoded[i] = new EncodedFeature(feature);
+            size += encoded[i].size;
+        }
+
+        ByteBuffer buffer = allocate(size, byteOrder);
+        buffer.put(byteOrder(byteOrder));
+        buffer.putInt(encoded.length);
+        for (EncodedFeature feature : encoded) {
+            feature.write(buffer);
+        }
+        return buffer.array();
+    }
+
+    /**
+     * 计算图形编码后的字节数
+     *
+     * @param geometry 图形
+     * @return 字节数
+     */
+    public static int sizeOf(Geometry geometry) {
+        checkGeometry(geometry);
+        return sizeOf(geometry, hasZ(geometry) ? 3 : 2);
+    }
+
+    private static ByteBuffer allocate(int size, ByteOrder byteOrder) {
+        if (byteOrder == null) {
+            throw new JTurfException("byteOrder is required");
+        }
+        return ByteBuffer.allocate(size).order(byteOrder);
+    }
+
+    private static byte byteOrder(ByteOrder byteOrder) {
+        return byteOrder == ByteOrder.LITTLE_ENDIAN ? LITTLE_ENDIAN : BIG_ENDIAN;
+    }
+
+    private static void checkGeometry(Geometry geometry) {
+        if (geometry == null) {
+            throw new JTurfException("geometry is required");
+        }
+        GeometryType type = geometry.geometryType();
+        if (type == GeometryType.FEATURE || type == GeometryType.FEATURE_COLLECTION) {
+            throw new JTurfException("geometry can not be " + type.getName() + ", use writeFeature or writeFeatureCollection");
+        }
+    }
+
+    /**
+     * 写入图形到缓冲区，缓冲区的剩余空间必须足够
+     *
+     * @param buffer   缓冲区，使用其字节序
+     * @param geometry 图形
+     */
+    static void writeGeometry(ByteBuffer buffer, Geometry geometry) {
+        writeGeometry(buffer, geometry, hasZ(geometry) ? 3 : 2);
+    }
+
+    private static int sizeOf(Geometry geometry, int dimension) {
+        int coordinate = dimension * 8;
+        switch (geometry.geometryType()) {
+            case POINT:
+                return HEADER + coordinate;
+            case MULTI_POINT:
+                return HEADER + 4 + MultiPoint.multiPoint(geometry).coordinates().size() * (HEADER + coordinate);
+            case LINE_STRING:
+                return HEADER + 4 + size(LineString.lineString(geometry)) * coordinate;
+            case MULTI_LINE_STRING:
+                int size = HEADER + 4;
+                for (List<Point> line : MultiLineString.multiLineString(geometry).coordinates()) {
+                    size += HEADER + 4 + line.size() * coordinate;
+                }
+                return size;
+            case POLYGON:
+                return HEADER + ringsSize(Polygon.polygon(geometry), coordinate);
+            case MULTI_POLYGON:
+                MultiPolygon multiPolygon = MultiPolygon.multiPolygon(geometry);
+                size = HEADER + 4;
+                if (multiPolygon.isPacked()) {
+                    for (CoordinateSequence[] rings : multiPolygon.coordinateSequences()) {
+                        size += HEADER + ringsSize(rings, coordinate);
+                    }
+                } else {
+                    for (List<List<Point>> rings : multiPolygon.coordinates()) {
+                        size += HEADER + ringsSize(rings, coordinate);
+                    }
+                }
+                return size;
+            case GEOMETRY_COLLECTION:
+                size = HEADER + 4;
+                for (Geometry g : GeometryCollection.geometryCollection(geometry).geometries()) {
+                    checkGeometry(g);
+                    size += sizeOf(g, hasZ(g) ? 3 : 2);
+                }
+                return size;
+            default:
+                throw new JTurfException("geometry type " + geometry.geometryType().getName() + " is not supported");
+        }
+    }
+
+    private static int size(LineString line) {
+        return line.isPacked() ? line.coordinateSequence().size() : line.coordinates().size();
+    }
+
+    private static int ringsSize(Polygon polygon, int coordinate) {
+        return polygon.isPacked() ? ringsSize(polygon.coordinateSequences(), coordinate) : ringsSize(polygon.coordinates(), coordinate);
+    }
+
+    private static int ringsSize(CoordinateSequence[] rings, int coordinate) {
+        int size = 4;
+        for (CoordinateSequence ring : rings) {
+            size += 4 + ring.size() * coordinate;
+        }
+        return size;
+    }
+
+    private static int ringsSize(List<List<Point>> rings, int coordinate) {
+        int size = 4;
+        for (List<Point> ring : rings) {
+            size += 4 + ring.size() * coordinate;
+        }
+        return size;
+    }
+
+    private static void writeGeometry(ByteBuffer buffer, Geometry geometry, int dimension) {
+        switch (geometry.geometryType()) {
+            case POINT:
+                writeHeader(buffer, WKB_POINT, dimension);
+                writePoint(buffer, (Point) geometry, dimension);
+                break;
+            case MULTI_POINT:
+                List<Point> points = MultiPoint.multiPoint(geometry).coordinates();
+                writeHeader(buffer, WKB_MULTI_POINT, dimension);
+                buffer.putInt(points.size());
+                for (Point point : points) {
+                    writeHeader(buffer, WKB_POINT, dimension);
+                    writePoint(buffer, point, dimension);
+                }
+                break;
+            case LINE_STRING:
+                LineString line = LineString.lineString(geometry);
+                writeHeader(buffer, WKB_LINE_STRING, dimension);
+                if (line.isPacked()) {
+                    writeSequence(buffer, line.coordinateSequence(), dimension);
+                } else {
+                    writePoints(buffer, line.coordinates(), dimension);
+                }
+                break;
+            case MULTI_LINE_STRING:
+                List<List<Point>> lines = MultiLineString.multiLineString(geometry).coordinates();
+                writeHeader(buffer, WKB_MULTI_LINE_STRING, dimension);
+                buffer.putInt(lines.size());
+                for (List<Point> coordinates : lines) {
+                    writeHeader(buffer, WKB_LINE_STRING, dimension);
+                    writePoints(buffer, coordinates, dimension);
+                }
+                break;
+            case POLYGON:
+                writeHeader(buffer, WKB_POLYGON, dimension);
+                writeRings(buffer, Polygon.polygon(geometry), dimension);
+                break;
+            case MULTI_POLYGON:
+                MultiPolygon multiPolygon = MultiPolygon.multiPolygon(geometry);
+                writeHeader(buffer, WKB_MULTI_POLYGON, dimension);
+                if (multiPolygon.isPacked()) {
+                    CoordinateSequence[][] polygons = multiPolygon.coordinateSequences();
+                    buffer.putInt(polygons.length);
+                    for (CoordinateSequence[] rings : polygons) {
+                        writeHeader(buffer, WKB_POLYGON, dimension);
+                        writeRings(buffer, rings, dimension);
+                    }
+                } else {
+                    List<List<List<Point>>> polygons = multiPolygon.coordinates();
+                    buffer.putInt(polygons.size());
+                    for (List<List<Point>> rings : polygons) {
+                        writeHeader(buffer, WKB_POLYGON, dimension);
+                        writeRings(buffer, rings, dimension);
+                    }
+                }
+                break;
+            case GEOMETRY_COLLECTION:
+                List<Geometry> geometries = GeometryCollection.geometryCollection(geometry).geometries();
+                writeHeader(buffer, WKB_GEOMETRY_COLLECTION, dimension);
+                buffer.putInt(geometries.size());
+                // 集合内的图形各自决定维度
+                for (Geometry g : geometries) {
+                    writeGeometry(buffer, g, hasZ(g) ? 3 : 2);
+                }
+                break;
+            default:
+                throw new JTurfException("geometry type " + geometry.geometryType().getName() + " is not supported");
+        }
+    }
+
+    private static void writeHeader(ByteBuffer buffer, int type, int dimension) {
+        buffer.put(byteOrder(buffer.order()));
+        buffer.putInt(dimension == 3 ? type + WKB_Z : type);
+    }
+
+    private static void writeRings(ByteBuffer buffer, Polygon polygon, int dimension) {
+        if (polygon.isPacked()) {
+            writeRings(buffer, polygon.coordinateSequences(), dimension);
+        } else {
+            writeRings(buffer, polygon.coordinates(), dimension);
+        }
+    }
+
+    private static void writeRings(ByteBuffer buffer, CoordinateSequence[] rings, int dimension) {
+        buffer.putInt(rings.length);
+        for (CoordinateSequence ring : rings) {
+            writeSequence(buffer, ring, dimension);
+        }
+    }
+
+    private static void writeRings(ByteBuffer buffer, List<List<Point>> rings, int dimension) {
+        buffer.putInt(rings.size());
+        for (List<Point> ring : rings) {
+            writePoints(buffer, ring, dimension);
+        }
+    }
+
+    private static void writePoints(ByteBuffer buffer, List<Point> points, int dimension) {
+        buffer.putInt(points.size());
+        for (Point point : points) {
+            writePoint(buffer, point, dimension);
+        }
+    }
+
+    private static void writePoint(ByteBuffer buffer, Point point, int dimension) {
+        buffer.putDouble(point.getX());
+        buffer.putDouble(point.getY());
+        if (dimension == 3) {
+            buffer.putDouble(point.getZ());
+        }
+    }
+
+    private static void writeSequence(ByteBuffer buffer, CoordinateSequence sequence, int dimension) {
+        int size = sequence.size();
+        buffer.putInt(size);
+        for (int i = 0; i < size; i++) {
+            buffer.putDouble(sequence.getX(i));
+            buffer.putDouble(sequence.getY(i));
+            if (dimension == 3) {
+                buffer.putDouble(sequence.getZ(i));
+            }
+        }
+    }
+
+    /**
+     * 图形中是否有坐标带高度
+     */
+    private static boolean hasZ(Geometry geometry) {
+        switch (geometry.geometryType()) {
+            case POINT:
+                return ((Point) geometry).hasAltitude();
+            case MULTI_POINT:
+                return hasZ(MultiPoint.multiPoint(geometry).coordinates());
+            case LINE_STRING:
+                LineString line = LineString.lineString(geometry);
+                return line.isPacked() ? hasZ(line.coordinateSequence()) : hasZ(line.coordinates());
+            case MULTI_LINE_STRING:
+                for (List<Point> points : MultiLineString.multiLineString(geometry).coordinates()) {
+                    if (hasZ(points)) {
+                        return true;
+                    }
+                }
+                return false;
+            case POLYGON:
+                Polygon polygon = Polygon.polygon(geometry);
+                return polygon.isPacked() ? hasZ(polygon.coordinateSequences()) : hasZLists(polygon.coordinates());
+            case MULTI_POLYGON:
+                MultiPolygon multiPolygon = MultiPolygon.multiPolygon(geometry);
+                if (multiPolygon.isPacked()) {
+                    for (CoordinateSequence[] rings : multiPolygon.coordinateSequences()) {
+                        if (hasZ(rings)) {
+                            return true;
+                        }
+                    }
+                } else {
+                    for (List<List<Point>> rings : multiPolygon.coordinates()) {
+                        if (hasZLists(rings)) {
+                            return true;
+                        }
+                    }
+                }
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    private static boolean hasZ(CoordinateSequence[] sequences) {
+        for (CoordinateSequence sequence : sequences) {
+            if (hasZ(sequence)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean hasZ(CoordinateSequence sequence) {
+        return sequence.dimension() == 3;
+    }
+
+    private static boolean hasZLists(List<List<Point>> lists) {
+        for (List<Point> points : lists) {
+            if (hasZ(points)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean hasZ(List<Point> points) {
+        for (Point point : points) {
+            if (point.hasAltitude()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 预先编码好 id、properties 的要素，用于计算长度
+     */
+    private static final class EncodedFeature {
+
+        private final byte[] id;
+
+        private final byte[] properties;
+
+        private final Geometry geometry;
+
+        private final int size;
+
+        EncodedFeature(Feature<? extends Geometry> feature) {
+            Geometry geometry = feature.geometry();
+            checkGeometry(geometry);
+
+            JsonObject properties = feature.properties();
+            this.id = feature.id() == null ? null : feature.id().getBytes(StandardCharsets.UTF_8);
+            this.properties = properties == null || properties.size() == 0
+                    ? new byte[0] : GeoJsonUtils.getGson().toJson(properties).getBytes(StandardCharsets.UTF_8);
+            this.geometry = geometry;
+            this.size = 1 + 4 + (id == null ? 0 : id.length) + 4 + this.properties.length + sizeOf(geometry);
+        }
+
+        void write(ByteBuffer buffer) {
+            buffer.put(byteOrder(buffer.order()));
+            if (id == null) {
+                buffer.putInt(-1);
+            } else {
+                buffer.putInt(id.length);
+                buffer.put(id);
+            }
+            buffer.putInt(properties.length);
+            buffer.put(properties);
+            writeGeometry(buffer, geometry);
+        }
+
+    }
+
+}
@@ -1,10 +1,36 @@
 package com.cgzz.mapbox.test;
 
-import com.cgzz.mapbox.jturf.shape.impl.Feature;
-import com.cgzz.mapbox.jturf.shape.impl.FeatureCollection;
-import com.cgzz.mapbox.jturf.shape.impl.Polygon;
+import com.cgzz.mapbox.jturf.JTurfMeasurement;
+import com.cgzz.mapbox.jturf.JTurfRandom;
+import com.cgzz.mapbox.jturf.exception.JTurfException;
+import com.cgzz.mapbox.jturf.exception.GeoJsonException;
+import com.cgzz.mapbox.jturf.geojson.GeoJsonParser;
+import com.cgzz.mapbox.jturf.geojson.GeoJsonReader;
+import com.cgzz.mapbox.jturf.geojson.GeoJsonWriter;
+import com.cgzz.mapbox.jturf.shape.Geometry;
+import com.cgzz.mapbox.jturf.shape.impl.*;
+import com.cgzz.mapbox.jturf.util.index.FeatureIndex;
+import com.cgzz.mapbox.jturf.wkb.FeatureStore;
+import com.cgzz.mapbox.jturf.wkb.WkbReader;
+import com.cgzz.mapbox.jturf.wkb.WkbWriter;
+import com.google.gson.JsonObject;
+import org.junit.Test;
 
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.*;
 
 public class GeoJsonTest {
 
@@ -40,4 +66,211 @@ public class GeoJsonTest {
 //        System.out.println(d);
     }
 
+    @Test
+    public void readerTest() {
+        String json = "{\"bbox\":[0,0,10,10],\"features\":["
+                + "{\"type\":\"Feature\",\"id\":\"a\",\"geometry\":{\"type\":\"Point\",\"coordinates\":[1,2]},\"properties\":{\"features\":[1]}},"
+                + "null,"
+                + "{\"type\":\"Feature\",\"geometry\":{\"type\":\"Polygon\",\"coordinates\":[[[0,0],[10,0],[10,10],[0,0]]]}}"
+                + "],\"type\":\"FeatureCollection\"}";
+
+        List<Feature<Geometry>> expected = FeatureCollection.fromJson(json).geometries().stream()
+                .filter(f -> f != null).collect(Collectors.toList());
+
+        try (Stream<Feature<Geometry>> features = GeoJsonReader.of(new StringReader(json)).stream()) {
+            List<Feature<Geometry>> actual = features.collect(Collectors.toList());
+            assertEquals(actual.size(), 2);
+            assertEquals(actual.get(0).id(), "a");
+            assertEquals(actual.get(0).properties().get("features").getAsJsonArray().size(), 1);
+            assertEquals(actual.get(1).properties().size(), 0);
+            for (int i = 0; i < actual.size(); i++) {
+                assertEquals(actual.get(i).toJson(), expected.get(i).toJson());
+            }
+        }
+
+        GeoJsonReader reader = GeoJsonReader.of(new ByteArrayInputStream("{\"type\":\"FeatureCollection\"}".getBytes(StandardCharsets.UTF_8)));
+        assertFalse(reader.hasNext());
+
+        try {
+            GeoJsonReader.of(new StringReader("{\"features\":[{\"type\":\"Feature\",")).stream().count();
+            fail("malformed geojson must throw");
+        } catch (JTurfException e) {
+            assertNotNull(e.getCause());
+        }
+    }
+
+    @Test
+    public void writerTest() throws IOException {
+        JsonObject properties = new JsonObject();
+        properties.addProperty("name", "<a href='x'>&</a>");
+        properties.addProperty("value", 1.5);
+        properties.add("empty", null);
+
+        List<Geometry> geometries = Arrays.asList(
+                Point.fromLngLat(1.123456789, 2.1),
+                Point.fromLngLat(1, 2, 3.123456789),
+                MultiPoint.fromLngLats(new double[][]{{0, 0}, {1.000000049, 1}}),
+                LineString.fromLngLats(new double[][]{{0, 0}, {1, 1}, {2, 0.333333333333}}),
+                LineString.fromSequence(CoordinateSequence.fromLngLats(new double[]{0, 0, 1, 1, 2, 0.333333333333})),
+                MultiLineString.fromLngLats(new double[][][]{{{0, 0}, {1, 1}}, {{2, 2}, {3, 3}}}),
+                Polygon.fromLngLats(new double[]{0, 0, 10, 0, 10, 10, 0, 0}),
+                Polygon.fromLngLats(new double[][][]{{{0, 0}, {10, 0}, {10, 10}, {0, 0}}, {{1, 1}, {2, 1}, {2, 2}, {1, 1}}}),
+                MultiPolygon.fromLngLats(new double[][][][]{{{{0, 0}, {1, 0}, {1, 1}, {0, 0}}}, {{{5, 5}, {6, 5}, {6, 6}, {5, 5}}}}),
+                GeometryCollection.fromGeometries(Arrays.asList(Point.fromLngLat(1, 2), LineString.fromLngLats(0, 0, 1, 1))));
+
+        List<Feature<Geometry>> features = new ArrayList<>();
+        for (int i = 0; i < geometries.size(); i++) {
+            features.add(Feature.fromGeometry(geometries.get(i), i % 2 == 0 ? properties : null, i % 3 == 0 ? "id" + i : null));
+        }
+        FeatureCollection<Geometry> featureCollection = FeatureCollection.fromFeatures(features);
+
+        // 默认输出与 toJson 逐字节一致
+        StringWriter out = new StringWriter();
+        GeoJsonWriter.of(out).writeFeatureCollection(featureCollection).flush();
+        assertEquals(out.toString(), featureCollection.toJson());
+
+        for (Feature<Geometry> feature : features) {
+            out = new StringWriter();
+            GeoJsonWriter.of(out).writeFeature(feature).flush();
+            assertEquals(out.toString(), feature.toJson());
+
+            out = new StringWriter();
+            GeoJsonWriter.of(out).writeGeometry(feature.geometry()).flush();
+            assertEquals(out.toString(), feature.geometry().toJson());
+        }
+
+        // 字节流、分块刷新、精度
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GeoJsonWriter writer = GeoJsonWriter.of(bytes).flushEvery(2)) {
+            writer.beginFeatureCollection();
+            writer.writeFeature(features.get(0));
+            assertEquals(bytes.size(), 0);
+            writer.writeFeature(features.get(1));
+            assertTrue(bytes.size() > 0);
+            for (int i = 2; i < features.size(); i++) {
+                writer.writeFeature(features.get(i));
+            }
+            writer.endFeatureCollection();
+        }
+        assertEquals(new String(bytes.toByteArray(), StandardCharsets.UTF_8), featureCollection.toJson());
+
+        out = new StringWriter();
+        GeoJsonWriter.of(out).precision(2).writeGeometry(geometries.get(1)).flush();
+        assertEquals(out.toString(), "{\"type\":\"Point\",\"coordinates\":[1.0,2.0,3.123456789]}");
+    }
+
+    @Test
+    public void parserTest() {
+        // type 在 coordinates 之后、包含未知成员、三维坐标
+        String json = "{\"features\":[{\"geometry\":{\"coordinates\":[[[0,0],[10,0,5],[10,10],[0,0]]],\"x\":[[1]],\"type\":\"Polygon\"},"
+                + "\"properties\":{\"name\":\"a\"},\"type\":\"Feature\",\"id\":1},"
+                + "{\"type\":\"Feature\",\"geometry\":{\"type\":\"GeometryCollection\",\"geometries\":["
+                + "{\"type\":\"Point\",\"coordinates\":[1,2,3]},{\"type\":\"LineString\",\"coordinates\":[[0,0],[1,1]]},"
+                + "{\"type\":\"MultiPolygon\",\"coordinates\":[[[[0,0],[1,0],[1,1],[0,0]]]]}]}}],\"type\":\"FeatureCollection\"}";
+
+        FeatureCollection<Geometry> features = GeoJsonParser.parseFeatureCollection(json);
+        assertEquals(features.toJson(), FeatureCollection.fromJson(json).toJson());
+
+        Polygon polygon = (Polygon) features.get(0).geometry();
+        assertTrue(polygon.isPacked());
+        assertEquals(polygon.coordinates().get(0).get(1).altitude(), 5, 0);
+        assertEquals(features.get(0).id(), "1");
+        assertEquals(features.get(0).properties().get("name").getAsString(), "a");
+
+        Geometry point = GeoJsonParser.parse("{\"coordinates\":[1.5,2.5],\"type\":\"Point\"}");
+        assertEquals(point, Point.fromLngLat(1.5, 2.5));
+
+        try {
+            GeoJsonParser.parse("{\"type\":\"LineString\",\"coordinates\":[[[1,2]]]}");
+            fail("invalid nesting must throw");
+        } catch (GeoJsonException e) {
+            assertNotNull(e.getMessage());
+        }
+    }
+
+    @Test
+    public void wkbTest() {
+        String json = "{\"type\":\"FeatureCollection\",\"features\":["
+                + "{\"type\":\"Feature\",\"id\":\"p\",\"geometry\":{\"type\":\"Point\",\"coordinates\":[1.5,2.5]},\"properties\":{\"name\":\"中文\",\"n\":1}},"
+                + "{\"type\":\"Feature\",\"geometry\":{\"type\":\"MultiPoint\",\"coordinates\":[[1,2],[3,4,5]]},\"properties\":{}},"
+                + "{\"type\":\"Feature\",\"geometry\":{\"type\":\"LineString\",\"coordinates\":[[0,0],[1,1,2]]},\"properties\":{}},"
+                + "{\"type\":\"Feature\",\"geometry\":{\"type\":\"MultiLineString\",\"coordinates\":[[[0,0],[1,1]],[[2,2],[3,3]]]},\"properties\":{}},"
+                + "{\"type\":\"Feature\",\"geometry\":{\"type\":\"Polygon\",\"coordinates\":[[[0,0],[10,0],[10,10],[0,0]],[[1,1],[2,1],[2,2],[1,1]]]},\"properties\":{}},"
+                + "{\"type\":\"Feature\",\"geometry\":{\"type\":\"MultiPolygon\",\"coordinates\":[[[[0,0],[1,0],[1,1],[0,0]]],[[[5,5],[6,5],[6,6],[5,5]]]]},\"properties\":{}},"
+                + "{\"type\":\"Feature\",\"geometry\":{\"type\":\"GeometryCollection\",\"geometries\":["
+                + "{\"type\":\"Point\",\"coordinates\":[1,2,3]},{\"type\":\"LineString\",\"coordinates\":[[0,0],[1,1]]}]},\"properties\":{}}]}";
+
+        // Gson 解析的点列表存储与 GeoJsonParser 解析的紧凑存储都可以编码
+        for (FeatureCollection<Geometry> features : Arrays.asList(FeatureCollection.fromJson(json), GeoJsonParser.parseFeatureCollection(json))) {
+            for (ByteOrder byteOrder : Arrays.asList(ByteOrder.LITTLE_ENDIAN, ByteOrder.BIG_ENDIAN)) {
+                byte[] bytes = WkbWriter.writeFeatureCollection(features, byteOrder);
+                assertEquals(WkbReader.readFeatureCollection(bytes).toJson(), features.toJson());
+
+                for (Feature<Geometry> feature : features.geometries()) {
+                    assertEquals(WkbReader.readFeature(WkbWriter.writeFeature(feature, byteOrder)).toJson(), feature.toJson());
+                    byte[] wkb = WkbWriter.write(feature.geometry(), byteOrder);
+                    assertEquals(wkb.length, WkbWriter.sizeOf(feature.geometry()));
+                    assertEquals(WkbReader.read(wkb).toJson(), feature.geometry().toJson());
+                }
+            }
+        }
+
+        // 标准 WKB：小端 POINT(1 2)
+        byte[] point = {1, 1, 0, 0, 0, 0, 0, 0, 0, 0, 0, (byte) 0xf0, 0x3f, 0, 0, 0, 0, 0, 0, 0, 0x40};
+        assertArrayEquals(WkbWriter.write(Point.fromLngLat(1, 2)), point);
+
+        // 连续存放的多个图形按位置依次读取
+        ByteBuffer buffer = ByteBuffer.allocate(point.length * 2).put(point).put(point);
+        buffer.flip();
+        assertEquals(WkbReader.read(buffer), Point.fromLngLat(1, 2));
+        assertEquals(WkbReader.read(buffer), Point.fromLngLat(1, 2));
+        assertFalse(buffer.hasRemaining());
+
+        try {
+            WkbReader.read(Arrays.copyOf(point, 10));
+            fail("truncated wkb must throw");
+        } catch (JTurfException e) {
+            assertNotNull(e.getMessage());
+        }
+
+        // 环数、多边形数不可信时不能按其分配数组：小端 POLYGON、MULTIPOLYGON，数量为 Integer.MAX_VALUE
+        for (byte type : new byte[]{3, 6}) {
+            try {
+                WkbReader.read(new byte[]{1, type, 0, 0, 0, (byte) 0xff, (byte) 0xff, (byte) 0xff, 0x7f});
+                fail("truncated wkb must throw");
+            } catch (JTurfException e) {
+                assertNotNull(e.getMessage());
+            }
+        }
+    }
+
+    @Test
+    public void featureStoreTest() throws IOException {
+        FeatureCollection<Polygon> polygons = JTurfRandom.randomPolygon(500, BoundingBox.fromLngLats(0, 0, 100, 100), 8, 1.0, new Random(1));
+        FeatureIndex<Polygon> index = FeatureIndex.build(polygons);
+
+        Path path = Files.createTempFile("jturf", ".store");
+        try {
+            FeatureStore.write(path, polygons);
+            FeatureStore store = FeatureStore.open(path);
+            assertEquals(store.size(), polygons.geometries().size());
+            assertEquals(store.bbox(), JTurfMeasurement.bbox(polygons));
+
+            int i = 0;
+            for (Feature<Geometry> feature : store) {
+                assertEquals(feature.toJson(), polygons.get(i++).toJson());
+            }
+            assertEquals(i, store.size());
+
+            Random random = new Random(2);
+            for (int q = 0; q < 50; q++) {
+                double x = random.nextDouble() * 100, y = random.nextDouble() * 100, size = random.nextDouble() * 20;
+                BoundingBox bbox = BoundingBox.fromLngLats(x, y, x + size, y + size);
+                assertEquals(FeatureCollection.fromFeatures(store.intersects(bbox)).toJson(), FeatureCollection.fromFeatures(index.intersects(bbox)).toJson());
+            }
+        } finally {
+            Files.delete(path);
+        }
+    }
+
 }
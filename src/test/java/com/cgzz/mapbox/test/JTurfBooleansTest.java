@@ -5,6 +5,7 @@ import com.cgzz.mapbox.jturf.shape.impl.LineString;
 import com.cgzz.mapbox.jturf.shape.impl.MultiLineString;
 import com.cgzz.mapbox.jturf.shape.impl.Point;
 import com.cgzz.mapbox.jturf.shape.impl.Polygon;
+import com.cgzz.mapbox.jturf.util.booleans.PreparedPolygon;
 import org.junit.Test;
 
 import java.util.ArrayList;
@@ -50,6 +51,23 @@ public class JTurfBooleansTest {
         assertTrue(JTurfBooleans.booleanPointInPolygon(pt, poly));
     }
 
+    @Test
+    public void preparedPolygonTest() {
+        Polygon poly = Polygon.fromJson("{\"type\":\"Polygon\",\"coordinates\":[[[-81,41],[-81,47],[-72,47],[-72,41],[-81,41]],[[-78,43],[-75,43],[-75,45],[-78,45],[-78,43]]]}");
+        PreparedPolygon prepared = JTurfBooleans.preparePolygon(poly);
+
+        // 与未预处理的结果逐一对比，包含边界、内环、外部的点
+        double[][] points = {{-81, 41}, {-80, 42}, {-76, 44}, {-78, 44}, {-75, 45}, {-70, 44}, {-76.5, 47}, {-81, 44}, {-72, 46.9}};
+        for (double[] p : points) {
+            Point pt = Point.fromLngLat(p[0], p[1]);
+            assertTrue(JTurfBooleans.booleanPointInPolygon(pt, poly) == JTurfBooleans.booleanPointInPolygon(pt, prepared));
+            assertTrue(JTurfBooleans.booleanPointInPolygon(pt, poly, true) == JTurfBooleans.booleanPointInPolygon(pt, prepared, true));
+        }
+
+        assertTrue(JTurfBooleans.booleanPointInPolygon(Point.fromLngLat(-80, 42), prepared));
+        assertFalse(JTurfBooleans.booleanPointInPolygon(Point.fromLngLat(-76, 44), prepared));
+    }
+
     @Test
     public void booleanPointInPolygon2Test() {
         Point pt = Point.fromLngLat(-81, 41);
@@ -5,8 +5,13 @@ import com.cgzz.mapbox.jturf.JTurfClassification;
 import com.cgzz.mapbox.jturf.shape.impl.Feature;
 import com.cgzz.mapbox.jturf.shape.impl.FeatureCollection;
 import com.cgzz.mapbox.jturf.shape.impl.Point;
+import com.cgzz.mapbox.jturf.util.index.PointIndex;
 import org.junit.Test;
 
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
 public class JTurfClassificationTest {
@@ -22,4 +27,35 @@ public class JTurfClassificationTest {
         assertTrue(JTurfBooleans.booleanEqual(nearest, same));
     }
 
+    @Test
+    public void pointIndexTest() {
+        Point targetPoint = Point.fromLngLat(28.965797, 41.010086);
+        List<Point> points = Arrays.asList(Point.fromLngLat(28.948459, 41.024204), Point.fromLngLat(28.938674, 41.013324), Point.fromLngLat(28.973865, 41.011122));
+
+        // 最近点不是第一个点时，featureIndex 也要正确
+        Feature<Point> nearest = JTurfClassification.nearestPoint(targetPoint, points);
+        assertEquals(2, nearest.getPropertyAsNumber("featureIndex").intValue());
+        assertEquals(points.get(2), nearest.geometry());
+
+        PointIndex index = JTurfClassification.pointIndex(points);
+        Feature<Point> indexed = index.nearest(targetPoint);
+        assertTrue(JTurfBooleans.booleanEqual(nearest, indexed));
+        assertEquals(2, index.nearestIndex(targetPoint.longitude(), targetPoint.latitude()));
+
+        FeatureCollection<Point> k = index.kNearest(targetPoint, 2);
+        assertEquals(2, k.size());
+        assertEquals(2, k.get(0).getPropertyAsNumber("featureIndex").intValue());
+        assertEquals(0, k.get(1).getPropertyAsNumber("featureIndex").intValue());
+        assertEquals(3, index.kNearest(targetPoint, 10).size());
+
+        FeatureCollection<Point> within = index.withinRadius(targetPoint, 2.2);
+        assertEquals(2, within.size());
+        assertTrue(within.get(1).getPropertyAsNumber("distanceToPoint").doubleValue() <= 2.2);
+        assertTrue(index.withinRadius(targetPoint, 0.1).isEmpty());
+
+        // 跨越180度经线
+        PointIndex dateline = JTurfClassification.pointIndex(Arrays.asList(Point.fromLngLat(170, 0), Point.fromLngLat(-179.5, 0)));
+        assertEquals(1, dateline.nearestIndex(179.9, 0));
+    }
+
 }
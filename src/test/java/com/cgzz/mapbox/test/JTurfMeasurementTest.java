@@ -2,14 +2,20 @@ package com.cgzz.mapbox.test;
 
 import com.cgzz.mapbox.jturf.JTurfBooleans;
 import com.cgzz.mapbox.jturf.JTurfMeasurement;
+import com.cgzz.mapbox.jturf.JTurfRandom;
 import com.cgzz.mapbox.jturf.enums.Units;
 import com.cgzz.mapbox.jturf.shape.Geometry;
 import com.cgzz.mapbox.jturf.shape.impl.*;
+import com.cgzz.mapbox.jturf.util.measurement.PreparedPoints;
 import org.junit.Test;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 public class JTurfMeasurementTest {
@@ -217,4 +223,98 @@ public class JTurfMeasurementTest {
         assertTrue(JTurfBooleans.booleanEqual(tangents, same));
     }
 
+    @Test
+    public void packedCoordinatesTest() {
+        Polygon listPolygon = Polygon.fromJson("{\"type\":\"Polygon\",\"coordinates\":[[[125,-15],[113,-22],[154,-27],[144,-15],[125,-15]]]}");
+        Polygon packedPolygon = Polygon.fromLngLats(new double[]{125, -15, 113, -22, 154, -27, 144, -15});
+
+        assertTrue(packedPolygon.isPacked());
+        assertEquals(JTurfMeasurement.area(packedPolygon), JTurfMeasurement.area(listPolygon), 1e-3);
+        assertEquals(JTurfMeasurement.length(packedPolygon), JTurfMeasurement.length(listPolygon), 1e-9);
+        assertEquals(JTurfMeasurement.bbox(packedPolygon), JTurfMeasurement.bbox(listPolygon));
+        assertTrue(JTurfBooleans.booleanPointInPolygon(Point.fromLngLat(140, -20), packedPolygon));
+        assertEquals(packedPolygon, listPolygon);
+        assertEquals(packedPolygon.hashCode(), listPolygon.hashCode());
+        assertEquals(packedPolygon.toJson(), listPolygon.toJson());
+        MultiPolygon packedMultiPolygon = MultiPolygon.fromPolygon(packedPolygon);
+        assertEquals(MultiPolygon.fromPolygon(listPolygon).toViewCoordsString(), packedMultiPolygon.toViewCoordsString());
+        assertTrue(packedMultiPolygon.isPacked());
+        // 以上操作均不应展开为点集合
+        assertTrue(packedPolygon.isPacked());
+
+        LineString packedLine = LineString.fromLngLats(new double[]{115, -32, 131, -22, 143, -25, 150, -34});
+        assertEquals(JTurfMeasurement.length(packedLine, Units.MILES), 2738.9663893575207, 1e-9);
+
+        packedLine.coordinates().get(0).setCoords(0, 0);
+        assertFalse(packedLine.isPacked());
+        assertEquals(packedLine.coordinateSequence().getX(0), 0, 0);
+        assertEquals(LineString.fromLngLats(new double[]{0, 0, 131, -22, 143, -25, 150, -34}), packedLine);
+    }
+
+    @Test
+    public void batchTest() {
+        FeatureCollection<Polygon> polygons = JTurfRandom.randomPolygon(2000, BoundingBox.fromLngLats(0, 0, 10, 10), 12, 0.5, new Random(1));
+        List<Feature<Polygon>> features = polygons.geometries();
+
+        double[] areas = JTurfMeasurement.areas(polygons, Units.KILOMETERS);
+        double[] lengths = JTurfMeasurement.lengths(polygons);
+        double[] bboxes = JTurfMeasurement.bboxes(polygons);
+        double[] centroids = JTurfMeasurement.centroids(polygons);
+        for (int i = 0; i < features.size(); i++) {
+            Polygon polygon = features.get(i).geometry();
+            assertEquals(areas[i], JTurfMeasurement.area(polygon, Units.KILOMETERS), 0);
+            assertEquals(lengths[i], JTurfMeasurement.length(polygon), 0);
+            assertTrue(Arrays.equals(Arrays.copyOfRange(bboxes, i * 4, i * 4 + 4), JTurfMeasurement.bbox(polygon).bbox()));
+            Point centroid = JTurfMeasurement.centroid(polygon);
+            assertEquals(centroids[i * 2], centroid.longitude(), 0);
+            assertEquals(centroids[i * 2 + 1], centroid.latitude(), 0);
+        }
+
+        List<Point> from = new ArrayList<>(), to = new ArrayList<>();
+        for (Feature<Polygon> feature : features) {
+            from.add(JTurfMeasurement.centroid(feature.geometry()));
+            to.add(feature.geometry().coordinates().get(0).get(0));
+        }
+        double[] distances = JTurfMeasurement.distances(from, to, Units.MILES);
+        for (int i = 0; i < distances.length; i++) {
+            assertEquals(distances[i], JTurfMeasurement.distance(from.get(i), to.get(i), Units.MILES), 0);
+        }
+
+        // 单位为 null 时与 area 一样按平方米计算
+        assertTrue(Arrays.equals(JTurfMeasurement.areas(polygons, null), JTurfMeasurement.areas(polygons, Units.METERS)));
+    }
+
+    @Test
+    public void distanceKernelTest() {
+        Random random = new Random(1);
+        int n = 300, m = 400;
+        double[] fromLons = new double[n], fromLats = new double[n], toLons = new double[m], toLats = new double[m];
+        for (int i = 0; i < n; i++) {
+            fromLons[i] = random.nextDouble() * 360 - 180;
+            fromLats[i] = random.nextDouble() * 180 - 90;
+        }
+        for (int j = 0; j < m; j++) {
+            toLons[j] = random.nextDouble() * 360 - 180;
+            toLats[j] = random.nextDouble() * 180 - 90;
+        }
+
+        double[] matrix = new double[n * m], row = new double[m], preparedRow = new double[m];
+        JTurfMeasurement.distanceMatrix(fromLons, fromLats, toLons, toLats, Units.METERS, matrix);
+        PreparedPoints prepared = JTurfMeasurement.preparePoints(toLons, toLats);
+        for (int i = 0; i < n; i++) {
+            JTurfMeasurement.distances(toLons, toLats, fromLons[i], fromLats[i], Units.METERS, row);
+            JTurfMeasurement.distances(prepared, fromLons[i], fromLats[i], Units.METERS, preparedRow);
+            for (int j = 0; j < m; j++) {
+                double expected = JTurfMeasurement.distance(Point.fromLngLat(fromLons[i], fromLats[i]), Point.fromLngLat(toLons[j], toLats[j]), Units.METERS);
+                assertEquals(row[j], expected, 1e-6);
+                assertEquals(preparedRow[j], expected, 1e-6);
+                assertEquals(matrix[i * m + j], expected, 1e-4);
+            }
+        }
+
+        // 近距离
+        JTurfMeasurement.distanceMatrix(new double[]{120}, new double[]{30}, new double[]{120.0000001}, new double[]{30}, Units.METERS, row);
+        assertEquals(row[0], JTurfMeasurement.distance(Point.fromLngLat(120, 30), Point.fromLngLat(120.0000001, 30), Units.METERS), 1e-8);
+    }
+
 }
@@ -2,10 +2,21 @@ package com.cgzz.mapbox.test;
 
 import com.cgzz.mapbox.jturf.JTurfBooleans;
 import com.cgzz.mapbox.jturf.JTurfMisc;
+import com.cgzz.mapbox.jturf.JTurfRandom;
 import com.cgzz.mapbox.jturf.enums.Units;
 import com.cgzz.mapbox.jturf.shape.impl.*;
+import com.cgzz.mapbox.jturf.util.index.FeatureIndex;
+import com.cgzz.mapbox.jturf.util.index.SegmentIndex;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 public class JTurfMiscTest {
@@ -19,6 +30,87 @@ public class JTurfMiscTest {
         FeatureCollection<Point> same = FeatureCollection.fromJson("{\"type\":\"FeatureCollection\",\"features\":[{\"type\":\"Feature\",\"properties\":{},\"geometry\":{\"type\":\"Point\",\"coordinates\":[-12.047632373646445,8.885665897727455]}}]}", Point.class);
 
         assertTrue(JTurfBooleans.booleanEqual(kinks, same));
+
+        assertTrue(JTurfMisc.hasKinks(poly));
+        assertFalse(JTurfMisc.hasKinks(Polygon.fromLngLats(new double[]{0, 0, 10, 0, 10, 10, 0, 10, 0, 0})));
+    }
+
+    @Test
+    public void kinksSweepTest() {
+        Random random = new Random(7);
+        for (int round = 0; round < 200; round++) {
+            // 整数网格上有大量共点、重合、竖直的线段，其余为随机坐标
+            boolean grid = round % 2 == 0;
+            int n = 5 + random.nextInt(60);
+            double[] coordinates = new double[n * 2];
+            for (int i = 0; i < coordinates.length; i++) {
+                coordinates[i] = grid ? random.nextInt(6) : random.nextDouble() * 10;
+            }
+            if (round % 4 < 2) {
+                coordinates[coordinates.length - 2] = coordinates[0];
+                coordinates[coordinates.length - 1] = coordinates[1];
+            }
+            LineString line = LineString.fromLngLats(coordinates);
+
+            List<Point> expected = pairwiseKinks(coordinates);
+            FeatureCollection<Point> kinks = JTurfMisc.kinks(line);
+            List<Point> actual = new ArrayList<>();
+            if (kinks != null) {
+                for (Feature<Point> kink : kinks) {
+                    actual.add(kink.geometry());
+                }
+            }
+            assertEquals(expected, actual);
+            assertEquals(!expected.isEmpty(), JTurfMisc.hasKinks(line));
+        }
+
+        // 8 字形的环
+        Polygon figureEight = Polygon.fromLngLats(new double[]{0, 0, 2, 2, 2, 0, 0, 2, 0, 0});
+        assertEquals(1, JTurfMisc.kinks(figureEight).size());
+        assertEquals(Point.fromLngLat(1, 1), JTurfMisc.kinks(figureEight).get(0).geometry());
+
+        // 蛇形折线的所有线段都跨越相同的经度范围，但没有自相交
+        int rows = 2000;
+        double[] serpentine = new double[rows * 4];
+        for (int i = 0; i < rows; i++) {
+            serpentine[i * 4] = i % 2 == 0 ? 0 : 100;
+            serpentine[i * 4 + 1] = i;
+            serpentine[i * 4 + 2] = i % 2 == 0 ? 100 : 0;
+            serpentine[i * 4 + 3] = i;
+        }
+        assertTrue(JTurfMisc.kinks(LineString.fromLngLats(serpentine)) == null);
+        assertFalse(JTurfMisc.hasKinks(LineString.fromLngLats(serpentine)));
+    }
+
+    /**
+     * 逐对比较所有不相邻的线段
+     */
+    private static List<Point> pairwiseKinks(double[] coordinates) {
+        int m = coordinates.length / 2 - 1;
+        boolean closed = coordinates[0] == coordinates[m * 2] && coordinates[1] == coordinates[m * 2 + 1];
+        List<Point> result = new ArrayList<>();
+        for (int i = 0; i < m; i++) {
+            for (int k = i + 2; k < m; k++) {
+                if (closed && i == 0 && k == m - 1) {
+                    continue;
+                }
+                double x1 = coordinates[i * 2], y1 = coordinates[i * 2 + 1], x2 = coordinates[i * 2 + 2], y2 = coordinates[i * 2 + 3];
+                double x3 = coordinates[k * 2], y3 = coordinates[k * 2 + 1], x4 = coordinates[k * 2 + 2], y4 = coordinates[k * 2 + 3];
+                double denominator = (y4 - y3) * (x2 - x1) - (x4 - x3) * (y2 - y1);
+                if (denominator == 0) {
+                    continue;
+                }
+                double a = y1 - y3, b = x1 - x3;
+                double numerator1 = (x4 - x3) * a - (y4 - y3) * b;
+                double numerator2 = (x2 - x1) * a - (y2 - y1) * b;
+                a = numerator1 / denominator;
+                b = numerator2 / denominator;
+                if (a >= 0 && a <= 1 && b >= 0 && b <= 1) {
+                    result.add(Point.fromLngLat(x1 + a * (x2 - x1), y1 + a * (y2 - y1)));
+                }
+            }
+        }
+        return result;
     }
 
     @Test
@@ -42,6 +134,15 @@ public class JTurfMiscTest {
         FeatureCollection<Point> same = FeatureCollection.fromJson("{\"type\":\"FeatureCollection\",\"features\":[{\"type\":\"Feature\",\"properties\":{},\"geometry\":{\"type\":\"Point\",\"coordinates\":[127.43478260869566,-15.782608695652174]}}]}", Point.class);
 
         assertTrue(JTurfBooleans.booleanEqual(intersects, same));
+
+        // 流式回调，相同的相交点只回调一次
+        Polygon square = Polygon.fromLngLats(new double[]{0, 0, 10, 0, 10, 10, 0, 10, 0, 0});
+        LineString cross = LineString.fromLngLats(new double[]{-5, 5, 15, 5, 5, 15, 5, -5});
+        List<Point> hits = new ArrayList<>();
+        assertTrue(JTurfMisc.lineIntersect(cross, square, (x, y) -> hits.add(Point.fromLngLat(x, y))));
+        assertEquals(JTurfMisc.lineIntersect(cross, square).size(), hits.size());
+        assertEquals(5, hits.size());
+        assertFalse(JTurfMisc.lineIntersect(cross, square, (x, y) -> false));
     }
 
     @Test
@@ -54,6 +155,101 @@ public class JTurfMiscTest {
         FeatureCollection<LineString> same = FeatureCollection.fromJson("{\"type\":\"FeatureCollection\",\"features\":[{\"type\":\"Feature\",\"properties\":{},\"geometry\":{\"type\":\"LineString\",\"coordinates\":[[125,-30],[135,-30]]}}]}", LineString.class);
 
         assertTrue(JTurfBooleans.booleanEqual(overlapping, same));
+
+        // 线段只覆盖另一条线的一部分
+        overlapping = JTurfMisc.lineOverlap(LineString.fromLngLats(new double[]{0, 0, 10, 0}), LineString.fromLngLats(new double[]{2, 0, 5, 0, 5, 5}));
+        assertEquals(1, overlapping.size());
+        assertEquals(LineString.fromLngLats(new double[]{2, 0, 5, 0}), overlapping.get(0).geometry());
+
+        // 相邻多边形的公共边
+        overlapping = JTurfMisc.lineOverlap(Polygon.fromLngLats(new double[]{0, 0, 1, 0, 1, 1, 0, 1, 0, 0}), Polygon.fromLngLats(new double[]{1, 0, 2, 0, 2, 1, 1, 1, 1, 0}));
+        assertEquals(1, overlapping.size());
+        assertTrue(JTurfBooleans.booleanEqual(overlapping.get(0).geometry(), LineString.fromLngLats(new double[]{1, 1, 1, 0})));
+
+        // 平行但不重合
+        assertEquals(0, JTurfMisc.lineOverlap(LineString.fromLngLats(new double[]{0, 0, 1, 0}), LineString.fromLngLats(new double[]{0, 1, 1, 1})).size());
+
+        // 在容差（公里）范围内
+        LineString tilted = LineString.fromLngLats(new double[]{0, 0, 1, 0.0001});
+        assertEquals(0, JTurfMisc.lineOverlap(LineString.fromLngLats(new double[]{0, 0, 1, 0}), tilted).size());
+        overlapping = JTurfMisc.lineOverlap(LineString.fromLngLats(new double[]{0, 0, 1, 0}), tilted, 1);
+        assertEquals(1, overlapping.size());
+        assertEquals(tilted, overlapping.get(0).geometry());
+    }
+
+    @Test
+    public void segmentIndexVisitorTest() {
+        FeatureCollection<Polygon> polygons = JTurfRandom.randomPolygon(50, BoundingBox.fromLngLats(0, 0, 10, 10), 20, 1.0, new Random(3));
+        SegmentIndex index = SegmentIndex.build(polygons);
+
+        // 回调方式与数组方式命中相同的线段，每个线段只回调一次
+        List<Integer> visited = new ArrayList<>();
+        assertTrue(index.search(2, 2, 6, 6, id -> visited.add(id)));
+        Collections.sort(visited);
+        List<Integer> expected = new ArrayList<>();
+        for (int id : index.search(2, 2, 6, 6)) {
+            expected.add(id);
+        }
+        assertTrue(expected.size() > 1);
+        assertEquals(expected, visited);
+
+        // 回调返回 false 时立即中断
+        int[] calls = new int[1];
+        assertFalse(index.search(2, 2, 6, 6, id -> ++calls[0] < 1));
+        assertEquals(1, calls[0]);
+
+        // 没有命中时不回调
+        assertTrue(index.search(50, 50, 60, 60, id -> {
+            throw new AssertionError("unexpected hit " + id);
+        }));
+    }
+
+    @Test
+    public void segmentIndexTest() {
+        FeatureCollection<Polygon> polygons = JTurfRandom.randomPolygon(50, BoundingBox.fromLngLats(0, 0, 10, 10), 20, 1.0, new Random(7));
+        SegmentIndex index = SegmentIndex.build(polygons);
+        double[] segments = SegmentIndex.segments(polygons);
+        assertEquals(segments.length / 4, index.size());
+        assertEquals(JTurfMisc.lineSegment(polygons).size(), index.size());
+
+        // 每个线段的坐标都能按编号取回
+        List<String> expected = new ArrayList<>(), actual = new ArrayList<>();
+        for (int i = 0; i < index.size(); i++) {
+            expected.add(Arrays.toString(Arrays.copyOfRange(segments, i * 4, i * 4 + 4)));
+            actual.add(Arrays.toString(new double[]{index.x1(i), index.y1(i), index.x2(i), index.y2(i)}));
+            LineString line = index.lineString(i);
+            assertEquals(index.x1(i), line.coordinates().get(0).longitude(), 0);
+            assertEquals(index.y2(i), line.coordinates().get(1).latitude(), 0);
+        }
+        Collections.sort(expected);
+        Collections.sort(actual);
+        assertEquals(expected, actual);
+
+        // 查询结果与逐个比较边界框的结果一致
+        Random random = new Random(11);
+        for (int q = 0; q < 200; q++) {
+            double minX = random.nextDouble() * 10, minY = random.nextDouble() * 10;
+            double maxX = minX + random.nextDouble() * 3, maxY = minY + random.nextDouble() * 3;
+            List<Integer> brute = new ArrayList<>();
+            for (int i = 0; i < index.size(); i++) {
+                if (Math.min(index.x1(i), index.x2(i)) <= maxX && Math.max(index.x1(i), index.x2(i)) >= minX
+                        && Math.min(index.y1(i), index.y2(i)) <= maxY && Math.max(index.y1(i), index.y2(i)) >= minY) {
+                    brute.add(i);
+                }
+            }
+            List<Integer> hits = new ArrayList<>();
+            for (int id : index.search(minX, minY, maxX, maxY)) {
+                hits.add(id);
+            }
+            assertEquals(brute, hits);
+        }
+
+        // 紧凑存储的多边形与点集合存储的多边形得到相同的线段
+        Polygon packed = Polygon.fromLngLats(new double[]{0, 0, 4, 0, 4, 4, 0, 4, 0, 0});
+        Polygon list = Polygon.fromJson("{\"type\":\"Polygon\",\"coordinates\":[[[0,0],[4,0],[4,4],[0,4],[0,0]]]}");
+        assertTrue(Arrays.equals(SegmentIndex.segments(packed), SegmentIndex.segments(list)));
+        assertTrue(packed.isPacked());
+        assertEquals(0, SegmentIndex.build(FeatureCollection.fromFeatures(new ArrayList<Feature<Polygon>>())).search(0, 0, 1, 1).length);
     }
 
     @Test
@@ -133,4 +329,26 @@ public class JTurfMiscTest {
         assertTrue(JTurfBooleans.booleanEqual(polygon, same));
     }
 
+    @Test
+    public void featureIndexTest() {
+        Feature<Polygon> a = Feature.fromGeometry(Polygon.fromLngLats(new double[]{0, 0, 10, 0, 10, 10, 0, 10, 0, 0}), "a");
+        Feature<Polygon> b = Feature.fromGeometry(Polygon.fromLngLats(new double[]{5, 5, 15, 5, 15, 15, 5, 15, 5, 5}), "b");
+        Feature<Polygon> c = Feature.fromGeometry(Polygon.fromLngLats(new double[]{20, 20, 30, 20, 25, 30, 20, 20}), "c");
+
+        FeatureIndex<Polygon> index = JTurfMisc.featureIndex(FeatureCollection.fromFeatures(a, b, c));
+
+        assertEquals(Arrays.asList(a, b), index.pointInPolygon(Point.fromLngLat(7, 7)));
+        assertEquals(Arrays.asList(b), index.pointInPolygon(Point.fromLngLat(12, 12)));
+        assertEquals(Arrays.asList(a), index.pointInPolygon(Point.fromLngLat(10, 1)));
+        assertTrue(index.pointInPolygon(Point.fromLngLat(10, 1), true).isEmpty());
+        // 在 c 的边界框内，但不在 c 内
+        assertTrue(index.pointInPolygon(Point.fromLngLat(21, 29)).isEmpty());
+
+        List<List<Feature<Polygon>>> batch = index.pointInPolygon(Arrays.asList(Point.fromLngLat(1, 1), Point.fromLngLat(25, 25), Point.fromLngLat(50, 50)));
+        assertEquals(Arrays.asList(Arrays.asList(a), Arrays.asList(c), Arrays.<Feature<Polygon>>asList()), batch);
+
+        assertEquals(Arrays.asList(b, c), index.intersects(BoundingBox.fromLngLats(12, 12, 22, 22)));
+        assertTrue(index.intersects(BoundingBox.fromLngLats(40, 40, 50, 50)).isEmpty());
+    }
+
 }
@@ -1,9 +1,12 @@
 package com.cgzz.mapbox.test;
 
+import com.cgzz.mapbox.jturf.JTurfMeasurement;
 import com.cgzz.mapbox.jturf.JTurfRandom;
 import com.cgzz.mapbox.jturf.shape.impl.*;
 import org.junit.Test;
 
+import java.util.Random;
+
 import static org.junit.Assert.*;
 
 public class JTurfRandomTest {
@@ -41,6 +44,33 @@ public class JTurfRandomTest {
         Feature<Polygon> polygon = JTurfRandom.randomPolygon();
 
         assertNotNull(polygon.geometry());
+
+        // 为 null 或少于 3 个点时与 randomLineString 一样使用默认的 10 个点
+        BoundingBox bbox = BoundingBox.fromLngLats(-100, -45, 100, 45);
+        assertEquals(JTurfRandom.randomPolygon(bbox, null, 5D).geometry().coordinates().get(0).size(), 11);
+        assertEquals(JTurfRandom.randomPolygon(bbox, 2, 5D).geometry().coordinates().get(0).size(), 11);
+        assertEquals(JTurfRandom.randomPolygon(bbox, 3, 5D).geometry().coordinates().get(0).size(), 4);
+    }
+
+    @Test
+    public void randomSeedTest() {
+        BoundingBox bbox = BoundingBox.fromLngLats(-100, -45, 100, 45);
+
+        FeatureCollection<Polygon> p1 = JTurfRandom.randomPolygon(3, bbox, 64, 5D, new Random(42));
+        FeatureCollection<Polygon> p2 = JTurfRandom.randomPolygon(3, bbox, 64, 5D, new Random(42));
+        assertEquals(p1.toJson(), p2.toJson());
+        // 闭合后的坐标数为 numVertices + 1
+        assertEquals(p1.get(0).geometry().coordinates().get(0).size(), 65);
+        // 同一个多边形围绕同一个中心点生成，不会超过 maxRadialLength
+        BoundingBox b = JTurfMeasurement.bbox(p1.get(0));
+        assertTrue(b.east() - b.west() <= 10 && b.north() - b.south() <= 10);
+
+        FeatureCollection<LineString> l1 = JTurfRandom.randomLineString(2, bbox, 20, 0.01, null, new Random(7));
+        FeatureCollection<LineString> l2 = JTurfRandom.randomLineString(2, bbox, 20, 0.01, null, new Random(7));
+        assertEquals(l1.toJson(), l2.toJson());
+        assertEquals(l1.get(0).geometry().coordinates().size(), 20);
+
+        assertEquals(JTurfRandom.randomPoint(5, bbox, new Random(1)).toJson(), JTurfRandom.randomPoint(5, bbox, new Random(1)).toJson());
     }
 
 }
@@ -1,14 +1,39 @@
 package com.cgzz.mapbox.test;
 
 import com.cgzz.mapbox.jturf.JTurfBooleans;
+import com.cgzz.mapbox.jturf.JTurfMeasurement;
+import com.cgzz.mapbox.jturf.JTurfMisc;
+import com.cgzz.mapbox.jturf.JTurfRandom;
 import com.cgzz.mapbox.jturf.JTurfTransformation;
+import com.cgzz.mapbox.jturf.enums.Aggregation;
 import com.cgzz.mapbox.jturf.enums.Units;
+import com.cgzz.mapbox.jturf.exception.JTurfException;
+import com.cgzz.mapbox.jturf.exception.OperationAbortedException;
+import com.cgzz.mapbox.jturf.models.OperationContext;
 import com.cgzz.mapbox.jturf.shape.Geometry;
+import com.cgzz.mapbox.jturf.shape.GeometryType;
 import com.cgzz.mapbox.jturf.shape.impl.*;
+import com.cgzz.mapbox.jturf.util.pkg.clipping.polygonclipping.Operation;
+import com.cgzz.mapbox.jturf.util.pkg.clipping.polygonclipping.PolygonClipping;
+import com.cgzz.mapbox.jturf.util.pkg.clipping.polygonclipping.PolygonClippingType;
+import com.cgzz.mapbox.jturf.util.pkg.clipping.polygonclipping.SweepEventQueueType;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 public class JTurfTransformationTest {
 
@@ -149,6 +174,333 @@ public class JTurfTransformationTest {
         assertTrue(JTurfBooleans.booleanEqual(union, same));
     }
 
+    @Test
+    public void cascadedUnionTest() {
+        // 10 x 10 的方格，左右两半的 zone 属性不同
+        List<Feature<Polygon>> cells = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            for (int j = 0; j < 10; j++) {
+                Feature<Polygon> cell = Feature.fromGeometry(Polygon.fromLngLats(new double[]{i, j, i + 1, j, i + 1, j + 1, i, j + 1, i, j}));
+                cell.addProperty("zone", i < 5 ? "west" : "east");
+                cells.add(cell);
+            }
+        }
+        Collections.shuffle(cells, new Random(7));
+        FeatureCollection<Polygon> grid = FeatureCollection.fromFeatures(cells);
+
+        Geometry union = JTurfTransformation.union(grid);
+        assertTrue(JTurfBooleans.booleanEqual(union, Polygon.fromLngLats(new double[]{0, 0, 10, 0, 10, 10, 0, 10, 0, 0})));
+
+        FeatureCollection<Geometry> grouped = JTurfTransformation.union(grid, "zone");
+        assertEquals(2, grouped.size());
+        for (Feature<Geometry> feature : grouped) {
+            double west = "west".equals(feature.getPropertyAsString("zone")) ? 0 : 5;
+            assertTrue(JTurfBooleans.booleanEqual(feature.geometry(), Polygon.fromLngLats(new double[]{west, 0, west + 5, 0, west + 5, 10, west, 10, west, 0})));
+        }
+
+        // 分组时支持 MultiPolygon，不相连的部分也只输出一个要素
+        List<Feature<Geometry>> mixed = new ArrayList<>();
+        Feature<Geometry> multi = Feature.fromGeometry(MultiPolygon.fromLngLats(Arrays.asList(
+                Polygon.fromLngLats(new double[]{0, 0, 1, 0, 1, 1, 0, 1, 0, 0}).coordinates(),
+                Polygon.fromLngLats(new double[]{5, 0, 6, 0, 6, 1, 5, 1, 5, 0}).coordinates())));
+        multi.addProperty("zone", "a");
+        Feature<Geometry> square = Feature.fromGeometry(Polygon.fromLngLats(new double[]{1, 0, 2, 0, 2, 1, 1, 1, 1, 0}));
+        square.addProperty("zone", "a");
+        mixed.add(multi);
+        mixed.add(square);
+        FeatureCollection<Geometry> mixedUnion = JTurfTransformation.union(FeatureCollection.fromFeatures(mixed), "zone");
+        assertEquals(1, mixedUnion.size());
+        assertEquals(GeometryType.MULTI_POLYGON, mixedUnion.get(0).geometry().geometryType());
+        assertEquals(3.0, JTurfMeasurement.area(mixedUnion.get(0).geometry()) / JTurfMeasurement.area(Polygon.fromLngLats(new double[]{1, 0, 2, 0, 2, 1, 1, 1, 1, 0})), 1e-3);
+
+        // 随机多边形与逐个合并的结果面积一致
+        FeatureCollection<Polygon> polygons = JTurfRandom.randomPolygon(200, BoundingBox.fromLngLats(0, 0, 1, 1), 12, 0.08, new Random(42));
+        Geometry sequential = null;
+        for (Feature<Polygon> polygon : polygons) {
+            sequential = JTurfTransformation.union(sequential, polygon.geometry());
+        }
+        double expected = JTurfMeasurement.area(sequential);
+        assertEquals(expected, JTurfMeasurement.area(JTurfTransformation.union(polygons)), expected * 1e-9);
+
+        assertNull(JTurfTransformation.union(FeatureCollection.fromFeatures(new ArrayList<Feature<Polygon>>())));
+
+        // 没有坐标的多边形被忽略，排序时也不会出错
+        List<Feature<Polygon>> withEmpty = new ArrayList<>(cells);
+        withEmpty.add(Feature.fromGeometry(Polygon.fromLngLats(new ArrayList<List<Point>>())));
+        assertTrue(JTurfBooleans.booleanEqual(JTurfTransformation.union(FeatureCollection.fromFeatures(withEmpty)), Polygon.fromLngLats(new double[]{0, 0, 10, 0, 10, 10, 0, 10, 0, 0})));
+    }
+
+    @Test
+    public void dissolveTest() {
+        // 两个相邻的 A、一个与它们相邻的 B、一个独立的 A
+        List<Feature<Polygon>> features = new ArrayList<>();
+        features.add(square(0, 0, "A", 1));
+        features.add(square(1, 0, "A", 2));
+        features.add(square(2, 0, "B", 4));
+        features.add(square(5, 5, "A", 8));
+        FeatureCollection<Polygon> fc = FeatureCollection.fromFeatures(features);
+
+        FeatureCollection<Polygon> dissolved = JTurfTransformation.dissolve(fc, "group");
+        assertEquals(3, dissolved.size());
+        assertTrue(JTurfBooleans.booleanEqual(dissolved.get(0).geometry(), Polygon.fromLngLats(new double[]{0, 0, 2, 0, 2, 1, 0, 1, 0, 0})));
+        assertEquals("A", dissolved.get(0).getPropertyAsString("group"));
+        assertEquals("A", dissolved.get(1).getPropertyAsString("group"));
+        assertEquals("B", dissolved.get(2).getPropertyAsString("group"));
+        assertNull(dissolved.get(0).getProperty("count"));
+
+        Map<String, Aggregation> aggregations = new HashMap<>();
+        aggregations.put("count", Aggregation.SUM);
+        aggregations.put("group", Aggregation.FIRST);
+        dissolved = JTurfTransformation.dissolve(fc, null, aggregations);
+        assertEquals(2, dissolved.size());
+        assertTrue(JTurfBooleans.booleanEqual(dissolved.get(0).geometry(), Polygon.fromLngLats(new double[]{0, 0, 3, 0, 3, 1, 0, 1, 0, 0})));
+        assertEquals(7, dissolved.get(0).getPropertyAsNumber("count").intValue());
+        assertEquals("A", dissolved.get(0).getPropertyAsString("group"));
+        assertEquals(8, dissolved.get(1).getPropertyAsNumber("count").intValue());
+
+        // 只在顶点处相接的两个多边形保持独立，属性不重复计算
+        List<Feature<Polygon>> corner = new ArrayList<>();
+        corner.add(square(0, 0, "A", 1));
+        corner.add(square(1, 1, "A", 2));
+        dissolved = JTurfTransformation.dissolve(FeatureCollection.fromFeatures(corner), null, aggregations);
+        assertEquals(2, dissolved.size());
+        int total = 0;
+        for (Feature<Polygon> feature : dissolved) {
+            int count = feature.getPropertyAsNumber("count").intValue();
+            BoundingBox bbox = JTurfMeasurement.bbox(feature.geometry());
+            assertEquals(bbox.west() == 0 ? 1 : 2, count);
+            total += count;
+        }
+        assertEquals(3, total);
+
+        // 求和的属性不是数字
+        corner.get(1).addProperty("count", "n/a");
+        try {
+            JTurfTransformation.dissolve(FeatureCollection.fromFeatures(corner), null, aggregations);
+            fail("non-numeric SUM property must throw");
+        } catch (JTurfException e) {
+            assertTrue(e.getMessage().contains("count"));
+        }
+    }
+
+    @Test
+    public void overlayTest() {
+        Feature<Polygon> zone = Feature.fromGeometry(Polygon.fromLngLats(new double[]{0, 0, 2, 0, 2, 2, 0, 2, 0, 0}));
+        zone.addProperty("group", "zone");
+        FeatureCollection<Polygon> zones = FeatureCollection.fromFeatures(Collections.singletonList(zone));
+
+        List<Feature<Polygon>> parcels = new ArrayList<>();
+        parcels.add(square(1, 1, "A", 1));
+        parcels.add(square(5, 5, "B", 2));
+        parcels.add(square(2, 0, "C", 3));
+        parcels.add(square(0.5, 0, "D", 4));
+
+        // 只在边界上相接的 C 不输出
+        FeatureCollection<Geometry> overlay = JTurfTransformation.overlay(zones, FeatureCollection.fromFeatures(parcels));
+        assertEquals(2, overlay.size());
+        assertTrue(JTurfBooleans.booleanEqual(overlay.get(0).geometry(), Polygon.fromLngLats(new double[]{1, 1, 2, 1, 2, 2, 1, 2, 1, 1})));
+        assertEquals("zone", overlay.get(0).getPropertyAsString("group"));
+        assertEquals("A", overlay.get(0).getPropertyAsString("group_2"));
+        assertEquals(1, overlay.get(0).getPropertyAsNumber("count").intValue());
+        assertEquals("D", overlay.get(1).getPropertyAsString("group_2"));
+
+        double area = JTurfMeasurement.area(parcels.get(0).geometry());
+        assertEquals(area, overlay.get(0).getPropertyAsNumber("area").doubleValue(), 1e-6);
+        assertEquals(area / 1e6, JTurfTransformation.overlay(zones, FeatureCollection.fromFeatures(parcels), Units.KILOMETERS)
+                .get(0).getPropertyAsNumber("area").doubleValue(), 1e-9);
+    }
+
+    private static Feature<Polygon> square(double x, double y, String group, int count) {
+        Feature<Polygon> feature = Feature.fromGeometry(Polygon.fromLngLats(new double[]{x, y, x + 1, y, x + 1, y + 1, x, y + 1, x, y}));
+        feature.addProperty("group", group);
+        feature.addProperty("count", count);
+        return feature;
+    }
+
+    @Test
+    public void sweepEventQueueTest() {
+        // 两种事件队列弹出顺序相同，结果应当完全一致
+        FeatureCollection<Polygon> polygons = JTurfRandom.randomPolygon(64, BoundingBox.fromLngLats(0, 0, 4, 4), 16, 0.5, new Random(1));
+        List<List<List<Point>>> subject = new ArrayList<>(), clipping = new ArrayList<>();
+        for (int i = 0; i < polygons.size(); i++) {
+            (i % 2 == 0 ? subject : clipping).add(polygons.get(i).geometry().coordinates());
+        }
+
+        for (PolygonClippingType type : PolygonClippingType.values()) {
+            List<List<List<Point>>> expected = Operation.run(type, SweepEventQueueType.SPLAY_TREE, subject, clipping);
+            List<List<List<Point>>> actual = Operation.run(type, SweepEventQueueType.HEAP, subject, clipping);
+            assertEquals(MultiPolygon.fromLngLats(expected).toJson(), MultiPolygon.fromLngLats(actual).toJson());
+        }
+    }
+
+    @Test
+    public void polygonClippingRegressionTest() {
+        // 与 sweepEventQueueTest 相同的随机多边形，以及两个部分重叠的圆。期望值由优化扫描线热点
+        // （数组实现的伸展树、坐标取整、Segment 比较）之前的实现计算：多边形数、顶点数、GeoJSON 的 hashCode
+        FeatureCollection<Polygon> polygons = JTurfRandom.randomPolygon(64, BoundingBox.fromLngLats(0, 0, 4, 4), 16, 0.5, new Random(1));
+        List<List<List<Point>>> subject = new ArrayList<>(), clipping = new ArrayList<>();
+        for (int i = 0; i < polygons.size(); i++) {
+            (i % 2 == 0 ? subject : clipping).add(polygons.get(i).geometry().coordinates());
+        }
+        assertClipping(subject, clipping, PolygonClippingType.UNION, 1, 840, -1008350627);
+        assertClipping(subject, clipping, PolygonClippingType.INTERSECT, 49, 716, -1809203365);
+        assertClipping(subject, clipping, PolygonClippingType.DIFFERENCE, 61, 741, 347286702);
+        assertClipping(subject, clipping, PolygonClippingType.XOR, 129, 1562, 758478296);
+
+        List<List<List<Point>>> circle1 = Collections.singletonList(JTurfTransformation.circle(Point.fromLngLat(0, 0), 100, 256, null).coordinates());
+        List<List<List<Point>>> circle2 = Collections.singletonList(JTurfTransformation.circle(Point.fromLngLat(0.5, 0.3), 100, 256, null).coordinates());
+        assertClipping(circle1, circle2, PolygonClippingType.UNION, 1, 313, 440086930);
+        assertClipping(circle1, circle2, PolygonClippingType.INTERSECT, 1, 205, 1807584690);
+        assertClipping(circle1, circle2, PolygonClippingType.DIFFERENCE, 1, 259, -643388509);
+        assertClipping(circle1, circle2, PolygonClippingType.XOR, 2, 518, 970511862);
+    }
+
+    private static void assertClipping(List<List<List<Point>>> subject, List<List<List<Point>>> clipping, PolygonClippingType type, int polygons, int vertices, int hash) {
+        for (SweepEventQueueType queueType : SweepEventQueueType.values()) {
+            List<List<List<Point>>> result = Operation.run(type, queueType, subject, clipping);
+            int count = 0;
+            for (List<List<Point>> polygon : result) {
+                for (List<Point> ring : polygon) {
+                    count += ring.size();
+                }
+            }
+            assertEquals(polygons, result.size());
+            assertEquals(vertices, count);
+            assertEquals(hash, MultiPolygon.fromLngLats(result).toJson().hashCode());
+        }
+    }
+
+    @Test
+    public void bboxFilterTest() {
+        Polygon square = Polygon.fromLngLats(new double[]{0, 0, 1, 0, 1, 1, 0, 1, 0, 0});
+        Polygon far = Polygon.fromLngLats(new double[]{5, 5, 6, 5, 6, 6, 5, 6, 5, 5});
+        Polygon box = Polygon.fromLngLats(new double[]{-1, -1, 2, -1, 2, 2, -1, 2, -1, -1});
+
+        // 边界框不相交
+        assertNull(JTurfTransformation.intersect(square, far));
+        assertEquals(square, JTurfTransformation.difference(square, far));
+        Geometry union = JTurfTransformation.union(square, far);
+        assertTrue(union instanceof MultiPolygon);
+        assertEquals(2, ((MultiPolygon) union).coordinates().size());
+        assertEquals(JTurfMeasurement.area(union), JTurfMeasurement.area(JTurfTransformation.xor(square, far)), 1e-6);
+
+        // 矩形包含另一个多边形
+        assertEquals(box, JTurfTransformation.union(box, square));
+        assertEquals(square, JTurfTransformation.intersect(square, box));
+        assertNull(JTurfTransformation.difference(square, box));
+
+        // 裁剪到重叠窗口后结果不变
+        Polygon circle = JTurfTransformation.circle(Point.fromLngLat(0, 0), 100, 256, null);
+        Polygon edge = JTurfTransformation.circle(Point.fromLngLat(0.9, 0), 10, 64, null);
+        Geometry intersect = JTurfTransformation.intersect(circle, edge);
+        Geometry difference = JTurfTransformation.difference(edge, circle);
+        assertEquals(JTurfMeasurement.area(edge), JTurfMeasurement.area(intersect) + JTurfMeasurement.area(difference), 1);
+    }
+
+    @Test
+    public void fixedPrecisionTest() {
+        FeatureCollection<Polygon> polygons = JTurfRandom.randomPolygon(64, BoundingBox.fromLngLats(0, 0, 4, 4), 16, 0.5, new Random(1));
+        List<List<List<Point>>> subject = new ArrayList<>(), clipping = new ArrayList<>();
+        for (int i = 0; i < polygons.size(); i++) {
+            (i % 2 == 0 ? subject : clipping).add(polygons.get(i).geometry().coordinates());
+        }
+
+        // 结果的坐标都在网格上，面积与浮点数模式的结果只差取整的误差
+        for (PolygonClippingType type : PolygonClippingType.values()) {
+            double expected = JTurfMeasurement.area(MultiPolygon.fromLngLats(Operation.run(type, SweepEventQueueType.SPLAY_TREE, subject, clipping)));
+            List<List<List<Point>>> actual = Operation.run(type, SweepEventQueueType.SPLAY_TREE, 1e-7, subject, clipping);
+            for (List<List<Point>> polygon : actual) {
+                for (List<Point> ring : polygon) {
+                    for (Point point : ring) {
+                        assertEquals(Math.rint(point.longitude() * 1e7), point.longitude() * 1e7, 1e-6);
+                        assertEquals(Math.rint(point.latitude() * 1e7), point.latitude() * 1e7, 1e-6);
+                    }
+                }
+            }
+            assertEquals(expected, JTurfMeasurement.area(MultiPolygon.fromLngLats(actual)), expected * 1e-6);
+        }
+
+        // 几乎重合的两个多边形
+        Polygon circle = JTurfTransformation.circle(Point.fromLngLat(0, 0), 10, 256, null);
+        Polygon shifted = JTurfTransformation.transformTranslate(circle, 0.001, 30, Units.METERS, false);
+        assertEquals(JTurfMeasurement.area(circle), JTurfMeasurement.area(JTurfTransformation.union(circle, shifted, 1e-7)), 100);
+        assertEquals(JTurfMeasurement.area(circle), JTurfMeasurement.area(JTurfTransformation.intersect(circle, shifted, 1e-7)), 100);
+
+        // 只有一个多边形时也取整到网格上
+        List<List<List<Point>>> single = PolygonClipping.union(1e-3, Collections.singletonList(Polygon.fromLngLats(new double[]{0.00012, 0.00031, 1.00049, 0, 1, 1.00071, 0, 1, 0.00012, 0.00031}).coordinates()));
+        assertEquals(1, single.size());
+        assertTrue(JTurfBooleans.booleanEqual(Polygon.fromLngLats(single.get(0)), Polygon.fromLngLats(new double[]{0, 0, 1, 0, 1, 1.001, 0, 1, 0, 0})));
+
+        try {
+            JTurfTransformation.union(circle, shifted, -1);
+            fail("negative gridSize must throw");
+        } catch (JTurfException e) {
+            assertTrue(e.getMessage().contains("gridSize"));
+        }
+    }
+
+    @Test
+    public void operationContextTest() {
+        Polygon circle1 = JTurfTransformation.circle(Point.fromLngLat(0, 0), 100, 4096, null);
+        Polygon circle2 = JTurfTransformation.circle(Point.fromLngLat(0.5, 0.3), 100, 4096, null);
+
+        // 没有限制时结果不变，进度单调递增
+        List<Long> progress = new ArrayList<>();
+        OperationContext context = OperationContext.create().progress(progress::add);
+        Geometry union = context.call(() -> JTurfTransformation.union(circle1, circle2));
+        assertEquals(JTurfTransformation.union(circle1, circle2), union);
+        assertTrue(context.work() >= 4 * 4096);
+        assertTrue(!progress.isEmpty() && progress.get(progress.size() - 1) <= context.work());
+        for (int i = 1; i < progress.size(); i++) {
+            assertTrue(progress.get(i) > progress.get(i - 1));
+        }
+        assertNull(OperationContext.current());
+
+        assertAborted(OperationAbortedException.Reason.BUDGET_EXCEEDED, OperationContext.create().budget(1000), () -> JTurfTransformation.union(circle1, circle2));
+        assertAborted(OperationAbortedException.Reason.TIMEOUT, OperationContext.create().timeout(0, TimeUnit.MILLISECONDS), () -> JTurfTransformation.difference(circle1, circle2));
+        assertAborted(OperationAbortedException.Reason.BUDGET_EXCEEDED, OperationContext.create().budget(100), () -> JTurfTransformation.tesselate(circle1));
+        assertAborted(OperationAbortedException.Reason.BUDGET_EXCEEDED, OperationContext.create().budget(100), () -> JTurfMisc.kinks(circle1));
+
+        // 级联合并在工作线程中执行
+        List<Feature<Polygon>> cells = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            for (int j = 0; j < 10; j++) {
+                cells.add(Feature.fromGeometry(Polygon.fromLngLats(new double[]{i, j, i + 1, j, i + 1, j + 1, i, j + 1, i, j})));
+            }
+        }
+        OperationContext cancelled = OperationContext.create();
+        cancelled.cancel();
+        assertAborted(OperationAbortedException.Reason.CANCELLED, cancelled, () -> JTurfTransformation.union(FeatureCollection.fromFeatures(cells)));
+        assertNull(OperationContext.current());
+
+        // 各线程分批合并的工作量在运算结束后完整计入，与执行顺序无关
+        OperationContext parallel1 = OperationContext.create(), parallel2 = OperationContext.create();
+        parallel1.call(() -> JTurfTransformation.union(FeatureCollection.fromFeatures(cells)));
+        parallel2.call(() -> JTurfTransformation.union(FeatureCollection.fromFeatures(cells)));
+        assertTrue(parallel1.work() > 0);
+        assertEquals(parallel1.work(), parallel2.work());
+        OperationContext unbound = OperationContext.create();
+        unbound.advance(5);
+        assertEquals(5, unbound.work());
+
+        // 创建任务时没有上下文，工作线程原来绑定的上下文在执行期间解除，结束后恢复
+        cancelled.run(() -> {
+            assertNull(OperationContext.call(null, OperationContext::current));
+            assertTrue(OperationContext.call(null, () -> JTurfTransformation.union(FeatureCollection.fromFeatures(cells))) != null);
+            assertSame(cancelled, OperationContext.current());
+        });
+        assertNull(OperationContext.current());
+    }
+
+    private static void assertAborted(OperationAbortedException.Reason reason, OperationContext context, Supplier<?> action) {
+        try {
+            context.call(action);
+            fail("operation must be aborted");
+        } catch (OperationAbortedException e) {
+            assertEquals(reason, e.getReason());
+        }
+    }
+
     @Test
     public void intersectTest() {
         Polygon poly1 = Polygon.fromJson("{\"type\":\"Polygon\",\"coordinates\":[[[-122.801742,45.48565],[-122.801742,45.60491],[-122.584762,45.60491],[-122.584762,45.48565],[-122.801742,45.48565]]]}");
@@ -173,6 +525,21 @@ public class JTurfTransformationTest {
         assertTrue(JTurfBooleans.booleanEqual(difference, same));
     }
 
+    @Test
+    public void differencePinchTest() {
+        // 结果的环在外环上的一个顶点处自相接，扫描线在中途回到该顶点时需要切下刚走完的环
+        Polygon square = Polygon.fromLngLats(new double[]{0, 0, 4, 0, 4, 4, 0, 4, 0, 0});
+        Polygon right = Polygon.fromLngLats(new double[]{4, 2, 3, 3, 2, 2, 3, 1, 4, 2});
+        Polygon top = Polygon.fromLngLats(new double[]{2, 4, 3, 3, 2, 2, 1, 3, 2, 4});
+
+        for (Polygon diamond : Arrays.asList(right, top)) {
+            Geometry difference = JTurfTransformation.difference(square, diamond);
+            assertEquals(GeometryType.POLYGON, difference.geometryType());
+            assertEquals(2, Polygon.polygon(difference).coordinates().size());
+            assertEquals(JTurfMeasurement.area(square) - JTurfMeasurement.area(diamond), JTurfMeasurement.area(difference), 1e-3);
+        }
+    }
+
     @Test
     public void xorTest() {
         Polygon polygon1 = Polygon.fromJson("{\"type\":\"Polygon\",\"coordinates\":[[[128,-26],[141,-26],[141,-21],[128,-21],[128,-26]]]}");
@@ -1,10 +1,18 @@
 package com.cgzz.mapbox.test;
 
+import com.cgzz.mapbox.jturf.JTurfHelper;
+import com.cgzz.mapbox.jturf.JTurfMeasurement;
 import com.cgzz.mapbox.jturf.JTurfUnitConversion;
 import com.cgzz.mapbox.jturf.enums.Units;
+import com.cgzz.mapbox.jturf.shape.impl.Point;
+import com.cgzz.mapbox.jturf.util.measurement.DistanceCalculator;
 import org.junit.Test;
 
+import java.util.EnumMap;
+import java.util.Map;
+
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 
 public class JTurfUnitConversionTest {
 
@@ -17,4 +25,47 @@ public class JTurfUnitConversionTest {
         assertEquals(convertLength, 10000000, 13);
     }
 
+    @Test
+    public void unitsFactorTest() {
+        assertEquals(Units.METERS.factor(), JTurfHelper.EARTH_RADIUS, 0);
+        assertEquals(Units.KILOMETERS.toLength(1), JTurfHelper.EARTH_RADIUS / 1000, 0);
+        assertEquals(Units.MILES.toRadians(JTurfHelper.EARTH_RADIUS / 1609.344), 1, 0);
+        assertEquals(JTurfHelper.radiansToLength(1, null), Units.KILOMETERS.factor(), 0);
+        assertSame(DistanceCalculator.forUnits(null), DistanceCalculator.forUnits(Units.KILOMETERS));
+
+        // 原 JTurfHelper 中各单位的系数，以及用这些系数按 haversine 公式算出的距离
+        Map<Units, double[]> expected = new EnumMap<>(Units.class);
+        expected.put(Units.CENTIMETERS, new double[]{JTurfHelper.EARTH_RADIUS * 100, 9712922.118967835});
+        expected.put(Units.CENTIMETRES, new double[]{JTurfHelper.EARTH_RADIUS * 100, 9712922.118967835});
+        expected.put(Units.DEGREES, new double[]{JTurfHelper.EARTH_RADIUS / 111325, 0.8724834600465156});
+        expected.put(Units.FEET, new double[]{JTurfHelper.EARTH_RADIUS * 3.28084, 318665.4340479443});
+        expected.put(Units.INCHES, new double[]{JTurfHelper.EARTH_RADIUS * 39.37, 3823977.4382376364});
+        expected.put(Units.KILOMETERS, new double[]{JTurfHelper.EARTH_RADIUS / 1000, 97.12922118967835});
+        expected.put(Units.KILOMETRES, new double[]{JTurfHelper.EARTH_RADIUS / 1000, 97.12922118967835});
+        expected.put(Units.METERS, new double[]{JTurfHelper.EARTH_RADIUS, 97129.22118967834});
+        expected.put(Units.METRES, new double[]{JTurfHelper.EARTH_RADIUS, 97129.22118967834});
+        expected.put(Units.MILES, new double[]{JTurfHelper.EARTH_RADIUS / 1609.344, 60.35329997171415});
+        expected.put(Units.MILLIMETERS, new double[]{JTurfHelper.EARTH_RADIUS * 1000, 9.712922118967836E7});
+        expected.put(Units.MILLIMETRES, new double[]{JTurfHelper.EARTH_RADIUS * 1000, 9.712922118967836E7});
+        expected.put(Units.NAUTICAL_MILES, new double[]{JTurfHelper.EARTH_RADIUS / 1852, 52.44558379572265});
+        expected.put(Units.RADIANS, new double[]{1, 0.015245501024842149});
+        expected.put(Units.YARDS, new double[]{JTurfHelper.EARTH_RADIUS * 1.0936, 106220.51629303223});
+        assertEquals(Units.values().length, expected.size());
+
+        Point from = Point.fromLngLat(-75.343, 39.984);
+        Point to = Point.fromLngLat(-75.534, 39.123);
+        for (Units units : Units.values()) {
+            DistanceCalculator calculator = DistanceCalculator.forUnits(units);
+            assertSame(calculator.units(), units);
+            assertEquals(expected.get(units)[0], units.factor(), 0);
+            assertEquals(expected.get(units)[1], calculator.distance(from, to), expected.get(units)[1] * 1e-12);
+            assertEquals(expected.get(units)[1], JTurfMeasurement.distance(from, to, units), expected.get(units)[1] * 1e-12);
+            assertEquals(calculator.toRadians(calculator.toLength(0.5)), 0.5, 1e-15);
+
+            Point destination = calculator.destination(from, calculator.distance(from, to), JTurfMeasurement.bearing(from, to));
+            assertEquals(destination.longitude(), to.longitude(), 1e-9);
+            assertEquals(destination.latitude(), to.latitude(), 1e-9);
+        }
+    }
+
 }